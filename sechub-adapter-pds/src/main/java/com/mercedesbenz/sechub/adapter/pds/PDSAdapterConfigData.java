@@ -46,4 +46,23 @@ public interface PDSAdapterConfigData {
     int getResilienceMaxRetries();
 
     long getResilienceTimeToWaitBeforeRetryInMilliseconds();
+
+    /**
+     * @return maximum size of a PDS job result (in bytes) which is held inside
+     *         memory. Bigger results are streamed into a temporary file. When
+     *         smaller than 1, the default from
+     *         {@link PDSResultDownloadSupport#DEFAULT_RESULT_MAX_INMEMORY_BYTES}
+     *         is used
+     */
+    long getResultMaxInMemoryBytes();
+
+    /**
+     * @return <code>true</code> when PDS job results bigger than
+     *         {@link #getResultMaxInMemoryBytes()} shall be streamed into a
+     *         temporary file. Only useful when the caller is able to process the
+     *         result file without reading it completely into memory (e.g. when
+     *         product results are compressed). When <code>false</code> the result
+     *         is always downloaded into memory
+     */
+    boolean isResultStreamingToFileEnabled();
 }
@@ -68,4 +68,8 @@ public interface PDSAdapterConfigurator {
 
     void setResilienceTimeToWaitBeforeRetryInMilliseconds(long milliseconds);
 
+    void setResultMaxInMemoryBytes(long maxBytes);
+
+    void setResultStreamingToFileEnabled(boolean enabled);
+
 }
\ No newline at end of file
@@ -40,6 +40,10 @@ public class PDSAdapterDataConfigurator implements PDSAdapterConfigData, PDSAdap
 
     private long resilienceTimeToWaitBeforeRetryInMilliseconds;
 
+    private long resultMaxInMemoryBytes;
+
+    private boolean resultStreamingToFileEnabled;
+
     public void setTargetType(String targetType) {
         if (targetType == null) {
             this.targetType = EMPTY_TARGET_TYPE;
@@ -250,4 +254,24 @@ public class PDSAdapterDataConfigurator implements PDSAdapterConfigData, PDSAdap
         return resilienceTimeToWaitBeforeRetryInMilliseconds;
     }
 
+    @Override
+    public void setResultMaxInMemoryBytes(long maxBytes) {
+        this.resultMaxInMemoryBytes = maxBytes;
+    }
+
+    @Override
+    public long getResultMaxInMemoryBytes() {
+        return resultMaxInMemoryBytes;
+    }
+
+    @Override
+    public void setResultStreamingToFileEnabled(boolean enabled) {
+        this.resultStreamingToFileEnabled = enabled;
+    }
+
+    @Override
+    public boolean isResultStreamingToFileEnabled() {
+        return resultStreamingToFileEnabled;
+    }
+
 }
@@ -7,13 +7,22 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 
 import com.mercedesbenz.sechub.adapter.AbstractAdapter;
 import com.mercedesbenz.sechub.adapter.AdapterException;
@@ -45,13 +54,32 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
 
     private static final AdapterExecutionResult NO_EXISTING_ADAPTER_EXECUTION_RESULT = null;
 
+    /* maximum time the PDS server is asked to hold a status request until the job state changes */
+    static final long MAX_JOB_STATUS_WAIT_MILLISECONDS = 30000;
+
     private PDSUploadSupport uploadSupport;
 
+    private PDSResultDownloadSupport resultDownloadSupport;
+
+    /*
+     * Status requests waiting for a job state change, by PDS job UUID. The
+     * requests are done by own threads, so a cancel operation can abort the
+     * waiting immediately.
+     */
+    private final Map<UUID, Future<PDSJobStatus>> waitingJobStatusRequests = new ConcurrentHashMap<>();
+
+    private final ExecutorService jobStatusWaitExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "pds-job-status-wait");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @Autowired
     PDSContextFactory contextFactory;
 
     PDSAdapterV1() {
         uploadSupport = new PDSUploadSupport();
+        resultDownloadSupport = new PDSResultDownloadSupport();
     }
 
     @Override
@@ -125,7 +153,14 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
     }
 
     private AdapterExecutionResult collectAdapterExecutionResult(PDSContext context) throws AdapterException {
-        return new AdapterExecutionResult(fetchReport(context), fetchMessages(context));
+        Collection<SecHubMessage> messages = fetchMessages(context);
+        AdapterExecutionResult result = fetchReport(context, messages);
+        if (Thread.currentThread().isInterrupted()) {
+            /* canceled while downloading - result will never be used, so remove the file */
+            result.deleteProductResultFile();
+            assertThreadNotInterrupted();
+        }
+        return result;
     }
 
     private void waitForJobDone(PDSContext context) throws Exception {
@@ -155,6 +190,8 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
         /* @formatter:on */
 
         StateFulTimeOutCheck timeOutCheck = new StateFulTimeOutCheck();
+        /* will be set to false when PDS server does not support waiting for status changes (older PDS version) */
+        AtomicBoolean longPollingSupported = new AtomicBoolean(true);
 
         while (!jobEnded && timeOutCheck.isNotTimeout(config, started)) {
 
@@ -167,7 +204,17 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
             }
 
             /* see PDSJobStatusState.java */
-            jobstatus = context.getResilientJobStatusResultExecutor().executeResilient(() -> getJobStatus(context));
+            PDSJobStatusState lastState = jobstatus == null ? null : jobstatus.state;
+            /*
+             * the PDS server holds the status request until the state changes - a cancel
+             * operation aborts the waiting, see abortWaitingJobStatusRequest()
+             */
+            long maxStatusWaitTime = Math.min(MAX_JOB_STATUS_WAIT_MILLISECONDS, config.getTimeOutInMilliseconds() - calculateElapsedTime(started));
+            long statusRequestStarted = getCurrentTimeMilliseconds();
+
+            jobstatus = context.getResilientJobStatusResultExecutor().executeResilient(() -> getJobStatus(context, lastState, maxStatusWaitTime, longPollingSupported));
+
+            long statusRequestTime = calculateElapsedTime(statusRequestStarted);
 
             PDSJobStatusState state = jobstatus.state;
             switch (state) {
@@ -188,8 +235,19 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
 
             assertThreadNotInterrupted();
 
+            /*
+             * when PDS supports waiting for status changes, the request itself has already
+             * waited - so we only wait for the remaining time
+             */
+            long timeToSleep = timeToWaitForNextCheckOperationInMilliseconds;
+            if (lastState != null && longPollingSupported.get()) {
+                timeToSleep = timeToWaitForNextCheckOperationInMilliseconds - statusRequestTime;
+            }
+            if (timeToSleep <= 0) {
+                continue;
+            }
             try {
-                Thread.sleep(timeToWaitForNextCheckOperationInMilliseconds);
+                Thread.sleep(timeToSleep);
             } catch (InterruptedException e) {
                 throw new AdapterException(getAdapterLogId(null),
                         "Execution thread was interrupted. Type:" + context.getRuntimeContext().getType() + ", Thread was:" + Thread.currentThread().getName());
@@ -229,14 +287,8 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
     /* ++++++++++++++++++++++++++++++++++++++++++++++++++++ */
     /* + ................Fetch report.................... + */
     /* ++++++++++++++++++++++++++++++++++++++++++++++++++++ */
-    private String fetchReport(PDSContext context) throws AdapterException {
-        UUID pdsJobUUID = context.getPdsJobUUID();
-        String url = context.getUrlBuilder().buildGetJobResult(pdsJobUUID);
-
-        ResponseEntity<String> response = null;
-        response = context.getRestOperations().getForEntity(url, String.class);
-
-        return response.getBody();
+    private AdapterExecutionResult fetchReport(PDSContext context, Collection<SecHubMessage> messages) throws AdapterException {
+        return resultDownloadSupport.downloadResult(context, messages);
     }
 
     /* ++++++++++++++++++++++++++++++++++++++++++++++++++++ */
@@ -259,9 +311,54 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
     /* ++++++++++++++++++++++++++++++++++++++++++++++++++++ */
     /* + ................Fetch status.................... + */
     /* ++++++++++++++++++++++++++++++++++++++++++++++++++++ */
-    private PDSJobStatus getJobStatus(PDSContext context) {
+    private PDSJobStatus getJobStatus(PDSContext context, PDSJobStatusState knownState, long maxWaitMilliseconds, AtomicBoolean longPollingSupported)
+            throws AdapterException {
         UUID pdsJobUUID = context.getPdsJobUUID();
-        return getJobStatus(context, pdsJobUUID);
+        if (knownState == null || !longPollingSupported.get() || maxWaitMilliseconds <= 0) {
+            return getJobStatus(context, pdsJobUUID);
+        }
+        String url = context.getUrlBuilder().buildWaitForJobStatusChange(pdsJobUUID, knownState, maxWaitMilliseconds);
+
+        Future<PDSJobStatus> waitingRequest = jobStatusWaitExecutor.submit(() -> context.getRestOperations().getForEntity(url, PDSJobStatus.class).getBody());
+        waitingJobStatusRequests.put(pdsJobUUID, waitingRequest);
+        try {
+            return waitingRequest.get();
+
+        } catch (CancellationException e) {
+            /* aborted by cancel operation - so fetch current state without waiting */
+            LOG.info("Waiting for status change of PDS-job:{} was aborted", pdsJobUUID);
+            return getJobStatus(context, pdsJobUUID);
+
+        } catch (InterruptedException e) {
+            waitingRequest.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AdapterException(getAdapterLogId(null), "Execution thread was interrupted while waiting for status change of PDS-job:" + pdsJobUUID);
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof HttpClientErrorException && ((HttpClientErrorException) cause).getStatusCode() == HttpStatus.NOT_FOUND) {
+                /* older PDS versions do not support waiting for status changes */
+                LOG.info("PDS does not support waiting for job status changes, will use polling for PDS-job:{}", pdsJobUUID);
+                longPollingSupported.set(false);
+                return getJobStatus(context, pdsJobUUID);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Waiting for status change of PDS-job:" + pdsJobUUID + " failed", cause);
+
+        } finally {
+            waitingJobStatusRequests.remove(pdsJobUUID, waitingRequest);
+        }
+    }
+
+    private void abortWaitingJobStatusRequest(UUID pdsJobUUID) {
+        Future<PDSJobStatus> waitingRequest = waitingJobStatusRequests.remove(pdsJobUUID);
+        if (waitingRequest == null) {
+            return;
+        }
+        LOG.info("Abort waiting for status change of PDS-job:{}", pdsJobUUID);
+        waitingRequest.cancel(true);
     }
 
     private PDSJobStatus getJobStatus(PDSContext context, UUID pdsJobUUID) {
@@ -515,6 +612,9 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
         context.setPDSJobUUID(UUID.fromString(pdsJobUUID));
         cancelJob(context);
 
+        /* job execution may still wait for a status change - no need to wait longer */
+        abortWaitingJobStatusRequest(context.getPdsJobUUID());
+
         return AdapterExecutionResult.createCancelResult();
     }
 
@@ -0,0 +1,109 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.adapter.pds;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import com.mercedesbenz.sechub.adapter.AdapterExecutionResult;
+import com.mercedesbenz.sechub.commons.model.SecHubMessage;
+
+/**
+ * Downloads PDS job results. Small results are held in memory, bigger ones
+ * (or results with unknown size) are streamed directly into a temporary file,
+ * so a result of some hundred megabytes does not become one big string on the
+ * heap. Streaming into a file is only done when enabled by
+ * {@link PDSAdapterConfigData#isResultStreamingToFileEnabled()} - otherwise the
+ * result is always downloaded into memory.
+ */
+public class PDSResultDownloadSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PDSResultDownloadSupport.class);
+
+    public static final long DEFAULT_RESULT_MAX_INMEMORY_BYTES = 5 * 1024 * 1024;
+
+    private static final String TEMP_FILE_PREFIX = "sechub-pds-result-";
+    private static final String TEMP_FILE_SUFFIX = ".txt";
+
+    /**
+     * Downloads the result of the PDS job inside given context
+     *
+     * @param context
+     * @param messages product messages to add to the adapter execution result
+     * @return adapter execution result, never <code>null</code>
+     */
+    public AdapterExecutionResult downloadResult(PDSContext context, Collection<SecHubMessage> messages) {
+        UUID pdsJobUUID = context.getPdsJobUUID();
+        String url = context.getUrlBuilder().buildGetJobResult(pdsJobUUID);
+
+        PDSAdapterConfigData data = context.getConfig().getPDSAdapterConfigData();
+        if (!data.isResultStreamingToFileEnabled()) {
+            return context.getRestOperations().execute(url, HttpMethod.GET, null, response -> extractResultInMemory(response, messages));
+        }
+        long maxInMemoryBytes = resolveMaxInMemoryBytes(data);
+
+        return context.getRestOperations().execute(url, HttpMethod.GET, null, response -> extractResult(response, maxInMemoryBytes, messages));
+    }
+
+    long resolveMaxInMemoryBytes(PDSAdapterConfigData data) {
+        long maxInMemoryBytes = data.getResultMaxInMemoryBytes();
+        if (maxInMemoryBytes < 1) {
+            return DEFAULT_RESULT_MAX_INMEMORY_BYTES;
+        }
+        return maxInMemoryBytes;
+    }
+
+    AdapterExecutionResult extractResultInMemory(ClientHttpResponse response, Collection<SecHubMessage> messages) throws IOException {
+        String result = StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+        return new AdapterExecutionResult(emptyToNull(result), messages);
+    }
+
+    AdapterExecutionResult extractResult(ClientHttpResponse response, long maxInMemoryBytes, Collection<SecHubMessage> messages) throws IOException {
+        long contentLength = response.getHeaders().getContentLength();
+
+        if (contentLength >= 0 && contentLength <= maxInMemoryBytes) {
+            /* size is known and small enough */
+            return extractResultInMemory(response, messages);
+        }
+
+        Path resultFile = Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+        boolean resultFileReturned = false;
+        try {
+            long size = Files.copy(response.getBody(), resultFile, StandardCopyOption.REPLACE_EXISTING);
+            if (size <= maxInMemoryBytes) {
+                /* size was unknown but result is small enough */
+                String result = Files.readString(resultFile, StandardCharsets.UTF_8);
+                return new AdapterExecutionResult(emptyToNull(result), messages);
+            }
+            LOG.debug("PDS result with {} bytes was streamed into file: {}", size, resultFile);
+            AdapterExecutionResult fileBasedResult = AdapterExecutionResult.createFileBasedResult(resultFile, messages);
+            resultFileReturned = true;
+
+            return fileBasedResult;
+
+        } finally {
+            if (!resultFileReturned) {
+                /* small result, failure or interruption - file is not used by anybody */
+                Files.deleteIfExists(resultFile);
+            }
+        }
+    }
+
+    private String emptyToNull(String result) {
+        /* same as former string based download: empty body means no result */
+        if (result.isEmpty()) {
+            return null;
+        }
+        return result;
+    }
+}
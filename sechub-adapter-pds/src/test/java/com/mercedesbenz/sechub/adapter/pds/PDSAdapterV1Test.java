@@ -5,9 +5,17 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,10 +23,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestOperations;
 
+import com.mercedesbenz.sechub.adapter.AdapterCanceledByUserException;
 import com.mercedesbenz.sechub.adapter.AdapterException;
 import com.mercedesbenz.sechub.adapter.AdapterExecutionResult;
 import com.mercedesbenz.sechub.adapter.AdapterMetaData;
@@ -238,6 +251,88 @@ class PDSAdapterV1Test {
 
     }
 
+    @Test
+    void waiting_for_job_done_uses_server_side_waiting_longer_than_check_interval_and_so_needs_less_status_requests() throws Exception {
+        /* prepare */
+        prepareMinimumPDSConfig();
+        when(config.getTimeOutInMilliseconds()).thenReturn(3600000);
+        when(config.getTimeToWaitForNextCheckOperationInMilliseconds()).thenReturn(50);
+
+        UUID pdsJobUUID = pdsJobUUID1;
+
+        preparePDSJobCreation(pdsJobUUID);
+        preparePDSJobStatus(pdsJobUUID, PDSJobStatusState.RUNNING);
+        preparePDSMessages(pdsJobUUID, Collections.emptyList());
+
+        /* the PDS server holds every wait request 200 ms - means 4 check intervals - before it returns */
+        when(restOperations.getForEntity(eq(createWaitForJobStatusChangeUrl(pdsJobUUID, PDSJobStatusState.RUNNING)), eq(PDSJobStatus.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(200);
+                    return createJobStatusResponse(PDSJobStatusState.RUNNING);
+                }).thenAnswer(invocation -> {
+                    Thread.sleep(200);
+                    return createJobStatusResponse(PDSJobStatusState.DONE);
+                });
+
+        /* execute */
+        AdapterExecutionResult result = adapterToTest.start(config, callback);
+
+        /* test */
+        assertEquals("productResult1", result.getProductResult());
+
+        /*
+         * one initial status request and two waiting ones - polling every 50 ms for
+         * 400 ms would have needed at least 8 status requests
+         */
+        verify(restOperations, times(1)).getForEntity(eq("null/api/job/" + pdsJobUUID.toString() + "/status"), eq(PDSJobStatus.class));
+        verify(restOperations, times(2)).getForEntity(eq(createWaitForJobStatusChangeUrl(pdsJobUUID, PDSJobStatusState.RUNNING)), eq(PDSJobStatus.class));
+    }
+
+    @Test
+    void cancel_aborts_waiting_status_request_of_running_job_immediately() throws Exception {
+        /* prepare */
+        prepareMinimumPDSConfig();
+        when(config.getTimeOutInMilliseconds()).thenReturn(3600000);
+
+        UUID pdsJobUUID = pdsJobUUID1;
+        preparePDSJobCreation(pdsJobUUID);
+
+        /* status is running until cancel was done */
+        when(restOperations.getForEntity(eq("null/api/job/" + pdsJobUUID.toString() + "/status"), eq(PDSJobStatus.class)))
+                .thenReturn(createJobStatusResponse(PDSJobStatusState.RUNNING)).thenReturn(createJobStatusResponse(PDSJobStatusState.CANCEL_REQUESTED));
+
+        CountDownLatch waitingRequestStarted = new CountDownLatch(1);
+        when(restOperations.getForEntity(eq(createWaitForJobStatusChangeUrl(pdsJobUUID, PDSJobStatusState.RUNNING)), eq(PDSJobStatus.class)))
+                .thenAnswer(invocation -> {
+                    waitingRequestStarted.countDown();
+                    Thread.sleep(10000); // simulates a PDS server holding the request
+                    return createJobStatusResponse(PDSJobStatusState.RUNNING);
+                });
+
+        AdapterMetaData cancelMetaData = new AdapterMetaData();
+        cancelMetaData.setValue("PDS_JOB_UUID", pdsJobUUID.toString());
+        AdapterMetaDataCallback cancelCallback = mock(AdapterMetaDataCallback.class);
+        when(cancelCallback.getMetaDataOrNull()).thenReturn(cancelMetaData);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<AdapterExecutionResult> startResult = executorService.submit(() -> adapterToTest.start(config, callback));
+            assertTrue(waitingRequestStarted.await(5, TimeUnit.SECONDS));
+
+            /* execute */
+            boolean canceled = adapterToTest.cancel(config, cancelCallback);
+
+            /* test */
+            assertTrue(canceled);
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> startResult.get(5, TimeUnit.SECONDS));
+            assertTrue(exception.getCause() instanceof AdapterCanceledByUserException);
+            verify(restSupport).put("null/api/job/" + pdsJobUUID.toString() + "/cancel");
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     /* ++++++++++++++++++++++++++++++++++++++++++++++++++++ */
     /* + ................Helper.......................... + */
     /* ++++++++++++++++++++++++++++++++++++++++++++++++++++ */
@@ -248,15 +343,37 @@ class PDSAdapterV1Test {
     }
 
     private void preparePDSJobStatus(UUID pdsJobUUID, PDSJobStatusState state) {
+        ResponseEntity<PDSJobStatus> responseEntity = createJobStatusResponse(state);
+        when(restOperations.getForEntity(eq("null/api/job/" + pdsJobUUID.toString() + "/status"), eq(PDSJobStatus.class))).thenReturn(responseEntity);
+        /* waiting for a status change returns the same state - like PDS does when the wait time is over */
+        when(restOperations.getForEntity(startsWith("null/api/job/" + pdsJobUUID.toString() + "/status/wait"), eq(PDSJobStatus.class))).thenReturn(responseEntity);
+    }
+
+    private ResponseEntity<PDSJobStatus> createJobStatusResponse(PDSJobStatusState state) {
         PDSJobStatus jobStatus = new PDSJobStatus();
         jobStatus.state = state;
-        ResponseEntity<PDSJobStatus> responseEntity = new ResponseEntity<>(jobStatus, HttpStatus.OK);
-        when(restOperations.getForEntity(eq("null/api/job/" + pdsJobUUID.toString() + "/status"), eq(PDSJobStatus.class))).thenReturn(responseEntity);
+        return new ResponseEntity<>(jobStatus, HttpStatus.OK);
+    }
+
+    private String createWaitForJobStatusChangeUrl(UUID pdsJobUUID, PDSJobStatusState knownState) {
+        return "null/api/job/" + pdsJobUUID.toString() + "/status/wait?knownState=" + knownState + "&maxWaitMilliseconds="
+                + PDSAdapterV1.MAX_JOB_STATUS_WAIT_MILLISECONDS;
     }
 
     private void preparePDSReportResult(UUID pdsJobUUID, String result) {
-        ResponseEntity<String> responseEntity = new ResponseEntity<>(result, HttpStatus.OK);
-        when(restOperations.getForEntity(eq("null/api/job/" + pdsJobUUID.toString() + "/result"), eq(String.class))).thenReturn(responseEntity);
+        byte[] bytes = result.getBytes(StandardCharsets.UTF_8);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentLength(bytes.length);
+
+        when(restOperations.execute(eq("null/api/job/" + pdsJobUUID.toString() + "/result"), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    ClientHttpResponse response = mock(ClientHttpResponse.class);
+                    when(response.getHeaders()).thenReturn(headers);
+                    when(response.getBody()).thenReturn(new ByteArrayInputStream(bytes));
+
+                    ResponseExtractor<?> extractor = invocation.getArgument(3);
+                    return extractor.extractData(response);
+                });
     }
 
     private void preparePDSMessages(UUID pdsJobUUID, List<SecHubMessage> messages) {
@@ -0,0 +1,176 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.adapter.pds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import com.mercedesbenz.sechub.adapter.AdapterExecutionResult;
+import com.mercedesbenz.sechub.commons.model.SecHubMessage;
+import com.mercedesbenz.sechub.commons.model.SecHubMessageType;
+
+class PDSResultDownloadSupportTest {
+
+    private PDSResultDownloadSupport supportToTest;
+    private List<SecHubMessage> messages;
+
+    @BeforeEach
+    void beforeEach() {
+        supportToTest = new PDSResultDownloadSupport();
+        messages = Collections.singletonList(new SecHubMessage(SecHubMessageType.INFO, "info"));
+    }
+
+    @Test
+    void result_with_known_small_size_is_held_in_memory() throws Exception {
+        /* prepare */
+        ClientHttpResponse response = createResponse("small-result", true);
+
+        /* execute */
+        AdapterExecutionResult result = supportToTest.extractResult(response, 100, messages);
+
+        /* test */
+        assertFalse(result.isProductResultFileBased());
+        assertEquals("small-result", result.getProductResult());
+        assertEquals(messages, result.getProductMessages());
+    }
+
+    @Test
+    void result_with_unknown_small_size_is_held_in_memory() throws Exception {
+        /* prepare */
+        ClientHttpResponse response = createResponse("small-result", false);
+
+        /* execute */
+        AdapterExecutionResult result = supportToTest.extractResult(response, 100, messages);
+
+        /* test */
+        assertFalse(result.isProductResultFileBased());
+        assertEquals("small-result", result.getProductResult());
+    }
+
+    @Test
+    void result_bigger_than_max_in_memory_bytes_is_streamed_into_file() throws Exception {
+        /* prepare */
+        ClientHttpResponse response = createResponse("a-result-which-is-too-big", true);
+
+        /* execute */
+        AdapterExecutionResult result = supportToTest.extractResult(response, 10, messages);
+
+        /* test */
+        assertTrue(result.isProductResultFileBased());
+        assertEquals(messages, result.getProductMessages());
+        try (InputStream inputStream = result.openProductResultInputStream()) {
+            assertEquals("a-result-which-is-too-big", StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+        }
+        result.deleteProductResultFile();
+        assertThrows(IllegalStateException.class, () -> result.getProductResult());
+    }
+
+    @Test
+    void empty_result_is_null() throws Exception {
+        /* prepare */
+        ClientHttpResponse response = createResponse("", true);
+
+        /* execute */
+        AdapterExecutionResult result = supportToTest.extractResult(response, 10, messages);
+
+        /* test */
+        assertNull(result.getProductResult());
+    }
+
+    @Test
+    void result_with_unknown_big_size_is_held_in_memory_when_extracted_in_memory() throws Exception {
+        /* prepare */
+        ClientHttpResponse response = createResponse("a-result-which-is-too-big", false);
+
+        /* execute */
+        AdapterExecutionResult result = supportToTest.extractResultInMemory(response, messages);
+
+        /* test */
+        assertFalse(result.isProductResultFileBased());
+        assertEquals("a-result-which-is-too-big", result.getProductResult());
+        assertEquals(messages, result.getProductMessages());
+    }
+
+    @Test
+    void result_file_is_deleted_when_streaming_into_file_fails() throws Exception {
+        /* prepare */
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getHeaders()).thenReturn(new HttpHeaders());
+        when(response.getBody()).thenReturn(new FailingInputStream());
+
+        Path tempFolder = Paths.get(System.getProperty("java.io.tmpdir"));
+        long resultFilesBefore = countResultFiles(tempFolder);
+
+        /* execute */
+        assertThrows(IOException.class, () -> supportToTest.extractResult(response, 10, messages));
+
+        /* test */
+        assertEquals(resultFilesBefore, countResultFiles(tempFolder));
+    }
+
+    @Test
+    void max_in_memory_bytes_smaller_than_one_uses_default() {
+        /* prepare */
+        PDSAdapterConfigData data = mock(PDSAdapterConfigData.class);
+        when(data.getResultMaxInMemoryBytes()).thenReturn(0L);
+
+        /* execute + test */
+        assertEquals(PDSResultDownloadSupport.DEFAULT_RESULT_MAX_INMEMORY_BYTES, supportToTest.resolveMaxInMemoryBytes(data));
+    }
+
+    @Test
+    void max_in_memory_bytes_defined_is_used() {
+        /* prepare */
+        PDSAdapterConfigData data = mock(PDSAdapterConfigData.class);
+        when(data.getResultMaxInMemoryBytes()).thenReturn(1234L);
+
+        /* execute + test */
+        assertEquals(1234L, supportToTest.resolveMaxInMemoryBytes(data));
+    }
+
+    private long countResultFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("sechub-pds-result-")).count();
+        }
+    }
+
+    private class FailingInputStream extends InputStream {
+        private int count;
+
+        @Override
+        public int read() throws IOException {
+            if (count++ > 5) {
+                throw new IOException("connection lost");
+            }
+            return 'x';
+        }
+    }
+
+    private ClientHttpResponse createResponse(String content, boolean contentLengthKnown) throws Exception {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        HttpHeaders headers = new HttpHeaders();
+        if (contentLengthKnown) {
+            headers.setContentLength(bytes.length);
+        }
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getHeaders()).thenReturn(headers);
+        when(response.getBody()).thenReturn(new ByteArrayInputStream(bytes));
+        return response;
+    }
+}
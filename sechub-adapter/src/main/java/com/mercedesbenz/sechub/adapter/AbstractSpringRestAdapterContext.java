@@ -1,18 +1,13 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.adapter;
 
-import java.net.InetSocketAddress;
-import java.net.Proxy;
-import java.net.Proxy.Type;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.ResourceHttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
@@ -20,29 +15,27 @@ import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
 import com.mercedesbenz.sechub.adapter.springextension.ResourceHttpMessageConverterHandlingInputStreams;
-import com.mercedesbenz.sechub.adapter.support.TrustAllSupport;
+import com.mercedesbenz.sechub.adapter.springextension.StreamingInterceptingClientHttpRequestFactory;
+import com.mercedesbenz.sechub.adapter.support.SharedHttpClientSupport;
 
 /**
  * Context for REST execution per spring REST templates (per default with a
- * simple String as result).
+ * simple String as result). The REST templates of all contexts for the same
+ * target share one pooled HTTP client. Request and response bodies are
+ * streamed and not buffered.
  *
  * @author Albert Tregnaghi
  *
  */
 public abstract class AbstractSpringRestAdapterContext<C extends AdapterConfig, A extends Adapter<C>> extends AbstractAdapterContext<C, A> {
 
+    private static final SharedHttpClientSupport SHARED_HTTP_CLIENT_SUPPORT = new SharedHttpClientSupport();
+
     private RestTemplate restTemplate;
 
     public AbstractSpringRestAdapterContext(C config, A adapter, AdapterRuntimeContext runtimeContext) {
         super(config, adapter, runtimeContext);
         /* setup dedicated rest template */
-
-        ClientHttpRequestFactory requestFactory = createRequestFactory(config);
-
-        restTemplate = new RestTemplate(requestFactory);
-
-        restTemplate.getMessageConverters().addAll(createMessageConverters());
-
         List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
         interceptors.add(new TraceLogClientHTTPRequestInterceptor());
         ClientHttpRequestInterceptor interceptor = createInterceptorOrNull(config);
@@ -55,7 +48,15 @@ public abstract class AbstractSpringRestAdapterContext<C extends AdapterConfig,
             ClientHttpRequestInterceptor optionInterceptor = (ClientHttpRequestInterceptor) obj;
             interceptors.add(optionInterceptor);
         }
-        restTemplate.setInterceptors(interceptors);
+        /*
+         * we do not use the interceptor support of the rest template, because this
+         * always buffers the complete request body
+         */
+        ClientHttpRequestFactory requestFactory = new StreamingInterceptingClientHttpRequestFactory(createRequestFactory(config), interceptors);
+
+        restTemplate = new RestTemplate(requestFactory);
+
+        restTemplate.getMessageConverters().addAll(createMessageConverters());
 
         handleSpringExtensions();
 
@@ -95,28 +96,11 @@ public abstract class AbstractSpringRestAdapterContext<C extends AdapterConfig,
     }
 
     private ClientHttpRequestFactory createRequestFactory(C config) {
-        ClientHttpRequestFactory factory = null;
-        if (!config.isTrustAllCertificatesEnabled()) {
-            factory = createStandardSpringRequestFactory(config);
-        } else {
-            factory = new TrustAllSupport(getAdapter(), config).createTrustAllFactory();
-
-        }
         /*
-         * we create buffering variant, so we can do trace logging if necessary - see
+         * no buffering variant - trace logging buffers only when enabled, see
          * TraceLogClientHTTPRequestInterceptor
          */
-        return new BufferingClientHttpRequestFactory(factory);
-    }
-
-    private SimpleClientHttpRequestFactory createStandardSpringRequestFactory(C config) {
-        /* use standard Spring way, so uses configured trusted certificates etc. etc. */
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        if (config.isProxyDefined()) {
-            Proxy proxy = new Proxy(Type.SOCKS, new InetSocketAddress(config.getProxyHostname(), config.getProxyPort()));
-            requestFactory.setProxy(proxy);
-        }
-        return requestFactory;
+        return SHARED_HTTP_CLIENT_SUPPORT.createStreamingRequestFactory(getAdapter(), config);
     }
 
     private Set<HttpMessageConverter<?>> createMessageConverters() {
@@ -1,17 +1,30 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.adapter;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.mercedesbenz.sechub.commons.model.SecHubMessage;
 
 public class AdapterExecutionResult {
 
+    private static final Logger LOG = LoggerFactory.getLogger(AdapterExecutionResult.class);
+
     private String productResult;
 
+    private Path productResultFile;
+
     /**
      * Create an empty adapter execution result which is marked as "stopped"
      *
@@ -23,6 +36,24 @@ public class AdapterExecutionResult {
         return result;
     }
 
+    /**
+     * Create an adapter execution result where the product result is not held in
+     * memory but inside given (temporary) file. The file will be deleted by
+     * {@link #deleteProductResultFile()}.
+     *
+     * @param productResultFile UTF-8 encoded product result
+     * @param messages
+     * @return execution result
+     */
+    public static AdapterExecutionResult createFileBasedResult(Path productResultFile, Collection<SecHubMessage> messages) {
+        if (productResultFile == null) {
+            throw new IllegalArgumentException("product result file may not be null!");
+        }
+        AdapterExecutionResult result = new AdapterExecutionResult(null, messages);
+        result.productResultFile = productResultFile;
+        return result;
+    }
+
     private List<SecHubMessage> productMessages = new ArrayList<>();
 
     private boolean canceled;
@@ -49,12 +80,62 @@ public class AdapterExecutionResult {
     }
 
     /**
-     * Returns the reporting result returned by product
+     * Returns the reporting result returned by product. For file based results
+     * the complete file content is read into memory - so when possible use
+     * {@link #openProductResultInputStream()} instead.
      *
      * @return product result as string
      */
     public String getProductResult() {
-        return productResult;
+        if (productResultFile == null) {
+            return productResult;
+        }
+        try {
+            return Files.readString(productResultFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Was not able to read product result file: " + productResultFile, e);
+        }
+    }
+
+    /**
+     * @return <code>true</code> when product result is not held in memory but
+     *         inside a file
+     */
+    public boolean isProductResultFileBased() {
+        return productResultFile != null;
+    }
+
+    /**
+     * Opens an input stream for the product result. The caller is responsible to
+     * close the stream.
+     *
+     * @return input stream for UTF-8 encoded product result or <code>null</code>
+     *         when there is no product result
+     * @throws IOException
+     */
+    public InputStream openProductResultInputStream() throws IOException {
+        if (productResultFile != null) {
+            return Files.newInputStream(productResultFile);
+        }
+        if (productResult == null) {
+            return null;
+        }
+        return new ByteArrayInputStream(productResult.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deletes the product result file - when result is file based. After this
+     * the product result is no longer available.
+     */
+    public void deleteProductResultFile() {
+        if (productResultFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(productResultFile);
+        } catch (IOException e) {
+            LOG.warn("Was not able to delete product result file: {}", productResultFile, e);
+        }
     }
 
     public boolean hasBeenCanceled() {
@@ -1,14 +1,16 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.adapter;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.util.stream.Collectors;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
@@ -19,6 +21,9 @@ import org.springframework.http.client.ClientHttpResponse;
  * DEBUG log level from SLF4J to identify if the data shall be inspected and
  * logged or not.<br>
  * <br>
+ * Request bodies are streamed and so not available for logging. Response
+ * bodies are only buffered when trace logging is enabled.<br>
+ * <br>
  *
  * @author Albert Tregnaghi
  *
@@ -32,12 +37,6 @@ public class TraceLogClientHTTPRequestInterceptor implements ClientHttpRequestIn
 
         ClientHttpResponse response = execution.execute(request, body);
 
-        log(request, body, response);
-
-        return response;
-    }
-
-    private void log(HttpRequest request, byte[] body, ClientHttpResponse response) throws IOException {
         if (!LOG.isDebugEnabled()) {
             /*
              * no output wanted - just do nothing and return. we use debug level, because
@@ -46,8 +45,16 @@ public class TraceLogClientHTTPRequestInterceptor implements ClientHttpRequestIn
              * something special with logging in this case... If the wiremock logging issue
              * could be changed then we should use a TRACE level instead!
              */
-            return;
+            return response;
         }
+        BufferedClientHttpResponse bufferedResponse = new BufferedClientHttpResponse(response);
+
+        log(request, body, bufferedResponse);
+
+        return bufferedResponse;
+    }
+
+    private void log(HttpRequest request, byte[] body, BufferedClientHttpResponse response) throws IOException {
         StringBuilder sb = new StringBuilder();
         sb.append("\nRequest:");
         sb.append("\n Method:");
@@ -57,7 +64,11 @@ public class TraceLogClientHTTPRequestInterceptor implements ClientHttpRequestIn
         sb.append("\n URI:");
         sb.append(request.getURI().toString());
         sb.append("\n Body:\n");
-        sb.append(new String(body, "UTF-8"));
+        if (body == null || body.length == 0) {
+            sb.append("(none or streamed)");
+        } else {
+            sb.append(new String(body, StandardCharsets.UTF_8));
+        }
         sb.append("\n\nResponse:");
         sb.append("\n Status:");
         sb.append(response.getStatusCode());
@@ -66,14 +77,55 @@ public class TraceLogClientHTTPRequestInterceptor implements ClientHttpRequestIn
         sb.append("\n Headers:");
         sb.append(response.getHeaders().toString());
         sb.append("\n Body:");
-        try (BufferedReader buffer = new BufferedReader(new InputStreamReader(response.getBody()))) {
-            sb.append(buffer.lines().collect(Collectors.joining("\n")));
-        } catch (Exception e) {
-            sb.append(" Body not accessible - reason::" + e.getMessage());
-        }
+        sb.append(new String(response.bufferedBody, StandardCharsets.UTF_8));
         sb.append(response.getHeaders().toString());
 
         String message = sb.toString();
         LOG.debug(message);
     }
+
+    private static class BufferedClientHttpResponse implements ClientHttpResponse {
+
+        private ClientHttpResponse response;
+        private byte[] bufferedBody;
+
+        private BufferedClientHttpResponse(ClientHttpResponse response) {
+            this.response = response;
+            try (InputStream body = response.getBody()) {
+                bufferedBody = body.readAllBytes();
+            } catch (Exception e) {
+                bufferedBody = ("Body not accessible - reason::" + e.getMessage()).getBytes(StandardCharsets.UTF_8);
+            }
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return new ByteArrayInputStream(bufferedBody);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return response.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
 }
\ No newline at end of file
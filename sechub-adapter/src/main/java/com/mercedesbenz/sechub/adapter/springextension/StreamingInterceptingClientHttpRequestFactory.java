@@ -0,0 +1,124 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.adapter.springextension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Spring's own intercepting request factory (used by a rest template when
+ * interceptors are set) always buffers the complete request body inside
+ * memory. This factory calls the interceptors as well, but does not buffer
+ * the body: The body is streamed to the request created by the given request
+ * factory and the interceptors get an empty body array.<br>
+ * <br>
+ * So interceptors used here may only inspect and change the request headers
+ * but must not rely on the body array.
+ */
+public class StreamingInterceptingClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private static final byte[] NOT_BUFFERED_BODY = new byte[0];
+
+    private final ClientHttpRequestFactory requestFactory;
+    private final List<ClientHttpRequestInterceptor> interceptors;
+
+    public StreamingInterceptingClientHttpRequestFactory(ClientHttpRequestFactory requestFactory, List<ClientHttpRequestInterceptor> interceptors) {
+        if (requestFactory == null) {
+            throw new IllegalArgumentException("request factory may not be null");
+        }
+        this.requestFactory = requestFactory;
+        this.interceptors = interceptors == null ? new ArrayList<>() : new ArrayList<>(interceptors);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return new StreamingInterceptingClientHttpRequest(requestFactory.createRequest(uri, httpMethod));
+    }
+
+    private class StreamingInterceptingClientHttpRequest implements ClientHttpRequest, StreamingHttpOutputMessage {
+
+        private final ClientHttpRequest delegate;
+
+        private StreamingInterceptingClientHttpRequest(ClientHttpRequest delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public String getMethodValue() {
+            return delegate.getMethodValue();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void setBody(Body body) {
+            if (delegate instanceof StreamingHttpOutputMessage) {
+                ((StreamingHttpOutputMessage) delegate).setBody(body);
+                return;
+            }
+            try {
+                body.writeTo(delegate.getBody());
+            } catch (IOException e) {
+                throw new IllegalStateException("Was not able to write body", e);
+            }
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            return new InterceptorChainExecution(delegate, interceptors.iterator()).execute(this, NOT_BUFFERED_BODY);
+        }
+
+    }
+
+    private class InterceptorChainExecution implements ClientHttpRequestExecution {
+
+        private final ClientHttpRequest delegate;
+        private final Iterator<ClientHttpRequestInterceptor> iterator;
+
+        private InterceptorChainExecution(ClientHttpRequest delegate, Iterator<ClientHttpRequestInterceptor> iterator) {
+            this.delegate = delegate;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public ClientHttpResponse execute(HttpRequest request, byte[] body) throws IOException {
+            if (iterator.hasNext()) {
+                ClientHttpRequestInterceptor nextInterceptor = iterator.next();
+                return nextInterceptor.intercept(request, body, this);
+            }
+            /* headers are shared with delegate, body was already streamed to delegate */
+            return delegate.execute();
+        }
+    }
+}
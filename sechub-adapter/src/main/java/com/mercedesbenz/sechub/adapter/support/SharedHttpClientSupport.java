@@ -0,0 +1,102 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.adapter.support;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import com.mercedesbenz.sechub.adapter.Adapter;
+import com.mercedesbenz.sechub.adapter.AdapterConfig;
+
+/**
+ * Provides one shared, pooled HTTP client per target (base URL, trust all and
+ * proxy setup). Adapter contexts are created for every adapter call, so
+ * without sharing there would be no keep alive of connections at all.<br>
+ * <br>
+ * The created request factories do not buffer request bodies - so uploads are
+ * streamed directly to the target.
+ */
+public class SharedHttpClientSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedHttpClientSupport.class);
+
+    private static final int MAX_CONNECTIONS_PER_TARGET = 50;
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLISECONDS = 2000;
+    private static final int EVICT_IDLE_CONNECTIONS_AFTER_SECONDS = 30;
+
+    private final Map<String, CloseableHttpClient> httpClients = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a streaming request factory using the shared HTTP client for the
+     * target defined inside given configuration
+     *
+     * @param adapter
+     * @param config
+     * @return request factory, never <code>null</code>
+     */
+    public ClientHttpRequestFactory createStreamingRequestFactory(Adapter<?> adapter, AdapterConfig config) {
+        String key = createTargetKey(config);
+        CloseableHttpClient httpClient = httpClients.computeIfAbsent(key, k -> createHttpClient(adapter, config, k));
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setBufferRequestBody(false);
+
+        return requestFactory;
+    }
+
+    /**
+     * @return amount of shared HTTP clients
+     */
+    int getAmountOfSharedHttpClients() {
+        return httpClients.size();
+    }
+
+    String createTargetKey(AdapterConfig config) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(resolveTarget(config.getProductBaseURL()));
+        sb.append("|trustAll=").append(config.isTrustAllCertificatesEnabled());
+        if (config.isProxyDefined()) {
+            sb.append("|proxy=").append(config.getProxyHostname()).append(':').append(config.getProxyPort());
+        }
+        return sb.toString();
+    }
+
+    private String resolveTarget(String baseURL) {
+        if (baseURL == null) {
+            return "";
+        }
+        try {
+            URI uri = URI.create(baseURL);
+            return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+        } catch (IllegalArgumentException e) {
+            return baseURL;
+        }
+    }
+
+    private CloseableHttpClient createHttpClient(Adapter<?> adapter, AdapterConfig config, String key) {
+        LOG.debug("Create shared HTTP client for target: {}", key);
+
+        PoolingHttpClientConnectionManager connectionManager = new TrustAllSupport(adapter, config).createPoolingConnectionManager();
+        connectionManager.setMaxTotal(MAX_CONNECTIONS_PER_TARGET);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_TARGET);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLISECONDS);
+
+        /* @formatter:off */
+        return HttpClients.custom().
+                useSystemProperties().
+                setConnectionManager(connectionManager).
+                evictExpiredConnections().
+                evictIdleConnections(EVICT_IDLE_CONNECTIONS_AFTER_SECONDS, TimeUnit.SECONDS).
+                build();
+        /* @formatter:on */
+    }
+}
@@ -64,23 +64,14 @@ public class TrustAllSupport {
 
     public ClientHttpRequestFactory createTrustAllFactory() {
         HttpClientBuilder clientBuilder = HttpClients.custom();
-        SSLContext sslContext = null;
-        if (config.isTrustAllCertificatesEnabled()) {
-            try {
-                sslContext = createTrustAllSSLContext(adapter);
-            } catch (AdapterException e) {
-                throw new IllegalStateException("Should not happen! See trace", e);
-            }
-        } else {
-            sslContext = SSLContexts.createSystemDefault();
-        }
+        SSLContext sslContext = createSSLContext();
         if (config.isProxyDefined()) {
             // proxy with socks not working with standard HTTPHost,
             // clientBuilder.setProxy(..)
             // So own approach necessary, details see
             // https://stackoverflow.com/questions/22937983/how-to-use-socks-5-proxy-with-apache-http-client-4
             Registry<ConnectionSocketFactory> reg = RegistryBuilder.<ConnectionSocketFactory>create().register("http", new SocksProxyConnectionSocketFactory())
-                    .register("https", new SocksProxySSLConnectionSocketFactory(sslContext)).build();
+                    .register("https", new SocksProxySSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE)).build();
 
             PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager(reg, new FakeDnsResolver());
             clientBuilder.setConnectionManager(cm);
@@ -100,6 +91,51 @@ public class TrustAllSupport {
         return requestFactory2;
     }
 
+    /**
+     * Creates a pooling connection manager for the configuration. When trust all
+     * is enabled, all certificates and host names are accepted. Otherwise the
+     * system default SSL context and host name verification is used - also when a
+     * proxy is configured. A configured proxy is handled as SOCKS proxy.
+     *
+     * @return pooling connection manager, never <code>null</code>
+     */
+    public PoolingHttpClientConnectionManager createPoolingConnectionManager() {
+        Registry<ConnectionSocketFactory> reg = createConnectionSocketFactoryRegistry();
+        if (config.isProxyDefined()) {
+            return new PoolingHttpClientConnectionManager(reg, new FakeDnsResolver());
+        }
+        return new PoolingHttpClientConnectionManager(reg);
+    }
+
+    Registry<ConnectionSocketFactory> createConnectionSocketFactoryRegistry() {
+        SSLContext sslContext = createSSLContext();
+        HostnameVerifier hostnameVerifier = createHostnameVerifier();
+        if (config.isProxyDefined()) {
+            return RegistryBuilder.<ConnectionSocketFactory>create().register("http", new SocksProxyConnectionSocketFactory())
+                    .register("https", new SocksProxySSLConnectionSocketFactory(sslContext, hostnameVerifier)).build();
+        }
+        return RegistryBuilder.<ConnectionSocketFactory>create().register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(sslContext, hostnameVerifier)).build();
+    }
+
+    private HostnameVerifier createHostnameVerifier() {
+        if (config.isTrustAllCertificatesEnabled()) {
+            return NoopHostnameVerifier.INSTANCE;
+        }
+        return SSLConnectionSocketFactory.getDefaultHostnameVerifier();
+    }
+
+    private SSLContext createSSLContext() {
+        if (!config.isTrustAllCertificatesEnabled()) {
+            return SSLContexts.createSystemDefault();
+        }
+        try {
+            return createTrustAllSSLContext(adapter);
+        } catch (AdapterException e) {
+            throw new IllegalStateException("Should not happen! See trace", e);
+        }
+    }
+
     private SSLContext createTrustAllSSLContext(Adapter<?> adapter) throws AdapterException {
         SSLContext sslContext = null;
         try {
@@ -157,11 +193,17 @@ public class TrustAllSupport {
         }
     }
 
-    private class SocksProxySSLConnectionSocketFactory extends SSLConnectionSocketFactory {
+    class SocksProxySSLConnectionSocketFactory extends SSLConnectionSocketFactory {
+
+        private HostnameVerifier hostnameVerifier;
+
+        public SocksProxySSLConnectionSocketFactory(final SSLContext sslContext, HostnameVerifier hostnameVerifier) {
+            super(sslContext, hostnameVerifier);
+            this.hostnameVerifier = hostnameVerifier;
+        }
 
-        public SocksProxySSLConnectionSocketFactory(final SSLContext sslContext) {
-            // You may need this verifier if target site's certificate is not secure
-            super(sslContext, NoopHostnameVerifier.INSTANCE);
+        HostnameVerifier getHostnameVerifier() {
+            return hostnameVerifier;
         }
 
         @Override
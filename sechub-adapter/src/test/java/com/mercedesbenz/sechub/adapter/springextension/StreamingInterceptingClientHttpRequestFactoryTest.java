@@ -0,0 +1,104 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.adapter.springextension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+class StreamingInterceptingClientHttpRequestFactoryTest {
+
+    private ClientHttpRequestFactory requestFactory;
+    private ClientHttpRequest request;
+    private HttpHeaders headers;
+    private ClientHttpResponse response;
+    private URI uri;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        uri = URI.create("https://localhost:1234/test");
+        requestFactory = mock(ClientHttpRequestFactory.class);
+        request = mock(ClientHttpRequest.class, withSettings().extraInterfaces(StreamingHttpOutputMessage.class));
+        headers = new HttpHeaders();
+        response = mock(ClientHttpResponse.class);
+
+        when(requestFactory.createRequest(uri, HttpMethod.POST)).thenReturn(request);
+        when(request.getHeaders()).thenReturn(headers);
+        when(request.execute()).thenReturn(response);
+    }
+
+    @Test
+    void interceptors_are_called_in_order_and_can_change_headers_before_request_is_executed() throws Exception {
+        /* prepare */
+        List<String> calls = new ArrayList<>();
+        ClientHttpRequestInterceptor interceptor1 = (req, body, execution) -> {
+            calls.add("1");
+            req.getHeaders().add("X-Test", "value1");
+            return execution.execute(req, body);
+        };
+        ClientHttpRequestInterceptor interceptor2 = (req, body, execution) -> {
+            calls.add("2");
+            assertEquals(0, body.length);
+            return execution.execute(req, body);
+        };
+        StreamingInterceptingClientHttpRequestFactory factoryToTest = new StreamingInterceptingClientHttpRequestFactory(requestFactory,
+                Arrays.asList(interceptor1, interceptor2));
+
+        /* execute */
+        ClientHttpResponse result = factoryToTest.createRequest(uri, HttpMethod.POST).execute();
+
+        /* test */
+        assertSame(response, result);
+        assertEquals(Arrays.asList("1", "2"), calls);
+        assertEquals("value1", headers.getFirst("X-Test"));
+        verify(request).execute();
+    }
+
+    @Test
+    void body_is_given_to_streaming_request_without_buffering() throws Exception {
+        /* prepare */
+        StreamingInterceptingClientHttpRequestFactory factoryToTest = new StreamingInterceptingClientHttpRequestFactory(requestFactory, null);
+        StreamingHttpOutputMessage.Body body = outputStream -> outputStream.write(1);
+
+        /* execute */
+        ClientHttpRequest created = factoryToTest.createRequest(uri, HttpMethod.POST);
+        ((StreamingHttpOutputMessage) created).setBody(body);
+
+        /* test */
+        verify((StreamingHttpOutputMessage) request).setBody(body);
+        verify(request, never()).getBody();
+    }
+
+    @Test
+    void body_is_written_to_non_streaming_request() throws Exception {
+        /* prepare */
+        ClientHttpRequest nonStreamingRequest = mock(ClientHttpRequest.class);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        when(nonStreamingRequest.getBody()).thenReturn(outputStream);
+        when(requestFactory.createRequest(eq(uri), eq(HttpMethod.PUT))).thenReturn(nonStreamingRequest);
+
+        StreamingInterceptingClientHttpRequestFactory factoryToTest = new StreamingInterceptingClientHttpRequestFactory(requestFactory, null);
+
+        /* execute */
+        ClientHttpRequest created = factoryToTest.createRequest(uri, HttpMethod.PUT);
+        ((StreamingHttpOutputMessage) created).setBody(stream -> stream.write(new byte[] { 1, 2, 3 }));
+
+        /* test */
+        assertArrayEquals(new byte[] { 1, 2, 3 }, outputStream.toByteArray());
+    }
+}
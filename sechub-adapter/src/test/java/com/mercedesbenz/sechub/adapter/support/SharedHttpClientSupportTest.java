@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.adapter.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.adapter.Adapter;
+import com.mercedesbenz.sechub.adapter.AdapterConfig;
+
+class SharedHttpClientSupportTest {
+
+    private SharedHttpClientSupport supportToTest;
+    private Adapter<?> adapter;
+
+    @BeforeEach
+    void beforeEach() {
+        supportToTest = new SharedHttpClientSupport();
+        adapter = mock(Adapter.class);
+    }
+
+    @Test
+    void same_target_with_different_paths_shares_one_http_client() {
+        /* prepare */
+        AdapterConfig config1 = createConfig("https://pds.example.org:8444/api/job");
+        AdapterConfig config2 = createConfig("https://pds.example.org:8444/other");
+
+        /* execute */
+        supportToTest.createStreamingRequestFactory(adapter, config1);
+        supportToTest.createStreamingRequestFactory(adapter, config2);
+
+        /* test */
+        assertEquals(1, supportToTest.getAmountOfSharedHttpClients());
+    }
+
+    @Test
+    void different_targets_have_own_http_clients() {
+        /* prepare */
+        AdapterConfig config1 = createConfig("https://pds1.example.org:8444");
+        AdapterConfig config2 = createConfig("https://pds2.example.org:8444");
+
+        /* execute */
+        supportToTest.createStreamingRequestFactory(adapter, config1);
+        supportToTest.createStreamingRequestFactory(adapter, config2);
+
+        /* test */
+        assertEquals(2, supportToTest.getAmountOfSharedHttpClients());
+    }
+
+    @Test
+    void trust_all_and_proxy_setup_are_part_of_target_key() {
+        /* prepare */
+        AdapterConfig config1 = createConfig("https://pds.example.org:8444");
+        AdapterConfig config2 = createConfig("https://pds.example.org:8444");
+        when(config2.isTrustAllCertificatesEnabled()).thenReturn(true);
+        AdapterConfig config3 = createConfig("https://pds.example.org:8444");
+        when(config3.isProxyDefined()).thenReturn(true);
+        when(config3.getProxyHostname()).thenReturn("proxy.example.org");
+        when(config3.getProxyPort()).thenReturn(1080);
+
+        /* execute */
+        String key1 = supportToTest.createTargetKey(config1);
+        String key2 = supportToTest.createTargetKey(config2);
+        String key3 = supportToTest.createTargetKey(config3);
+
+        /* test */
+        assertEquals("https://pds.example.org:8444|trustAll=false", key1);
+        assertEquals("https://pds.example.org:8444|trustAll=true", key2);
+        assertEquals("https://pds.example.org:8444|trustAll=false|proxy=proxy.example.org:1080", key3);
+    }
+
+    private AdapterConfig createConfig(String baseURL) {
+        AdapterConfig config = mock(AdapterConfig.class);
+        when(config.getProductBaseURL()).thenReturn(baseURL);
+        return config;
+    }
+}
@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.adapter.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.apache.http.config.Registry;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.ssl.DefaultHostnameVerifier;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.adapter.Adapter;
+import com.mercedesbenz.sechub.adapter.TrustAllConfig;
+import com.mercedesbenz.sechub.adapter.support.TrustAllSupport.SocksProxySSLConnectionSocketFactory;
+
+class TrustAllSupportTest {
+
+    private Adapter<?> adapter;
+    private TrustAllConfig config;
+
+    @BeforeEach
+    void beforeEach() {
+        adapter = mock(Adapter.class);
+        config = mock(TrustAllConfig.class);
+
+        when(config.isProxyDefined()).thenReturn(true);
+        when(config.getProxyHostname()).thenReturn("proxy.example.org");
+        when(config.getProxyPort()).thenReturn(1080);
+    }
+
+    @Test
+    void proxy_without_trust_all_uses_default_hostname_verification() {
+        /* prepare */
+        when(config.isTrustAllCertificatesEnabled()).thenReturn(false);
+        TrustAllSupport supportToTest = new TrustAllSupport(adapter, config);
+
+        /* execute */
+        Registry<ConnectionSocketFactory> registry = supportToTest.createConnectionSocketFactoryRegistry();
+
+        /* test */
+        ConnectionSocketFactory factory = registry.lookup("https");
+        assertTrue(factory instanceof SocksProxySSLConnectionSocketFactory);
+        assertTrue(((SocksProxySSLConnectionSocketFactory) factory).getHostnameVerifier() instanceof DefaultHostnameVerifier);
+    }
+
+    @Test
+    void proxy_with_trust_all_accepts_all_hostnames() {
+        /* prepare */
+        when(config.isTrustAllCertificatesEnabled()).thenReturn(true);
+        TrustAllSupport supportToTest = new TrustAllSupport(adapter, config);
+
+        /* execute */
+        Registry<ConnectionSocketFactory> registry = supportToTest.createConnectionSocketFactoryRegistry();
+
+        /* test */
+        ConnectionSocketFactory factory = registry.lookup("https");
+        assertTrue(factory instanceof SocksProxySSLConnectionSocketFactory);
+        assertSame(NoopHostnameVerifier.INSTANCE, ((SocksProxySSLConnectionSocketFactory) factory).getHostnameVerifier());
+    }
+
+    @Test
+    void proxy_without_trust_all_creates_pooling_connection_manager() {
+        /* prepare */
+        when(config.isTrustAllCertificatesEnabled()).thenReturn(false);
+        TrustAllSupport supportToTest = new TrustAllSupport(adapter, config);
+
+        /* execute + test */
+        assertNotNull(supportToTest.createPoolingConnectionManager());
+    }
+
+}
@@ -12,8 +12,7 @@ import com.mercedesbenz.sechub.domain.administration.config.AdministrationConfig
 import com.mercedesbenz.sechub.domain.administration.job.JobInformationRepository;
 import com.mercedesbenz.sechub.sharedkernel.Step;
 import com.mercedesbenz.sechub.sharedkernel.TimeCalculationService;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResult;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResultInspector;
+import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupChunkedDeleteService;
 import com.mercedesbenz.sechub.sharedkernel.usecases.autocleanup.UseCaseAdministrationAutoCleanExecution;
 
 @Service
@@ -22,7 +21,7 @@ public class AdministrationAutoCleanupService {
     private static final Logger LOG = LoggerFactory.getLogger(AdministrationAutoCleanupService.class);
 
     @Autowired
-    AutoCleanupResultInspector inspector;
+    AutoCleanupChunkedDeleteService chunkedDeleteService;
 
     @Autowired
     TimeCalculationService timeCalculationService;
@@ -49,17 +48,8 @@ public class AdministrationAutoCleanupService {
         LocalDateTime cleanTimeStamp = timeCalculationService.calculateNowMinusDays(days);
 
         /* delete */
-        int amount = jobInformationRepository.deleteJobInformationOlderThan(cleanTimeStamp);
-
-        /* @formatter:off */
-        inspector.inspect(AutoCleanupResult.builder().
-                    autoCleanup("job-information",getClass()).
-                    forDays(days).
-                    hasDeleted(amount).
-                    byTimeStamp(cleanTimeStamp).
-                    build()
-                    );
-        /* @formatter:on */
+        chunkedDeleteService.deleteOlderThan("job-information", getClass(), days, cleanTimeStamp, jobInformationRepository::findJobUUIDsOfJobInformationOlderThan,
+                jobInformationRepository::deleteJobInformationWithJobUUIDs);
 
     }
 
@@ -66,7 +66,9 @@ public class JobInformation {
     public static final String QUERY_FIND_ALL_RUNNING_JOBS = "SELECT j FROM JobInformation j where j.status = com.mercedesbenz.sechub.domain.administration.job.JobStatus.RUNNING";
     public static final String QUERY_DELETE_JOBINFORMATION_FOR_JOBUUID = "DELETE FROM JobInformation j WHERE j.jobUUID=:jobUUID";
 
-    public static final String QUERY_DELETE_JOBINFORMATION_OLDER_THAN = "DELETE FROM JobInformation j WHERE j." + PROPERTY_SINCE + " < :cleanTimeStamp";
+    public static final String QUERY_FIND_JOBINFORMATION_JOB_UUIDS_OLDER_THAN = "SELECT j." + PROPERTY_JOB_UUID + " FROM JobInformation j WHERE j." + PROPERTY_SINCE
+            + " < :cleanTimeStamp";
+    public static final String QUERY_DELETE_JOBINFORMATION_WITH_JOB_UUIDS = "DELETE FROM JobInformation j WHERE j." + PROPERTY_JOB_UUID + " IN :jobUUIDs";
 
     /* JPA only */
     JobInformation() {
@@ -2,9 +2,11 @@
 package com.mercedesbenz.sechub.domain.administration.job;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -21,8 +23,12 @@ public interface JobInformationRepository extends JpaRepository<JobInformation,
     @Query(JobInformation.QUERY_DELETE_JOBINFORMATION_FOR_JOBUUID)
     public void deleteJobInformationWithJobUUID(@Param("jobUUID") UUID jobUUID);
 
+    @Query(JobInformation.QUERY_FIND_JOBINFORMATION_JOB_UUIDS_OLDER_THAN)
+    public List<UUID> findJobUUIDsOfJobInformationOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp, Pageable pageable);
+
     @Transactional
     @Modifying
-    @Query(JobInformation.QUERY_DELETE_JOBINFORMATION_OLDER_THAN)
-    public int deleteJobInformationOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp);
+    @Query(JobInformation.QUERY_DELETE_JOBINFORMATION_WITH_JOB_UUIDS)
+    public int deleteJobInformationWithJobUUIDs(@Param("jobUUIDs") Collection<UUID> jobUUIDs);
+
 }
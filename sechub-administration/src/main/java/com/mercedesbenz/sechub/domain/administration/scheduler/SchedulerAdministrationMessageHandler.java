@@ -79,6 +79,9 @@ public class SchedulerAdministrationMessageHandler implements AsynchronMessageHa
         saveStatusEntry(SchedulerStatusEntryKeys.SCHEDULER_JOBS_CANCELED, status.getAmountOfJobsCanceled());
         saveStatusEntry(SchedulerStatusEntryKeys.SCHEDULER_JOBS_ENDED, status.getAmountOfJobsEnded());
 
+        saveStatusEntry(SchedulerStatusEntryKeys.SCHEDULER_INSTANCE_JOBS_RUNNING, status.getAmountOfJobsRunningInInstance());
+        saveStatusEntry(SchedulerStatusEntryKeys.SCHEDULER_INSTANCE_JOBS_QUEUED, status.getAmountOfJobsQueuedInInstance());
+
     }
 
     private void saveStatusEntry(SchedulerStatusEntryKeys key, long value) {
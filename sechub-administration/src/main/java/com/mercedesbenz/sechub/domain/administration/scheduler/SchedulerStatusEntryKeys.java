@@ -20,6 +20,10 @@ public enum SchedulerStatusEntryKeys implements StatusEntryKey {
 
     SCHEDULER_JOBS_ENDED("status.scheduler.jobs.ended"),
 
+    SCHEDULER_INSTANCE_JOBS_RUNNING("status.scheduler.instance.jobs.running"),
+
+    SCHEDULER_INSTANCE_JOBS_QUEUED("status.scheduler.instance.jobs.queued"),
+
     ;
 
     private String statusEntryKey;
@@ -6,16 +6,22 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkIdDeleter;
 import com.mercedesbenz.sechub.domain.administration.config.AdministrationConfigService;
 import com.mercedesbenz.sechub.domain.administration.job.JobInformationRepository;
 import com.mercedesbenz.sechub.sharedkernel.TimeCalculationService;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResult;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResultInspector;
+import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupChunkedDeleteService;
+import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupIdFinder;
 
 class AdministrationAutoCleanupServiceTest {
 
@@ -23,7 +29,7 @@ class AdministrationAutoCleanupServiceTest {
     private AdministrationConfigService configService;
     private JobInformationRepository jobInformationRepository;
     private TimeCalculationService timeCalculationService;
-    private AutoCleanupResultInspector inspector;
+    private AutoCleanupChunkedDeleteService chunkedDeleteService;
 
     @BeforeEach
     void beforeEach() {
@@ -32,12 +38,12 @@ class AdministrationAutoCleanupServiceTest {
         configService = mock(AdministrationConfigService.class);
         jobInformationRepository = mock(JobInformationRepository.class);
         timeCalculationService = mock(TimeCalculationService.class);
-        inspector = mock(AutoCleanupResultInspector.class);
+        chunkedDeleteService = mock(AutoCleanupChunkedDeleteService.class);
 
         serviceToTest.configService = configService;
         serviceToTest.jobInformationRepository = jobInformationRepository;
         serviceToTest.timeCalculationService = timeCalculationService;
-        serviceToTest.inspector = inspector;
+        serviceToTest.chunkedDeleteService = chunkedDeleteService;
     }
 
     @Test
@@ -54,9 +60,9 @@ class AdministrationAutoCleanupServiceTest {
         /* test */
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService, never()).calculateNowMinusDays(any());
-        verify(jobInformationRepository, never()).deleteJobInformationOlderThan(any());
-        // check inspection as expected: never because not executed
-        verify(inspector, never()).inspect(any());
+        verify(jobInformationRepository, never()).deleteJobInformationWithJobUUIDs(any());
+        // check chunked deletion as expected: never because not executed
+        verify(chunkedDeleteService, never()).deleteOlderThan(any(), any(), anyLong(), any(), any(), any());
     }
 
     @Test
@@ -73,19 +79,23 @@ class AdministrationAutoCleanupServiceTest {
         /* test */
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService, never()).calculateNowMinusDays(any());
-        verify(jobInformationRepository, never()).deleteJobInformationOlderThan(any());
-        // check inspection as expected: never because not executed
-        verify(inspector, never()).inspect(any());
+        verify(jobInformationRepository, never()).deleteJobInformationWithJobUUIDs(any());
+        // check chunked deletion as expected: never because not executed
+        verify(chunkedDeleteService, never()).deleteOlderThan(any(), any(), anyLong(), any(), any(), any());
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void cleanup_executes_delete_job_information_for_30_days() {
         /* prepare */
         long days = 30;
         when(configService.getAutoCleanupInDays()).thenReturn(days);
         LocalDateTime cleanTime = LocalDateTime.now().minusDays(days);
         when(timeCalculationService.calculateNowMinusDays(any())).thenReturn(cleanTime);
-        when(jobInformationRepository.deleteJobInformationOlderThan(cleanTime)).thenReturn(1234);
+        Pageable pageable = PageRequest.of(0, 1000);
+        List<UUID> jobUUIDs = Arrays.asList(UUID.randomUUID(), UUID.randomUUID());
+        when(jobInformationRepository.findJobUUIDsOfJobInformationOlderThan(cleanTime, pageable)).thenReturn(jobUUIDs);
+        when(jobInformationRepository.deleteJobInformationWithJobUUIDs(jobUUIDs)).thenReturn(2);
 
         /* execute */
         serviceToTest.cleanup();
@@ -93,16 +103,16 @@ class AdministrationAutoCleanupServiceTest {
         /* test */
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService).calculateNowMinusDays(eq(days));
-        verify(jobInformationRepository).deleteJobInformationOlderThan(cleanTime);
 
-        // check inspection as expected
-        ArgumentCaptor<AutoCleanupResult> captor = ArgumentCaptor.forClass(AutoCleanupResult.class);
-        verify(inspector).inspect(captor.capture());
+        // check chunked deletion as expected
+        ArgumentCaptor<AutoCleanupIdFinder<UUID>> idFinderCaptor = ArgumentCaptor.forClass(AutoCleanupIdFinder.class);
+        ArgumentCaptor<ChunkIdDeleter<UUID>> idDeleterCaptor = ArgumentCaptor.forClass(ChunkIdDeleter.class);
+        verify(chunkedDeleteService).deleteOlderThan(eq("job-information"), eq(AdministrationAutoCleanupService.class), eq(days), eq(cleanTime),
+                idFinderCaptor.capture(), idDeleterCaptor.capture());
 
-        AutoCleanupResult result = captor.getValue();
-        assertEquals(cleanTime, result.getUsedCleanupTimeStamp());
-        assertEquals(days, result.getCleanupTimeInDays());
-        assertEquals(1234, result.getDeletedEntries());
+        // check finder and deleter use repository
+        assertEquals(jobUUIDs, idFinderCaptor.getValue().findIdsOlderThan(cleanTime, pageable));
+        assertEquals(2, idDeleterCaptor.getValue().deleteIds(jobUUIDs));
     }
 
 }
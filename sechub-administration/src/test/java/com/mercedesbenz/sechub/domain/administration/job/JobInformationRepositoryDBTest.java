@@ -5,6 +5,7 @@ import static com.mercedesbenz.sechub.test.FlakyOlderThanTestWorkaround.*;
 import static org.junit.Assert.*;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,14 +17,19 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkedDeleteSupport;
+
 @RunWith(SpringRunner.class)
 @DataJpaTest
 @ContextConfiguration(classes = { JobInformationRepository.class, JobInformationRepositoryDBTest.SimpleTestConfiguration.class })
 public class JobInformationRepositoryDBTest {
 
+    private static final int TEST_CHUNK_SIZE = 2;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -34,6 +40,48 @@ public class JobInformationRepositoryDBTest {
     public void before() {
     }
 
+    @Test
+    public void findJobUUIDsOfJobInformationOlderThan_returns_only_older_job_uuids_limited_by_page_size() throws Exception {
+        /* prepare */
+        DeleteJobTestData testData = new DeleteJobTestData();
+        testData.createAndCheckAvailable();
+
+        LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
+
+        /* execute */
+        List<UUID> all = jobRepository.findJobUUIDsOfJobInformationOlderThan(olderThan, PageRequest.of(0, 10));
+        List<UUID> limited = jobRepository.findJobUUIDsOfJobInformationOlderThan(olderThan, PageRequest.of(0, 2));
+
+        /* test */
+        assertEquals(3, all.size());
+        assertTrue(all.contains(testData.job1_90_days_before_created.jobUUID));
+        assertTrue(all.contains(testData.job2_2_days_before_created.jobUUID));
+        assertTrue(all.contains(testData.job3_1_day_before_created.jobUUID));
+
+        assertEquals(2, limited.size());
+        assertTrue(all.containsAll(limited));
+    }
+
+    @Test
+    public void deleteJobInformationWithJobUUIDs_deletes_only_given_job_information() throws Exception {
+        /* prepare */
+        DeleteJobTestData testData = new DeleteJobTestData();
+        testData.createAndCheckAvailable();
+
+        /* execute */
+        int deleted = jobRepository
+                .deleteJobInformationWithJobUUIDs(Arrays.asList(testData.job1_90_days_before_created.jobUUID, testData.job4_now_created.jobUUID));
+        jobRepository.flush();
+        entityManager.clear();
+
+        /* test */
+        assertEquals(2, deleted);
+        List<JobInformation> allJobsNow = jobRepository.findAll();
+        assertTrue(allJobsNow.contains(testData.job2_2_days_before_created));
+        assertTrue(allJobsNow.contains(testData.job3_1_day_before_created));
+        assertEquals(2, allJobsNow.size());
+    }
+
     @Test
     public void test_data_4_jobs_delete_1_day_still_has_2() throws Exception {
         /* prepare */
@@ -43,7 +91,7 @@ public class JobInformationRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_1_day);
 
         /* execute */
-        int deleted = jobRepository.deleteJobInformationOlderThan(olderThan);
+        int deleted = deleteJobInformationOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -63,7 +111,7 @@ public class JobInformationRepositoryDBTest {
         LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
 
         /* execute */
-        int deleted = jobRepository.deleteJobInformationOlderThan(olderThan);
+        int deleted = deleteJobInformationOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -82,7 +130,7 @@ public class JobInformationRepositoryDBTest {
         LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
 
         /* execute */
-        int deleted = jobRepository.deleteJobInformationOlderThan(olderThan);
+        int deleted = deleteJobInformationOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -98,7 +146,7 @@ public class JobInformationRepositoryDBTest {
 
         /* execute */
         LocalDateTime olderThan = olderThanForDelete(testData.before_90_days);
-        int deleted = jobRepository.deleteJobInformationOlderThan(olderThan);
+        int deleted = deleteJobInformationOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -121,7 +169,7 @@ public class JobInformationRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_90_days);
 
         /* execute */
-        int deleted = jobRepository.deleteJobInformationOlderThan(olderThan);
+        int deleted = deleteJobInformationOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -137,7 +185,7 @@ public class JobInformationRepositoryDBTest {
         LocalDateTime olderThan = testData.before_89_days;
 
         /* execute */
-        int deleted = jobRepository.deleteJobInformationOlderThan(olderThan);
+        int deleted = deleteJobInformationOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -149,6 +197,17 @@ public class JobInformationRepositoryDBTest {
         assertEquals(3, allJobsNow.size());
     }
 
+    /**
+     * Deletes like the auto cleanup does: finds the job UUIDs of a chunk and
+     * deletes the job information by these UUIDs - chunk by chunk
+     */
+    private int deleteJobInformationOlderThanInChunks(LocalDateTime olderThan) {
+        long deleted = new ChunkedDeleteSupport().deleteInChunks(
+                maximumAmount -> jobRepository.findJobUUIDsOfJobInformationOlderThan(olderThan, PageRequest.of(0, maximumAmount)),
+                jobRepository::deleteJobInformationWithJobUUIDs, TEST_CHUNK_SIZE, 0, null);
+        return Math.toIntExact(deleted);
+    }
+
     private void assertDeleted(int expected, int deleted, DeleteJobTestData testData, LocalDateTime olderThan) {
         if (deleted == expected) {
             return;
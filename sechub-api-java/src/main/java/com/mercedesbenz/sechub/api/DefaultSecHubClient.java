@@ -84,6 +84,8 @@ public class DefaultSecHubClient extends AbstractSecHubClient {
 
         conversionHelper = new OpenApiSecHubClientConversionHelper();
 
+        /* source archives are compressed by all available cores */
+        archiveSupport.setCompressionThreads(Runtime.getRuntime().availableProcessors());
     }
 
     private ApiClient getApiClient() {
@@ -0,0 +1,46 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.authorization;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Authentication provider which verifies presented API tokens only when there
+ * is no successful verification inside {@link AuthUserCredentialCache}. User
+ * details (roles, enabled state, stored token hash) are still loaded for every
+ * request.
+ */
+public class AuthUserCachingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private AuthUserCredentialCache credentialCache;
+
+    public AuthUserCachingAuthenticationProvider(AuthUserCredentialCache credentialCache) {
+        this.credentialCache = credentialCache;
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails, UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+
+        Object credentials = authentication.getCredentials();
+        if (credentials == null) {
+            /* parent will handle this */
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+        String userId = userDetails.getUsername();
+        String hashedApiToken = userDetails.getPassword();
+        String presentedApiToken = credentials.toString();
+
+        if (credentialCache.isVerified(userId, hashedApiToken, presentedApiToken)) {
+            return;
+        }
+        /* throws an exception when not valid */
+        super.additionalAuthenticationChecks(userDetails, authentication);
+
+        credentialCache.markVerified(userId, hashedApiToken, presentedApiToken);
+    }
+
+}
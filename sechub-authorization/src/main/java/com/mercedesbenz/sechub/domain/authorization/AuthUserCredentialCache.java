@@ -0,0 +1,169 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.authorization;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * A short living and bounded cache for successful credential verifications.
+ * Verifying an API token against its BCrypt hash is expensive by design, but
+ * clients polling the API would do this on every request.<br>
+ * <br>
+ * The cache never stores raw API tokens. For every user only a keyed hash
+ * (HMAC-SHA256 with a random key, created on startup) of user id, stored token
+ * hash and presented token is kept. Because the stored token hash is part of
+ * the keyed hash, an entry can never match after the API token has been
+ * changed - even when the invalidation did not happen on this cluster member.
+ */
+@Component
+public class AuthUserCredentialCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuthUserCredentialCache.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final char SEPARATOR = '\0';
+
+    private static final long DEFAULT_TIME_TO_LIVE_MILLIS = 60000;
+    private static final int DEFAULT_MAXIMUM_ENTRIES = 10000;
+
+    @MustBeDocumented("Time in milliseconds a successful API token verification is cached for a user. A value of 0 or lower disables the cache.")
+    @Value("${sechub.security.auth.credentialcache.ttl.millis:" + DEFAULT_TIME_TO_LIVE_MILLIS + "}")
+    long timeToLiveMillis = DEFAULT_TIME_TO_LIVE_MILLIS;
+
+    @MustBeDocumented("Maximum amount of users with cached API token verifications.")
+    @Value("${sechub.security.auth.credentialcache.maxentries:" + DEFAULT_MAXIMUM_ENTRIES + "}")
+    int maximumEntries = DEFAULT_MAXIMUM_ENTRIES;
+
+    private final SecretKeySpec secretKey;
+
+    private final Map<String, CachedVerification> verifications = new ConcurrentHashMap<>();
+
+    public AuthUserCredentialCache() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        secretKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    /**
+     * Checks if given credentials were verified successfully before and the
+     * verification is not outdated
+     *
+     * @param userId            user id
+     * @param hashedApiToken    stored hash of the API token
+     * @param presentedApiToken API token presented by client
+     * @return <code>true</code> when verified before, otherwise
+     *         <code>false</code>
+     */
+    public boolean isVerified(String userId, String hashedApiToken, String presentedApiToken) {
+        if (!isEnabled() || userId == null) {
+            return false;
+        }
+        CachedVerification verification = verifications.get(userId);
+        if (verification == null) {
+            return false;
+        }
+        if (verification.isExpired(currentTimeMillis())) {
+            verifications.remove(userId, verification);
+            return false;
+        }
+        return MessageDigest.isEqual(verification.digest, createDigest(userId, hashedApiToken, presentedApiToken));
+    }
+
+    /**
+     * Marks given credentials as successfully verified
+     *
+     * @param userId            user id
+     * @param hashedApiToken    stored hash of the API token
+     * @param presentedApiToken API token presented by client
+     */
+    public void markVerified(String userId, String hashedApiToken, String presentedApiToken) {
+        if (!isEnabled() || userId == null) {
+            return;
+        }
+        if (verifications.size() >= maximumEntries && !verifications.containsKey(userId)) {
+            removeExpiredEntries();
+            if (verifications.size() >= maximumEntries) {
+                LOG.debug("Credential cache is full, will not cache verification for user: {}", userId);
+                return;
+            }
+        }
+        CachedVerification verification = new CachedVerification();
+        verification.digest = createDigest(userId, hashedApiToken, presentedApiToken);
+        verification.expiresAt = currentTimeMillis() + timeToLiveMillis;
+
+        verifications.put(userId, verification);
+    }
+
+    /**
+     * Removes cached verification for given user
+     *
+     * @param userId user id
+     */
+    public void invalidate(String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (verifications.remove(userId) != null) {
+            LOG.debug("Removed cached credential verification for user: {}", userId);
+        }
+    }
+
+    int getAmountOfEntries() {
+        return verifications.size();
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private boolean isEnabled() {
+        return timeToLiveMillis > 0 && maximumEntries > 0;
+    }
+
+    private void removeExpiredEntries() {
+        long now = currentTimeMillis();
+        Iterator<CachedVerification> iterator = verifications.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isExpired(now)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private byte[] createDigest(String userId, String hashedApiToken, String presentedApiToken) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+
+            String data = userId + SEPARATOR + hashedApiToken + SEPARATOR + presentedApiToken;
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Was not able to create keyed hash for credentials", e);
+        }
+    }
+
+    private static class CachedVerification {
+        private byte[] digest;
+        private long expiresAt;
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
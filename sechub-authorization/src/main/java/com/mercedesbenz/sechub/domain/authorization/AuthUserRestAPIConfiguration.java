@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.User.UserBuilder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -26,6 +27,17 @@ public class AuthUserRestAPIConfiguration {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    AuthUserCredentialCache credentialCache;
+
+    @Bean
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService) {
+        AuthUserCachingAuthenticationProvider provider = new AuthUserCachingAuthenticationProvider(credentialCache);
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return provider;
+    }
+
     @Bean
     public UserDetailsService userDetailsService(final AuthUserRepository repository) {
         /* @formatter:off */
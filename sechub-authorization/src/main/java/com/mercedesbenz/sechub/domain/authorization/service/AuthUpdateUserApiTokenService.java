@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.mercedesbenz.sechub.domain.authorization.AuthUser;
+import com.mercedesbenz.sechub.domain.authorization.AuthUserCredentialCache;
 import com.mercedesbenz.sechub.domain.authorization.AuthUserRepository;
 import com.mercedesbenz.sechub.sharedkernel.Step;
 import com.mercedesbenz.sechub.sharedkernel.usecases.user.UseCaseUserClicksLinkToGetNewAPIToken;
@@ -23,6 +24,9 @@ public class AuthUpdateUserApiTokenService {
     @Autowired
     UserInputAssertion assertion;
 
+    @Autowired
+    AuthUserCredentialCache credentialCache;
+
     @UseCaseUserClicksLinkToGetNewAPIToken(@Step(number = 3, next = { Step.NO_NEXT_STEP }, name = "Update auth data"))
     public void updateAPIToken(String userId, String hashedApiToken) {
         assertion.assertIsValidUserId(userId);
@@ -31,6 +35,8 @@ public class AuthUpdateUserApiTokenService {
         user.setHashedApiToken(hashedApiToken);
         userRepo.save(user);
 
+        credentialCache.invalidate(userId);
+
         LOG.debug("API token for user:{} updated", userId);
 
     }
@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.mercedesbenz.sechub.domain.authorization.AuthUserCredentialCache;
 import com.mercedesbenz.sechub.domain.authorization.AuthUserRepository;
 import com.mercedesbenz.sechub.sharedkernel.Step;
 import com.mercedesbenz.sechub.sharedkernel.usecases.admin.user.UseCaseAdminDeletesUser;
@@ -22,6 +23,9 @@ public class AuthUserDeleteService {
     @Autowired
     UserInputAssertion assertion;
 
+    @Autowired
+    AuthUserCredentialCache credentialCache;
+
     @UseCaseAdminDeletesUser(@Step(number = 4, next = {
             Step.NO_NEXT_STEP }, name = "Delete user access", description = "Authorization layer is informed about user deltete and removes access to sechub. But without any project information"))
     public void deleteUser(String userId) {
@@ -29,6 +33,8 @@ public class AuthUserDeleteService {
         assertion.assertIsValidUserId(userId);
 
         authUserRepository.deleteById(userId);
+        credentialCache.invalidate(userId);
+
         LOG.info("Deleted auth user:{}", userId);
     }
 
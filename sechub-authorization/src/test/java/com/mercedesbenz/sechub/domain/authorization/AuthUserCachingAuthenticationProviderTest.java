@@ -0,0 +1,75 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.authorization;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class AuthUserCachingAuthenticationProviderTest {
+
+    private AuthUserCachingAuthenticationProvider providerToTest;
+    private PasswordEncoder passwordEncoder;
+    private AuthUserCredentialCache credentialCache;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        passwordEncoder = mock(PasswordEncoder.class);
+        credentialCache = new AuthUserCredentialCache();
+
+        UserDetailsService userDetailsService = mock(UserDetailsService.class);
+        when(userDetailsService.loadUserByUsername("user1"))
+                .thenAnswer(invocation -> User.withUsername("user1").password("hash1").authorities("ROLE_USER").build());
+        when(passwordEncoder.matches("token1", "hash1")).thenReturn(true);
+
+        providerToTest = new AuthUserCachingAuthenticationProvider(credentialCache);
+        providerToTest.setUserDetailsService(userDetailsService);
+        providerToTest.setPasswordEncoder(passwordEncoder);
+        providerToTest.afterPropertiesSet();
+    }
+
+    @Test
+    void token_is_verified_by_password_encoder_only_once() {
+        /* execute */
+        Authentication authentication1 = providerToTest.authenticate(new UsernamePasswordAuthenticationToken("user1", "token1"));
+        Authentication authentication2 = providerToTest.authenticate(new UsernamePasswordAuthenticationToken("user1", "token1"));
+
+        /* test */
+        assertTrue(authentication1.isAuthenticated());
+        assertTrue(authentication2.isAuthenticated());
+        verify(passwordEncoder, times(1)).matches("token1", "hash1");
+    }
+
+    @Test
+    void wrong_token_is_always_verified_by_password_encoder_and_not_accepted() {
+        /* prepare */
+        providerToTest.authenticate(new UsernamePasswordAuthenticationToken("user1", "token1"));
+
+        /* execute + test */
+        assertThrows(BadCredentialsException.class, () -> providerToTest.authenticate(new UsernamePasswordAuthenticationToken("user1", "wrong")));
+        assertThrows(BadCredentialsException.class, () -> providerToTest.authenticate(new UsernamePasswordAuthenticationToken("user1", "wrong")));
+
+        verify(passwordEncoder, times(2)).matches("wrong", "hash1");
+    }
+
+    @Test
+    void token_is_verified_by_password_encoder_again_after_invalidation() {
+        /* prepare */
+        providerToTest.authenticate(new UsernamePasswordAuthenticationToken("user1", "token1"));
+
+        /* execute */
+        credentialCache.invalidate("user1");
+        providerToTest.authenticate(new UsernamePasswordAuthenticationToken("user1", "token1"));
+
+        /* test */
+        verify(passwordEncoder, times(2)).matches("token1", "hash1");
+    }
+
+}
@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.authorization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AuthUserCredentialCacheTest {
+
+    private TestAuthUserCredentialCache cacheToTest;
+
+    @BeforeEach
+    void beforeEach() {
+        cacheToTest = new TestAuthUserCredentialCache();
+        cacheToTest.timeToLiveMillis = 1000;
+        cacheToTest.maximumEntries = 2;
+    }
+
+    @Test
+    void not_marked_credentials_are_not_verified() {
+        assertFalse(cacheToTest.isVerified("user1", "hash1", "token1"));
+    }
+
+    @Test
+    void marked_credentials_are_verified() {
+        /* execute */
+        cacheToTest.markVerified("user1", "hash1", "token1");
+
+        /* test */
+        assertTrue(cacheToTest.isVerified("user1", "hash1", "token1"));
+    }
+
+    @Test
+    void marked_credentials_are_not_verified_for_other_token_hash_or_user() {
+        /* execute */
+        cacheToTest.markVerified("user1", "hash1", "token1");
+
+        /* test */
+        assertFalse(cacheToTest.isVerified("user1", "hash1", "token2"));
+        assertFalse(cacheToTest.isVerified("user1", "hash2", "token1")); // api token changed
+        assertFalse(cacheToTest.isVerified("user2", "hash1", "token1"));
+    }
+
+    @Test
+    void marked_credentials_are_not_verified_after_time_to_live() {
+        /* prepare */
+        cacheToTest.markVerified("user1", "hash1", "token1");
+
+        /* execute */
+        cacheToTest.now += 1000;
+
+        /* test */
+        assertFalse(cacheToTest.isVerified("user1", "hash1", "token1"));
+        assertEquals(0, cacheToTest.getAmountOfEntries());
+    }
+
+    @Test
+    void invalidated_credentials_are_not_verified() {
+        /* prepare */
+        cacheToTest.markVerified("user1", "hash1", "token1");
+        cacheToTest.markVerified("user2", "hash2", "token2");
+
+        /* execute */
+        cacheToTest.invalidate("user1");
+
+        /* test */
+        assertFalse(cacheToTest.isVerified("user1", "hash1", "token1"));
+        assertTrue(cacheToTest.isVerified("user2", "hash2", "token2"));
+    }
+
+    @Test
+    void cache_is_bounded_and_expired_entries_are_removed_when_full() {
+        /* prepare */
+        cacheToTest.markVerified("user1", "hash1", "token1");
+        cacheToTest.markVerified("user2", "hash2", "token2");
+
+        /* execute + test */
+        cacheToTest.markVerified("user3", "hash3", "token3");
+        assertEquals(2, cacheToTest.getAmountOfEntries());
+        assertFalse(cacheToTest.isVerified("user3", "hash3", "token3"));
+
+        cacheToTest.now += 1000;
+        cacheToTest.markVerified("user3", "hash3", "token3");
+        assertEquals(1, cacheToTest.getAmountOfEntries());
+        assertTrue(cacheToTest.isVerified("user3", "hash3", "token3"));
+    }
+
+    @Test
+    void time_to_live_zero_disables_cache() {
+        /* prepare */
+        cacheToTest.timeToLiveMillis = 0;
+
+        /* execute */
+        cacheToTest.markVerified("user1", "hash1", "token1");
+
+        /* test */
+        assertFalse(cacheToTest.isVerified("user1", "hash1", "token1"));
+        assertEquals(0, cacheToTest.getAmountOfEntries());
+    }
+
+    private class TestAuthUserCredentialCache extends AuthUserCredentialCache {
+        private long now = 1000;
+
+        @Override
+        long currentTimeMillis() {
+            return now;
+        }
+    }
+}
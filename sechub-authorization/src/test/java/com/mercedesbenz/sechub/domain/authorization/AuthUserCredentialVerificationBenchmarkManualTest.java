@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.authorization;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.mercedesbenz.sechub.test.ManualTest;
+import com.mercedesbenz.sechub.test.TestUtil;
+
+/**
+ * Simple benchmark to compare authentication costs per request with and
+ * without credential cache. The amount of requests can be changed by system
+ * property - see constant.
+ */
+class AuthUserCredentialVerificationBenchmarkManualTest implements ManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuthUserCredentialVerificationBenchmarkManualTest.class);
+
+    private static final String PROPERTY_REQUESTS = "sechub.manualtest.auth.benchmark.requests";
+
+    @Test
+    void manualTestByDeveloper() throws Exception {
+        /* prepare */
+        int requests = TestUtil.getSystemPropertyIntOrDefault(PROPERTY_REQUESTS, 200);
+
+        PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        String hashedApiToken = passwordEncoder.encode("api-token");
+        UserDetailsService userDetailsService = userId -> User.withUsername(userId).password(hashedApiToken).authorities("ROLE_USER").build();
+
+        AuthUserCredentialCache disabledCache = new AuthUserCredentialCache();
+        disabledCache.timeToLiveMillis = 0;
+
+        AuthUserCachingAuthenticationProvider withoutCache = createProvider(disabledCache, userDetailsService, passwordEncoder);
+        AuthUserCachingAuthenticationProvider withCache = createProvider(new AuthUserCredentialCache(), userDetailsService, passwordEncoder);
+
+        /* execute */
+        double microsWithoutCache = measureMicrosPerRequest(withoutCache, requests);
+        double microsWithCache = measureMicrosPerRequest(withCache, requests);
+
+        /* test */
+        LOG.info("Authentication cost per request for {} requests: without cache={} microseconds, with cache={} microseconds", requests,
+                microsWithoutCache, microsWithCache);
+    }
+
+    private double measureMicrosPerRequest(AuthUserCachingAuthenticationProvider provider, int requests) {
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            provider.authenticate(new UsernamePasswordAuthenticationToken("user1", "api-token"));
+        }
+        return (System.nanoTime() - start) / 1000.0 / requests;
+    }
+
+    private AuthUserCachingAuthenticationProvider createProvider(AuthUserCredentialCache cache, UserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder) throws Exception {
+        AuthUserCachingAuthenticationProvider provider = new AuthUserCachingAuthenticationProvider(cache);
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.afterPropertiesSet();
+        return provider;
+    }
+}
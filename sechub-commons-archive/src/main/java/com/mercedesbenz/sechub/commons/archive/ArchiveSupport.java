@@ -3,19 +3,32 @@ package com.mercedesbenz.sechub.commons.archive;
 
 import static java.util.Objects.*;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import org.apache.commons.compress.archivers.ArchiveEntry;
@@ -26,7 +39,10 @@ import org.apache.commons.compress.archivers.ArchiveStreamFactory;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,8 +60,22 @@ public class ArchiveSupport {
     private static final KeepAsIsTransformationData DO_NOT_TRANSFORM = new KeepAsIsTransformationData();
     private static final Logger LOG = LoggerFactory.getLogger(ArchiveSupport.class);
 
+    /**
+     * TAR entries up to this size are read into memory and written by worker
+     * threads, bigger entries are written directly by the reading thread
+     */
+    static final int MAX_BUFFERED_TAR_ENTRY_SIZE_IN_BYTES = 1024 * 1024;
+
+    /**
+     * Maximum amount of TAR content bytes held in memory while waiting for
+     * worker threads
+     */
+    static final int MAX_BUFFERED_TAR_CONTENT_IN_BYTES = 32 * 1024 * 1024;
+
     private ArchiveTransformationDataFactory archiveTransformationDataFactory;
     private boolean createMissingFiles;
+    private int extractionThreads = 1;
+    private int compressionThreads = 1;
 
     public ArchiveSupport() {
         this.archiveTransformationDataFactory = new ArchiveTransformationDataFactory();
@@ -85,6 +115,79 @@ public class ArchiveSupport {
         }
     }
 
+    /**
+     * Extract given archive file to output directory. When more than one
+     * extraction thread is configured, the files are written in parallel: For
+     * ZIP files the entries are read from the central directory and written by
+     * a worker pool, for TAR files the reading of the archive is pipelined with
+     * writing the files. The filtering and transformation done by the file
+     * structure data provider is the same as for the stream based extraction.
+     *
+     * @param archiveType
+     * @param archiveFile               the archive file to extract
+     * @param outputDir
+     * @param fileStructureDataProvider used to transform/filter the extraction. If
+     *                                  <code>null</code>, a fallback will be used
+     *                                  which does no transformation or filtering
+     *
+     * @return extraction result
+     *
+     * @throws IOException
+     */
+    public ArchiveExtractionResult extract(ArchiveType archiveType, File archiveFile, File outputDir, SecHubFileStructureDataProvider fileStructureDataProvider)
+            throws IOException {
+        if (archiveType == null) {
+            throw new IllegalArgumentException("archive type must be defined!");
+        }
+        requireNonNull(archiveFile, "archiveFile may not be null!");
+
+        String sourceLocation = archiveFile.getAbsolutePath();
+        if (extractionThreads < 2) {
+            try (InputStream inputStream = new FileInputStream(archiveFile)) {
+                return extract(archiveType, inputStream, sourceLocation, outputDir, fileStructureDataProvider);
+            }
+        }
+        switch (archiveType) {
+        case TAR:
+            return extractTarParallel(archiveFile, outputDir, fileStructureDataProvider);
+        case ZIP:
+            return extractZipParallel(archiveFile, outputDir, fileStructureDataProvider);
+        default:
+            throw new IllegalArgumentException("archive type " + archiveType + " is not supported");
+
+        }
+    }
+
+    /**
+     * Set amount of threads used by
+     * {@link #extract(ArchiveType, File, File, SecHubFileStructureDataProvider)}.
+     * Values lower than 2 will extract sequentially (default).
+     *
+     * @param extractionThreads
+     */
+    public void setExtractionThreads(int extractionThreads) {
+        this.extractionThreads = extractionThreads;
+    }
+
+    public int getExtractionThreads() {
+        return extractionThreads;
+    }
+
+    /**
+     * Set amount of threads used to compress ZIP entries inside
+     * {@link #createArchives(SecHubConfigurationModel, Path, Path)}. Values lower
+     * than 2 will compress sequentially (default).
+     *
+     * @param compressionThreads
+     */
+    public void setCompressionThreads(int compressionThreads) {
+        this.compressionThreads = compressionThreads;
+    }
+
+    public int getCompressionThreads() {
+        return compressionThreads;
+    }
+
     public void setCreateMissingFiles(boolean createPseudoFilesForMissingFiles) {
         this.createMissingFiles = createPseudoFilesForMissingFiles;
     }
@@ -162,7 +265,7 @@ public class ArchiveSupport {
         LOG.debug("Start creating {} archive: {}", archiveType, archiveFile);
 
         try (ArchiveOutputStream outputStream = new ArchiveStreamFactory().createArchiveOutputStream(archiveType.getType(),
-                new FileOutputStream(archiveFile))) {
+                new FileOutputStream(archiveFile)); ArchiveEntryCollector collector = createEntryCollector(archiveType, outputStream)) {
 
             if (outputStream instanceof TarArchiveOutputStream) {
                 @SuppressWarnings("resource")
@@ -209,11 +312,12 @@ public class ArchiveSupport {
                     } else {
                         pathAddition = ArchiveConstants.DATA_SECTION_FOLDER + uniqueName;
                     }
-                    compressRecursively(workingDirectoryRealPath.toString(), outputStream, file, archiveType, pathAddition, creationPathContext);
+                    compressRecursively(workingDirectoryRealPath.toString(), collector, file, pathAddition, creationPathContext);
                     LOG.debug("Create archive entry with relative prefix: {}. Origin file/folder: {}", pathAddition, file);
                 }
 
             }
+            collector.finish();
 
             outputStream.finish();
 
@@ -318,7 +422,7 @@ public class ArchiveSupport {
                 TarArchiveOutputStream tarArchiveOutputStream = (TarArchiveOutputStream) outputStream;
                 tarArchiveOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
             }
-            compressRecursively(basePath, outputStream, folder, type, null, null);
+            compressRecursively(basePath, new SequentialArchiveEntryCollector(outputStream, type), folder, null, null);
 
             outputStream.finish();
 
@@ -330,8 +434,8 @@ public class ArchiveSupport {
 
     }
 
-    private void compressRecursively(String basePath, ArchiveOutputStream outputStream, File file, ArchiveType type, String pathAddition,
-            CreationPathContext creationPathContext) throws IOException {
+    private void compressRecursively(String basePath, ArchiveEntryCollector collector, File file, String pathAddition, CreationPathContext creationPathContext)
+            throws IOException {
 
         if (creationPathContext != null) {
             if (creationPathContext.isExcluded(file)) {
@@ -344,7 +448,7 @@ public class ArchiveSupport {
         }
         if (file.isDirectory()) {
             for (File child : file.listFiles()) {
-                compressRecursively(basePath, outputStream, child, type, pathAddition, creationPathContext);
+                compressRecursively(basePath, collector, child, pathAddition, creationPathContext);
             }
         } else {
             String relativePath;
@@ -384,28 +488,17 @@ public class ArchiveSupport {
                     /* @formatter:on */
             }
 
-            ArchiveEntry entry = null;
-            switch (type) {
-            case TAR:
-                entry = new TarArchiveEntry(file, relativePath);
-                break;
-            case ZIP:
-                entry = new ZipArchiveEntry(file, relativePath);
-                break;
-            default:
-                throw new IllegalStateException("Unsupported type:" + type);
-            }
-            /* write archive entry */
-            outputStream.putArchiveEntry(entry);
+            collector.add(file, relativePath);
+        }
 
-            /* write entry data */
-            try (InputStream inputStream = Files.newInputStream(file.toPath())) {
-                IOUtils.copy(inputStream, outputStream);
-            }
-            outputStream.closeArchiveEntry();
+    }
 
+    private ArchiveEntryCollector createEntryCollector(ArchiveType archiveType, ArchiveOutputStream outputStream) {
+        if (compressionThreads > 1 && outputStream instanceof ZipArchiveOutputStream) {
+            return new ParallelZipArchiveEntryCollector((ZipArchiveOutputStream) outputStream, compressionThreads);
         }
-
+        /* TAR archives are not compressed, so there is no benefit in parallel creation */
+        return new SequentialArchiveEntryCollector(outputStream, archiveType);
     }
 
     private ArchiveExtractionResult extractTar(InputStream sourceInputStream, String sourceLocation, File outputDir,
@@ -462,9 +555,7 @@ public class ArchiveSupport {
     private ArchiveExtractionResult extract(ArchiveInputStream sourceArchiveInputStream, String sourceLocation, File outputDir,
             SecHubFileStructureDataProvider fileStructureProvider) throws ArchiveException, IOException {
 
-        ArchiveExtractionResult result = new ArchiveExtractionResult();
-        result.targetLocation = outputDir.getAbsolutePath();
-        result.sourceLocation = sourceLocation;
+        ArchiveExtractionResult result = createExtractionResult(sourceLocation, outputDir);
 
         ArchiveEntry entry = null;
         while ((entry = sourceArchiveInputStream.getNextEntry()) != null) {
@@ -473,49 +564,160 @@ public class ArchiveSupport {
                 throw new IllegalStateException("Entry path is null - cannot be handled!");
             }
 
-            ArchiveTransformationData data = createTransformationData(fileStructureProvider, name);
-            if (data == null) {
+            File outputFile = resolveOutputFileOrNull(name, outputDir, fileStructureProvider);
+            if (outputFile == null) {
                 continue;
             }
-            if (!data.isAccepted()) {
-                LOG.debug("Filtering: {}", name);
 
-                continue;
+            if (entry.isDirectory()) {
+                createOutputDirectory(outputFile, result);
+            } else {
+                LOG.debug("Creating output file: {}", outputFile.getAbsolutePath());
+                ensureParentFolderExists(outputFile, result);
+                if (outputFile.isDirectory()) {
+                    continue;
+                }
+                try (OutputStream outputFileStream = new FileOutputStream(outputFile)) {
+                    IOUtils.copy(sourceArchiveInputStream, outputFileStream);
+                    result.extractedFilesCount++;
+                }
             }
-            if (data.isPathChangeWanted()) {
-                name = data.getChangedPath();
+        }
+        return result;
+    }
 
-                LOG.debug("Path changed to: {}", name);
+    private ArchiveExtractionResult extractZipParallel(File archiveFile, File outputDir, SecHubFileStructureDataProvider fileStructureProvider)
+            throws IOException {
 
+        ArchiveExtractionResult result = createExtractionResult(archiveFile.getAbsolutePath(), outputDir);
+
+        try (ZipFile zipFile = new ZipFile(archiveFile); ParallelFileWriter writer = new ParallelFileWriter()) {
+            Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+            while (entries.hasMoreElements()) {
+                ZipArchiveEntry entry = entries.nextElement();
+                String name = entry.getName();
                 if (name == null) {
-                    throw new IllegalStateException("Wanted path is null - cannot be handled!");
+                    throw new IllegalStateException("Entry path is null - cannot be handled!");
+                }
+                File outputFile = resolveOutputFileOrNull(name, outputDir, fileStructureProvider);
+                if (outputFile == null) {
+                    continue;
+                }
+                if (entry.isDirectory()) {
+                    if (!writer.isWriteScheduled(outputFile)) {
+                        createOutputDirectory(outputFile, result);
+                    }
+                    continue;
+                }
+                LOG.debug("Creating output file: {}", outputFile.getAbsolutePath());
+                ensureParentFolderExists(outputFile, result);
+                if (outputFile.isDirectory()) {
+                    continue;
                 }
+                writer.write(outputFile, () -> {
+                    try (InputStream inputStream = zipFile.getInputStream(entry); OutputStream outputFileStream = new FileOutputStream(outputFile)) {
+                        IOUtils.copy(inputStream, outputFileStream);
+                    }
+                });
+                result.extractedFilesCount++;
             }
-            File outputFile = new File(outputDir, name);
+            writer.awaitAllWritten();
+        }
+        return result;
+    }
 
-            if (entry.isDirectory()) {
-                LOG.debug("Write output directory: {}", outputFile.getAbsolutePath());
-                if (!outputFile.exists()) {
-                    result.createdFoldersCount++;
-                    if (!outputFile.mkdirs()) {
-                        throw new IOException("Was not able to create directory: " + outputFile.getAbsolutePath());
+    private ArchiveExtractionResult extractTarParallel(File archiveFile, File outputDir, SecHubFileStructureDataProvider fileStructureProvider)
+            throws IOException {
+
+        ArchiveExtractionResult result = createExtractionResult(archiveFile.getAbsolutePath(), outputDir);
+
+        try (TarArchiveInputStream tarInputStream = new TarArchiveInputStream(new BufferedInputStream(new FileInputStream(archiveFile)));
+                ParallelFileWriter writer = new ParallelFileWriter()) {
+
+            TarArchiveEntry entry = null;
+            while ((entry = tarInputStream.getNextTarEntry()) != null) {
+                String name = entry.getName();
+                if (name == null) {
+                    throw new IllegalStateException("Entry path is null - cannot be handled!");
+                }
+                File outputFile = resolveOutputFileOrNull(name, outputDir, fileStructureProvider);
+                if (outputFile == null) {
+                    continue;
+                }
+                if (entry.isDirectory()) {
+                    if (!writer.isWriteScheduled(outputFile)) {
+                        createOutputDirectory(outputFile, result);
                     }
+                    continue;
                 }
-            } else {
                 LOG.debug("Creating output file: {}", outputFile.getAbsolutePath());
                 ensureParentFolderExists(outputFile, result);
                 if (outputFile.isDirectory()) {
                     continue;
                 }
-                try (OutputStream outputFileStream = new FileOutputStream(outputFile)) {
-                    IOUtils.copy(sourceArchiveInputStream, outputFileStream);
-                    result.extractedFilesCount++;
+                long size = entry.getSize();
+                if (size >= 0 && size <= MAX_BUFFERED_TAR_ENTRY_SIZE_IN_BYTES) {
+                    byte[] content = tarInputStream.readNBytes((int) size);
+                    writer.writeBuffered(outputFile, content);
+                } else {
+                    /* too big to buffer - so write it inside reading thread */
+                    writer.awaitWritten(outputFile);
+                    try (OutputStream outputFileStream = new FileOutputStream(outputFile)) {
+                        IOUtils.copy(tarInputStream, outputFileStream);
+                    }
                 }
+                result.extractedFilesCount++;
             }
+            writer.awaitAllWritten();
         }
         return result;
     }
 
+    private ArchiveExtractionResult createExtractionResult(String sourceLocation, File outputDir) {
+        ArchiveExtractionResult result = new ArchiveExtractionResult();
+        result.targetLocation = outputDir.getAbsolutePath();
+        result.sourceLocation = sourceLocation;
+        return result;
+    }
+
+    /**
+     * Resolves output file for given archive entry name
+     *
+     * @return output file or <code>null</code> when the entry shall not be
+     *         extracted
+     */
+    private File resolveOutputFileOrNull(String name, File outputDir, SecHubFileStructureDataProvider fileStructureProvider) {
+        ArchiveTransformationData data = createTransformationData(fileStructureProvider, name);
+        if (data == null) {
+            return null;
+        }
+        if (!data.isAccepted()) {
+            LOG.debug("Filtering: {}", name);
+
+            return null;
+        }
+        if (data.isPathChangeWanted()) {
+            name = data.getChangedPath();
+
+            LOG.debug("Path changed to: {}", name);
+
+            if (name == null) {
+                throw new IllegalStateException("Wanted path is null - cannot be handled!");
+            }
+        }
+        return new File(outputDir, name);
+    }
+
+    private void createOutputDirectory(File outputFile, ArchiveExtractionResult result) throws IOException {
+        LOG.debug("Write output directory: {}", outputFile.getAbsolutePath());
+        if (!outputFile.exists()) {
+            result.createdFoldersCount++;
+            if (!outputFile.mkdirs()) {
+                throw new IOException("Was not able to create directory: " + outputFile.getAbsolutePath());
+            }
+        }
+    }
+
     private ArchiveTransformationData createTransformationData(SecHubFileStructureDataProvider dataProvider, String path) {
         if (dataProvider == null) {
             return DO_NOT_TRANSFORM;
@@ -590,6 +792,215 @@ public class ArchiveSupport {
 
     }
 
+    private interface ArchiveEntryCollector extends AutoCloseable {
+
+        /**
+         * Adds given file as archive entry
+         */
+        void add(File file, String relativePath) throws IOException;
+
+        /**
+         * Ensures all added entries are written to the archive output stream
+         */
+        default void finish() throws IOException {
+        }
+
+        @Override
+        default void close() {
+        }
+    }
+
+    private static class SequentialArchiveEntryCollector implements ArchiveEntryCollector {
+
+        private final ArchiveOutputStream outputStream;
+        private final ArchiveType type;
+
+        private SequentialArchiveEntryCollector(ArchiveOutputStream outputStream, ArchiveType type) {
+            this.outputStream = outputStream;
+            this.type = type;
+        }
+
+        @Override
+        public void add(File file, String relativePath) throws IOException {
+            ArchiveEntry entry = null;
+            switch (type) {
+            case TAR:
+                entry = new TarArchiveEntry(file, relativePath);
+                break;
+            case ZIP:
+                entry = new ZipArchiveEntry(file, relativePath);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported type:" + type);
+            }
+            /* write archive entry */
+            outputStream.putArchiveEntry(entry);
+
+            /* write entry data */
+            try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+                IOUtils.copy(inputStream, outputStream);
+            }
+            outputStream.closeArchiveEntry();
+        }
+    }
+
+    /**
+     * Compresses ZIP entries concurrently by a {@link ParallelScatterZipCreator}.
+     * The compressed entries are merged into the ZIP output stream on
+     * {@link #finish()}.
+     */
+    private static class ParallelZipArchiveEntryCollector implements ArchiveEntryCollector {
+
+        private final ZipArchiveOutputStream outputStream;
+        private final ExecutorService executorService;
+        private final ParallelScatterZipCreator scatterZipCreator;
+
+        private ParallelZipArchiveEntryCollector(ZipArchiveOutputStream outputStream, int threads) {
+            this.outputStream = outputStream;
+
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.executorService = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "sechub-archive-compress-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scatterZipCreator = new ParallelScatterZipCreator(executorService);
+        }
+
+        @Override
+        public void add(File file, String relativePath) throws IOException {
+            ZipArchiveEntry entry = new ZipArchiveEntry(file, relativePath);
+            entry.setMethod(ZipEntry.DEFLATED);
+
+            Path path = file.toPath();
+            scatterZipCreator.addArchiveEntry(entry, () -> {
+                try {
+                    return Files.newInputStream(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        @Override
+        public void finish() throws IOException {
+            try {
+                scatterZipCreator.writeTo(outputStream);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while compressing archive entries", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) cause).getCause();
+                }
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException("Was not able to compress archive entries", cause);
+            }
+        }
+
+        @Override
+        public void close() {
+            executorService.shutdownNow();
+        }
+    }
+
+    private interface FileWriteAction {
+        void write() throws IOException;
+    }
+
+    /**
+     * Writes files by a worker pool. Must be used only by one (reading) thread.
+     * Writes to the same file are done in the order they were scheduled, so the
+     * last archive entry for a path wins - same as for a sequential extraction.
+     */
+    private class ParallelFileWriter implements AutoCloseable {
+
+        private final ExecutorService executorService;
+        private final Map<File, Future<?>> scheduledWrites = new HashMap<>();
+        private final Semaphore bufferedBytes = new Semaphore(MAX_BUFFERED_TAR_CONTENT_IN_BYTES);
+
+        private ParallelFileWriter() {
+            AtomicInteger threadNumber = new AtomicInteger();
+            executorService = Executors.newFixedThreadPool(extractionThreads, runnable -> {
+                Thread thread = new Thread(runnable, "sechub-archive-extract-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private boolean isWriteScheduled(File outputFile) {
+            return scheduledWrites.containsKey(outputFile);
+        }
+
+        private void write(File outputFile, FileWriteAction action) throws IOException {
+            awaitWritten(outputFile);
+            scheduledWrites.put(outputFile, executorService.submit(() -> {
+                action.write();
+                return null;
+            }));
+        }
+
+        private void writeBuffered(File outputFile, byte[] content) throws IOException {
+            int permits = Math.max(1, content.length);
+            try {
+                bufferedBytes.acquire(permits);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for extraction of: " + outputFile.getAbsolutePath(), e);
+            }
+            try {
+                write(outputFile, () -> {
+                    try {
+                        Files.write(outputFile.toPath(), content);
+                    } finally {
+                        bufferedBytes.release(permits);
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                bufferedBytes.release(permits);
+                throw e;
+            }
+        }
+
+        private void awaitWritten(File outputFile) throws IOException {
+            Future<?> future = scheduledWrites.remove(outputFile);
+            if (future != null) {
+                await(outputFile, future);
+            }
+        }
+
+        private void awaitAllWritten() throws IOException {
+            List<Entry<File, Future<?>>> entries = new ArrayList<>(scheduledWrites.entrySet());
+            scheduledWrites.clear();
+            for (Entry<File, Future<?>> entry : entries) {
+                await(entry.getKey(), entry.getValue());
+            }
+        }
+
+        private void await(File outputFile, Future<?> future) throws IOException {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for extraction of: " + outputFile.getAbsolutePath(), e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException("Was not able to extract: " + outputFile.getAbsolutePath(), cause);
+            }
+        }
+
+        @Override
+        public void close() {
+            executorService.shutdownNow();
+        }
+    }
+
     private static class KeepAsIsTransformationData implements ArchiveTransformationData {
 
         private KeepAsIsTransformationData() {
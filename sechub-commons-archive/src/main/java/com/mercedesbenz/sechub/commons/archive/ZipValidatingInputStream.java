@@ -0,0 +1,130 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.archive;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An input stream which validates the ZIP structure while the data is read by
+ * the consumer - so no additional read of the data is necessary. The stream
+ * inspects the local file header of the first ZIP entry (signature and header
+ * fields). When the data is not a valid ZIP file, an {@link IOException} is
+ * thrown as soon as this is detected - so consumers will stop reading
+ * immediately.<br>
+ * <br>
+ * The validation is the same as done by
+ * {@link ArchiveSupport#isZipFileStream(InputStream)}: a ZIP file must contain
+ * at least one entry.
+ */
+public class ZipValidatingInputStream extends FilterInputStream {
+
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+
+    /* signature(4), version(2), flags(2), method(2), time(2), date(2), crc(4), sizes(8), name length(2), extra length(2) */
+    private static final int LOCAL_FILE_HEADER_LENGTH = 30;
+    private static final int OFFSET_FILE_NAME_LENGTH = 26;
+
+    private final byte[] header = new byte[LOCAL_FILE_HEADER_LENGTH];
+    private int headerBytesRead;
+
+    private boolean validated;
+    private boolean valid;
+
+    public ZipValidatingInputStream(InputStream inputStream) {
+        super(inputStream);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int result = super.read();
+        if (result == -1) {
+            handleEndOfStream();
+        } else {
+            inspect(new byte[] { (byte) result }, 0, 1);
+        }
+        return result;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int result = super.read(b, off, len);
+        if (result == -1) {
+            handleEndOfStream();
+        } else {
+            inspect(b, off, result);
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (!validated) {
+            /* we must inspect the header bytes, so we read instead of skipping */
+            byte[] buffer = new byte[(int) Math.min(n, LOCAL_FILE_HEADER_LENGTH)];
+            int read = read(buffer, 0, buffer.length);
+            return read < 0 ? 0 : read;
+        }
+        return super.skip(n);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * @return <code>true</code> when validation has been done and the stream
+     *         content is a valid ZIP file
+     */
+    public boolean isValid() {
+        return validated && valid;
+    }
+
+    /**
+     * @return <code>true</code> when the validation has been done (means enough
+     *         data was read to decide)
+     */
+    public boolean isValidated() {
+        return validated;
+    }
+
+    private void inspect(byte[] b, int off, int len) throws IOException {
+        if (validated) {
+            if (!valid) {
+                throw new IOException("Not a valid ZIP file");
+            }
+            return;
+        }
+        int bytesToCopy = Math.min(len, LOCAL_FILE_HEADER_LENGTH - headerBytesRead);
+        System.arraycopy(b, off, header, headerBytesRead, bytesToCopy);
+        headerBytesRead += bytesToCopy;
+
+        if (headerBytesRead < LOCAL_FILE_HEADER_LENGTH) {
+            return;
+        }
+        validated = true;
+        valid = readInt(0) == LOCAL_FILE_HEADER_SIGNATURE && readShort(OFFSET_FILE_NAME_LENGTH) > 0;
+        if (!valid) {
+            throw new IOException("Not a valid ZIP file - local file header of first entry is not valid");
+        }
+    }
+
+    private void handleEndOfStream() throws IOException {
+        if (validated) {
+            return;
+        }
+        validated = true;
+        valid = false;
+        throw new IOException("Not a valid ZIP file - stream too short");
+    }
+
+    private int readShort(int offset) {
+        return (header[offset] & 0xff) | ((header[offset + 1] & 0xff) << 8);
+    }
+
+    private int readInt(int offset) {
+        return readShort(offset) | (readShort(offset + 2) << 16);
+    }
+
+}
@@ -0,0 +1,80 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.archive;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mercedesbenz.sechub.commons.archive.ArchiveSupport.ArchiveType;
+import com.mercedesbenz.sechub.test.ManualTest;
+import com.mercedesbenz.sechub.test.TestUtil;
+
+/**
+ * Simple benchmark to compare sequential and parallel archive extraction for
+ * synthetic archives. The amount of files, file size and threads can be
+ * changed by system properties - see constants.
+ */
+class ArchiveSupportExtractionBenchmarkManualTest implements ManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ArchiveSupportExtractionBenchmarkManualTest.class);
+
+    private static final String PROPERTY_AMOUNT_OF_FILES = "sechub.manualtest.archive.benchmark.files";
+    private static final String PROPERTY_FILE_SIZE = "sechub.manualtest.archive.benchmark.filesize";
+    private static final String PROPERTY_THREADS = "sechub.manualtest.archive.benchmark.threads";
+
+    @ParameterizedTest
+    @EnumSource(ArchiveType.class)
+    void manualTestByDeveloper(ArchiveType type) throws Exception {
+        /* prepare */
+        int amountOfFiles = TestUtil.getSystemPropertyIntOrDefault(PROPERTY_AMOUNT_OF_FILES, 20000);
+        int fileSize = TestUtil.getSystemPropertyIntOrDefault(PROPERTY_FILE_SIZE, 4096);
+        int threads = TestUtil.getSystemPropertyIntOrDefault(PROPERTY_THREADS, Runtime.getRuntime().availableProcessors());
+
+        File archiveFile = createSyntheticArchive(type, amountOfFiles, fileSize);
+
+        ArchiveSupport sequentialSupport = new ArchiveSupport();
+        ArchiveSupport parallelSupport = new ArchiveSupport();
+        parallelSupport.setExtractionThreads(threads);
+
+        /* warm up */
+        measure(sequentialSupport, type, archiveFile);
+        measure(parallelSupport, type, archiveFile);
+
+        /* execute */
+        long sequentialMillis = measure(sequentialSupport, type, archiveFile);
+        long parallelMillis = measure(parallelSupport, type, archiveFile);
+
+        /* test */
+        LOG.info("{} archive with {} files of {} bytes: sequential={} ms, parallel ({} threads)={} ms", type, amountOfFiles, fileSize, sequentialMillis, threads,
+                parallelMillis);
+    }
+
+    private long measure(ArchiveSupport support, ArchiveType type, File archiveFile) throws Exception {
+        File outputFolder = TestUtil.createTempDirectoryInBuildFolder("archive-benchmark-" + type.getType()).toFile();
+
+        long start = System.currentTimeMillis();
+        ArchiveExtractionResult result = support.extract(type, archiveFile, outputFolder, null);
+        long millis = System.currentTimeMillis() - start;
+
+        LOG.debug("Extracted {} files into {} in {} ms", result.getExtractedFilesCount(), outputFolder, millis);
+        return millis;
+    }
+
+    private File createSyntheticArchive(ArchiveType type, int amountOfFiles, int fileSize) throws Exception {
+        byte[] content = TestUtil.createRAndomString(fileSize).getBytes();
+
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < amountOfFiles; i++) {
+            entries.put("module" + (i % 20) + "/src/package" + (i % 100) + "/File" + i + ".java", content);
+        }
+        Path archiveFolder = TestUtil.createTempDirectoryInBuildFolder("archive-benchmark");
+        return ArchiveSupportTest.createArchive(type, archiveFolder.resolve("benchmark." + type.getType()).toFile(), entries, null);
+    }
+
+}
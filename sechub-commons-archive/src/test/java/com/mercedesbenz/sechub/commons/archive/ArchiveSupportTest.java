@@ -6,18 +6,28 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveOutputStream;
+import org.apache.commons.compress.archivers.ArchiveStreamFactory;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import com.mercedesbenz.sechub.commons.TextFileReader;
@@ -123,6 +133,40 @@ class ArchiveSupportTest {
 
     }
 
+    @Test
+    void create_archives_with_parallel_compression_contains_all_content_as_expected() throws Exception {
+        /* prepare */
+        File workingDirectory = new File("./src/test/resources/create-archives/test1/working-directory");
+        File configFile = new File("./src/test/resources/create-archives/test1/sechub-configuration.json");
+        String json = TestFileSupport.loadTextFile(configFile);
+        SecHubConfigurationModel model = JSONConverter.get().fromJSON(SecHubConfigurationModel.class, json);
+
+        Path tempDir = TestUtil.createTempDirectoryInBuildFolder("create-archives-parallel");
+        supportToTest.setCompressionThreads(4);
+
+        /* execute */
+        ArchivesCreationResult result = supportToTest.createArchives(model, workingDirectory.toPath(), tempDir);
+
+        /* test */
+        assertTrue(result.isBinaryArchiveCreated());
+        assertTrue(result.isSourceArchiveCreated());
+
+        Path reverseFolder = TestUtil.createTempDirectoryInBuildFolder("decompressed-reverse-parallel");
+        Path reverseFolderZip = reverseFolder.resolve("zip");
+        supportToTest.extract(ZIP, result.getSourceArchiveFile().toFile(), reverseFolderZip.toFile(), null);
+
+        expectedExtractedFilesAreAllFoundInOutputDirectory(reverseFolderZip.toFile(),
+                TestFileSupport.loadFilesAsFileList(expectedCreateArchivesTest1DecompressWithoutFileStructureZip),
+                expectedCreateArchivesTest1DecompressWithoutFileStructureZip);
+
+        Path reverseFolderTar = reverseFolder.resolve("tar");
+        supportToTest.extract(TAR, result.getBinaryArchiveFile().toFile(), reverseFolderTar.toFile(), null);
+
+        expectedExtractedFilesAreAllFoundInOutputDirectory(reverseFolderTar.toFile(),
+                TestFileSupport.loadFilesAsFileList(expectedCreateArchivesTest1DecompressWithoutFileStructureTar),
+                expectedCreateArchivesTest1DecompressWithoutFileStructureTar);
+    }
+
     @Test
     void create_archives_for_sources_reduces_absolute_path_origins_to_relative_in_zip() throws Exception {
         /* prepare */
@@ -543,6 +587,155 @@ class ArchiveSupportTest {
 
     }
 
+    @Test
+    void hierarchical_files_zip_can_be_extracted_in_parallel_with_same_result_as_sequential() throws Exception {
+        /* prepare */
+        File abcZipfile = resolveTestFile("zipfiles/hierarchical_files.zip");
+
+        File targetFolder = TestUtil.createTempDirectoryInBuildFolder("pds_abczip_parallel_test").toFile();
+
+        MutableSecHubFileStructureDataProvider configuration = new MutableSecHubFileStructureDataProvider();
+        configuration.setRootFolderAccepted(true);
+
+        supportToTest.setExtractionThreads(4);
+
+        /* execute */
+        ArchiveExtractionResult result = supportToTest.extract(ZIP, abcZipfile, targetFolder, configuration);
+
+        /* test */
+        File abcFolder = assertFolderExists(targetFolder, "abc");
+        assertContainsFiles(abcFolder, "def", "hardcoded_password.go", "sql_injection.go");
+
+        File defFolder = assertFolderExists(abcFolder, "def");
+        assertContainsFiles(defFolder, "ghi", "README-def.md");
+
+        File ghiFolder = assertFolderExists(defFolder, "ghi");
+        assertContainsFiles(ghiFolder, "README-ghi.md");
+
+        assertEquals(4, result.getExtractedFilesCount());
+        assertEquals(3, result.getCreatedFoldersCount());
+        assertEquals(abcZipfile.getAbsolutePath(), result.getSourceLocation());
+    }
+
+    @Test
+    void test_tar2_can_be_extracted_in_parallel_with_referencenamefilter_for_ref_name_1_and_name_2_and_output_contains_expected_files() throws Exception {
+        /* prepare */
+        File tarFile = testTar2File;
+        File expectedFilesFolder = expectedTar2WithFilterReferenceName1AndReferenceName2Folder;
+
+        File outputDirectory = TestUtil.createTempDirectoryInBuildFolder("tar-test2-parallel").toFile();
+        List<File> expectedFiles = TestFileSupport.loadFilesAsFileList(expectedFilesFolder);
+
+        MutableSecHubFileStructureDataProvider configuration = new MutableSecHubFileStructureDataProvider();
+        configuration.setRootFolderAccepted(false);
+        configuration.addAcceptedReferenceNames(Arrays.asList("reference-name-1", "reference-name-2"));
+
+        supportToTest.setExtractionThreads(4);
+
+        /* execute */
+        supportToTest.extract(TAR, tarFile, outputDirectory, configuration);
+
+        /* test */
+        expectedExtractedFilesAreAllFoundInOutputDirectory(outputDirectory, expectedFiles, expectedFilesFolder);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ArchiveType.class)
+    void synthetic_archive_extracted_in_parallel_has_same_files_and_content_as_sequential_extraction(ArchiveType type) throws Exception {
+        /* prepare */
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("folder1/", null);
+        for (int i = 0; i < 200; i++) {
+            entries.put("folder" + (i % 5) + "/sub" + (i % 7) + "/file" + i + ".txt", ("content-" + i).getBytes());
+        }
+        byte[] bigContent = new byte[ArchiveSupport.MAX_BUFFERED_TAR_ENTRY_SIZE_IN_BYTES + 1];
+        Arrays.fill(bigContent, (byte) 'x');
+        entries.put("big/file.bin", bigContent);
+
+        Path archiveFolder = TestUtil.createTempDirectoryInBuildFolder("synthetic-archive");
+        File archiveFile = createArchive(type, archiveFolder.resolve("synthetic." + type.getType()).toFile(), entries, "folder1/sub1/file1.txt");
+
+        File sequentialFolder = TestUtil.createTempDirectoryInBuildFolder("synthetic-sequential").toFile();
+        File parallelFolder = TestUtil.createTempDirectoryInBuildFolder("synthetic-parallel").toFile();
+
+        ArchiveExtractionResult sequentialResult = supportToTest.extract(type, archiveFile, sequentialFolder, null);
+        supportToTest.setExtractionThreads(4);
+
+        /* execute */
+        ArchiveExtractionResult parallelResult = supportToTest.extract(type, archiveFile, parallelFolder, null);
+
+        /* test */
+        assertEquals(sequentialResult.getExtractedFilesCount(), parallelResult.getExtractedFilesCount());
+        assertEquals(sequentialResult.getCreatedFoldersCount(), parallelResult.getCreatedFoldersCount());
+        assertEquals(202, parallelResult.getExtractedFilesCount()); // 200 + big file + duplicated entry
+
+        List<File> sequentialFiles = TestFileSupport.loadFilesAsFileList(sequentialFolder);
+        expectedExtractedFilesAreAllFoundInOutputDirectory(parallelFolder, sequentialFiles, sequentialFolder);
+        for (File sequentialFile : sequentialFiles) {
+            String relativePath = sequentialFile.getAbsolutePath().substring(sequentialFolder.getAbsolutePath().length());
+            assertArrayEquals(Files.readAllBytes(sequentialFile.toPath()), Files.readAllBytes(new File(parallelFolder, relativePath).toPath()), relativePath);
+        }
+        // duplicated entry is added at the end - last one wins
+        assertEquals("duplicated", Files.readString(new File(parallelFolder, "folder1/sub1/file1.txt").toPath()));
+    }
+
+    @Test
+    void synthetic_zip_extracted_in_parallel_is_filtered_by_file_structure_provider() throws Exception {
+        /* prepare */
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("__data__/reference-name-1/file1.txt", "1".getBytes());
+        entries.put("__data__/reference-name-2/file2.txt", "2".getBytes());
+        entries.put("root.txt", "root".getBytes());
+
+        Path archiveFolder = TestUtil.createTempDirectoryInBuildFolder("synthetic-archive-filter");
+        File archiveFile = createArchive(ZIP, archiveFolder.resolve("synthetic.zip").toFile(), entries, null);
+        File outputFolder = TestUtil.createTempDirectoryInBuildFolder("synthetic-filter-parallel").toFile();
+
+        MutableSecHubFileStructureDataProvider configuration = new MutableSecHubFileStructureDataProvider();
+        configuration.setRootFolderAccepted(false);
+        configuration.addAcceptedReferenceNames(Arrays.asList("reference-name-1"));
+
+        supportToTest.setExtractionThreads(4);
+
+        /* execute */
+        ArchiveExtractionResult result = supportToTest.extract(ZIP, archiveFile, outputFolder, configuration);
+
+        /* test */
+        assertEquals(1, result.getExtractedFilesCount());
+        assertContainsFiles(outputFolder, "file1.txt");
+    }
+
+    static File createArchive(ArchiveType type, File archiveFile, Map<String, byte[]> entries, String duplicatedEntryName) throws Exception {
+        try (ArchiveOutputStream outputStream = new ArchiveStreamFactory().createArchiveOutputStream(type.getType(), new FileOutputStream(archiveFile))) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                putEntry(type, outputStream, entry.getKey(), entry.getValue());
+            }
+            if (duplicatedEntryName != null) {
+                putEntry(type, outputStream, duplicatedEntryName, "duplicated".getBytes());
+            }
+            outputStream.finish();
+        }
+        return archiveFile;
+    }
+
+    private static void putEntry(ArchiveType type, ArchiveOutputStream outputStream, String name, byte[] content) throws IOException {
+        ArchiveEntry entry;
+        if (type == TAR) {
+            TarArchiveEntry tarEntry = new TarArchiveEntry(name);
+            if (content != null) {
+                tarEntry.setSize(content.length);
+            }
+            entry = tarEntry;
+        } else {
+            entry = new ZipArchiveEntry(name);
+        }
+        outputStream.putArchiveEntry(entry);
+        if (content != null) {
+            outputStream.write(content);
+        }
+        outputStream.closeArchiveEntry();
+    }
+
     private void expectedExtractedFilesAreAllFoundInOutputDirectory(File outputDirectory, List<File> allExpectedFiles, File expectedOutputBaseFolder)
             throws IOException {
         List<File> allExtractedFiles = TestFileSupport.loadFilesAsFileList(outputDirectory);
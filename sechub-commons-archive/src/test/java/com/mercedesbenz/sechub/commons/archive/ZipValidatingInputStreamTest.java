@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.archive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+class ZipValidatingInputStreamTest {
+
+    @Test
+    void valid_zip_can_be_read_completely_and_is_valid() throws Exception {
+        /* prepare */
+        byte[] zip = createZip();
+
+        /* execute */
+        ZipValidatingInputStream streamToTest = new ZipValidatingInputStream(new ByteArrayInputStream(zip));
+        byte[] result = streamToTest.readAllBytes();
+
+        /* test */
+        assertTrue(streamToTest.isValidated());
+        assertTrue(streamToTest.isValid());
+        assertArrayEquals(zip, result);
+    }
+
+    @Test
+    void valid_zip_read_byte_by_byte_is_valid() throws Exception {
+        /* prepare */
+        byte[] zip = createZip();
+        ZipValidatingInputStream streamToTest = new ZipValidatingInputStream(new ByteArrayInputStream(zip));
+
+        /* execute */
+        while (streamToTest.read() != -1) {
+            // just read
+        }
+
+        /* test */
+        assertTrue(streamToTest.isValid());
+    }
+
+    @Test
+    void no_zip_content_throws_io_exception_and_is_not_valid() throws Exception {
+        /* prepare */
+        byte[] data = "this is just some text but not a zip file - it is long enough for header validation".getBytes();
+        ZipValidatingInputStream streamToTest = new ZipValidatingInputStream(new ByteArrayInputStream(data));
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> streamToTest.transferTo(OutputStream.nullOutputStream()));
+        assertTrue(streamToTest.isValidated());
+        assertFalse(streamToTest.isValid());
+    }
+
+    @Test
+    void empty_zip_without_entries_is_not_valid() throws Exception {
+        /* prepare */
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            // no entries
+        }
+        ZipValidatingInputStream streamToTest = new ZipValidatingInputStream(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> streamToTest.readAllBytes());
+        assertFalse(streamToTest.isValid());
+    }
+
+    @Test
+    void too_short_content_is_not_valid() throws Exception {
+        /* prepare */
+        ZipValidatingInputStream streamToTest = new ZipValidatingInputStream(new ByteArrayInputStream(new byte[] { 'P', 'K', 3, 4 }));
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> streamToTest.readAllBytes());
+        assertFalse(streamToTest.isValid());
+    }
+
+    private byte[] createZip() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            zipOutputStream.putNextEntry(new ZipEntry("file1.txt"));
+            zipOutputStream.write("content1".getBytes());
+            zipOutputStream.closeEntry();
+        }
+        return outputStream.toByteArray();
+    }
+}
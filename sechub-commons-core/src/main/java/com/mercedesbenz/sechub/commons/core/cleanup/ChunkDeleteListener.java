@@ -0,0 +1,14 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.cleanup;
+
+public interface ChunkDeleteListener {
+
+    /**
+     * Called after a chunk has been deleted
+     *
+     * @param deletedInChunk amount of entries deleted by the chunk
+     * @param deletedTotal   amount of entries deleted so far
+     */
+    void chunkDeleted(int deletedInChunk, long deletedTotal);
+
+}
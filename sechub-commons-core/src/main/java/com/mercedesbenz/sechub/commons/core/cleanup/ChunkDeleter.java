@@ -0,0 +1,15 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.cleanup;
+
+public interface ChunkDeleter {
+
+    /**
+     * Deletes next chunk of entries
+     *
+     * @param maximumAmount maximum amount of entries to delete
+     * @return amount of deleted entries. When lower than given maximum amount, no
+     *         more entries are left to delete.
+     */
+    int deleteChunk(int maximumAmount);
+
+}
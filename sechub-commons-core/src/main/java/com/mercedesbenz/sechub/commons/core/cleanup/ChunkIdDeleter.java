@@ -0,0 +1,16 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.cleanup;
+
+import java.util.List;
+
+public interface ChunkIdDeleter<T> {
+
+    /**
+     * Deletes the entries with given ids
+     *
+     * @param ids ids of entries to delete, never empty
+     * @return amount of deleted entries
+     */
+    int deleteIds(List<T> ids);
+
+}
@@ -0,0 +1,16 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.cleanup;
+
+import java.util.List;
+
+public interface ChunkIdFinder<T> {
+
+    /**
+     * Finds the ids of the next chunk of entries to delete
+     *
+     * @param maximumAmount maximum amount of ids to find
+     * @return ids of entries to delete, empty when nothing is left to delete
+     */
+    List<T> findIds(int maximumAmount);
+
+}
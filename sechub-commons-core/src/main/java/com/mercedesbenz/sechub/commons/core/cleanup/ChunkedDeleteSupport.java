@@ -0,0 +1,113 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.cleanup;
+
+import static java.util.Objects.*;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes entries in bounded chunks instead of one mass delete. Every chunk is
+ * deleted separately (so by its own transaction when used with a database) and
+ * there is a pause between the chunks. This avoids locking huge row ranges and
+ * gives other operations the chance to run between the chunks.
+ */
+public class ChunkedDeleteSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChunkedDeleteSupport.class);
+
+    /**
+     * Deletes in chunks until a chunk deletes less entries than the chunk size.
+     * The listener is called for every chunk which deleted entries - or once when
+     * there was nothing to delete at all.
+     *
+     * @param deleter                  the deleter to use
+     * @param chunkSize                maximum amount of entries deleted per
+     *                                 chunk. Values lower than 1 are not
+     *                                 allowed.
+     * @param pauseBetweenChunksMillis pause after each complete chunk, 0 means
+     *                                 no pause
+     * @param listener                 listener to inform about progress, can be
+     *                                 <code>null</code>
+     * @return total amount of deleted entries
+     */
+    public long deleteInChunks(ChunkDeleter deleter, int chunkSize, long pauseBetweenChunksMillis, ChunkDeleteListener listener) {
+        requireNonNull(deleter, "deleter may not be null!");
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk size must be greater than 0 but was: " + chunkSize);
+        }
+        long deletedTotal = 0;
+        int chunks = 0;
+        while (true) {
+            int deletedInChunk = deleter.deleteChunk(chunkSize);
+            chunks++;
+            deletedTotal += deletedInChunk;
+
+            if (listener != null && (deletedInChunk > 0 || deletedTotal == 0)) {
+                listener.chunkDeleted(deletedInChunk, deletedTotal);
+            }
+            if (deletedInChunk < chunkSize) {
+                break;
+            }
+            if (!pause(pauseBetweenChunksMillis)) {
+                LOG.warn("Chunked delete interrupted after {} chunks and {} deleted entries", chunks, deletedTotal);
+                break;
+            }
+        }
+        LOG.debug("Chunked delete done: {} chunks, {} deleted entries", chunks, deletedTotal);
+        return deletedTotal;
+    }
+
+    /**
+     * Deletes in chunks by ids: for every chunk the ids of the entries to delete
+     * are found first and afterwards the entries with these ids are deleted. This
+     * is necessary when the entries cannot be deleted by ordered key ranges (e.g.
+     * UUID keys). Otherwise same as
+     * {@link #deleteInChunks(ChunkDeleter, int, long, ChunkDeleteListener)}.
+     *
+     * @param idFinder                 finds ids of next chunk
+     * @param idDeleter                deletes entries by given ids
+     * @param chunkSize                maximum amount of entries deleted per
+     *                                 chunk. Values lower than 1 are not
+     *                                 allowed.
+     * @param pauseBetweenChunksMillis pause after each complete chunk, 0 means
+     *                                 no pause
+     * @param listener                 listener to inform about progress, can be
+     *                                 <code>null</code>
+     * @return total amount of deleted entries
+     */
+    public <T> long deleteInChunks(ChunkIdFinder<T> idFinder, ChunkIdDeleter<T> idDeleter, int chunkSize, long pauseBetweenChunksMillis,
+            ChunkDeleteListener listener) {
+        requireNonNull(idFinder, "id finder may not be null!");
+        requireNonNull(idDeleter, "id deleter may not be null!");
+
+        return deleteInChunks(maximumAmount -> deleteChunkByIds(idFinder, idDeleter, maximumAmount), chunkSize, pauseBetweenChunksMillis, listener);
+    }
+
+    private <T> int deleteChunkByIds(ChunkIdFinder<T> idFinder, ChunkIdDeleter<T> idDeleter, int maximumAmount) {
+        List<T> ids = idFinder.findIds(maximumAmount);
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        return idDeleter.deleteIds(ids);
+    }
+
+    /**
+     * @return <code>true</code> when pause was done, <code>false</code> when
+     *         interrupted
+     */
+    boolean pause(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
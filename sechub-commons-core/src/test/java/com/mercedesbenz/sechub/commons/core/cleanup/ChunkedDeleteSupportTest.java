@@ -0,0 +1,158 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.cleanup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChunkedDeleteSupportTest {
+
+    private ChunkedDeleteSupport supportToTest;
+    private List<String> listenerCalls;
+    private ChunkDeleteListener listener;
+
+    @BeforeEach
+    void beforeEach() {
+        supportToTest = new ChunkedDeleteSupport();
+        listenerCalls = new ArrayList<>();
+        listener = (deletedInChunk, deletedTotal) -> listenerCalls.add(deletedInChunk + "/" + deletedTotal);
+    }
+
+    @Test
+    void entries_are_deleted_in_chunks_until_chunk_is_not_full() {
+        /* prepare */
+        TestDeleter deleter = new TestDeleter(25);
+
+        /* execute */
+        long deleted = supportToTest.deleteInChunks(deleter, 10, 0, listener);
+
+        /* test */
+        assertEquals(25, deleted);
+        assertEquals(List.of(10, 10, 10), deleter.requestedMaximums);
+        assertEquals(List.of("10/10", "10/20", "5/25"), listenerCalls);
+    }
+
+    @Test
+    void when_amount_is_multiple_of_chunk_size_an_empty_chunk_ends_deletion_without_listener_call() {
+        /* prepare */
+        TestDeleter deleter = new TestDeleter(20);
+
+        /* execute */
+        long deleted = supportToTest.deleteInChunks(deleter, 10, 0, listener);
+
+        /* test */
+        assertEquals(20, deleted);
+        assertEquals(3, deleter.requestedMaximums.size());
+        assertEquals(List.of("10/10", "10/20"), listenerCalls);
+    }
+
+    @Test
+    void nothing_to_delete_informs_listener_once() {
+        /* prepare */
+        TestDeleter deleter = new TestDeleter(0);
+
+        /* execute */
+        long deleted = supportToTest.deleteInChunks(deleter, 10, 0, listener);
+
+        /* test */
+        assertEquals(0, deleted);
+        assertEquals(List.of("0/0"), listenerCalls);
+    }
+
+    @Test
+    void interrupted_pause_stops_deletion() {
+        /* prepare */
+        TestDeleter deleter = new TestDeleter(100);
+        Thread.currentThread().interrupt();
+
+        /* execute */
+        long deleted = supportToTest.deleteInChunks(deleter, 10, 1000, listener);
+
+        /* test */
+        assertTrue(Thread.interrupted()); // also resets interrupt flag
+        assertEquals(10, deleted);
+        assertEquals(1, deleter.requestedMaximums.size());
+    }
+
+    @Test
+    void chunk_size_lower_than_one_is_not_accepted() {
+        assertThrows(IllegalArgumentException.class, () -> supportToTest.deleteInChunks(new TestDeleter(1), 0, 0, listener));
+    }
+
+    @Test
+    void entries_are_deleted_by_ids_in_chunks_until_chunk_is_not_full() {
+        /* prepare */
+        TestIdStore store = new TestIdStore(25);
+
+        /* execute */
+        long deleted = supportToTest.deleteInChunks(store::findIds, store::deleteIds, 10, 0, listener);
+
+        /* test */
+        assertEquals(25, deleted);
+        assertEquals(List.of(10, 10, 10), store.requestedMaximums);
+        assertEquals(List.of(10, 10, 5), store.deletedIdAmounts);
+        assertEquals(List.of("10/10", "10/20", "5/25"), listenerCalls);
+    }
+
+    @Test
+    void no_ids_found_does_not_call_id_deleter() {
+        /* prepare */
+        TestIdStore store = new TestIdStore(0);
+
+        /* execute */
+        long deleted = supportToTest.deleteInChunks(store::findIds, store::deleteIds, 10, 0, listener);
+
+        /* test */
+        assertEquals(0, deleted);
+        assertTrue(store.deletedIdAmounts.isEmpty());
+        assertEquals(List.of("0/0"), listenerCalls);
+    }
+
+    private class TestIdStore {
+
+        private int remaining;
+        private List<Integer> requestedMaximums = new ArrayList<>();
+        private List<Integer> deletedIdAmounts = new ArrayList<>();
+
+        private TestIdStore(int remaining) {
+            this.remaining = remaining;
+        }
+
+        private List<Integer> findIds(int maximumAmount) {
+            requestedMaximums.add(maximumAmount);
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < Math.min(remaining, maximumAmount); i++) {
+                ids.add(i);
+            }
+            return ids;
+        }
+
+        private int deleteIds(List<Integer> ids) {
+            deletedIdAmounts.add(ids.size());
+            remaining -= ids.size();
+            return ids.size();
+        }
+    }
+
+    private class TestDeleter implements ChunkDeleter {
+
+        private int remaining;
+        private List<Integer> requestedMaximums = new ArrayList<>();
+
+        private TestDeleter(int remaining) {
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int deleteChunk(int maximumAmount) {
+            requestedMaximums.add(maximumAmount);
+            int deleted = Math.min(remaining, maximumAmount);
+            remaining -= deleted;
+            return deleted;
+        }
+    }
+}
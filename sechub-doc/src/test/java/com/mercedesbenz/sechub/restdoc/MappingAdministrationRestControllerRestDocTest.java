@@ -74,6 +74,9 @@ public class MappingAdministrationRestControllerRestDocTest implements TestIsNec
         addStatusEntry(list, SchedulerStatusEntryKeys.SCHEDULER_JOBS_CANCEL_REQUESTED, "2");
         addStatusEntry(list, SchedulerStatusEntryKeys.SCHEDULER_JOBS_CANCELED, "8");
 
+        addStatusEntry(list, SchedulerStatusEntryKeys.SCHEDULER_INSTANCE_JOBS_RUNNING, "5");
+        addStatusEntry(list, SchedulerStatusEntryKeys.SCHEDULER_INSTANCE_JOBS_QUEUED, "0");
+
         /*
          * there could be more status examples in future - currently only scheduler
          * status info available
@@ -140,6 +140,7 @@ public class ProductExecutionProfileRestControllerRestDocTest implements TestIsN
                                         requestFields(
                                                 fieldWithPath(PROPERTY_DESCRIPTION).description("A short description for the profile"),
                                                 fieldWithPath(PROPERTY_ENABLED).description("Enabled state of profile, default is false").optional(),
+                                                fieldWithPath(PROPERTY_CONCURRENT_EXECUTION).description("When true, product executors of same scan type are executed concurrently for projects having this profile, default is false").optional(),
                                                 fieldWithPath(PROPERTY_CONFIGURATIONS+"[]").description("Configurations can be linked at creation time as well - see update description").optional(),
                                                 fieldWithPath(PROPERTY_PROJECT_IDS+"[]").description("Projects can be linked by their ids at creation time as well - see update description").optional()
                                         ),
@@ -192,6 +193,7 @@ public class ProductExecutionProfileRestControllerRestDocTest implements TestIsN
                                         requestFields(
                                                 fieldWithPath(PROPERTY_DESCRIPTION).description("A short description for the profile"),
                                                 fieldWithPath(PROPERTY_ENABLED).description("Enabled state of profile, default is false").optional(),
+                                                fieldWithPath(PROPERTY_CONCURRENT_EXECUTION).description("When true, product executors of same scan type are executed concurrently for projects having this profile, default is false").optional(),
                                                 fieldWithPath(PROPERTY_CONFIGURATIONS+"[]."+ProductExecutorConfig.PROPERTY_UUID).description("Add uuid for configuration to use here"),
                                                 /* ignore next parts - only inside test json, also ignored at update, because there only uuid is used */
                                                 fieldWithPath(PROPERTY_CONFIGURATIONS+"[]."+ProductExecutorConfig.PROPERTY_ENABLED).ignored(),
@@ -334,6 +336,7 @@ public class ProductExecutionProfileRestControllerRestDocTest implements TestIsN
                                                 fieldWithPath(PROPERTY_ID).optional().ignored(),
                                                 fieldWithPath(PROPERTY_DESCRIPTION).description("A short description for the profile"),
                                                 fieldWithPath(PROPERTY_ENABLED).description("Enabled state of profile, default is false").optional(),
+                                                fieldWithPath(PROPERTY_CONCURRENT_EXECUTION).description("When true, product executors of same scan type are executed concurrently for projects having this profile, default is false").optional(),
                                                 fieldWithPath(PROPERTY_CONFIGURATIONS+"[]."+ProductExecutorConfig.PROPERTY_UUID).description("uuid of configuration"),
                                                 fieldWithPath(PROPERTY_CONFIGURATIONS+"[]."+ProductExecutorConfig.PROPERTY_NAME).description("name of configuration"),
                                                 fieldWithPath(PROPERTY_CONFIGURATIONS+"[]."+ProductExecutorConfig.PROPERTY_ENABLED).description("enabled state of this config"),
@@ -430,7 +433,8 @@ public class ProductExecutionProfileRestControllerRestDocTest implements TestIsN
                                                 fieldWithPath("type").description("Always `executorProfileList` as an identifier for the list"),
                                                 fieldWithPath("executionProfiles[]."+PROPERTY_ID).description("The profile id"),
                                                 fieldWithPath("executionProfiles[]."+PROPERTY_DESCRIPTION).description("A profile description"),
-                                                fieldWithPath("executionProfiles[]."+PROPERTY_ENABLED).description("Enabled state of profile")
+                                                fieldWithPath("executionProfiles[]."+PROPERTY_ENABLED).description("Enabled state of profile"),
+                                                fieldWithPath("executionProfiles[]."+PROPERTY_CONCURRENT_EXECUTION).description("Concurrent execution state of profile").optional()
                                         )
                             ));
 
@@ -29,6 +29,7 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
@@ -38,10 +39,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.mercedesbenz.sechub.commons.model.TrafficLight;
 import com.mercedesbenz.sechub.docgen.util.RestDocFactory;
 import com.mercedesbenz.sechub.domain.scan.HTMLScanResultReportModelBuilder;
+import com.mercedesbenz.sechub.domain.scan.HTMLScanResultReportRenderer;
 import com.mercedesbenz.sechub.domain.scan.report.DownloadScanReportService;
 import com.mercedesbenz.sechub.domain.scan.report.DownloadSpdxScanReportService;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReport;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReportRestController;
+import com.mercedesbenz.sechub.domain.scan.report.ScanReportVersionInfo;
 import com.mercedesbenz.sechub.domain.scan.report.ScanSecHubReport;
 import com.mercedesbenz.sechub.sharedkernel.usecases.UseCaseRestDoc;
 import com.mercedesbenz.sechub.sharedkernel.usecases.UseCaseRestDoc.SpringRestDocOutput;
@@ -53,7 +56,7 @@ import com.mercedesbenz.sechub.test.TestPortProvider;
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(ScanReportRestController.class)
-@ContextConfiguration(classes = { ScanReportRestController.class, ScanReportRestControllerRestDocTest.SimpleTestConfiguration.class })
+@ContextConfiguration(classes = { ScanReportRestController.class, HTMLScanResultReportRenderer.class, ScanReportRestControllerRestDocTest.SimpleTestConfiguration.class })
 @AutoConfigureRestDocs(uriScheme = "https", uriHost = ExampleConstants.URI_SECHUB_SERVER, uriPort = 443)
 public class ScanReportRestControllerRestDocTest implements TestIsNecessaryForDocumentation {
 
@@ -94,7 +97,9 @@ public class ScanReportRestControllerRestDocTest implements TestIsNecessaryForDo
         report.setTrafficLight(TrafficLight.YELLOW);
 
         ScanSecHubReport scanSecHubReport = new ScanSecHubReport(report);
-        when(downloadReportService.getScanSecHubReport(PROJECT1_ID, jobUUID)).thenReturn(scanSecHubReport);
+        ScanReportVersionInfo info = new ScanReportVersionInfo(UUID.randomUUID(), 0, PROJECT1_ID);
+        when(downloadReportService.resolveReportVersionInfo(PROJECT1_ID, jobUUID)).thenReturn(info);
+        when(downloadReportService.getScanSecHubReportAsJSON(info)).thenReturn(scanSecHubReport.toJSON().getBytes());
 
         /* execute + test @formatter:off */
 	    this.mockMvc.perform(
@@ -115,6 +120,9 @@ public class ScanReportRestControllerRestDocTest implements TestIsNecessaryForDo
 	                            		requestHeaders(
 
 	                            		),
+	                            		responseHeaders(
+	                            		        headerWithName(HttpHeaders.ETAG).description("Entity tag of the report version. Can be sent back as `If-None-Match` header - when the report did not change, the server responds with `304 Not Modified` without body.")
+	                            		),
                                     	pathParameters(
                                                 parameterWithName(PROJECT_ID.paramName()).description("The project Id"),
                                                 parameterWithName(JOB_UUID.paramName()).description("The job UUID")
@@ -1150,7 +1150,7 @@ public class SchedulerRestControllerRestDocTest implements TestIsNecessaryForDoc
         List<SecHubJobInfoForUser> list = listPage.getContent();
         list.add(job1);
 
-        when(mockedJobInfoForUserService.listJobsForProject(eq(PROJECT1_ID), eq(1), eq(0), eq(true), any())).thenReturn(listPage);
+        when(mockedJobInfoForUserService.listJobsForProject(eq(PROJECT1_ID), eq(1), eq(0), isNull(), eq(false), eq(true), any())).thenReturn(listPage);
 
         /* execute + test @formatter:off */
         this.mockMvc.perform(
@@ -1180,11 +1180,17 @@ public class SchedulerRestControllerRestDocTest implements TestIsNecessaryForDoc
                                                             + "It is possible to query for multiple labels (up to "+ SecHubJobInfoForUserService.MAXIMUM_ALLOWED_LABEL_PARAMETERS + " ).\n"
                                                             + "The filter works as an AND combination: Only jobs having all wanted label key value combinations are returned."),
                                               parameterWithName("metadata.labels.stage").ignored(), // we we do not want the label query example to be documented - we document only the generic way
-                                              parameterWithName(WITH_META_DATA.paramName()).optional().description("An optional parameter to define if meta data shall be fetched as well. When not defined, the default will be "+SchedulerRestController.DEFAULT_WITH_METADATA+".")
+                                              parameterWithName(WITH_META_DATA.paramName()).optional().description("An optional parameter to define if meta data shall be fetched as well. When not defined, the default will be "+SchedulerRestController.DEFAULT_WITH_METADATA+"."),
+                                              parameterWithName(CURSOR.paramName()).optional().description("An optional cursor for keyset pagination. When defined, the page parameter is ignored and the jobs directly after the cursor position are returned. "
+                                                            + "Use an empty cursor to fetch the newest jobs and the `"+SecHubJobInfoForUserListPage.PROPERTY_NEXT_CURSOR+"` of a result to fetch the next jobs. "
+                                                            + "The response time does not depend on the position inside the job list."),
+                                              parameterWithName(WITH_TOTAL_COUNT.paramName()).optional().description("An optional parameter to define if the total amount of jobs shall be counted when a cursor is used. When not defined, the default will be "+SchedulerRestController.DEFAULT_WITH_TOTAL_COUNT+".")
                                           ),
                                           responseFields(
                                             fieldWithPath(SecHubJobInfoForUserListPage.PROPERTY_PAGE).description("The page number"),
                                             fieldWithPath(SecHubJobInfoForUserListPage.PROPERTY_TOTAL_PAGES).description("The total pages available"),
+                                            fieldWithPath(SecHubJobInfoForUserListPage.PROPERTY_TOTAL_COUNT).optional().description("The total amount of jobs - only available when jobs were counted"),
+                                            fieldWithPath(SecHubJobInfoForUserListPage.PROPERTY_NEXT_CURSOR).optional().description("The cursor to fetch the next jobs - only available when there are more jobs"),
                                             fieldWithPath("content[]."+SecHubJobInfoForUser.PROPERTY_JOBUUID).description("The job uuid"),
                                             fieldWithPath("content[]."+SecHubJobInfoForUser.PROPERTY_CREATED).description("Creation timestamp of job"),
                                             fieldWithPath("content[]."+SecHubJobInfoForUser.PROPERTY_STARTED).description("Start timestamp of job execution"),
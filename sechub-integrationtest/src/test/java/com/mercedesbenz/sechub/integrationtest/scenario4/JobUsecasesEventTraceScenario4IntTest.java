@@ -119,10 +119,6 @@ public class JobUsecasesEventTraceScenario4IntTest implements IntegrationTestIsN
                  from("com.mercedesbenz.sechub.domain.schedule.batch.SynchronSecHubJobExecutor").
                  to("com.mercedesbenz.sechub.domain.scan.ScanService").
            /* 7 */
-           syncEvent(MessageID.REQUEST_SCHEDULER_JOB_STATUS).
-                 from("com.mercedesbenz.sechub.domain.scan.ScanProgressMonitor").
-                 to("com.mercedesbenz.sechub.domain.schedule.job.SchedulerJobStatusRequestHandler").
-           /* 8 */
            asyncEvent(MessageID.JOB_DONE).
                  from("com.mercedesbenz.sechub.domain.schedule.batch.SynchronSecHubJobExecutor").
                  to("com.mercedesbenz.sechub.domain.administration.job.JobAdministrationMessageHandler",
@@ -181,10 +177,6 @@ public class JobUsecasesEventTraceScenario4IntTest implements IntegrationTestIsN
                  from("com.mercedesbenz.sechub.domain.schedule.batch.SynchronSecHubJobExecutor").
                  to("com.mercedesbenz.sechub.domain.scan.ScanService").
            /* 6 */
-           syncEvent(MessageID.REQUEST_SCHEDULER_JOB_STATUS).
-                 from("com.mercedesbenz.sechub.domain.scan.ScanProgressMonitor").
-                 to("com.mercedesbenz.sechub.domain.schedule.job.SchedulerJobStatusRequestHandler").
-           /* 7 */
            asyncEvent(MessageID.JOB_DONE).
                  from("com.mercedesbenz.sechub.domain.schedule.batch.SynchronSecHubJobExecutor").
                  to("com.mercedesbenz.sechub.domain.administration.job.JobAdministrationMessageHandler",
@@ -278,10 +270,6 @@ public class JobUsecasesEventTraceScenario4IntTest implements IntegrationTestIsN
                  from("com.mercedesbenz.sechub.domain.schedule.batch.SynchronSecHubJobExecutor").
                  to("com.mercedesbenz.sechub.domain.scan.ScanService").
            /* 5 */
-           syncEvent(MessageID.REQUEST_SCHEDULER_JOB_STATUS).
-                 from("com.mercedesbenz.sechub.domain.scan.ScanProgressMonitor").
-                 to("com.mercedesbenz.sechub.domain.schedule.job.SchedulerJobStatusRequestHandler").
-           /* 6 */
            asyncEvent(MessageID.JOB_DONE).
                  from("com.mercedesbenz.sechub.domain.schedule.batch.SynchronSecHubJobExecutor").
                  to("com.mercedesbenz.sechub.domain.administration.job.JobAdministrationMessageHandler",
@@ -337,10 +325,6 @@ public class JobUsecasesEventTraceScenario4IntTest implements IntegrationTestIsN
                  from("com.mercedesbenz.sechub.domain.schedule.batch.SynchronSecHubJobExecutor").
                  to("com.mercedesbenz.sechub.domain.scan.ScanService").
            /* 5 */
-           syncEvent(MessageID.REQUEST_SCHEDULER_JOB_STATUS).
-                 from("com.mercedesbenz.sechub.domain.scan.ScanProgressMonitor").
-                 to("com.mercedesbenz.sechub.domain.schedule.job.SchedulerJobStatusRequestHandler").
-           /* 6 */
            asyncEvent(MessageID.JOB_DONE).
                  from("com.mercedesbenz.sechub.domain.schedule.batch.SynchronSecHubJobExecutor").
                  to("com.mercedesbenz.sechub.domain.administration.job.JobAdministrationMessageHandler",
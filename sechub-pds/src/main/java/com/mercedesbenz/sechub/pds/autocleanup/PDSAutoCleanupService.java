@@ -6,8 +6,12 @@ import java.time.LocalDateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkedDeleteSupport;
+import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
 import com.mercedesbenz.sechub.pds.config.PDSConfigService;
 import com.mercedesbenz.sechub.pds.job.PDSJobRepository;
 import com.mercedesbenz.sechub.pds.time.TimeCalculationService;
@@ -19,6 +23,17 @@ public class PDSAutoCleanupService {
 
     private static final Logger LOG = LoggerFactory.getLogger(PDSAutoCleanupService.class);
 
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    private static final long DEFAULT_PAUSE_BETWEEN_CHUNKS_MILLIS = 100;
+
+    @PDSMustBeDocumented("Maximum amount of PDS jobs deleted by one auto cleanup delete statement. Old jobs are deleted in chunks of this size, so huge deletions do not lock the job table for a long time.")
+    @Value("${pds.autocleanup.delete.chunk.size:" + DEFAULT_CHUNK_SIZE + "}")
+    int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    @PDSMustBeDocumented("Time in milliseconds to wait between two auto cleanup delete chunks.")
+    @Value("${pds.autocleanup.delete.chunk.pause.millis:" + DEFAULT_PAUSE_BETWEEN_CHUNKS_MILLIS + "}")
+    long pauseBetweenChunksMillis = DEFAULT_PAUSE_BETWEEN_CHUNKS_MILLIS;
+
     @Autowired
     PDSAutoCleanupResultInspector inspector;
 
@@ -31,6 +46,8 @@ public class PDSAutoCleanupService {
     @Autowired
     PDSJobRepository jobRepository;
 
+    ChunkedDeleteSupport chunkedDeleteSupport = new ChunkedDeleteSupport();
+
     @UseCaseSystemExecutesAutoCleanup(@PDSStep(number = 2, name = "Delete old data", description = "deletes old PDS job data"))
     public void cleanup() {
         /* calculate */
@@ -47,16 +64,19 @@ public class PDSAutoCleanupService {
         LocalDateTime cleanTimeStamp = timeCalculationService.calculateNowMinusDays(days);
 
         /* delete */
-        int amount = jobRepository.deleteJobOlderThan(cleanTimeStamp);
-
         /* @formatter:off */
-        inspector.inspect(PDSAutoCleanupResult.builder().
-                    autoCleanup("pds-job",getClass()).
-                    forDays(days).
-                    hasDeleted(amount).
-                    byTimeStamp(cleanTimeStamp).
-                    build()
-                    );
+        chunkedDeleteSupport.deleteInChunks(maximumAmount -> jobRepository.findJobUUIDsOlderThan(cleanTimeStamp, PageRequest.of(0, maximumAmount)),
+                jobRepository::deleteJobsWithUUIDs,
+                chunkSize, pauseBetweenChunksMillis,
+                (deletedInChunk, deletedTotal) ->
+                    inspector.inspect(PDSAutoCleanupResult.builder().
+                        autoCleanup("pds-job",getClass()).
+                        forDays(days).
+                        hasDeleted(deletedInChunk).
+                        byTimeStamp(cleanTimeStamp).
+                        build()
+                        )
+                );
         /* @formatter:on */
 
     }
@@ -26,7 +26,6 @@ import com.mercedesbenz.sechub.commons.model.SecHubMessagesList;
 import com.mercedesbenz.sechub.pds.PDSLogConstants;
 import com.mercedesbenz.sechub.pds.commons.core.PDSJSONConverterException;
 import com.mercedesbenz.sechub.pds.job.JobConfigurationData;
-import com.mercedesbenz.sechub.pds.job.PDSCheckJobStatusService;
 import com.mercedesbenz.sechub.pds.job.PDSGetJobStreamService;
 import com.mercedesbenz.sechub.pds.job.PDSJobConfiguration;
 import com.mercedesbenz.sechub.pds.job.PDSJobTransactionService;
@@ -197,22 +196,21 @@ class PDSExecutionCallable implements Callable<PDSExecutionResult> {
     void waitForProcessEndAndGetResultByFiles(PDSExecutionResult result, UUID jobUUID, PDSJobConfiguration config, long minutesToWaitForResult)
             throws InterruptedException, IOException {
 
-        /* watching */
-        String watcherThreadName = "PDSJob:" + pdsJobUUID + "-stream-watcher";
-
-        LOG.debug("Start watcher thread: {}", watcherThreadName);
-
-        StreamDataRefreshRequestWatcherRunnable streamDatawatcherRunnable = new StreamDataRefreshRequestWatcherRunnable(pdsJobUUID);
-        Thread streamDataWatcherThread = new Thread(streamDatawatcherRunnable);
-        streamDataWatcherThread.setName(watcherThreadName);
-        streamDataWatcherThread.start();
+        /* watching - done by one shared watcher for all jobs */
+        PDSStreamDataRefreshRequestWatcherService streamDataRefreshRequestWatcherService = getStreamDataRefreshRequestWatcherService();
+        streamDataRefreshRequestWatcherService.register(jobUUID, () -> writeJobExecutionDataToDatabase(jobUUID));
 
         /* waiting for process */
         LOG.debug("Wait for process of job with uuid:{}, will wait {} minutes for result from product with id:{}", jobUUID, minutesToWaitForResult,
                 config.getProductId());
         long started = System.currentTimeMillis();
 
-        boolean exitDoneInTime = process.waitFor(minutesToWaitForResult, TimeUnit.MINUTES);
+        boolean exitDoneInTime;
+        try {
+            exitDoneInTime = process.waitFor(minutesToWaitForResult, TimeUnit.MINUTES);
+        } finally {
+            streamDataRefreshRequestWatcherService.unregister(jobUUID);
+        }
         long timeElapsedInMilliseconds = System.currentTimeMillis() - started;
 
         if (exitDoneInTime) {
@@ -237,8 +235,6 @@ class PDSExecutionCallable implements Callable<PDSExecutionResult> {
             prepareForCancel(true);
         }
 
-        streamDatawatcherRunnable.stop();
-
         writeJobExecutionDataToDatabase(jobUUID);
         writeProductMessagesToDatabaseWhenMessagesFound(jobUUID);
 
@@ -579,43 +575,12 @@ class PDSExecutionCallable implements Callable<PDSExecutionResult> {
         return serviceCollection.getJobTransactionService();
     }
 
-    private PDSCheckJobStatusService getJobStatusService() {
-        return serviceCollection.getJobStatusService();
+    private PDSStreamDataRefreshRequestWatcherService getStreamDataRefreshRequestWatcherService() {
+        return serviceCollection.getStreamDataRefreshRequestWatcherService();
     }
 
     private PDSWorkspaceService getWorkspaceService() {
         return serviceCollection.getWorkspaceService();
     }
 
-    private class StreamDataRefreshRequestWatcherRunnable implements Runnable {
-
-        private boolean stopped;
-        private UUID jobUUID;
-
-        private StreamDataRefreshRequestWatcherRunnable(UUID jobUUID) {
-            this.jobUUID = jobUUID;
-        }
-
-        @Override
-        public void run() {
-            while (!stopped && !Thread.currentThread().isInterrupted()) {
-                LOG.trace("start checking stream data refresh requests");
-
-                if (getJobStatusService().isJobStreamUpdateNecessary(jobUUID)) {
-                    writeJobExecutionDataToDatabase(jobUUID);
-                }
-                try {
-                    Thread.sleep(300);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
-        }
-
-        public void stop() {
-            stopped = true;
-        }
-
-    }
-
 }
\ No newline at end of file
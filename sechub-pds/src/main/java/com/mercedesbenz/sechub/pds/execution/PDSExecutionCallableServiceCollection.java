@@ -33,6 +33,9 @@ public class PDSExecutionCallableServiceCollection {
     @Autowired
     PDSGetJobStreamService pdsGetJobStreamService;
 
+    @Autowired
+    PDSStreamDataRefreshRequestWatcherService streamDataRefreshRequestWatcherService;
+
     public PDSJobTransactionService getJobTransactionService() {
         return jobTransactionService;
     }
@@ -61,4 +64,8 @@ public class PDSExecutionCallableServiceCollection {
         return pdsGetJobStreamService;
     }
 
+    public PDSStreamDataRefreshRequestWatcherService getStreamDataRefreshRequestWatcherService() {
+        return streamDataRefreshRequestWatcherService;
+    }
+
 }
@@ -10,7 +10,8 @@ import org.slf4j.LoggerFactory;
  * A special future task, which calls
  * {@link PDSExecutionCallable#prepareForCancel(boolean)} before doing cancel
  * operation - so it's possible to terminate process etc. before thread is
- * interrupted
+ * interrupted. When a done handler is defined, it will be called after the
+ * task has been done (normally, by failure or by cancel operation).
  *
  * @author Albert Tregnaghi
  *
@@ -20,10 +21,31 @@ public class PDSExecutionFutureTask extends FutureTask<PDSExecutionResult> {
     private static final Logger LOG = LoggerFactory.getLogger(PDSExecutionFutureTask.class);
 
     private PDSExecutionCallable execCallable;
+    private Runnable doneHandler;
 
     public PDSExecutionFutureTask(PDSExecutionCallable callable) {
+        this(callable, null);
+    }
+
+    /**
+     * Creates future task
+     *
+     * @param callable    the callable to execute
+     * @param doneHandler handler called when task is done (normally, by failure
+     *                    or by cancel operation) - can be <code>null</code>
+     */
+    public PDSExecutionFutureTask(PDSExecutionCallable callable, Runnable doneHandler) {
         super(callable);
-        execCallable = callable;
+        this.execCallable = callable;
+        this.doneHandler = doneHandler;
+    }
+
+    @Override
+    protected void done() {
+        if (doneHandler == null) {
+            return;
+        }
+        doneHandler.run();
     }
 
     @Override
@@ -5,21 +5,21 @@ import static com.mercedesbenz.sechub.pds.util.PDSAssert.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -38,6 +38,7 @@ import com.mercedesbenz.sechub.commons.pds.execution.ExecutionEventType;
 import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
 import com.mercedesbenz.sechub.pds.job.PDSJob;
 import com.mercedesbenz.sechub.pds.job.PDSJobRepository;
+import com.mercedesbenz.sechub.pds.job.PDSJobStatusWaitService;
 import com.mercedesbenz.sechub.pds.job.PDSJobTransactionService;
 import com.mercedesbenz.sechub.pds.job.PDSWorkspaceService;
 import com.mercedesbenz.sechub.pds.usecase.PDSStep;
@@ -53,8 +54,12 @@ import com.mercedesbenz.sechub.pds.usecase.UseCaseSystemHandlesJobCancelRequests
  * <u>Details:</u><br>
  * A defined thread pool is used for execution queuing, an overload of the queue
  * must be checked by callers via {@link #isQueueFull()}. Execution itself is
- * done inside {@link PDSExecutionCallable} - execution state checks and changes
- * to database are done inside {@link PDSExecutionWatcher}
+ * done inside {@link PDSExecutionCallable} - when an execution is done, the
+ * changes to database are done by {@link PDSExecutionWatcher}, which is
+ * triggered by the done handler of the {@link PDSExecutionFutureTask}.<br>
+ * <br>
+ * The jobs in queue are kept inside a concurrent map, so no lock is necessary
+ * to add, find, cancel or inspect jobs.
  *
  * @author Albert Tregnaghi
  *
@@ -69,7 +74,8 @@ public class PDSExecutionService {
 
     final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
     private final PDSExecutionWatcher watcher = new PDSExecutionWatcher();
-    private final Map<UUID, Future<PDSExecutionResult>> jobsInQueue = new LinkedHashMap<>();
+    private final Map<UUID, JobInQueue> jobsInQueue = new ConcurrentHashMap<>();
+    private final AtomicLong jobsInQueueSequence = new AtomicLong();
 
     @PDSMustBeDocumented(value = "Set amount of worker threads used for exeuctions", scope = "execution")
     @Value("${pds.config.execute.worker.thread.count:" + DEFAULT_WORKER_THREAD_COUNT + "}")
@@ -79,7 +85,7 @@ public class PDSExecutionService {
     @Value("${pds.config.execute.queue.max:" + DEFAULT_QUEUE_MAX + "}")
     int queueMax = DEFAULT_QUEUE_MAX;
 
-    /* only for tests to turn off watcher */
+    /* only for tests to turn off watcher - done jobs will stay inside queue */
     boolean watcherDisabled;
 
     @Autowired
@@ -91,14 +97,15 @@ public class PDSExecutionService {
     @Autowired
     PDSJobRepository repository;
 
+    @Autowired
+    PDSJobStatusWaitService jobStatusWaitService;
+
     @Autowired
     PDSWorkspaceService workspaceService;
 
     @PostConstruct
     protected void postConstruct() {
         workers = Executors.newFixedThreadPool(workerThreadCount);
-
-        scheduler.scheduleAtFixedRate(watcher, 300, 1000, TimeUnit.MILLISECONDS);
     }
 
     @PreDestroy
@@ -113,14 +120,10 @@ public class PDSExecutionService {
         LOG.info("Scheduler executor service shutdown done");
 
         Set<UUID> jobsToRestart = new LinkedHashSet<>();
-        Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
-        while (it.hasNext()) {
-            Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
-            Future<PDSExecutionResult> future = entry.getValue();
-            if (!future.isDone()) {
+        for (JobInQueue jobInQueue : createSortedJobsInQueueSnapshot()) {
+            if (!jobInQueue.future.isDone()) {
                 /* still running - must be restarted by next instance */
-                UUID pdsJobUUID = entry.getKey();
-                jobsToRestart.add(pdsJobUUID);
+                jobsToRestart.add(jobInQueue.jobUUID);
             }
         }
         LOG.info("Handling predestroy for {} jobs in queue.", jobsToRestart.size());
@@ -139,49 +142,43 @@ public class PDSExecutionService {
 
         LOG.debug("Try to cancel PDS job: {} if running at this cluster member", jobUUID);
 
-        synchronized (jobsInQueue) {
-
-            Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
-            while (it.hasNext()) {
-                Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
-                if (jobUUID.equals(entry.getKey())) {
-                    Future<PDSExecutionResult> future = entry.getValue();
-                    if (future.isDone()) {
-                        /* already done or canceled */
-                        LOG.info("cancellation of job with uuid:{} skipped, because already done", jobUUID);
-                        return CancelResult.JOB_FOUND_CANCEL_WAS_DONE;
-                    }
-                    LOG.debug("Found PDS job: {} running at this cluster member", jobUUID);
-
-                    ExecutionEventData eventData = new ExecutionEventData();
-
-                    workspaceService.sendEvent(jobUUID, ExecutionEventType.CANCEL_REQUESTED, eventData);
-
-                    /*
-                     * the next call will trigger PDSExecutionCallable to cancel which will use the
-                     * event data for further inspections
-                     */
-                    boolean canceled = future.cancel(true);
-
-                    if (canceled) {
-                        LOG.info("Cancel SUCCESSFUL: canceled PDS job: {}", jobUUID);
-                        jobTransactionService.markJobAsCanceledInOwnTransaction(jobUUID);
-                        return CancelResult.JOB_FOUND_CANCEL_WAS_DONE;
-                    } else {
-                        LOG.info(
-                                "Cancel FAILED: was not able to cancel PDS job :{} - should not happen. Please read logs for details. This will be an orphaned cancel request.",
-                                jobUUID);
-                        return CancelResult.JOB_FOUND_CANCEL_WAS_NOT_POSSIBLE;
-
-                    }
-                }
-            }
+        JobInQueue jobInQueue = jobsInQueue.get(jobUUID);
+        if (jobInQueue == null) {
             /*
              * job not found - either never existed or already canceled/done and removed by
              * watcher
              */
             return CancelResult.JOB_NOT_FOUND;
         }
+        Future<PDSExecutionResult> future = jobInQueue.future;
+        if (future.isDone()) {
+            /* already done or canceled */
+            LOG.info("cancellation of job with uuid:{} skipped, because already done", jobUUID);
+            return CancelResult.JOB_FOUND_CANCEL_WAS_DONE;
+        }
+        LOG.debug("Found PDS job: {} running at this cluster member", jobUUID);
+
+        ExecutionEventData eventData = new ExecutionEventData();
+
+        workspaceService.sendEvent(jobUUID, ExecutionEventType.CANCEL_REQUESTED, eventData);
+
+        /*
+         * the next call will trigger PDSExecutionCallable to cancel which will use the
+         * event data for further inspections
+         */
+        boolean canceled = future.cancel(true);
+
+        if (canceled) {
+            LOG.info("Cancel SUCCESSFUL: canceled PDS job: {}", jobUUID);
+            jobTransactionService.markJobAsCanceledInOwnTransaction(jobUUID);
+            return CancelResult.JOB_FOUND_CANCEL_WAS_DONE;
+        } else {
+            LOG.info(
+                    "Cancel FAILED: was not able to cancel PDS job :{} - should not happen. Please read logs for details. This will be an orphaned cancel request.",
+                    jobUUID);
+            return CancelResult.JOB_FOUND_CANCEL_WAS_NOT_POSSIBLE;
+
+        }
     }
 
     public enum CancelResult {
@@ -196,100 +193,105 @@ public class PDSExecutionService {
     }
 
     public boolean isQueueFull() {
-        synchronized (jobsInQueue) {
-            return jobsInQueue.size() >= queueMax;
-        }
+        return jobsInQueue.size() >= queueMax;
     }
 
     @Async
     public void addToExecutionQueueAsynchron(UUID jobUUID) {
-        Future<?> former = null;
-        synchronized (jobsInQueue) {
-            LOG.debug("add job to execution queue:{}", jobUUID);
-            int size = jobsInQueue.size();
-            if (size >= queueMax) {
-                LOG.warn("execution queue overload:{}/{}", size, queueMax);
-            }
-            PDSExecutionFutureTask task = new PDSExecutionFutureTask(executionCallableFactory.createCallable(jobUUID));
-            workers.execute(task);
-
-            former = jobsInQueue.put(jobUUID, task);
+        LOG.debug("add job to execution queue:{}", jobUUID);
+        int size = jobsInQueue.size();
+        if (size >= queueMax) {
+            LOG.warn("execution queue overload:{}/{}", size, queueMax);
         }
+        JobInQueue jobInQueue = new JobInQueue(jobUUID, jobsInQueueSequence.incrementAndGet());
+        jobInQueue.future = new PDSExecutionFutureTask(executionCallableFactory.createCallable(jobUUID), () -> handleJobDone(jobInQueue));
+
+        /* we register before execution - so a fast done job is always found by watcher */
+        JobInQueue former = jobsInQueue.put(jobUUID, jobInQueue);
+        workers.execute(jobInQueue.future);
+
         handleFormerJob(jobUUID, former);
     }
 
     @UseCaseAdminFetchesMonitoringStatus(@PDSStep(name = "db lookup", description = "service fetches all execution state", number = 2))
     public PDSExecutionStatus getExecutionStatus() {
         PDSExecutionStatus status = new PDSExecutionStatus();
-        synchronized (jobsInQueue) {
-            status.queueMax = queueMax;
-            status.jobsInQueue = jobsInQueue.size();
-
-            Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
-            while (it.hasNext()) {
-                Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
-                Future<PDSExecutionResult> future = entry.getValue();
-                PDSExecutionJobInQueueStatusEntry statusEntry = new PDSExecutionJobInQueueStatusEntry();
-                statusEntry.done = future.isDone();
-                statusEntry.canceled = future.isCancelled();
-                statusEntry.jobUUID = entry.getKey();
-
-                Optional<PDSJob> jobOption = repository.findById(entry.getKey());
-                if (jobOption.isPresent()) {
-                    PDSJob job = jobOption.get();
-                    statusEntry.created = job.getCreated();
-                    statusEntry.started = job.getStarted();
-                    statusEntry.state = job.getState();
-                }
-                status.entries.add(statusEntry);
+        status.queueMax = queueMax;
+
+        /* we use a snapshot, so database access is done without blocking the queue */
+        List<JobInQueue> snapshot = createSortedJobsInQueueSnapshot();
+        status.jobsInQueue = snapshot.size();
+
+        for (JobInQueue jobInQueue : snapshot) {
+            Future<PDSExecutionResult> future = jobInQueue.future;
+            PDSExecutionJobInQueueStatusEntry statusEntry = new PDSExecutionJobInQueueStatusEntry();
+            statusEntry.done = future.isDone();
+            statusEntry.canceled = future.isCancelled();
+            statusEntry.jobUUID = jobInQueue.jobUUID;
+
+            Optional<PDSJob> jobOption = repository.findById(jobInQueue.jobUUID);
+            if (jobOption.isPresent()) {
+                PDSJob job = jobOption.get();
+                statusEntry.created = job.getCreated();
+                statusEntry.started = job.getStarted();
+                statusEntry.state = job.getState();
             }
+            status.entries.add(statusEntry);
         }
         return status;
     }
 
-    private void handleFormerJob(UUID jobUUID, Future<?> former) {
+    private List<JobInQueue> createSortedJobsInQueueSnapshot() {
+        List<JobInQueue> snapshot = new ArrayList<>(jobsInQueue.values());
+        snapshot.sort(Comparator.comparingLong(jobInQueue -> jobInQueue.sequence));
+        return snapshot;
+    }
+
+    private void handleJobDone(JobInQueue jobInQueue) {
+        if (watcherDisabled) {
+            LOG.warn("Execution watcher disabled");
+            return;
+        }
+        try {
+            /* database changes are done by scheduler thread, not by worker or cancel caller thread */
+            scheduler.execute(() -> watcher.handleDone(jobInQueue));
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Was not able to handle done job:{} - scheduler already shutdown", jobInQueue.jobUUID);
+        }
+    }
+
+    private void handleFormerJob(UUID jobUUID, JobInQueue former) {
         if (former == null) {
             return;
         }
         LOG.error("Did found former job in queue with same job UUID:{}", jobUUID);
-        former.cancel(true);
+        former.future.cancel(true);
         LOG.info("Canceled former job {}", jobUUID);
 
     }
 
-    private class PDSExecutionWatcher implements Runnable {
+    private static class JobInQueue {
+        private final UUID jobUUID;
+        private final long sequence;
+        private PDSExecutionFutureTask future;
 
-        private static final int MAXIMUM_TRIES_TO_STORE_JOB_RESILIENT = 5;
-
-        @Override
-        public void run() {
-            if (watcherDisabled) {
-                LOG.warn("Execution watcher disabled");
-                return;
-            }
-            inspectJobsInQueue();
+        private JobInQueue(UUID jobUUID, long sequence) {
+            this.jobUUID = jobUUID;
+            this.sequence = sequence;
         }
+    }
 
-        private void inspectJobsInQueue() {
-            synchronized (jobsInQueue) {
-                List<UUID> doneAndDatabaseChangesApplied = new ArrayList<>(0);
-                Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
-
-                while (it.hasNext()) {
-
-                    Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
-                    Future<PDSExecutionResult> future = entry.getValue();
+    private class PDSExecutionWatcher {
 
-                    if (future.isDone()) {
-                        if (isFutureDoneAndChangesToDatabaseCanBeApplied(entry, future)) {
-                            doneAndDatabaseChangesApplied.add(entry.getKey());
-                        }
-                    }
-                }
+        private static final int MAXIMUM_TRIES_TO_STORE_JOB_RESILIENT = 5;
 
-                for (UUID uuid : doneAndDatabaseChangesApplied) {
-                    jobsInQueue.remove(uuid);
-                }
+        private void handleDone(JobInQueue jobInQueue) {
+            if (jobsInQueue.get(jobInQueue.jobUUID) != jobInQueue) {
+                /* former job with same uuid, already replaced (and canceled) - nothing to store */
+                return;
+            }
+            if (isFutureDoneAndChangesToDatabaseCanBeApplied(jobInQueue.jobUUID, jobInQueue.future)) {
+                jobsInQueue.remove(jobInQueue.jobUUID, jobInQueue);
             }
         }
 
@@ -298,14 +300,12 @@ public class PDSExecutionService {
          * database. The execution will be tried resilient. See
          * {@link #getMaximumRetriesToStoreResilient()}
          *
-         * @param entry
+         * @param jobUUID
          * @param future
          * @return <code>true</code> when work can be removed from jobsInQueue
          */
         @UseCaseSystemHandlesJobCancelRequests(@PDSStep(name = "queue work", description = "canceled job will be marked as CANCELED in db", number = 5))
-        private boolean isFutureDoneAndChangesToDatabaseCanBeApplied(Entry<UUID, Future<PDSExecutionResult>> entry, Future<PDSExecutionResult> future) {
-            UUID jobUUID = entry.getKey();
-
+        private boolean isFutureDoneAndChangesToDatabaseCanBeApplied(UUID jobUUID, Future<PDSExecutionResult> future) {
             int tries = 0;
             while (tries < getMaximumRetriesToStoreResilient()) {
                 if (tries > 0) {
@@ -356,6 +356,8 @@ public class PDSExecutionService {
                     repository.save(job);
                     LOG.debug("Stored job pds uuid={}, state={}", job.getUUID(), job.getState());
 
+                    jobStatusWaitService.notifyJobStatusChanged(jobUUID);
+
                     return true;
 
                 } catch (OptimisticLockingFailureException e) {
@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.execution;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
+import com.mercedesbenz.sechub.pds.job.PDSCheckJobStatusService;
+
+/**
+ * One watcher for all jobs running at this PDS instance. Checks by one
+ * database query if stream data refresh was requested for any running job and
+ * calls the refresh action of the job when necessary.<br>
+ * <br>
+ * Refresh requests done at this PDS instance trigger an immediate check by
+ * {@link #notifyRefreshRequested(UUID)}. Requests done at other cluster
+ * members are found by the next periodic check.
+ */
+@Service
+public class PDSStreamDataRefreshRequestWatcherService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PDSStreamDataRefreshRequestWatcherService.class);
+
+    private static final long DEFAULT_CHECK_INTERVAL_MILLISECONDS = 300;
+
+    @PDSMustBeDocumented(value = "Interval in milliseconds for checking stream data refresh requests of all running jobs.", scope = "execution")
+    @Value("${pds.config.job.stream.refresh.check.interval.milliseconds:" + DEFAULT_CHECK_INTERVAL_MILLISECONDS + "}")
+    long checkIntervalMilliseconds = DEFAULT_CHECK_INTERVAL_MILLISECONDS;
+
+    @Autowired
+    PDSCheckJobStatusService jobStatusService;
+
+    private Map<UUID, Runnable> refreshActions = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService checker;
+
+    @PostConstruct
+    void start() {
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pds-stream-refresh-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checker.scheduleWithFixedDelay(this::checkRefreshRequests, checkIntervalMilliseconds, checkIntervalMilliseconds, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+    }
+
+    /**
+     * Registers a running job
+     *
+     * @param jobUUID       job uuid
+     * @param refreshAction action to call when stream data refresh is necessary
+     */
+    public void register(UUID jobUUID, Runnable refreshAction) {
+        LOG.debug("Register PDS job:{} for stream data refresh requests", jobUUID);
+        refreshActions.put(jobUUID, refreshAction);
+    }
+
+    /**
+     * Unregisters given job - refresh action will no longer be called
+     *
+     * @param jobUUID
+     */
+    public void unregister(UUID jobUUID) {
+        LOG.debug("Unregister PDS job:{} for stream data refresh requests", jobUUID);
+        refreshActions.remove(jobUUID);
+    }
+
+    /**
+     * Notifies that a stream data refresh was requested for given job. When the
+     * job is running at this PDS instance, the check is done immediately.
+     *
+     * @param jobUUID
+     */
+    public void notifyRefreshRequested(UUID jobUUID) {
+        if (jobUUID == null || checker == null || !refreshActions.containsKey(jobUUID)) {
+            return;
+        }
+        try {
+            checker.execute(this::checkRefreshRequests);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Stream data refresh watcher already stopped, cannot handle refresh request for PDS job:{}", jobUUID);
+        }
+    }
+
+    /**
+     * @return amount of registered jobs
+     */
+    int getAmountOfRegisteredJobs() {
+        return refreshActions.size();
+    }
+
+    void checkRefreshRequests() {
+        if (refreshActions.isEmpty()) {
+            return;
+        }
+        LOG.trace("start checking stream data refresh requests");
+        try {
+            Set<UUID> jobsToRefresh = jobStatusService.fetchJobsWhereStreamUpdateNecessary(new ArrayList<>(refreshActions.keySet()));
+
+            for (UUID jobUUID : jobsToRefresh) {
+                Runnable refreshAction = refreshActions.get(jobUUID);
+                if (refreshAction == null) {
+                    /* job has been unregistered meanwhile */
+                    continue;
+                }
+                try {
+                    refreshAction.run();
+                } catch (RuntimeException e) {
+                    LOG.error("Stream data refresh failed for PDS job:{}", jobUUID, e);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Was not able to check stream data refresh requests", e);
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.mercedesbenz.sechub.pds.job;
 
 import static com.mercedesbenz.sechub.pds.job.PDSJobAssert.*;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -28,6 +31,28 @@ public class PDSCheckJobStatusService {
         return refreshCheckCalculator.isUpdateRequestedAndNecessary(job);
     }
 
+    /**
+     * Checks all given jobs by one database query
+     *
+     * @param jobUUIDs uuids of jobs to check
+     * @return set containing uuids of all jobs where stream update is requested
+     *         and necessary, never <code>null</code>
+     */
+    public Set<UUID> fetchJobsWhereStreamUpdateNecessary(Collection<UUID> jobUUIDs) {
+        Set<UUID> result = new LinkedHashSet<>();
+        if (jobUUIDs == null || jobUUIDs.isEmpty()) {
+            return result;
+        }
+        LOG.trace("check job stream update was requested for {} PDS jobs", jobUUIDs.size());
+
+        for (PDSJob job : repository.findAllById(jobUUIDs)) {
+            if (refreshCheckCalculator.isUpdateRequestedAndNecessary(job)) {
+                result.add(job.getUUID());
+            }
+        }
+        return result;
+    }
+
     private PDSJob fetchJobDataContainingStreamContent(UUID jobUUID) {
         PDSJob job = assertJobFound(jobUUID, repository);
         return job;
@@ -18,6 +18,7 @@ import org.springframework.stereotype.Service;
 
 import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
 import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
+import com.mercedesbenz.sechub.pds.execution.PDSStreamDataRefreshRequestWatcherService;
 import com.mercedesbenz.sechub.pds.security.PDSRoleConstants;
 import com.mercedesbenz.sechub.pds.usecase.PDSStep;
 import com.mercedesbenz.sechub.pds.usecase.UseCaseAdminFetchesJobErrorStream;
@@ -60,6 +61,9 @@ public class PDSGetJobExecutionDataContentService {
     @Autowired
     PDSStreamContentUpdateChecker refreshCheckCalculator;
 
+    @Autowired
+    PDSStreamDataRefreshRequestWatcherService streamDataRefreshRequestWatcherService;
+
     public PDSGetJobExecutionDataContentService() {
 
         streamDataRefreshExceptionThrower = new ExceptionThrower<IllegalStateException>() {
@@ -146,6 +150,9 @@ public class PDSGetJobExecutionDataContentService {
 
         LocalDateTime refreshRequestTime = markJobExecutionDataRefreshRequestedResilient(jobUUID);
 
+        /* when job is running at this PDS instance, the refresh is done immediately */
+        streamDataRefreshRequestWatcherService.notifyRefreshRequested(jobUUID);
+
         /* wait */
         LOG.debug("Wait until refresh request for PDS job:{} has updated stream data", jobUUID);
 
@@ -84,7 +84,8 @@ public class PDSJob {
     public static final String PROPERTY_CONFIGURATION = "configuration";
     public static final String PROPERTY_RESULT = "result";
 
-    public static final String QUERY_DELETE_JOB_OLDER_THAN = "DELETE FROM PDSJob j WHERE j." + PROPERTY_CREATED + " < :cleanTimeStamp";
+    public static final String QUERY_FIND_JOB_UUIDS_OLDER_THAN = "SELECT j." + PROPERTY_UUID + " FROM PDSJob j WHERE j." + PROPERTY_CREATED + " < :cleanTimeStamp";
+    public static final String QUERY_DELETE_JOBS_WITH_UUIDS = "DELETE FROM PDSJob j WHERE j." + PROPERTY_UUID + " IN :uuids";
 
     public static final String QUERY_FIND_JOBS_IN_STATE = "SELECT j from PDSJob j WHERE j." + PROPERTY_STATE + "= :statusState";
 
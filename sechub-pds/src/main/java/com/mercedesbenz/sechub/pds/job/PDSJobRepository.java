@@ -2,10 +2,12 @@
 package com.mercedesbenz.sechub.pds.job;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,10 +18,13 @@ import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
 
 public interface PDSJobRepository extends JpaRepository<PDSJob, UUID>, PDSJobRepositoryCustom {
 
+    @Query(PDSJob.QUERY_FIND_JOB_UUIDS_OLDER_THAN)
+    List<UUID> findJobUUIDsOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp, Pageable pageable);
+
     @Transactional
     @Modifying
-    @Query(PDSJob.QUERY_DELETE_JOB_OLDER_THAN)
-    int deleteJobOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp);
+    @Query(PDSJob.QUERY_DELETE_JOBS_WITH_UUIDS)
+    int deleteJobsWithUUIDs(@Param("uuids") Collection<UUID> uuids);
 
     @Query(PDSJob.QUERY_FIND_JOBS_IN_STATE)
     List<PDSJob> findAllJobsInState(@Param("statusState") PDSJobStatusState statusState);
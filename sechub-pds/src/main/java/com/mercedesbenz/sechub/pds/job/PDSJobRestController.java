@@ -13,8 +13,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
 import com.mercedesbenz.sechub.pds.PDSAPIConstants;
 import com.mercedesbenz.sechub.pds.security.PDSRoleConstants;
 import com.mercedesbenz.sechub.pds.usecase.PDSStep;
@@ -50,6 +53,9 @@ public class PDSJobRestController {
     @Autowired
     private PDSGetJobStatusService jobStatusService;
 
+    @Autowired
+    private PDSJobStatusWaitService jobStatusWaitService;
+
     @Autowired
     private PDSGetJobResultService jobResultService;
 
@@ -110,6 +116,21 @@ public class PDSJobRestController {
 
     }
 
+    /* @formatter:off */
+    @Validated
+    @RequestMapping(path = "{jobUUID}/status/wait", method = RequestMethod.GET)
+    @UseCaseUserFetchesJobStatus(@PDSStep(name="rest call",description = "User fetches status of a job, but waits until state differs from known state or wait time is over.",number=1))
+    public DeferredResult<PDSJobStatus> waitForJobStatusChange(
+            @PathVariable("jobUUID") UUID jobUUID,
+            @RequestParam(name = "knownState", required = false) PDSJobStatusState knownState,
+            @RequestParam(name = "maxWaitMilliseconds", required = false, defaultValue = "" + PDSJobStatusWaitService.DEFAULT_MAX_WAIT_MILLISECONDS) long maxWaitMilliseconds
+            ) {
+        /* @formatter:on */
+        PDSJobStatus currentStatus = jobStatusService.getJobStatus(jobUUID);
+
+        return jobStatusWaitService.waitForStatusChange(currentStatus, knownState, maxWaitMilliseconds);
+    }
+
     /* @formatter:off */
     @Validated
     @RequestMapping(path = "{jobUUID}/result", method = RequestMethod.GET)
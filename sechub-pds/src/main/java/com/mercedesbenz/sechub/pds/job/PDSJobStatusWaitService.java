@@ -0,0 +1,192 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
+import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
+
+/**
+ * Service to wait for job status changes (long polling). Waiting requests do
+ * not block a servlet thread. Instead all waiting jobs are checked together by
+ * one database query at a fixed interval. When a job state has changed (or
+ * the wait time is over) the current job status is returned.
+ *
+ * Because the check is done by database, this works also when the job is
+ * executed by another PDS cluster member. Jobs executed by this PDS instance
+ * trigger an immediate check by {@link #notifyJobStatusChanged(UUID)}.
+ */
+@Service
+public class PDSJobStatusWaitService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PDSJobStatusWaitService.class);
+
+    static final long DEFAULT_MAX_WAIT_MILLISECONDS = 30000;
+    static final long DEFAULT_CHECK_INTERVAL_MILLISECONDS = 500;
+
+    @PDSMustBeDocumented(value = "Maximum time in milliseconds a job status request will wait for a job status change.", scope = "execution")
+    @Value("${pds.config.job.status.wait.max.milliseconds:" + DEFAULT_MAX_WAIT_MILLISECONDS + "}")
+    long maxWaitMilliseconds = DEFAULT_MAX_WAIT_MILLISECONDS;
+
+    @PDSMustBeDocumented(value = "Interval in milliseconds for checking the job states of all job status requests waiting for a change.", scope = "execution")
+    @Value("${pds.config.job.status.wait.check.interval.milliseconds:" + DEFAULT_CHECK_INTERVAL_MILLISECONDS + "}")
+    long checkIntervalMilliseconds = DEFAULT_CHECK_INTERVAL_MILLISECONDS;
+
+    @Autowired
+    PDSJobRepository repository;
+
+    private Map<UUID, List<StatusWaiter>> waiters = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService checker;
+
+    @PostConstruct
+    void start() {
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pds-job-status-wait");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checker.scheduleWithFixedDelay(this::checkWaiters, checkIntervalMilliseconds, checkIntervalMilliseconds, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits until state of given job is no longer the known state.
+     *
+     * @param currentStatus    current job status, already fetched (and security
+     *                         checked) by caller
+     * @param knownState       the state known by the client. When
+     *                         <code>null</code> the state of current status is
+     *                         used
+     * @param waitMilliseconds maximum time to wait. Will be reduced to configured
+     *                         maximum
+     * @return deferred result containing job status
+     */
+    public DeferredResult<PDSJobStatus> waitForStatusChange(PDSJobStatus currentStatus, PDSJobStatusState knownState, long waitMilliseconds) {
+        long timeToWait = Math.min(Math.max(0, waitMilliseconds), maxWaitMilliseconds);
+        String expectedState = knownState == null ? currentStatus.state : knownState.name();
+
+        if (timeToWait == 0 || !expectedState.equals(currentStatus.state) || isEndState(currentStatus.state)) {
+            DeferredResult<PDSJobStatus> result = new DeferredResult<>();
+            result.setResult(currentStatus);
+            return result;
+        }
+
+        UUID jobUUID = currentStatus.jobUUID;
+        StatusWaiter waiter = new StatusWaiter(currentStatus, expectedState, timeToWait);
+        waiters.computeIfAbsent(jobUUID, uuid -> new CopyOnWriteArrayList<>()).add(waiter);
+
+        return waiter.result;
+    }
+
+    /**
+     * Notifies that the status of given job has changed - waiting requests for
+     * this job will be checked immediately.
+     *
+     * @param jobUUID
+     */
+    public void notifyJobStatusChanged(UUID jobUUID) {
+        if (jobUUID == null || checker == null || !waiters.containsKey(jobUUID)) {
+            return;
+        }
+        checker.execute(this::checkWaiters);
+    }
+
+    /**
+     * @return amount of jobs with waiting status requests
+     */
+    int getAmountOfWaitingJobs() {
+        return waiters.size();
+    }
+
+    void checkWaiters() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        try {
+            Set<UUID> jobUUIDs = waiters.keySet();
+            for (PDSJob job : repository.findAllById(new ArrayList<>(jobUUIDs))) {
+                List<StatusWaiter> jobWaiters = waiters.get(job.getUUID());
+                if (jobWaiters == null) {
+                    continue;
+                }
+                String state = job.getState() == null ? "" : job.getState().name();
+                for (StatusWaiter waiter : jobWaiters) {
+                    if (waiter.result.isSetOrExpired()) {
+                        remove(waiter);
+                    } else if (!waiter.expectedState.equals(state)) {
+                        waiter.result.setResult(new PDSJobStatus(job));
+                        remove(waiter);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Was not able to check job states for waiting status requests", e);
+        }
+    }
+
+    private void remove(StatusWaiter waiter) {
+        waiters.computeIfPresent(waiter.jobUUID, (uuid, list) -> {
+            list.remove(waiter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private PDSJobStatus loadStatus(PDSJobStatus fallbackStatus) {
+        Optional<PDSJob> job = repository.findById(fallbackStatus.jobUUID);
+        if (!job.isPresent()) {
+            return fallbackStatus;
+        }
+        return new PDSJobStatus(job.get());
+    }
+
+    private static boolean isEndState(String state) {
+        return PDSJobStatusState.DONE.name().equals(state) || PDSJobStatusState.FAILED.name().equals(state)
+                || PDSJobStatusState.CANCELED.name().equals(state);
+    }
+
+    private class StatusWaiter {
+        private final UUID jobUUID;
+        private final String expectedState;
+        private final DeferredResult<PDSJobStatus> result;
+
+        private StatusWaiter(PDSJobStatus currentStatus, String expectedState, long timeToWait) {
+            this.jobUUID = currentStatus.jobUUID;
+            this.expectedState = expectedState;
+            this.result = new DeferredResult<>(timeToWait);
+
+            result.onTimeout(() -> {
+                /* nothing changed - so we return current status */
+                result.setResult(loadStatus(currentStatus));
+            });
+            result.onCompletion(() -> remove(this));
+            result.onError(error -> remove(this));
+        }
+    }
+}
@@ -5,10 +5,8 @@ import static com.mercedesbenz.sechub.commons.core.CommonConstants.*;
 
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -101,6 +99,10 @@ public class PDSWorkspaceService {
     @Value("${pds.workspace.autoclean.disabled:false}")
     private boolean workspaceAutoCleanDisabled;
 
+    @PDSMustBeDocumented(value = "When enabled and an uploaded file is available inside the local file system (e.g. shared volume storage), the file is hard linked into the workspace instead of being copied. If hard linking is not possible (e.g. different file systems) the file is copied. Only enable this when the launcher scripts never modify uploaded files, because a hard link shares the content with the storage file.", scope = "execution")
+    @Value("${pds.workspace.storage.hardlink.enabled:false}")
+    boolean storageHardLinkEnabled;
+
     private static final ArchiveFilter TAR_FILE_FILTER = new TarFileFilter();
 
     private static final ArchiveFilter ZIP_FILE_FILTER = new SourcecodeZipFileFilter();
@@ -201,28 +203,46 @@ public class PDSWorkspaceService {
 
         File uploadFile = new File(jobFolder, name);
 
-        try (InputStream fetchedInputStream = storage.fetch(name)) {
+        try {
 
-            try {
+            if (storageHardLinkEnabled && createHardLinkToLocalStorageFile(storage, name, uploadFile)) {
+                LOG.debug("Linked '{}' for job {} from storage to {}", name, jobUUID, uploadFile.getAbsolutePath());
+                return;
+            }
 
-                FileUtils.copyInputStreamToFile(fetchedInputStream, uploadFile);
+            storage.fetchToFile(name, uploadFile.toPath());
 
-                LOG.debug("Imported '{}' for job {} from storage to {}", name, jobUUID, uploadFile.getAbsolutePath());
+            LOG.debug("Imported '{}' for job {} from storage to {}", name, jobUUID, uploadFile.getAbsolutePath());
 
-            } catch (IOException e) {
+        } catch (IOException e) {
 
-                LOG.error("Was not able to copy stream of uploaded file: {} for job {}, reason: ", name, jobUUID, e.getMessage());
+            LOG.error("Was not able to copy uploaded file: {} for job {}, reason: ", name, jobUUID, e.getMessage());
 
-                if (uploadFile.exists()) {
-                    boolean deleteSuccessful = uploadFile.delete();
-                    LOG.info("Uploaded file existed. Deleted successfully: {}", deleteSuccessful);
-                }
-                throw e;
+            if (uploadFile.exists()) {
+                boolean deleteSuccessful = uploadFile.delete();
+                LOG.info("Uploaded file existed. Deleted successfully: {}", deleteSuccessful);
             }
+            throw e;
         }
 
     }
 
+    private boolean createHardLinkToLocalStorageFile(JobStorage storage, String name, File uploadFile) throws IOException {
+        Path localPath = storage.getLocalPathOrNull(name);
+        if (localPath == null) {
+            return false;
+        }
+        Path uploadPath = uploadFile.toPath();
+        Files.deleteIfExists(uploadPath);
+        try {
+            Files.createLink(uploadPath, localPath);
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.debug("Was not able to create hard link from {} to {} - will copy instead. Reason: {}", localPath, uploadPath, e.getMessage());
+            return false;
+        }
+    }
+
     void extractZipFileUploadsWhenConfigured(UUID jobUUID, PDSJobConfiguration config, PDSWorkspacePreparationContext preparationContext) throws IOException {
         if (!preparationContext.isSourceAccepted()) {
             return;
@@ -396,17 +416,13 @@ public class PDSWorkspaceService {
         ArchiveSupport archiveSupport = archiveSupportProvider.getArchiveSupport();
 
         for (File archiveFile : archiveFiles) {
-            try (FileInputStream archiveFileInputStream = new FileInputStream(archiveFile)) {
-
-                ArchiveExtractionResult extractionResult = archiveSupport.extract(archiveType, archiveFileInputStream, archiveFile.getAbsolutePath(),
-                        extractionTargetFolder, configuration);
+            ArchiveExtractionResult extractionResult = archiveSupport.extract(archiveType, archiveFile, extractionTargetFolder, configuration);
 
-                LOG.info("Extracted {} files to {}", extractionResult.getExtractedFilesCount(), extractionResult.getTargetLocation());
+            LOG.info("Extracted {} files to {}", extractionResult.getExtractedFilesCount(), extractionResult.getTargetLocation());
 
-                if (deleteOriginFiles) {
-                    LOG.debug("Forcing delete of origin file: {} ", archiveFile.getAbsolutePath());
-                    FileUtils.forceDelete(archiveFile);
-                }
+            if (deleteOriginFiles) {
+                LOG.debug("Forcing delete of origin file: {} ", archiveFile.getAbsolutePath());
+                FileUtils.forceDelete(archiveFile);
             }
         }
         File[] extractedFiles = extractionTargetFolder.listFiles();
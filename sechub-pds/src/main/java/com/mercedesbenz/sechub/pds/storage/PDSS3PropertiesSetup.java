@@ -69,6 +69,16 @@ public class PDSS3PropertiesSetup implements S3Setup {
     @Value("${pds.storage.s3.signer.override:" + S3Setup.DEFAULT_SIGNER_OVERRIDE + "}")
     private String signerOverride;
 
+    /* download */
+
+    @PDSMustBeDocumented(value = "Size (in bytes) of one part when big objects are downloaded in parallel by byte range requests.", scope = "storage")
+    @Value("${pds.storage.s3.download.part.size.bytes:" + S3Setup.DEFAULT_DOWNLOAD_PART_SIZE_IN_BYTES + "}")
+    private long downloadPartSizeInBytes;
+
+    @PDSMustBeDocumented(value = "Maximum amount of parts downloaded at the same time for one object. 1 means objects are always downloaded by one request.", scope = "storage")
+    @Value("${pds.storage.s3.download.concurrent.parts.max:" + S3Setup.DEFAULT_DOWNLOAD_MAX_CONCURRENT_PARTS + "}")
+    private int downloadMaximumConcurrentParts;
+
     @Override
     public String getAccessKey() {
         return accessKey;
@@ -146,4 +156,14 @@ public class PDSS3PropertiesSetup implements S3Setup {
         return signerOverride;
     }
 
+    @Override
+    public long getDownloadPartSizeInBytes() {
+        return downloadPartSizeInBytes;
+    }
+
+    @Override
+    public int getDownloadMaximumConcurrentParts() {
+        return downloadMaximumConcurrentParts;
+    }
+
 }
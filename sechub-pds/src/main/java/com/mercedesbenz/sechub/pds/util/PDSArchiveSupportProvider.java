@@ -1,14 +1,30 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.pds.util;
 
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.mercedesbenz.sechub.commons.archive.ArchiveSupport;
+import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
 
 @Component
 public class PDSArchiveSupportProvider {
+
+    private static final int DEFAULT_EXTRACTION_THREADS = 1;
+
+    @PDSMustBeDocumented(value = "Amount of threads used to extract one uploaded ZIP or TAR archive into the workspace. When greater than 1, the files of the archive are written in parallel, which reduces the preparation time for archives with many files. Use 1 for a sequential extraction.", scope = "execution")
+    @Value("${pds.workspace.extraction.threads:" + DEFAULT_EXTRACTION_THREADS + "}")
+    int extractionThreads = DEFAULT_EXTRACTION_THREADS;
+
     ArchiveSupport zipSupport = new ArchiveSupport();
 
+    @PostConstruct
+    protected void postConstruct() {
+        zipSupport.setExtractionThreads(extractionThreads);
+    }
+
     public ArchiveSupport getArchiveSupport() {
         return zipSupport;
     }
@@ -6,12 +6,16 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
 
 import com.mercedesbenz.sechub.pds.config.PDSConfigService;
 import com.mercedesbenz.sechub.pds.job.PDSJobRepository;
@@ -38,6 +42,8 @@ class PDSAutoCleanupServiceTest {
         serviceToTest.jobRepository = jobRepository;
         serviceToTest.timeCalculationService = timeCalculationService;
         serviceToTest.inspector = inspector;
+        serviceToTest.chunkSize = 1000;
+        serviceToTest.pauseBetweenChunksMillis = 0;
     }
 
     @Test
@@ -54,7 +60,8 @@ class PDSAutoCleanupServiceTest {
         /* test */
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService, never()).calculateNowMinusDays(any());
-        verify(jobRepository, never()).deleteJobOlderThan(any());
+        verify(jobRepository, never()).findJobUUIDsOlderThan(any(), any());
+        verify(jobRepository, never()).deleteJobsWithUUIDs(any());
         // check inspection as expected: never because not executed
         verify(inspector, never()).inspect(any());
     }
@@ -73,7 +80,8 @@ class PDSAutoCleanupServiceTest {
         /* test */
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService, never()).calculateNowMinusDays(any());
-        verify(jobRepository, never()).deleteJobOlderThan(any());
+        verify(jobRepository, never()).findJobUUIDsOlderThan(any(), any());
+        verify(jobRepository, never()).deleteJobsWithUUIDs(any());
         // check inspection as expected: never because not executed
         verify(inspector, never()).inspect(any());
     }
@@ -85,7 +93,11 @@ class PDSAutoCleanupServiceTest {
         when(configService.getAutoCleanupInDays()).thenReturn(days);
         LocalDateTime cleanTime = LocalDateTime.now().minusDays(days);
         when(timeCalculationService.calculateNowMinusDays(any())).thenReturn(cleanTime);
-        when(jobRepository.deleteJobOlderThan(cleanTime)).thenReturn(1234);
+        List<UUID> chunk1 = createUUIDs(1000);
+        List<UUID> chunk2 = createUUIDs(234);
+        when(jobRepository.findJobUUIDsOlderThan(cleanTime, PageRequest.of(0, 1000))).thenReturn(chunk1, chunk2);
+        when(jobRepository.deleteJobsWithUUIDs(chunk1)).thenReturn(1000);
+        when(jobRepository.deleteJobsWithUUIDs(chunk2)).thenReturn(234);
 
         /* execute */
         serviceToTest.cleanup();
@@ -93,16 +105,29 @@ class PDSAutoCleanupServiceTest {
         /* test */
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService).calculateNowMinusDays(eq(days));
-        verify(jobRepository).deleteJobOlderThan(cleanTime);
+        verify(jobRepository, times(2)).findJobUUIDsOlderThan(cleanTime, PageRequest.of(0, 1000));
+        verify(jobRepository).deleteJobsWithUUIDs(chunk1);
+        verify(jobRepository).deleteJobsWithUUIDs(chunk2);
 
-        // check inspection as expected
+        // check inspection as expected: one inspection per deleted chunk
         ArgumentCaptor<PDSAutoCleanupResult> captor = ArgumentCaptor.forClass(PDSAutoCleanupResult.class);
-        verify(inspector).inspect(captor.capture());
+        verify(inspector, times(2)).inspect(captor.capture());
+
+        List<PDSAutoCleanupResult> results = captor.getAllValues();
+        assertEquals(1000, results.get(0).getDeletedEntries());
+        assertEquals(234, results.get(1).getDeletedEntries());
+        for (PDSAutoCleanupResult result : results) {
+            assertEquals(cleanTime, result.getUsedCleanupTimeStamp());
+            assertEquals(days, result.getCleanupTimeInDays());
+        }
+    }
 
-        PDSAutoCleanupResult result = captor.getValue();
-        assertEquals(cleanTime, result.getUsedCleanupTimeStamp());
-        assertEquals(days, result.getCleanupTimeInDays());
-        assertEquals(1234, result.getDeletedEntries());
+    private List<UUID> createUUIDs(int amount) {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < amount; i++) {
+            uuids.add(UUID.randomUUID());
+        }
+        return uuids;
     }
 
 }
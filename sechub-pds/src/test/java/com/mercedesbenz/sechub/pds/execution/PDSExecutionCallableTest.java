@@ -34,6 +34,7 @@ class PDSExecutionCallableTest {
     private PDSExecutionEnvironmentService environmentService;
     private PDSCheckJobStatusService jobStatusService;
     private PDSGetJobStreamService pdsGetJobStreamService;
+    private PDSStreamDataRefreshRequestWatcherService streamDataRefreshRequestWatcherService;
     private UUID jobUUID;
     private PDSExecutionCallable callableToTest;
     private PDSProcessAdapterFactory processAdapterFactory;
@@ -71,6 +72,7 @@ class PDSExecutionCallableTest {
         environmentService = mock(PDSExecutionEnvironmentService.class);
         jobStatusService = mock(PDSCheckJobStatusService.class);
         pdsGetJobStreamService = mock(PDSGetJobStreamService.class);
+        streamDataRefreshRequestWatcherService = mock(PDSStreamDataRefreshRequestWatcherService.class);
         processAdapterFactory = mock(PDSProcessAdapterFactory.class);
         processAdapter = mock(ProcessAdapter.class);
         processHandlingFactory = mock(ProcessHandlingDataFactory.class);
@@ -111,6 +113,7 @@ class PDSExecutionCallableTest {
         when(serviceCollection.getEnvironmentService()).thenReturn(environmentService);
         when(serviceCollection.getJobStatusService()).thenReturn(jobStatusService);
         when(serviceCollection.getPdsGetJobStreamService()).thenReturn(pdsGetJobStreamService);
+        when(serviceCollection.getStreamDataRefreshRequestWatcherService()).thenReturn(streamDataRefreshRequestWatcherService);
         when(serviceCollection.getJobTransactionService()).thenReturn(jobTransactionService);
         when(serviceCollection.getProcessAdapterFactory()).thenReturn(processAdapterFactory);
         when(serviceCollection.getWorkspaceService()).thenReturn(workspaceService);
@@ -21,9 +21,11 @@ import org.slf4j.LoggerFactory;
 import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
 import com.mercedesbenz.sechub.commons.pds.execution.ExecutionEventData;
 import com.mercedesbenz.sechub.commons.pds.execution.ExecutionEventType;
+import com.mercedesbenz.sechub.pds.execution.PDSExecutionService.CancelResult;
 import com.mercedesbenz.sechub.pds.job.PDSCheckJobStatusService;
 import com.mercedesbenz.sechub.pds.job.PDSJob;
 import com.mercedesbenz.sechub.pds.job.PDSJobRepository;
+import com.mercedesbenz.sechub.pds.job.PDSJobStatusWaitService;
 import com.mercedesbenz.sechub.pds.job.PDSJobTestHelper;
 import com.mercedesbenz.sechub.pds.job.PDSJobTransactionService;
 import com.mercedesbenz.sechub.pds.job.PDSWorkspaceService;
@@ -65,6 +67,7 @@ public class PDSExecutionServiceTest {
         serviceToTest.executionCallableFactory = executionCallableFactory;
         serviceToTest.jobTransactionService = jobTransactionService;
         serviceToTest.workspaceService = workspaceService;
+        serviceToTest.jobStatusWaitService = mock(PDSJobStatusWaitService.class);
 
     }
 
@@ -156,6 +159,47 @@ public class PDSExecutionServiceTest {
 
     }
 
+    @Test
+    void done_job_is_stored_and_removed_from_queue_without_polling() throws Exception {
+        /* prepare */
+        serviceToTest.queueMax = 5;
+        serviceToTest.watcherDisabled = false; // enable watcher
+        serviceToTest.postConstruct(); // simulate spring boot container...
+        UUID uuid1 = UUID.randomUUID();
+        PDSJob job1 = PDSJobTestHelper.createTestJobStartedNowCreated3SecondsBefore(uuid1);
+        when(repository.findById(uuid1)).thenReturn(Optional.of(job1));
+
+        result1.result = "result1";
+        TestPDSExecutionCallable callable = createTestCallable(uuid1, 0, result1);
+        when(executionCallableFactory.createCallable(uuid1)).thenReturn(callable);
+
+        /* execute */
+        serviceToTest.addToExecutionQueueAsynchron(uuid1);
+
+        /* test */
+        int count = 0;
+        while (serviceToTest.getExecutionStatus().jobsInQueue > 0) {
+            count++;
+            if (count > 20) {
+                fail("Done job was not removed from queue");
+            }
+            Thread.sleep(50);
+        }
+        verify(repository).save(job1);
+        verify(serviceToTest.jobStatusWaitService).notifyJobStatusChanged(uuid1);
+        assertEquals(PDSJobStatusState.DONE, job1.getState());
+        assertEquals(CancelResult.JOB_NOT_FOUND, serviceToTest.cancel(uuid1));
+    }
+
+    @Test
+    void cancel_unknown_job_returns_job_not_found() {
+        /* prepare */
+        serviceToTest.postConstruct(); // simulate spring boot container...
+
+        /* execute + test */
+        assertEquals(CancelResult.JOB_NOT_FOUND, serviceToTest.cancel(UUID.randomUUID()));
+    }
+
     @Test
     void adding_jobs_to_queue_status_contains_expected_values() throws Exception {
         /* prepare */
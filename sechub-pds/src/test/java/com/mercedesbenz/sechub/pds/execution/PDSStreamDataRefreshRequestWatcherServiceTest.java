@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.execution;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.mercedesbenz.sechub.pds.job.PDSCheckJobStatusService;
+
+class PDSStreamDataRefreshRequestWatcherServiceTest {
+
+    private PDSStreamDataRefreshRequestWatcherService serviceToTest;
+    private PDSCheckJobStatusService jobStatusService;
+
+    @BeforeEach
+    void beforeEach() {
+        jobStatusService = mock(PDSCheckJobStatusService.class);
+
+        serviceToTest = new PDSStreamDataRefreshRequestWatcherService();
+        serviceToTest.jobStatusService = jobStatusService;
+    }
+
+    @Test
+    void no_registered_jobs_no_check_done() {
+        /* execute */
+        serviceToTest.checkRefreshRequests();
+
+        /* test */
+        verifyNoInteractions(jobStatusService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void all_registered_jobs_checked_by_one_call_and_only_necessary_refresh_actions_called() {
+        /* prepare */
+        UUID uuid1 = UUID.randomUUID();
+        UUID uuid2 = UUID.randomUUID();
+        Runnable action1 = mock(Runnable.class);
+        Runnable action2 = mock(Runnable.class);
+
+        serviceToTest.register(uuid1, action1);
+        serviceToTest.register(uuid2, action2);
+
+        when(jobStatusService.fetchJobsWhereStreamUpdateNecessary(any())).thenReturn(Collections.singleton(uuid2));
+
+        /* execute */
+        serviceToTest.checkRefreshRequests();
+
+        /* test */
+        ArgumentCaptor<Collection<UUID>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jobStatusService, times(1)).fetchJobsWhereStreamUpdateNecessary(captor.capture());
+        assertEquals(Set.of(uuid1, uuid2), new LinkedHashSet<>(captor.getValue()));
+
+        verify(action1, never()).run();
+        verify(action2).run();
+    }
+
+    @Test
+    void failing_refresh_action_does_not_prevent_other_refresh_actions() {
+        /* prepare */
+        UUID uuid1 = UUID.randomUUID();
+        UUID uuid2 = UUID.randomUUID();
+        Runnable action1 = mock(Runnable.class);
+        Runnable action2 = mock(Runnable.class);
+        doThrow(new IllegalStateException("test failure")).when(action1).run();
+
+        serviceToTest.register(uuid1, action1);
+        serviceToTest.register(uuid2, action2);
+
+        Set<UUID> necessary = new LinkedHashSet<>();
+        necessary.add(uuid1);
+        necessary.add(uuid2);
+        when(jobStatusService.fetchJobsWhereStreamUpdateNecessary(any())).thenReturn(necessary);
+
+        /* execute */
+        serviceToTest.checkRefreshRequests();
+
+        /* test */
+        verify(action1).run();
+        verify(action2).run();
+    }
+
+    @Test
+    void unregistered_job_is_no_longer_checked() {
+        /* prepare */
+        UUID uuid1 = UUID.randomUUID();
+        serviceToTest.register(uuid1, mock(Runnable.class));
+
+        /* execute */
+        serviceToTest.unregister(uuid1);
+        serviceToTest.checkRefreshRequests();
+
+        /* test */
+        assertEquals(0, serviceToTest.getAmountOfRegisteredJobs());
+        verifyNoInteractions(jobStatusService);
+    }
+
+}
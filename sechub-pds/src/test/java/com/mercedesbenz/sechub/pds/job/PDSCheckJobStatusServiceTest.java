@@ -2,9 +2,14 @@
 package com.mercedesbenz.sechub.pds.job;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -75,6 +80,40 @@ class PDSCheckJobStatusServiceTest {
 
     }
 
+    @Test
+    void fetch_jobs_where_stream_update_necessary_checks_all_jobs_by_one_query() {
+        /* prepare */
+        PDSJob job1 = createJob();
+        PDSJob job2 = createJob();
+        List<UUID> jobUUIDs = Arrays.asList(job1.getUUID(), job2.getUUID());
+        when(repository.findAllById(jobUUIDs)).thenReturn(Arrays.asList(job1, job2));
+        when(refreshCheckCalculator.isUpdateRequestedAndNecessary(job1)).thenReturn(false);
+        when(refreshCheckCalculator.isUpdateRequestedAndNecessary(job2)).thenReturn(true);
+
+        /* execute */
+        Set<UUID> result = serviceToTest.fetchJobsWhereStreamUpdateNecessary(jobUUIDs);
+
+        /* test */
+        assertEquals(Collections.singleton(job2.getUUID()), result);
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void fetch_jobs_where_stream_update_necessary_for_empty_list_does_no_query() {
+        /* execute */
+        Set<UUID> result = serviceToTest.fetchJobsWhereStreamUpdateNecessary(Collections.emptyList());
+
+        /* test */
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(repository);
+    }
+
+    private PDSJob createJob() {
+        PDSJob job = new PDSJob();
+        job.uUID = UUID.randomUUID();
+        return job;
+    }
+
     private PDSJob prepareJobCanBeFound() {
         UUID jobUUID = UUID.randomUUID();
         PDSJob job = new PDSJob();
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.mercedesbenz.sechub.pds.PDSNotFoundException;
+import com.mercedesbenz.sechub.pds.execution.PDSStreamDataRefreshRequestWatcherService;
 
 class PDSGetJobExecutionDataContentServiceTest {
 
@@ -30,6 +31,7 @@ class PDSGetJobExecutionDataContentServiceTest {
         serviceToTest.repository = repository;
         serviceToTest.refreshCheckCalculator = refreshCheckCalculator;
         serviceToTest.jobTransactionService = jobTransactionService;
+        serviceToTest.streamDataRefreshRequestWatcherService = mock(PDSStreamDataRefreshRequestWatcherService.class);
 
         serviceToTest.timeToWaitForNextCheckInMilliseconds = 10; // faster testing...
     }
@@ -6,6 +6,7 @@ import static org.junit.Assert.fail;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -22,10 +23,12 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkedDeleteSupport;
 import com.mercedesbenz.sechub.commons.model.SecHubDataConfigurationTypeListParser;
 import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
 import com.mercedesbenz.sechub.pds.PDSProfiles;
@@ -45,6 +48,8 @@ import com.mercedesbenz.sechub.pds.config.PDSServerIdentifierValidator;
         PDSJobRepositoryDBTest.SimpleTestConfiguration.class, PDSConfigurationAutoFix.class, SecHubDataConfigurationTypeListParser.class })
 public class PDSJobRepositoryDBTest {
 
+    private static final int TEST_CHUNK_SIZE = 2;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -157,6 +162,47 @@ public class PDSJobRepositoryDBTest {
         assertTrue(result.contains(pdsJob3));
     }
 
+    @Test
+    void findJobUUIDsOlderThan_returns_only_older_jobs_limited_by_page_size() throws Exception {
+        /* prepare */
+        DeleteJobTestData testData = new DeleteJobTestData();
+        testData.createAndCheckAvailable();
+
+        LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
+
+        /* execute */
+        List<UUID> all = repositoryToTest.findJobUUIDsOlderThan(olderThan, PageRequest.of(0, 10));
+        List<UUID> limited = repositoryToTest.findJobUUIDsOlderThan(olderThan, PageRequest.of(0, 2));
+
+        /* test */
+        assertEquals(3, all.size());
+        assertTrue(all.contains(testData.job1_90_days_before_created.getUUID()));
+        assertTrue(all.contains(testData.job2_2_days_before_created.getUUID()));
+        assertTrue(all.contains(testData.job3_1_day_before_created.getUUID()));
+
+        assertEquals(2, limited.size());
+        assertTrue(all.containsAll(limited));
+    }
+
+    @Test
+    void deleteJobsWithUUIDs_deletes_only_given_jobs() throws Exception {
+        /* prepare */
+        DeleteJobTestData testData = new DeleteJobTestData();
+        testData.createAndCheckAvailable();
+
+        /* execute */
+        int deleted = repositoryToTest.deleteJobsWithUUIDs(Arrays.asList(testData.job1_90_days_before_created.getUUID(), testData.job4_now_created.getUUID()));
+        repositoryToTest.flush();
+        entityManager.clear();
+
+        /* test */
+        assertEquals(2, deleted);
+        List<PDSJob> allNow = repositoryToTest.findAll();
+        assertTrue(allNow.contains(testData.job2_2_days_before_created));
+        assertTrue(allNow.contains(testData.job3_1_day_before_created));
+        assertEquals(2, allNow.size());
+    }
+
     @Test
     void test_data_4_jobs_delete_1_day_still_has_2() throws Exception {
         /* prepare */
@@ -166,7 +212,7 @@ public class PDSJobRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_1_day);
 
         /* execute */
-        int deleted = repositoryToTest.deleteJobOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -186,7 +232,7 @@ public class PDSJobRepositoryDBTest {
         LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
 
         /* execute */
-        int deleted = repositoryToTest.deleteJobOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -205,7 +251,7 @@ public class PDSJobRepositoryDBTest {
         LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
 
         /* execute */
-        int deleted = repositoryToTest.deleteJobOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -221,7 +267,7 @@ public class PDSJobRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_90_days);
 
         /* execute */
-        int deleted = repositoryToTest.deleteJobOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -243,7 +289,7 @@ public class PDSJobRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_90_days);
 
         /* execute */
-        int deleted = repositoryToTest.deleteJobOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -259,7 +305,7 @@ public class PDSJobRepositoryDBTest {
         LocalDateTime olderThan = testData.before_89_days;
 
         /* execute */
-        int deleted = repositoryToTest.deleteJobOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -493,6 +539,16 @@ public class PDSJobRepositoryDBTest {
         return job;
     }
 
+    /**
+     * Deletes like the auto cleanup does: finds the UUIDs of a chunk and deletes
+     * the jobs by these UUIDs - chunk by chunk
+     */
+    private int deleteJobsOlderThanInChunks(LocalDateTime olderThan) {
+        long deleted = new ChunkedDeleteSupport().deleteInChunks(maximumAmount -> repositoryToTest.findJobUUIDsOlderThan(olderThan, PageRequest.of(0, maximumAmount)),
+                repositoryToTest::deleteJobsWithUUIDs, TEST_CHUNK_SIZE, 0, null);
+        return Math.toIntExact(deleted);
+    }
+
     private void assertDeleted(int expected, int deleted, DeleteJobTestData testData, LocalDateTime olderThan) {
         if (deleted == expected) {
             return;
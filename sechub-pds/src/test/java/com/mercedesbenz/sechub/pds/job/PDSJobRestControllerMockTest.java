@@ -27,7 +27,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
 import com.mercedesbenz.sechub.pds.PDSProfiles;
 import com.mercedesbenz.sechub.pds.security.AbstractAllowPDSAPISecurityConfiguration;
 import com.mercedesbenz.sechub.pds.security.PDSRoleConstants;
@@ -61,6 +64,9 @@ public class PDSJobRestControllerMockTest {
     @MockBean
     private PDSGetJobStatusService mockedJobStatusService;
 
+    @MockBean
+    private PDSJobStatusWaitService mockedJobStatusWaitService;
+
     @MockBean
     private PDSGetJobResultService mockedJobResultService;
 
@@ -129,6 +135,40 @@ public class PDSJobRestControllerMockTest {
 
     }
 
+    @Test
+    public void a_wait_for_job_status_change_call_calls_wait_service_and_returns_status_as_JSON() throws Exception {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+
+        PDSJobStatus status = new PDSJobStatus();
+        status.jobUUID = jobUUID;
+        status.owner = "owner1";
+        status.state = "DONE";
+
+        DeferredResult<PDSJobStatus> deferredResult = new DeferredResult<>();
+        deferredResult.setResult(status);
+
+        when(mockedJobStatusService.getJobStatus(jobUUID)).thenReturn(status);
+        when(mockedJobStatusWaitService.waitForStatusChange(status, PDSJobStatusState.RUNNING, 1000)).thenReturn(deferredResult);
+
+        /* execute */
+        /* @formatter:off */
+        MvcResult mvcResult = this.mockMvc.perform(
+                get(https(PORT_USED).buildWaitForJobStatusChange(jobUUID, "RUNNING", 1000))
+                ).
+                    andExpect(request().asyncStarted()).
+                    andReturn();
+
+        /* test */
+        this.mockMvc.perform(asyncDispatch(mvcResult)).
+                    andExpect(status().isOk()).
+                    andExpect(content().json(status.toJSON(),true)
+                );
+
+        /* @formatter:on */
+        verify(mockedJobStatusWaitService).waitForStatusChange(status, PDSJobStatusState.RUNNING, 1000);
+    }
+
     @Test
     public void a_get_job_result_call_calls_result_service_and_returns_result_string() throws Exception {
         /* prepare */
@@ -0,0 +1,109 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.job;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
+
+class PDSJobStatusWaitServiceTest {
+
+    private PDSJobStatusWaitService serviceToTest;
+    private PDSJobRepository repository;
+    private PDSJob job;
+
+    @BeforeEach
+    void beforeEach() {
+        repository = mock(PDSJobRepository.class);
+
+        job = PDSJobTestHelper.createTestJobStartedNowCreated3SecondsBefore(UUID.randomUUID());
+        when(repository.findAllById(any())).thenReturn(Collections.singletonList(job));
+
+        serviceToTest = new PDSJobStatusWaitService();
+        serviceToTest.repository = repository;
+    }
+
+    @Test
+    void status_is_returned_immediately_when_known_state_differs_from_current_state() {
+        /* execute */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(new PDSJobStatus(job), PDSJobStatusState.READY_TO_START, 1000);
+
+        /* test */
+        assertTrue(result.hasResult());
+        assertEquals(0, serviceToTest.getAmountOfWaitingJobs());
+    }
+
+    @Test
+    void status_is_returned_immediately_when_job_has_end_state() {
+        /* prepare */
+        job.state = PDSJobStatusState.DONE;
+
+        /* execute */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(new PDSJobStatus(job), null, 1000);
+
+        /* test */
+        assertTrue(result.hasResult());
+    }
+
+    @Test
+    void status_is_returned_immediately_when_no_wait_time_defined() {
+        /* execute */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(new PDSJobStatus(job), PDSJobStatusState.RUNNING, 0);
+
+        /* test */
+        assertTrue(result.hasResult());
+    }
+
+    @Test
+    void waiting_status_request_is_completed_when_check_finds_state_change() {
+        /* prepare */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(new PDSJobStatus(job), PDSJobStatusState.RUNNING, 1000);
+        assertFalse(result.hasResult());
+        assertEquals(1, serviceToTest.getAmountOfWaitingJobs());
+
+        job.state = PDSJobStatusState.DONE;
+
+        /* execute */
+        serviceToTest.checkWaiters();
+
+        /* test */
+        assertTrue(result.hasResult());
+        PDSJobStatus status = (PDSJobStatus) result.getResult();
+        assertEquals("DONE", status.state);
+        assertEquals(0, serviceToTest.getAmountOfWaitingJobs());
+    }
+
+    @Test
+    void waiting_status_request_is_not_completed_when_check_finds_same_state() {
+        /* prepare */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(new PDSJobStatus(job), PDSJobStatusState.RUNNING, 1000);
+
+        /* execute */
+        serviceToTest.checkWaiters();
+
+        /* test */
+        assertFalse(result.hasResult());
+        assertEquals(1, serviceToTest.getAmountOfWaitingJobs());
+    }
+
+    @Test
+    void wait_time_is_reduced_to_configured_maximum() {
+        /* prepare */
+        serviceToTest.maxWaitMilliseconds = 0;
+
+        /* execute */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(new PDSJobStatus(job), PDSJobStatusState.RUNNING, 1000);
+
+        /* test */
+        assertTrue(result.hasResult());
+        verify(repository, never()).findAllById(any());
+    }
+}
@@ -10,7 +10,11 @@ import static org.mockito.Mockito.*;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -18,12 +22,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.mercedesbenz.sechub.commons.archive.ArchiveExtractionResult;
+import com.mercedesbenz.sechub.commons.archive.ArchiveSupport;
 import com.mercedesbenz.sechub.commons.pds.PDSDefaultParameterKeyConstants;
 import com.mercedesbenz.sechub.pds.commons.core.config.PDSProductSetup;
 import com.mercedesbenz.sechub.pds.config.PDSServerConfigurationService;
 import com.mercedesbenz.sechub.pds.execution.PDSExecutionParameterEntry;
 import com.mercedesbenz.sechub.pds.storage.PDSMultiStorageService;
 import com.mercedesbenz.sechub.pds.storage.PDSStorageInfoCollector;
+import com.mercedesbenz.sechub.pds.util.PDSArchiveSupportProvider;
 import com.mercedesbenz.sechub.storage.core.JobStorage;
 import com.mercedesbenz.sechub.test.TestFileReader;
 import com.mercedesbenz.sechub.test.TestUtil;
@@ -209,6 +216,68 @@ class PDSWorkspaceServiceTest {
         verify(storageService).getJobStorage("xyz/abc/project1", config.getSechubJobUUID());
     }
 
+    @Test
+    void wanted_storage_content_is_fetched_directly_into_upload_folder() throws Exception {
+        /* prepare */
+        when(preparationContext.isSourceAccepted()).thenReturn(true);
+        when(storage.listNames()).thenReturn(Collections.singleton(SOURCECODE_ZIP));
+
+        /* execute */
+        serviceToTest.prepare(jobUUID, config, null);
+
+        /* test */
+        File expectedFile = new File(serviceToTest.getUploadFolder(jobUUID), SOURCECODE_ZIP);
+        verify(storage).fetchToFile(SOURCECODE_ZIP, expectedFile.toPath());
+        verify(storage, never()).fetch(any());
+    }
+
+    @Test
+    void storage_content_available_in_local_file_system_is_hard_linked_into_upload_folder_when_enabled() throws Exception {
+        /* prepare */
+        Path storageFile = TestUtil.createTempFileInBuildFolder("pds_ws_storage_test", "zip");
+        Files.writeString(storageFile, "content");
+
+        serviceToTest.storageHardLinkEnabled = true;
+        when(preparationContext.isSourceAccepted()).thenReturn(true);
+        when(storage.listNames()).thenReturn(Collections.singleton(SOURCECODE_ZIP));
+        when(storage.getLocalPathOrNull(SOURCECODE_ZIP)).thenReturn(storageFile);
+
+        List<Boolean> extractedFileIsStorageFile = new ArrayList<>();
+        ArchiveSupport archiveSupport = mock(ArchiveSupport.class);
+        when(archiveSupport.extract(any(), any(File.class), any(), any())).thenAnswer(invocation -> {
+            File archiveFile = invocation.getArgument(1);
+            extractedFileIsStorageFile.add(Files.isSameFile(archiveFile.toPath(), storageFile));
+            return new ArchiveExtractionResult();
+        });
+        PDSArchiveSupportProvider archiveSupportProvider = mock(PDSArchiveSupportProvider.class);
+        when(archiveSupportProvider.getArchiveSupport()).thenReturn(archiveSupport);
+        serviceToTest.archiveSupportProvider = archiveSupportProvider;
+
+        /* execute */
+        serviceToTest.prepare(jobUUID, config, null);
+
+        /* test */
+        verify(storage, never()).fetchToFile(any(), any());
+        assertEquals(List.of(true), extractedFileIsStorageFile);
+        assertTrue(Files.exists(storageFile)); // deleting the link after extraction does not delete the storage file
+    }
+
+    @Test
+    void storage_content_available_in_local_file_system_is_fetched_when_hard_link_not_enabled() throws Exception {
+        /* prepare */
+        Path storageFile = TestUtil.createTempFileInBuildFolder("pds_ws_storage_test", "zip");
+
+        when(preparationContext.isSourceAccepted()).thenReturn(true);
+        when(storage.listNames()).thenReturn(Collections.singleton(SOURCECODE_ZIP));
+        when(storage.getLocalPathOrNull(SOURCECODE_ZIP)).thenReturn(storageFile);
+
+        /* execute */
+        serviceToTest.prepare(jobUUID, config, null);
+
+        /* test */
+        verify(storage).fetchToFile(eq(SOURCECODE_ZIP), any());
+    }
+
     private PDSExecutionParameterEntry createEntry(String key, String value) {
         PDSExecutionParameterEntry entry = new PDSExecutionParameterEntry();
         entry.setKey(key);
@@ -18,6 +18,7 @@ import com.mercedesbenz.sechub.commons.model.SecHubRuntimeException;
 import com.mercedesbenz.sechub.domain.scan.DefaultAdapterConfigurationStrategy;
 import com.mercedesbenz.sechub.domain.scan.SecHubExecutionContext;
 import com.mercedesbenz.sechub.domain.scan.product.ProductExecutorData;
+import com.mercedesbenz.sechub.sharedkernel.jpa.TextCompressionSupport;
 
 /**
  * This strategy will configure
@@ -173,6 +174,13 @@ public class PDSAdapterConfigurationStrategy implements AdapterConfigurationStra
 
         pdsConfigurable.setResilienceMaxRetries(configSupport.getPDSAdapterResilienceMaxRetries());
         pdsConfigurable.setResilienceTimeToWaitBeforeRetryInMilliseconds(configSupport.getPDSAdapterResilienceRetryWaitInMilliseconds());
+        pdsConfigurable.setResultMaxInMemoryBytes(configSupport.getPDSAdapterResultMaxInMemoryBytes());
+        /*
+         * a result file only saves heap when the product executor can compress it
+         * directly from the file - without compression the result is read completely
+         * into memory, so we avoid the temporary file
+         */
+        pdsConfigurable.setResultStreamingToFileEnabled(TextCompressionSupport.get().isCompressionEnabled());
 
         handleSourceCodeChecksum(pdsConfigurable);
         handleSourceCodeFileSize(pdsConfigurable);
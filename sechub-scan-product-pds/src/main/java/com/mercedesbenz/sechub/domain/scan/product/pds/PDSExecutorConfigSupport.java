@@ -279,6 +279,10 @@ public class PDSExecutorConfigSupport extends DefaultExecutorConfigSupport imple
         return getParameterLongValue(PDSProductExecutorKeyConstants.ADAPTER_RESILIENCE_RETRY_WAIT_MILLISECONDS);
     }
 
+    public long getPDSAdapterResultMaxInMemoryBytes() {
+        return getParameterLongValue(PDSProductExecutorKeyConstants.ADAPTER_RESULT_MAX_INMEMORY_BYTES);
+    }
+
     public boolean isGivenStorageSupportedByPDSProduct(PDSStorageContentProvider contentProvider) {
         String supportedDataTypes = getDataTypesSupportedByPDSAsString();
         if (SimpleStringUtils.isEmpty(supportedDataTypes)) {
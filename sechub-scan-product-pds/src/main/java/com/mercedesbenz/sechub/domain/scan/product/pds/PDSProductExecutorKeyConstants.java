@@ -15,6 +15,8 @@ public class PDSProductExecutorKeyConstants {
 
     public static final String ADAPTER_RESILIENCE_RETRY_WAIT_MILLISECONDS = SECHUB_PRODUCT_EXECUTOR_PDS_PREFIX + "adapter.resilience.retry.wait.milliseconds";
 
+    public static final String ADAPTER_RESULT_MAX_INMEMORY_BYTES = SECHUB_PRODUCT_EXECUTOR_PDS_PREFIX + "adapter.result.max.inmemory.bytes";
+
     public static final String FORBIDDEN_TARGET_TYPE_PREFIX = SECHUB_PRODUCT_EXECUTOR_PDS_PREFIX + "forbidden.targettype.";
 
 }
@@ -4,6 +4,7 @@ package com.mercedesbenz.sechub.domain.scan.product.pds;
 import static com.mercedesbenz.sechub.sharedkernel.util.Assert.*;
 
 import com.mercedesbenz.sechub.adapter.pds.PDSAdapterResilienceConsultant;
+import com.mercedesbenz.sechub.adapter.pds.PDSResultDownloadSupport;
 import com.mercedesbenz.sechub.commons.pds.PDSKeyProvider;
 import com.mercedesbenz.sechub.domain.scan.NetworkTargetType;
 
@@ -37,6 +38,10 @@ public enum SecHubProductExecutionPDSKeyProvider implements PDSKeyProvider<SecHu
             "Amount of milliseconds the PDS adapter shall wait before doing a next retry to handle resilience. When not defined or smaller than 1 the default will be: "
                     + PDSAdapterResilienceConsultant.DEFAULT_RETRY_TIME_TO_WAIT_IN_MILLISECONDS)),
 
+    ADAPTER_RESULT_MAX_INMEMORY_BYTES(new AdapterSetupPDSKey(PDSProductExecutorKeyConstants.ADAPTER_RESULT_MAX_INMEMORY_BYTES,
+            "Maximum size in bytes of a PDS job result which is downloaded into memory. Bigger results (or results with unknown size) are streamed into a temporary file - but only when product result compression is enabled, otherwise results are always downloaded into memory. When not defined or smaller than 1 the default will be: "
+                    + PDSResultDownloadSupport.DEFAULT_RESULT_MAX_INMEMORY_BYTES)),
+
     ;
 
     private SecHubProductExecutionPDSKey key;
@@ -0,0 +1,244 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.product.sereco;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mercedesbenz.sechub.commons.model.ScanType;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveCodeMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveCodePartMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveEntry;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveWebMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveWebRequestMetaData;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoClassification;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoCodeCallStackElement;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoWeb;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoWebRequest;
+
+/**
+ * Compiled, read only index for false positive entries of one project. Entries
+ * are hashed by scan type, CWE id and location (code start location for code
+ * and secret scans, request target and method for web scans). So only a very
+ * small amount of candidates must be inspected for a vulnerability instead of
+ * all configured entries.<br>
+ * <br>
+ * The index does only preselect candidates - the final decision is still done
+ * by {@link SerecoFalsePositiveFinder}. Entries which cannot be hashed (e.g.
+ * because of missing meta data) are always handed out as candidates for their
+ * scan type, so the result is the same as when inspecting all entries.
+ */
+class SerecoFalsePositiveIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SerecoFalsePositiveIndex.class);
+
+    private Map<IndexKey, List<IndexedEntry>> hashedEntries = new HashMap<>();
+    private Map<ScanType, List<IndexedEntry>> notHashableEntries = new EnumMap<>(ScanType.class);
+    private int size;
+
+    SerecoFalsePositiveIndex(List<FalsePositiveEntry> entries) {
+        if (entries == null) {
+            return;
+        }
+        int position = 0;
+        for (FalsePositiveEntry entry : entries) {
+            add(new IndexedEntry(position++, entry));
+        }
+    }
+
+    /**
+     * @return amount of indexed entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Resolves candidates for given vulnerability
+     *
+     * @param vulnerability
+     * @return list of candidates, ordered as inside origin configuration, never
+     *         <code>null</code>
+     */
+    List<FalsePositiveEntry> getCandidates(SerecoVulnerability vulnerability) {
+        ScanType scanType = vulnerability.getScanType();
+        if (scanType == null) {
+            return Collections.emptyList();
+        }
+        List<IndexedEntry> notHashable = notHashableEntries.getOrDefault(scanType, Collections.emptyList());
+
+        IndexKey key = createKey(vulnerability);
+        List<IndexedEntry> hashed = key == null ? Collections.emptyList() : hashedEntries.getOrDefault(key, Collections.emptyList());
+
+        return merge(hashed, notHashable);
+    }
+
+    private void add(IndexedEntry indexedEntry) {
+        FalsePositiveMetaData metaData = indexedEntry.entry.getMetaData();
+        if (metaData == null) {
+            LOG.warn("False positive entry without meta data found - will be ignored");
+            return;
+        }
+        ScanType scanType = metaData.getScanType();
+        if (scanType == null) {
+            return;
+        }
+        switch (scanType) {
+        case CODE_SCAN:
+        case SECRET_SCAN:
+        case WEB_SCAN:
+            break;
+        default:
+            LOG.error("Cannot handle scan type {} - not implemented!", scanType);
+            return;
+        }
+        IndexKey key = createKey(metaData);
+        if (key == null) {
+            notHashableEntries.computeIfAbsent(scanType, type -> new ArrayList<>()).add(indexedEntry);
+        } else {
+            hashedEntries.computeIfAbsent(key, k -> new ArrayList<>()).add(indexedEntry);
+        }
+        size++;
+    }
+
+    private IndexKey createKey(FalsePositiveMetaData metaData) {
+        ScanType scanType = metaData.getScanType();
+        Integer cweId = metaData.getCweId();
+
+        if (scanType == ScanType.WEB_SCAN) {
+            FalsePositiveWebMetaData web = metaData.getWeb();
+            if (web == null) {
+                return null;
+            }
+            FalsePositiveWebRequestMetaData request = web.getRequest();
+            if (request == null) {
+                return null;
+            }
+            return new IndexKey(scanType, cweId, trimmed(request.getTarget()), trimmed(request.getMethod()));
+        }
+        FalsePositiveCodeMetaData code = metaData.getCode();
+        if (code == null) {
+            return null;
+        }
+        FalsePositiveCodePartMetaData start = code.getStart();
+        if (start == null || start.getLocation() == null) {
+            return null;
+        }
+        return new IndexKey(scanType, cweId, start.getLocation(), null);
+    }
+
+    private IndexKey createKey(SerecoVulnerability vulnerability) {
+        ScanType scanType = vulnerability.getScanType();
+
+        Integer cweId = null;
+        SerecoClassification classification = vulnerability.getClassification();
+        String cwe = classification == null ? null : classification.getCwe();
+        if (cwe != null && !cwe.isEmpty()) {
+            try {
+                cweId = Integer.valueOf(cwe);
+            } catch (NumberFormatException e) {
+                /* cannot match any hashed entry - finder will handle this */
+                return null;
+            }
+        }
+        if (scanType == ScanType.WEB_SCAN) {
+            SerecoWeb web = vulnerability.getWeb();
+            if (web == null) {
+                return null;
+            }
+            SerecoWebRequest request = web.getRequest();
+            if (request == null) {
+                return null;
+            }
+            return new IndexKey(scanType, cweId, trimmed(request.getTarget()), trimmed(request.getMethod()));
+        }
+        SerecoCodeCallStackElement code = vulnerability.getCode();
+        if (code == null || code.getLocation() == null) {
+            return null;
+        }
+        return new IndexKey(scanType, cweId, code.getLocation(), null);
+    }
+
+    private List<FalsePositiveEntry> merge(List<IndexedEntry> list1, List<IndexedEntry> list2) {
+        if (list1.isEmpty() && list2.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<FalsePositiveEntry> result = new ArrayList<>(list1.size() + list2.size());
+        int index1 = 0;
+        int index2 = 0;
+        /* both lists are already ordered by position - keep origin order */
+        while (index1 < list1.size() || index2 < list2.size()) {
+            if (index2 >= list2.size() || (index1 < list1.size() && list1.get(index1).position < list2.get(index2).position)) {
+                result.add(list1.get(index1++).entry);
+            } else {
+                result.add(list2.get(index2++).entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Same semantic as done by
+     * {@link com.mercedesbenz.sechub.commons.core.util.SimpleStringUtils#isTrimmedEqual(String, String)}
+     * - <code>null</code> is handled like an empty string
+     */
+    private static String trimmed(String string) {
+        if (string == null) {
+            return "";
+        }
+        return string.trim();
+    }
+
+    private static class IndexedEntry {
+        private final int position;
+        private final FalsePositiveEntry entry;
+
+        private IndexedEntry(int position, FalsePositiveEntry entry) {
+            this.position = position;
+            this.entry = entry;
+        }
+    }
+
+    private static class IndexKey {
+        private final ScanType scanType;
+        private final Integer cweId;
+        private final String location;
+        private final String method;
+        private final int hashCode;
+
+        private IndexKey(ScanType scanType, Integer cweId, String location, String method) {
+            this.scanType = scanType;
+            this.cweId = cweId;
+            this.location = location;
+            this.method = method;
+            this.hashCode = Objects.hash(scanType, cweId, location, method);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof IndexKey)) {
+                return false;
+            }
+            IndexKey other = (IndexKey) obj;
+            return scanType == other.scanType && Objects.equals(cweId, other.cweId) && Objects.equals(location, other.location)
+                    && Objects.equals(method, other.method);
+        }
+    }
+}
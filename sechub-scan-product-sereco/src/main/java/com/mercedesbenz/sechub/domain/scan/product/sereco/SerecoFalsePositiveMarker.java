@@ -3,11 +3,15 @@ package com.mercedesbenz.sechub.domain.scan.product.sereco;
 
 import static com.mercedesbenz.sechub.sharedkernel.util.Assert.*;
 
-import java.util.List;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.mercedesbenz.sechub.commons.model.ScanType;
@@ -19,11 +23,16 @@ import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfig;
 import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfigID;
 import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfigService;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
 
 /**
  * Marks given vulnerabilities as false positives, if identifiable by false
  * positive configuration data for the project. will only mark and add hints
- * about reason
+ * about reason.<br>
+ * <br>
+ * The false positive configuration of a project is compiled to a
+ * {@link SerecoFalsePositiveIndex} which is cached until the project
+ * configuration version changes.
  *
  * @author Albert Tregnaghi
  *
@@ -33,38 +42,62 @@ public class SerecoFalsePositiveMarker {
 
     private static final Logger LOG = LoggerFactory.getLogger(SerecoFalsePositiveMarker.class);
 
+    private static final int DEFAULT_INDEX_CACHE_MAXIMUM = 100;
+
     @Autowired
     SerecoFalsePositiveFinder falsePositiveFinder;
 
     @Autowired
     ScanProjectConfigService scanProjectConfigService;
 
-    public void markFalsePositives(String projectId, List<SerecoVulnerability> all) {
-        notEmpty(projectId, "project id may not be null or empty!");
+    @Value("${sechub.sereco.falsepositive.index.cache.maximum:" + DEFAULT_INDEX_CACHE_MAXIMUM + "}")
+    @MustBeDocumented(scope = "administration", value = "Maximum amount of projects having their compiled false positive index cached")
+    int indexCacheMaximum = DEFAULT_INDEX_CACHE_MAXIMUM;
 
-        if (all == null || all.isEmpty()) {
-            /* no vulnerabilities found */
-            return;
+    private Map<String, CachedIndex> indexCache = Collections.synchronizedMap(new LinkedHashMap<String, CachedIndex>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedIndex> eldest) {
+            return size() > indexCacheMaximum;
         }
+    });
+
+    /**
+     * Resolves false positive index for given project
+     *
+     * @param projectId
+     * @return index or <code>null</code> when no false positives are defined for
+     *         the project
+     */
+    SerecoFalsePositiveIndex resolveIndex(String projectId) {
+        notEmpty(projectId, "project id may not be null or empty!");
+
         ScanProjectConfig config = scanProjectConfigService.get(projectId, ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION, false);
         if (config == null) {
             /* nothing configured */
-            return;
+            indexCache.remove(projectId);
+            return null;
         }
-
-        String data = config.getData();
-        FalsePositiveProjectConfiguration falsePositiveConfig = FalsePositiveProjectConfiguration.fromJSONString(data);
-        List<FalsePositiveEntry> falsePositives = falsePositiveConfig.getFalsePositives();
-
-        for (SerecoVulnerability vulnerability : all) {
-
-            handleVulnereability(falsePositives, vulnerability);
+        SerecoFalsePositiveIndex index = resolveIndex(projectId, config);
+        if (index.size() == 0) {
+            return null;
         }
-
+        return index;
     }
 
-    private void handleVulnereability(List<FalsePositiveEntry> falsePositives, SerecoVulnerability vulnerability) {
-        for (FalsePositiveEntry entry : falsePositives) {
+    /**
+     * Marks given vulnerability as false positive when identified by given index
+     *
+     * @param index         index to use, when <code>null</code> nothing happens
+     * @param vulnerability
+     */
+    void markFalsePositive(SerecoFalsePositiveIndex index, SerecoVulnerability vulnerability) {
+        if (index == null || vulnerability == null) {
+            return;
+        }
+        for (FalsePositiveEntry entry : index.getCandidates(vulnerability)) {
             if (isFalsePositive(vulnerability, entry)) {
                 vulnerability.setFalsePositive(true);
                 FalsePositiveJobData jobData = entry.getJobData();
@@ -74,6 +107,27 @@ public class SerecoFalsePositiveMarker {
         }
     }
 
+    SerecoFalsePositiveIndex resolveIndex(String projectId, ScanProjectConfig config) {
+        Integer version = config.getVersion();
+        String data = config.getData();
+
+        CachedIndex cached = indexCache.get(projectId);
+        if (cached != null && cached.isValidFor(version, data)) {
+            return cached.index;
+        }
+        FalsePositiveProjectConfiguration falsePositiveConfig = FalsePositiveProjectConfiguration.fromJSONString(data);
+        SerecoFalsePositiveIndex index = new SerecoFalsePositiveIndex(falsePositiveConfig.getFalsePositives());
+
+        if (version == null) {
+            /* not persisted, so we cannot track changes - do not cache */
+            indexCache.remove(projectId);
+        } else {
+            LOG.debug("Compiled false positive index for project {} with {} entries, config version {}", projectId, index.size(), version);
+            indexCache.put(projectId, new CachedIndex(version, data, index));
+        }
+        return index;
+    }
+
     private boolean isFalsePositive(SerecoVulnerability vulnerability, FalsePositiveEntry entry) {
         FalsePositiveMetaData metaData = entry.getMetaData();
         ScanType scanType = metaData.getScanType();
@@ -96,4 +150,25 @@ public class SerecoFalsePositiveMarker {
         }
     }
 
+    private static class CachedIndex {
+        private final Integer version;
+        private final String data;
+        private final SerecoFalsePositiveIndex index;
+
+        private CachedIndex(Integer version, String data, SerecoFalsePositiveIndex index) {
+            this.version = version;
+            this.data = data;
+            this.index = index;
+        }
+
+        /*
+         * version is checked first because it is cheap. Data is compared as well,
+         * because a deleted and recreated configuration starts with same version
+         * again.
+         */
+        private boolean isValidFor(Integer version, String data) {
+            return Objects.equals(this.version, version) && Objects.equals(this.data, data);
+        }
+    }
+
 }
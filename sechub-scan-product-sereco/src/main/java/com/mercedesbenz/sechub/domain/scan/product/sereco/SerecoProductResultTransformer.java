@@ -1,10 +1,14 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan.product.sereco;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +16,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.mercedesbenz.sechub.commons.model.JSONConverter;
 import com.mercedesbenz.sechub.commons.model.ScanType;
 import com.mercedesbenz.sechub.commons.model.SecHubCodeCallStack;
 import com.mercedesbenz.sechub.commons.model.SecHubFinding;
@@ -36,6 +39,7 @@ import com.mercedesbenz.sechub.sereco.metadata.SerecoAnnotationType;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoClassification;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoCodeCallStackElement;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoMetaData;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoMetaDataStreamReader;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoWeb;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoWebAttack;
@@ -56,6 +60,8 @@ public class SerecoProductResultTransformer implements ReportProductResultTransf
     @MustBeDocumented(scope = "administration", value = "Administrators can turn on this mode to allow product links in json and HTML output")
     boolean showProductLineResultLink;
 
+    SerecoMetaDataStreamReader metaDataReader = new SerecoMetaDataStreamReader();
+
     private static final Logger LOG = LoggerFactory.getLogger(SerecoProductResultTransformer.class);
 
     @Override
@@ -64,29 +70,70 @@ public class SerecoProductResultTransformer implements ReportProductResultTransf
         String projectId = serecoProductResult.getProjectId();
         UUID sechubJobUUID = serecoProductResult.getSecHubJobUUID();
 
-        SerecoMetaData data = JSONConverter.get().fromJSON(SerecoMetaData.class, origin);
-
-        falsePositiveMarker.markFalsePositives(projectId, data.getVulnerabilities());
-
         ReportTransformationResult transformerResult = new ReportTransformationResult();
         transformerResult.setReportVersion(SecHubReportVersion.VERSION_1_0.getVersionAsString());
         transformerResult.setJobUUID(sechubJobUUID);
 
         List<SecHubFinding> findings = transformerResult.getResult().getFindings();
 
-        int findingId = 0;
-        for (SerecoVulnerability vulnerability : data.getVulnerabilities()) {
+        /*
+         * we read the vulnerabilities in a streaming way: every vulnerability is marked
+         * and transformed directly, so we never have the complete sereco meta data and
+         * the findings as objects in memory at the same time
+         */
+        SerecoFalsePositiveIndex falsePositiveIndex = falsePositiveMarker.resolveIndex(projectId);
+        FindingCollector collector = new FindingCollector(serecoProductResult, falsePositiveIndex, findings);
+
+        SerecoMetaData data;
+        try (Reader reader = new StringReader(origin == null ? "" : origin)) {
+            data = metaDataReader.read(reader, collector);
+        } catch (IOException e) {
+            throw new SecHubExecutionException("Was not able to read sereco meta data for job: " + sechubJobUUID, e);
+        }
+
+        // we sort the findings
+        Collections.sort(findings);
+
+        handleAnnotations(sechubJobUUID, data, transformerResult);
+
+        /* when status is not set already, no failure has appeared and we mark as OK */
+        if (transformerResult.getStatus() == null) {
+            transformerResult.setStatus(SecHubStatus.SUCCESS);
+        }
+
+        return transformerResult;
+    }
+
+    private class FindingCollector implements Consumer<SerecoVulnerability> {
+
+        private ProductResult serecoProductResult;
+        private SerecoFalsePositiveIndex falsePositiveIndex;
+        private List<SecHubFinding> findings;
+        private int findingId;
+
+        private FindingCollector(ProductResult serecoProductResult, SerecoFalsePositiveIndex falsePositiveIndex, List<SecHubFinding> findings) {
+            this.serecoProductResult = serecoProductResult;
+            this.falsePositiveIndex = falsePositiveIndex;
+            this.findings = findings;
+        }
+
+        @Override
+        public void accept(SerecoVulnerability vulnerability) {
             findingId++;
+            falsePositiveMarker.markFalsePositive(falsePositiveIndex, vulnerability);
+
             if (vulnerability.isFalsePositive()) {
                 /*
                  * we do not add false positives to report - so we store only real positives.
                  * False positive data is still available in SeReCo results and so in admin scan
                  * logs,
                  */
-                continue;
+                return;
             }
+            UUID sechubJobUUID = serecoProductResult.getSecHubJobUUID();
+
             SecHubFinding finding = new SecHubFinding();
-            handleClassifications(finding, vulnerability, serecoProductResult.getSecHubJobUUID());
+            handleClassifications(finding, vulnerability, sechubJobUUID);
 
             finding.setDescription(vulnerability.getDescription());
             finding.setName(vulnerability.getType());
@@ -124,18 +171,6 @@ public class SerecoProductResultTransformer implements ReportProductResultTransf
 
             findings.add(finding);
         }
-
-        // we sort the findings
-        Collections.sort(findings);
-
-        handleAnnotations(sechubJobUUID, data, transformerResult);
-
-        /* when status is not set already, no failure has appeared and we mark as OK */
-        if (transformerResult.getStatus() == null) {
-            transformerResult.setStatus(SecHubStatus.SUCCESS);
-        }
-
-        return transformerResult;
     }
 
     private void appendWebData(UUID sechubJobUUID, SerecoVulnerability vulnerability, SecHubFinding finding) {
@@ -0,0 +1,173 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.product.sereco;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.commons.model.ScanType;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveCodeMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveCodePartMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveEntry;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveWebMetaData;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoCodeCallStackElement;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoWeb;
+
+class SerecoFalsePositiveIndexTest {
+
+    private List<FalsePositiveEntry> entries;
+
+    @BeforeEach
+    void beforeEach() {
+        entries = new ArrayList<>();
+    }
+
+    @Test
+    void code_scan_vulnerability_gets_only_entry_with_same_cwe_and_start_location_as_candidate() {
+        /* prepare */
+        FalsePositiveEntry entry1 = addCodeEntry(ScanType.CODE_SCAN, 79, "location1");
+        addCodeEntry(ScanType.CODE_SCAN, 79, "location2");
+        addCodeEntry(ScanType.CODE_SCAN, 89, "location1");
+        addCodeEntry(ScanType.SECRET_SCAN, 79, "location1");
+
+        SerecoVulnerability vulnerability = createCodeVulnerability(ScanType.CODE_SCAN, "79", "location1");
+
+        /* execute */
+        List<FalsePositiveEntry> result = new SerecoFalsePositiveIndex(entries).getCandidates(vulnerability);
+
+        /* test */
+        assertEquals(List.of(entry1), result);
+    }
+
+    @Test
+    void code_scan_vulnerability_without_cwe_gets_only_entry_without_cwe_as_candidate() {
+        /* prepare */
+        addCodeEntry(ScanType.CODE_SCAN, 79, "location1");
+        FalsePositiveEntry entry2 = addCodeEntry(ScanType.CODE_SCAN, null, "location1");
+
+        SerecoVulnerability vulnerability = createCodeVulnerability(ScanType.CODE_SCAN, null, "location1");
+
+        /* execute */
+        List<FalsePositiveEntry> result = new SerecoFalsePositiveIndex(entries).getCandidates(vulnerability);
+
+        /* test */
+        assertEquals(List.of(entry2), result);
+    }
+
+    @Test
+    void web_scan_vulnerability_gets_only_entry_with_same_trimmed_target_and_method_as_candidate() {
+        /* prepare */
+        FalsePositiveEntry entry1 = addWebEntry(79, " https://example.org/a ", "GET");
+        addWebEntry(79, "https://example.org/a", "POST");
+        addWebEntry(79, "https://example.org/b", "GET");
+
+        SerecoVulnerability vulnerability = createWebVulnerability("79", "https://example.org/a", " GET ");
+
+        /* execute */
+        List<FalsePositiveEntry> result = new SerecoFalsePositiveIndex(entries).getCandidates(vulnerability);
+
+        /* test */
+        assertEquals(List.of(entry1), result);
+    }
+
+    @Test
+    void entries_without_hashable_meta_data_are_candidates_for_same_scan_type_and_origin_order_is_kept() {
+        /* prepare */
+        FalsePositiveEntry entry1 = addEntry(ScanType.CODE_SCAN, 79);
+        FalsePositiveEntry entry2 = addCodeEntry(ScanType.CODE_SCAN, 79, "location1");
+        FalsePositiveEntry entry3 = addEntry(ScanType.CODE_SCAN, null);
+        addEntry(ScanType.WEB_SCAN, null);
+
+        SerecoVulnerability vulnerability = createCodeVulnerability(ScanType.CODE_SCAN, "79", "location1");
+
+        /* execute */
+        List<FalsePositiveEntry> result = new SerecoFalsePositiveIndex(entries).getCandidates(vulnerability);
+
+        /* test */
+        assertEquals(List.of(entry1, entry2, entry3), result);
+    }
+
+    @Test
+    void vulnerability_with_invalid_cwe_gets_only_not_hashable_entries_as_candidates() {
+        /* prepare */
+        addCodeEntry(ScanType.CODE_SCAN, 79, "location1");
+        FalsePositiveEntry entry2 = addEntry(ScanType.CODE_SCAN, 79);
+
+        SerecoVulnerability vulnerability = createCodeVulnerability(ScanType.CODE_SCAN, "no-number", "location1");
+
+        /* execute */
+        List<FalsePositiveEntry> result = new SerecoFalsePositiveIndex(entries).getCandidates(vulnerability);
+
+        /* test */
+        assertEquals(List.of(entry2), result);
+    }
+
+    @Test
+    void unsupported_scan_types_are_not_indexed() {
+        /* prepare */
+        addEntry(ScanType.INFRA_SCAN, 79);
+        addCodeEntry(ScanType.CODE_SCAN, 79, "location1");
+
+        /* execute */
+        SerecoFalsePositiveIndex indexToTest = new SerecoFalsePositiveIndex(entries);
+
+        /* test */
+        assertEquals(1, indexToTest.size());
+    }
+
+    private FalsePositiveEntry addEntry(ScanType scanType, Integer cweId) {
+        FalsePositiveEntry entry = new FalsePositiveEntry();
+        FalsePositiveMetaData metaData = new FalsePositiveMetaData();
+        metaData.setScanType(scanType);
+        metaData.setCweId(cweId);
+        entry.setMetaData(metaData);
+        entries.add(entry);
+        return entry;
+    }
+
+    private FalsePositiveEntry addCodeEntry(ScanType scanType, Integer cweId, String location) {
+        FalsePositiveEntry entry = addEntry(scanType, cweId);
+        FalsePositiveCodeMetaData code = new FalsePositiveCodeMetaData();
+        FalsePositiveCodePartMetaData start = new FalsePositiveCodePartMetaData();
+        start.setLocation(location);
+        code.setStart(start);
+        entry.getMetaData().setCode(code);
+        return entry;
+    }
+
+    private FalsePositiveEntry addWebEntry(Integer cweId, String target, String method) {
+        FalsePositiveEntry entry = addEntry(ScanType.WEB_SCAN, cweId);
+        FalsePositiveWebMetaData web = new FalsePositiveWebMetaData();
+        web.getRequest().setTarget(target);
+        web.getRequest().setMethod(method);
+        entry.getMetaData().setWeb(web);
+        return entry;
+    }
+
+    private SerecoVulnerability createCodeVulnerability(ScanType scanType, String cwe, String location) {
+        SerecoVulnerability vulnerability = new SerecoVulnerability();
+        vulnerability.setScanType(scanType);
+        vulnerability.getClassification().setCwe(cwe);
+        SerecoCodeCallStackElement code = new SerecoCodeCallStackElement();
+        code.setLocation(location);
+        vulnerability.setCode(code);
+        return vulnerability;
+    }
+
+    private SerecoVulnerability createWebVulnerability(String cwe, String target, String method) {
+        SerecoVulnerability vulnerability = new SerecoVulnerability();
+        vulnerability.setScanType(ScanType.WEB_SCAN);
+        vulnerability.getClassification().setCwe(cwe);
+        SerecoWeb web = new SerecoWeb();
+        web.getRequest().setTarget(target);
+        web.getRequest().setMethod(method);
+        vulnerability.setWeb(web);
+        return vulnerability;
+    }
+}
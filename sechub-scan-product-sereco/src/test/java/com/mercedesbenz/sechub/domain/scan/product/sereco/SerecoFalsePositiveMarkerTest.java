@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan.product.sereco;
 
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
@@ -53,7 +54,7 @@ public class SerecoFalsePositiveMarkerTest {
         SerecoVulnerability v1 = addVulnerability(all, ScanType.WEB_SCAN);
 
         /* execute */
-        markerToTest.markFalsePositives(PROJECT_ID, all);
+        markFalsePositives(all);
 
         /* test */
         verify(falsePositiveFinder).isFound(v1, metaData);
@@ -70,7 +71,7 @@ public class SerecoFalsePositiveMarkerTest {
         SerecoVulnerability v1 = addVulnerability(all, ScanType.WEB_SCAN);
 
         /* execute */
-        markerToTest.markFalsePositives(PROJECT_ID, all);
+        markFalsePositives(all);
 
         /* test */
         verify(falsePositiveFinder, never()).isFound(v1, metaData);
@@ -87,7 +88,7 @@ public class SerecoFalsePositiveMarkerTest {
         SerecoVulnerability v1 = addVulnerability(all, ScanType.CODE_SCAN);
 
         /* execute */
-        markerToTest.markFalsePositives(PROJECT_ID, all);
+        markFalsePositives(all);
 
         /* test */
         verify(falsePositiveFinder).isFound(v1, metaData);
@@ -104,12 +105,83 @@ public class SerecoFalsePositiveMarkerTest {
         SerecoVulnerability v1 = addVulnerability(all, ScanType.CODE_SCAN);
 
         /* execute */
-        markerToTest.markFalsePositives(PROJECT_ID, all);
+        markFalsePositives(all);
 
         /* test */
         verify(falsePositiveFinder, never()).isFound(v1, metaData);
     }
 
+    @Test
+    public void compiled_index_is_reused_while_project_config_version_is_unchanged() {
+
+        /* prepare */
+        addEntryAndReturnMetaData(projectConfig, ScanType.CODE_SCAN);
+        ScanProjectConfig versionedConfig = mockVersionedConfig(1, projectConfig.toJSON());
+
+        /* execute */
+        SerecoFalsePositiveIndex index1 = markerToTest.resolveIndex(PROJECT_ID, versionedConfig);
+        SerecoFalsePositiveIndex index2 = markerToTest.resolveIndex(PROJECT_ID, versionedConfig);
+
+        /* test */
+        assertSame(index1, index2);
+        assertEquals(1, index1.size());
+    }
+
+    @Test
+    public void compiled_index_is_not_cached_when_project_config_has_no_version() {
+
+        /* prepare */
+        addEntryAndReturnMetaData(projectConfig, ScanType.CODE_SCAN);
+        config.setData(projectConfig.toJSON());
+
+        /* execute */
+        SerecoFalsePositiveIndex index1 = markerToTest.resolveIndex(PROJECT_ID, config);
+        SerecoFalsePositiveIndex index2 = markerToTest.resolveIndex(PROJECT_ID, config);
+
+        /* test */
+        assertNotSame(index1, index2);
+    }
+
+    @Test
+    public void compiled_index_is_recreated_when_project_config_version_changes() {
+
+        /* prepare */
+        FalsePositiveMetaData metaData = addEntryAndReturnMetaData(projectConfig, ScanType.CODE_SCAN);
+        mockVersionedConfig(1, projectConfig.toJSON());
+
+        List<SerecoVulnerability> all = new ArrayList<>();
+        SerecoVulnerability v1 = addVulnerability(all, ScanType.CODE_SCAN);
+        markFalsePositives(all);
+
+        FalsePositiveProjectConfiguration changedProjectConfig = new FalsePositiveProjectConfiguration();
+        FalsePositiveMetaData changedMetaData = addEntryAndReturnMetaData(changedProjectConfig, ScanType.CODE_SCAN);
+        changedMetaData.setName("changed");
+        mockVersionedConfig(2, changedProjectConfig.toJSON());
+
+        /* execute */
+        markFalsePositives(all);
+
+        /* test */
+        verify(falsePositiveFinder, times(1)).isFound(v1, metaData);
+        verify(falsePositiveFinder, times(1)).isFound(v1, changedMetaData);
+    }
+
+    private void markFalsePositives(List<SerecoVulnerability> all) {
+        /* same as done by SerecoProductResultTransformer */
+        SerecoFalsePositiveIndex index = markerToTest.resolveIndex(PROJECT_ID);
+        for (SerecoVulnerability vulnerability : all) {
+            markerToTest.markFalsePositive(index, vulnerability);
+        }
+    }
+
+    private ScanProjectConfig mockVersionedConfig(int version, String data) {
+        ScanProjectConfig versionedConfig = mock(ScanProjectConfig.class);
+        when(versionedConfig.getVersion()).thenReturn(version);
+        when(versionedConfig.getData()).thenReturn(data);
+        when(scanProjectConfigService.get(PROJECT_ID, ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION, false)).thenReturn(versionedConfig);
+        return versionedConfig;
+    }
+
     private SerecoVulnerability addVulnerability(List<SerecoVulnerability> all, ScanType scanType) {
         SerecoVulnerability v1 = new SerecoVulnerability();
         v1.setScanType(scanType);
@@ -180,6 +180,33 @@ public class SerecoProductResultTransformerTest {
 
     }
 
+    @Test
+    public void vulnerabilities_marked_as_false_positive_are_not_added_as_findings_but_finding_ids_are_kept() throws Exception {
+        /* prepare */
+        String converted = createMetaDataWithTwoVulnerabilitiesWrongOrdered();
+
+        SerecoFalsePositiveIndex index = mock(SerecoFalsePositiveIndex.class);
+        when(transformerToTest.falsePositiveMarker.resolveIndex("project1")).thenReturn(index);
+        doAnswer(invocation -> {
+            SerecoVulnerability vulnerability = invocation.getArgument(1);
+            if (vulnerability.getSeverity() == SerecoSeverity.MEDIUM) {
+                vulnerability.setFalsePositive(true);
+            }
+            return null;
+        }).when(transformerToTest.falsePositiveMarker).markFalsePositive(eq(index), any(SerecoVulnerability.class));
+
+        /* execute */
+        ReportTransformationResult result = transformerToTest.transform(createProductResult(converted));
+
+        /* test */
+        List<SecHubFinding> findings = result.getResult().getFindings();
+        assertEquals(1, findings.size());
+        SecHubFinding finding = findings.iterator().next();
+        assertEquals(Severity.CRITICAL, finding.getSeverity());
+        assertEquals(2, finding.getId());
+        verify(transformerToTest.falsePositiveMarker, times(2)).markFalsePositive(eq(index), any(SerecoVulnerability.class));
+    }
+
     private ProductResult createProductResult(String converted) {
         ProductResult r = new ProductResult(UUID.randomUUID(), "project1", new WithoutProductExecutorConfigInfo(ProductIdentifier.PDS_WEBSCAN), converted);
         return r;
@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.mercedesbenz.sechub.commons.model.SecHubFinding;
+
+/**
+ * Map of code scan entries for findings - key is the finding id. The entries
+ * are not created up front for all findings, but only when a finding is
+ * rendered. Only the entries of the last requested finding are kept, because
+ * the template accesses them multiple times per finding. So memory consumption
+ * does not grow with the amount of findings inside a report.
+ */
+public class HTMLScanResultCodeScanEntries extends AbstractMap<Integer, List<HTMLScanResultCodeScanEntry>> {
+
+    private Map<Integer, SecHubFinding> findings = new HashMap<>();
+    private HtmlCodeScanDescriptionSupport codeScanSupport;
+
+    private Integer lastFindingId;
+    private List<HTMLScanResultCodeScanEntry> lastEntries;
+
+    public HTMLScanResultCodeScanEntries(List<SecHubFinding> findings, HtmlCodeScanDescriptionSupport codeScanSupport) {
+        this.codeScanSupport = codeScanSupport;
+        if (findings == null) {
+            return;
+        }
+        for (SecHubFinding finding : findings) {
+            this.findings.put(finding.getId(), finding);
+        }
+    }
+
+    @Override
+    public List<HTMLScanResultCodeScanEntry> get(Object findingId) {
+        SecHubFinding finding = findings.get(findingId);
+        if (finding == null) {
+            return null;
+        }
+        if (lastEntries == null || !findingId.equals(lastFindingId)) {
+            lastFindingId = finding.getId();
+            lastEntries = codeScanSupport.buildEntries(finding);
+        }
+        return lastEntries;
+    }
+
+    @Override
+    public boolean containsKey(Object findingId) {
+        return findings.containsKey(findingId);
+    }
+
+    @Override
+    public int size() {
+        return findings.size();
+    }
+
+    @Override
+    public Set<Entry<Integer, List<HTMLScanResultCodeScanEntry>>> entrySet() {
+        return new AbstractSet<Entry<Integer, List<HTMLScanResultCodeScanEntry>>>() {
+
+            @Override
+            public Iterator<Entry<Integer, List<HTMLScanResultCodeScanEntry>>> iterator() {
+                Iterator<SecHubFinding> iterator = findings.values().iterator();
+                return new Iterator<Entry<Integer, List<HTMLScanResultCodeScanEntry>>>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Integer, List<HTMLScanResultCodeScanEntry>> next() {
+                        SecHubFinding finding = iterator.next();
+                        return new SimpleImmutableEntry<>(finding.getId(), codeScanSupport.buildEntries(finding));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return findings.size();
+            }
+        };
+    }
+
+}
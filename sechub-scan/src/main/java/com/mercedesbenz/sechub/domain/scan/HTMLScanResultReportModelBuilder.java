@@ -2,7 +2,9 @@
 package com.mercedesbenz.sechub.domain.scan;
 
 import java.io.File;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -17,6 +19,8 @@ import org.springframework.stereotype.Component;
 import com.mercedesbenz.sechub.commons.model.SecHubFinding;
 import com.mercedesbenz.sechub.commons.model.SecHubResult;
 import com.mercedesbenz.sechub.commons.model.SecHubResultTrafficLightFilter;
+import com.mercedesbenz.sechub.commons.model.Severities;
+import com.mercedesbenz.sechub.commons.model.Severity;
 import com.mercedesbenz.sechub.commons.model.TrafficLight;
 import com.mercedesbenz.sechub.domain.scan.report.ScanSecHubReport;
 import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
@@ -67,16 +71,15 @@ public class HTMLScanResultReportModelBuilder {
         HtmlCodeScanDescriptionSupport codeScanSupport = new HtmlCodeScanDescriptionSupport();
         SecHubResult result = report.getResult();
 
-        Map<Integer, List<HTMLScanResultCodeScanEntry>> codeScanEntries = new HashMap<>();
-        for (SecHubFinding finding : result.getFindings()) {
-            codeScanEntries.put(finding.getId(), codeScanSupport.buildEntries(finding));
-        }
+        /* code scan entries are created lazy while rendering - see HTMLScanResultCodeScanEntries */
+        Map<Integer, List<HTMLScanResultCodeScanEntry>> codeScanEntries = new HTMLScanResultCodeScanEntries(result.getFindings(), codeScanSupport);
 
         Map<String, Object> model = new HashMap<>();
         model.put("result", report.getResult());
         model.put("redList", trafficLightFilter.filterFindingsFor(result, TrafficLight.RED));
         model.put("yellowList", trafficLightFilter.filterFindingsFor(result, TrafficLight.YELLOW));
         model.put("greenList", trafficLightFilter.filterFindingsFor(result, TrafficLight.GREEN));
+        model.put("severityCounts", countFindingsBySeverity(result));
 
         model.put("trafficlight", trafficLight.name());
 
@@ -113,4 +116,31 @@ public class HTMLScanResultReportModelBuilder {
         }
         return model;
     }
+
+    /**
+     * Counts findings per severity, so the report summary can be rendered
+     * without iterating over all findings inside the template.
+     *
+     * @param result
+     * @return map containing only severities having findings, ordered from high
+     *         to low
+     */
+    Map<Severity, Integer> countFindingsBySeverity(SecHubResult result) {
+        Map<Severity, Integer> counts = new EnumMap<>(Severity.class);
+        for (SecHubFinding finding : result.getFindings()) {
+            Severity severity = finding.getSeverity();
+            if (severity == null) {
+                continue;
+            }
+            counts.merge(severity, 1, Integer::sum);
+        }
+        Map<Severity, Integer> ordered = new LinkedHashMap<>();
+        for (Severity severity : Severities.getAllOrderedFromHighToLow()) {
+            Integer count = counts.get(severity);
+            if (count != null) {
+                ordered.put(severity, count);
+            }
+        }
+        return ordered;
+    }
 }
@@ -0,0 +1,64 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.IThrottledTemplateProcessor;
+import org.thymeleaf.context.Context;
+
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Renders the HTML scan result report in a streaming way: the template is
+ * processed throttled, so only a chunk of the HTML output is created at once
+ * and written (and flushed) to the given output stream before the next chunk
+ * is processed. Finding groups already rendered are so sent to the client
+ * while the remaining findings are still processed and the complete HTML
+ * document is never held in memory.
+ */
+@Component
+public class HTMLScanResultReportRenderer {
+
+    static final String TEMPLATE_NAME = "report/html/scanresult";
+
+    private static final Logger LOG = LoggerFactory.getLogger(HTMLScanResultReportRenderer.class);
+
+    @Value("${sechub.report.html.stream.chunksize:65536}")
+    @MustBeDocumented("Maximum amount of bytes the HTML report rendering creates before the output is written to the response and the rendering continues.")
+    int maximumChunkSizeInBytes = 65536;
+
+    @Autowired
+    ITemplateEngine templateEngine;
+
+    /**
+     * Renders the HTML report for given model to the output stream.
+     *
+     * @param model        model created by {@link HTMLScanResultReportModelBuilder}
+     * @param outputStream target output stream, will be flushed after every
+     *                     rendered chunk but not closed
+     * @throws IOException
+     */
+    public void render(Map<String, Object> model, OutputStream outputStream) throws IOException {
+        Context context = new Context(LocaleContextHolder.getLocale(), model);
+
+        IThrottledTemplateProcessor processor = templateEngine.processThrottled(TEMPLATE_NAME, context);
+
+        int chunks = 0;
+        while (!processor.isFinished()) {
+            processor.process(maximumChunkSizeInBytes, outputStream, StandardCharsets.UTF_8);
+            outputStream.flush();
+            chunks++;
+        }
+        LOG.debug("HTML report rendered in {} chunks", chunks);
+    }
+}
@@ -0,0 +1,121 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Executes tasks in parallel and waits until all tasks are done. Used for
+ * parallel scan type execution and for concurrent product executor execution.
+ * <br>
+ * <br>
+ * The first task is always executed by the calling thread, so every caller
+ * gets on, even when all threads of the executor service are in use by other
+ * callers. The MDC of the calling thread is copied to the other threads. When
+ * the calling thread is interrupted (e.g. cancel operation), all other tasks
+ * are interrupted as well.
+ */
+public class ParallelExecutionSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelExecutionSupport.class);
+
+    /**
+     * A task which can fail with a checked exception of given type.
+     *
+     * @param <E> checked exception type
+     */
+    @FunctionalInterface
+    public interface ParallelTask<E extends Exception> {
+
+        void execute() throws E;
+    }
+
+    /**
+     * Executes given tasks in parallel and waits until all are done. When there
+     * is only one task or no executor service, the tasks are executed one after
+     * another by the calling thread.
+     *
+     * @param tasks           tasks to execute
+     * @param executorService executor service used for all tasks except the
+     *                        first one, can be <code>null</code>
+     * @param exceptionType   checked exception type the tasks can throw
+     * @throws E first failure of the tasks - thrown after all tasks are done.
+     *           Other checked exceptions are wrapped into an
+     *           {@link IllegalStateException}
+     */
+    public <E extends Exception> void executeAndWait(List<? extends ParallelTask<E>> tasks, ExecutorService executorService, Class<E> exceptionType) throws E {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        if (tasks.size() == 1 || executorService == null) {
+            for (ParallelTask<E> task : tasks) {
+                task.execute();
+            }
+            return;
+        }
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+
+        List<Future<Void>> futures = new ArrayList<>();
+        for (ParallelTask<E> task : tasks.subList(1, tasks.size())) {
+            futures.add(executorService.submit(() -> {
+                if (mdcContext != null) {
+                    MDC.setContextMap(mdcContext);
+                }
+                try {
+                    task.execute();
+                } finally {
+                    MDC.clear();
+                }
+                return null;
+            }));
+        }
+
+        Throwable firstFailure = null;
+        try {
+            tasks.get(0).execute();
+        } catch (Exception e) {
+            firstFailure = e;
+        }
+
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                LOG.info("Thread was interrupted, will interrupt parallel executions");
+                for (Future<Void> futureToCancel : futures) {
+                    futureToCancel.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                if (firstFailure == null) {
+                    firstFailure = e.getCause();
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw asFailure(firstFailure, exceptionType);
+        }
+    }
+
+    private <E extends Exception> E asFailure(Throwable failure, Class<E> exceptionType) {
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (exceptionType.isInstance(failure)) {
+            return exceptionType.cast(failure);
+        }
+        throw new IllegalStateException("Parallel execution failed", failure);
+    }
+}
@@ -1,7 +1,15 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
@@ -11,11 +19,20 @@ import com.mercedesbenz.sechub.domain.scan.product.InfrastructureScanProductExec
 import com.mercedesbenz.sechub.domain.scan.product.LicenseScanProductExecutionService;
 import com.mercedesbenz.sechub.domain.scan.product.SecretScanProductExecutionService;
 import com.mercedesbenz.sechub.domain.scan.product.WebScanProductExecutionService;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageService;
 
 @Component
 public class ProductExecutionServiceContainer {
 
+    private static final int DEFAULT_SCAN_TYPE_PARALLEL_THREADS = 20;
+
+    @MustBeDocumented("Maximum amount of threads (shared by all running jobs) used to execute different scan types of a job in parallel. When 0, scan types are always executed one after another.")
+    @Value("${sechub.config.scan.scantype.parallel.threads:" + DEFAULT_SCAN_TYPE_PARALLEL_THREADS + "}")
+    int scanTypeParallelThreads = DEFAULT_SCAN_TYPE_PARALLEL_THREADS;
+
+    private ExecutorService scanTypeExecutor;
+
     @Autowired
     private AnalyticsProductExecutionService analyticsProductExecutionService;
 
@@ -38,6 +55,35 @@ public class ProductExecutionServiceContainer {
     @Autowired
     private DomainMessageService domainMessageService;
 
+    @PostConstruct
+    void createScanTypeExecutor() {
+        if (scanTypeParallelThreads <= 0) {
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        scanTypeExecutor = Executors.newFixedThreadPool(scanTypeParallelThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sechub-scan-type-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownScanTypeExecutor() {
+        if (scanTypeExecutor == null) {
+            return;
+        }
+        scanTypeExecutor.shutdownNow();
+    }
+
+    /**
+     * @return executor service to execute scan types in parallel or
+     *         <code>null</code> when parallel execution is turned off
+     */
+    public ExecutorService getScanTypeExecutor() {
+        return scanTypeExecutor;
+    }
+
     public AnalyticsProductExecutionService getAnalyticsProductExecutionService() {
         return analyticsProductExecutionService;
     }
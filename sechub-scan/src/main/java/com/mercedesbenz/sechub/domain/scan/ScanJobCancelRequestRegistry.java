@@ -0,0 +1,169 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessage;
+import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageService;
+import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
+import com.mercedesbenz.sechub.sharedkernel.messaging.IsSendingSyncMessage;
+import com.mercedesbenz.sechub.sharedkernel.messaging.MessageDataKeys;
+import com.mercedesbenz.sechub.sharedkernel.messaging.MessageID;
+
+/**
+ * Registry for all scan jobs running at this cluster member. Cancel requests
+ * handled by this cluster member are pushed into the registry and signaled to
+ * the waiting {@link ScanJobExecutor} immediately. Cancel requests handled by
+ * other cluster members are found by a periodic check: one synchronous request
+ * to the schedule domain resolves the cancel requested jobs for all registered
+ * jobs at once.
+ */
+@Component
+public class ScanJobCancelRequestRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScanJobCancelRequestRegistry.class);
+
+    /**
+     * Default time out is one minute (60 * 1000 milliseconds)
+     */
+    private static final int DEFAULT_CHECK_CANCELJOB_DELAY_MILLIS = 60000;
+
+    /* the absolute minimum of time to wait for next cancel check */
+    private static final int MINIMUM_CANCEL_CHECK_TIME_MILLISECONDS = 100;
+
+    @MustBeDocumented("Define delay in milliseconds, for before next job cancellation check will be executed. The check is done for all running jobs of this cluster member at once and is only necessary for cancel requests handled by other cluster members - cancel requests handled by this cluster member are recognized immediately.")
+    @Value("${sechub.config.check.canceljob.delay:" + DEFAULT_CHECK_CANCELJOB_DELAY_MILLIS + "}")
+    int millisecondsToWaitBeforeCancelCheck = DEFAULT_CHECK_CANCELJOB_DELAY_MILLIS;
+
+    @Autowired
+    @Lazy
+    DomainMessageService eventBus;
+
+    private Map<UUID, ScanJobCancelSignal> runningJobs = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService checker;
+
+    @PostConstruct
+    void start() {
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sechub-scan-cancel-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long delay = Math.max(MINIMUM_CANCEL_CHECK_TIME_MILLISECONDS, millisecondsToWaitBeforeCancelCheck);
+        checker.scheduleWithFixedDelay(this::checkCancelRequests, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+    }
+
+    /**
+     * Registers a running scan job
+     *
+     * @param sechubJobUUID
+     * @return cancel signal for the job
+     */
+    ScanJobCancelSignal register(UUID sechubJobUUID) {
+        LOG.debug("Register SecHub job:{} for cancel requests", sechubJobUUID);
+
+        ScanJobCancelSignal signal = new ScanJobCancelSignal();
+        runningJobs.put(sechubJobUUID, signal);
+
+        return signal;
+    }
+
+    /**
+     * Unregisters given scan job
+     *
+     * @param sechubJobUUID
+     */
+    void unregister(UUID sechubJobUUID) {
+        LOG.debug("Unregister SecHub job:{} for cancel requests", sechubJobUUID);
+        runningJobs.remove(sechubJobUUID);
+    }
+
+    /**
+     * Signals a cancel request for given job. When the job is not running at this
+     * cluster member, nothing happens.
+     *
+     * @param sechubJobUUID
+     */
+    public void signalCancelRequested(UUID sechubJobUUID) {
+        if (sechubJobUUID == null) {
+            return;
+        }
+        ScanJobCancelSignal signal = runningJobs.get(sechubJobUUID);
+        if (signal == null) {
+            LOG.debug("SecHub job:{} is not running at this cluster member, so cancel request is not signaled", sechubJobUUID);
+            return;
+        }
+        LOG.info("Signal cancel request for SecHub job:{}", sechubJobUUID);
+        signal.signalCancelRequested();
+    }
+
+    int getMillisecondsToWaitBeforeCancelCheck() {
+        return millisecondsToWaitBeforeCancelCheck;
+    }
+
+    /**
+     * @return amount of registered jobs
+     */
+    int getAmountOfRegisteredJobs() {
+        return runningJobs.size();
+    }
+
+    void checkCancelRequests() {
+        List<UUID> jobUUIDsToCheck = new ArrayList<>();
+        for (Map.Entry<UUID, ScanJobCancelSignal> entry : runningJobs.entrySet()) {
+            if (!entry.getValue().isCancelRequested()) {
+                jobUUIDsToCheck.add(entry.getKey());
+            }
+        }
+        if (jobUUIDsToCheck.isEmpty()) {
+            return;
+        }
+        try {
+            List<UUID> cancelRequestedJobUUIDs = fetchCancelRequestedJobUUIDs(jobUUIDsToCheck);
+            for (UUID cancelRequestedJobUUID : cancelRequestedJobUUIDs) {
+                signalCancelRequested(cancelRequestedJobUUID);
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Was not able to check cancel requests for {} SecHub jobs", jobUUIDsToCheck.size(), e);
+        }
+    }
+
+    @IsSendingSyncMessage(MessageID.REQUEST_SCHEDULER_CANCEL_REQUESTED_JOBS)
+    private List<UUID> fetchCancelRequestedJobUUIDs(List<UUID> jobUUIDs) {
+        DomainMessage request = new DomainMessage(MessageID.REQUEST_SCHEDULER_CANCEL_REQUESTED_JOBS);
+        request.set(MessageDataKeys.SECHUB_JOB_UUIDS, jobUUIDs);
+
+        DomainMessageSynchronousResult response = eventBus.sendSynchron(request);
+        List<UUID> cancelRequestedJobUUIDs = response.get(MessageDataKeys.SECHUB_JOB_UUIDS);
+        if (cancelRequestedJobUUIDs == null) {
+            return new ArrayList<>();
+        }
+        return cancelRequestedJobUUIDs;
+    }
+}
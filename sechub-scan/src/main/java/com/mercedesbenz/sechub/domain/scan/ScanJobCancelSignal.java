@@ -0,0 +1,41 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+/**
+ * Signal object for one running scan job. The {@link ScanJobExecutor} waits
+ * on this signal until either the scan job is done or a cancel request has
+ * been signaled by {@link ScanJobCancelRequestRegistry}.
+ */
+class ScanJobCancelSignal {
+
+    private boolean cancelRequested;
+    private boolean jobDone;
+
+    synchronized void signalCancelRequested() {
+        cancelRequested = true;
+        notifyAll();
+    }
+
+    synchronized void signalJobDone() {
+        jobDone = true;
+        notifyAll();
+    }
+
+    synchronized boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    /**
+     * Waits until cancel was requested or job is done
+     *
+     * @return <code>true</code> when cancel was requested, <code>false</code> when
+     *         job is done without cancel request
+     * @throws InterruptedException
+     */
+    synchronized boolean waitForCancelRequestOrJobDone() throws InterruptedException {
+        while (!cancelRequested && !jobDone) {
+            wait();
+        }
+        return cancelRequested;
+    }
+}
@@ -1,21 +1,32 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+import com.mercedesbenz.sechub.domain.scan.ParallelExecutionSupport.ParallelTask;
 import com.mercedesbenz.sechub.domain.scan.product.AnalyticsProductExecutionService;
 import com.mercedesbenz.sechub.domain.scan.product.CodeScanProductExecutionService;
 import com.mercedesbenz.sechub.domain.scan.product.InfrastructureScanProductExecutionService;
 import com.mercedesbenz.sechub.domain.scan.product.LicenseScanProductExecutionService;
+import com.mercedesbenz.sechub.domain.scan.product.ProductExecutionStoreService;
 import com.mercedesbenz.sechub.domain.scan.product.SecretScanProductExecutionService;
 import com.mercedesbenz.sechub.domain.scan.product.WebScanProductExecutionService;
 import com.mercedesbenz.sechub.sharedkernel.LogConstants;
 
 /**
  * This class is the primary part for triggering product execution. It is run
- * and inspected by {@link ScanJobExecutor}
+ * and inspected by {@link ScanJobExecutor}.<br>
+ * <br>
+ * The analytics scan phase is done first. After this, the independent scan
+ * types (code, web, infra, license and secret scan) are executed in parallel -
+ * when the {@link ProductExecutionServiceContainer} provides a scan type
+ * executor.
  *
  */
 class ScanJobExecutionRunnable implements Runnable, CanceableScanJob {
@@ -24,6 +35,8 @@ class ScanJobExecutionRunnable implements Runnable, CanceableScanJob {
 
     private ScanJobRunnableData runnableData;
 
+    private ParallelExecutionSupport parallelExecutionSupport = new ParallelExecutionSupport();
+
     ScanJobExecutionRunnable(ScanJobRunnableData runnableData) {
         this.runnableData = runnableData;
     }
@@ -56,11 +69,19 @@ class ScanJobExecutionRunnable implements Runnable, CanceableScanJob {
             LicenseScanProductExecutionService licenseScanProductExecutionService = executionServiceContainer.getLicenseScanProductExecutionService();
             SecretScanProductExecutionService secretScanProductExecutionService = executionServiceContainer.getSecretScanProductExecutionService();
 
-            codeScanProductExecutionService.executeProductsAndStoreResults(executionContext);
-            webScanProductExecutionService.executeProductsAndStoreResults(executionContext);
-            infraScanProductExecutionService.executeProductsAndStoreResults(executionContext);
-            licenseScanProductExecutionService.executeProductsAndStoreResults(executionContext);
-            secretScanProductExecutionService.executeProductsAndStoreResults(executionContext);
+            List<ProductExecutionStoreService> scanTypeServices = new ArrayList<>();
+            addIfDefined(scanTypeServices, codeScanProductExecutionService);
+            addIfDefined(scanTypeServices, webScanProductExecutionService);
+            addIfDefined(scanTypeServices, infraScanProductExecutionService);
+            addIfDefined(scanTypeServices, licenseScanProductExecutionService);
+            addIfDefined(scanTypeServices, secretScanProductExecutionService);
+
+            ExecutorService scanTypeExecutor = executionServiceContainer.getScanTypeExecutor();
+            if (scanTypeExecutor == null || scanTypeServices.size() < 2) {
+                executeOneAfterAnother(scanTypeServices, executionContext);
+            } else {
+                executeInParallel(scanTypeServices, executionContext, scanTypeExecutor);
+            }
 
         } catch (SecHubExecutionException e) {
             runnableData.setException(e);
@@ -71,6 +92,32 @@ class ScanJobExecutionRunnable implements Runnable, CanceableScanJob {
         }
     }
 
+    private void addIfDefined(List<ProductExecutionStoreService> list, ProductExecutionStoreService service) {
+        if (service == null) {
+            return;
+        }
+        list.add(service);
+    }
+
+    private void executeOneAfterAnother(List<ProductExecutionStoreService> services, SecHubExecutionContext executionContext) throws SecHubExecutionException {
+        for (ProductExecutionStoreService service : services) {
+            service.executeProductsAndStoreResults(executionContext);
+        }
+    }
+
+    /**
+     * Executes given services in parallel - see {@link ParallelExecutionSupport}.
+     */
+    private void executeInParallel(List<ProductExecutionStoreService> services, SecHubExecutionContext executionContext, ExecutorService scanTypeExecutor)
+            throws SecHubExecutionException {
+
+        List<ParallelTask<SecHubExecutionException>> tasks = new ArrayList<>();
+        for (ProductExecutionStoreService service : services) {
+            tasks.add(() -> service.executeProductsAndStoreResults(executionContext));
+        }
+        parallelExecutionSupport.executeAndWait(tasks, scanTypeExecutor, SecHubExecutionException.class);
+    }
+
     public void cancelScanJob() {
         SecHubExecutionContext executionContext = runnableData.getExecutionContext();
         Thread executorThread = runnableData.getRunnableThread();
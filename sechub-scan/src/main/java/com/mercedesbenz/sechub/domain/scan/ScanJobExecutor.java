@@ -8,9 +8,6 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.mercedesbenz.sechub.sharedkernel.NullProgressMonitor;
-import com.mercedesbenz.sechub.sharedkernel.ProgressMonitor;
-
 /**
  * Finally executes the scan job
  */
@@ -26,30 +23,30 @@ class ScanJobExecutor {
     private final ProductExecutionServiceContainer executionServiceContainer;
     private SecHubExecutionContext context;
 
-    private ProgressMonitor progress;
-
     private int millisecondsToWaitBeforeCancelCheck;
 
     private ScanJobListener scanJobListener;
 
-    ScanJobExecutor(ProductExecutionServiceContainer serviceContainer, ScanJobListener scanJobListener, SecHubExecutionContext context,
-            ProgressMonitor progress, int millisecondsToWaitBeforeCancelCheck) {
+    private ScanJobCancelRequestRegistry cancelRequestRegistry;
+
+    ScanJobExecutor(ProductExecutionServiceContainer serviceContainer, ScanJobListener scanJobListener, ScanJobCancelRequestRegistry cancelRequestRegistry,
+            SecHubExecutionContext context) {
         this.executionServiceContainer = serviceContainer;
         this.scanJobListener = scanJobListener;
+        this.cancelRequestRegistry = cancelRequestRegistry;
         this.context = context;
-        if (progress == null) {
-            progress = new NullProgressMonitor();
-        }
-        this.progress = progress;
+        int millisecondsToWaitBeforeCancelCheck = cancelRequestRegistry.getMillisecondsToWaitBeforeCancelCheck();
         if (millisecondsToWaitBeforeCancelCheck < MINIMUM_CANCEL_CHECK_TIME_MILLISECONDS) {
-            millisecondsToWaitBeforeCancelCheck = 100;
+            millisecondsToWaitBeforeCancelCheck = MINIMUM_CANCEL_CHECK_TIME_MILLISECONDS;
         }
         this.millisecondsToWaitBeforeCancelCheck = millisecondsToWaitBeforeCancelCheck;
     }
 
     /**
      * Starts the scan operations for the job inside this context. If a cancel
-     * request is recognized, the scan will be interrupted as fast as possible
+     * request is recognized, the scan will be interrupted as fast as possible.
+     * Cancel requests are not polled, but signaled by
+     * {@link ScanJobCancelRequestRegistry}.
      *
      * @throws SecHubExecutionException
      */
@@ -64,8 +61,16 @@ class ScanJobExecutor {
 
         ScanJobRunnableData runnableData = new ScanJobRunnableData(sechubJobUUID, executionServiceContainer, context);
 
+        ScanJobCancelSignal cancelSignal = cancelRequestRegistry.register(sechubJobUUID);
+
         ScanJobExecutionRunnable scanJobExecutionRunnable = new ScanJobExecutionRunnable(runnableData);
-        Thread executorThread = new Thread(scanJobExecutionRunnable, SECHUB_SCAN_THREAD_PREFIX + sechubJobUUID);
+        Thread executorThread = new Thread(() -> {
+            try {
+                scanJobExecutionRunnable.run();
+            } finally {
+                cancelSignal.signalJobDone();
+            }
+        }, SECHUB_SCAN_THREAD_PREFIX + sechubJobUUID);
         runnableData.setRunnableThread(executorThread);
 
         try {
@@ -74,15 +79,17 @@ class ScanJobExecutor {
             scanJobListener.started(sechubJobUUID, scanJobExecutionRunnable);
 
             /* wait for job runnable - except when canceled */
+            boolean cancelRequested = false;
             while (executorThread.isAlive()) {
                 try {
-                    LOG.debug("will wait max {} milliseconds before cancel checks - job thread is:{}", millisecondsToWaitBeforeCancelCheck,
-                            executorThread.getName());
-
-                    /* we simply join scan thread until we do next cancel check */
-                    executorThread.join(millisecondsToWaitBeforeCancelCheck);
-
-                    if (progress.isCanceled()) {
+                    if (cancelRequested) {
+                        /* cancel was requested but job is still running - retry cancel operation after delay */
+                        executorThread.join(millisecondsToWaitBeforeCancelCheck);
+                    } else {
+                        LOG.debug("wait for job done or cancel request - job thread is:{}", executorThread.getName());
+                        cancelRequested = cancelSignal.waitForCancelRequestOrJobDone();
+                    }
+                    if (cancelRequested && executorThread.isAlive()) {
                         handleCancelRequested(scanJobExecutionRunnable, sechubJobUUID);
                     }
                 } catch (InterruptedException e) {
@@ -96,6 +103,7 @@ class ScanJobExecutor {
             /* should never happen, because all handled by runnable, but... */
             handleErrors(new SecHubExecutionException("Scan execution failed - but not handled by runnable.", e));
         } finally {
+            cancelRequestRegistry.unregister(sechubJobUUID);
             scanJobListener.ended(sechubJobUUID);
 
         }
@@ -26,6 +26,7 @@ import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageSynchronousRe
 import com.mercedesbenz.sechub.sharedkernel.messaging.IsReceivingAsyncMessage;
 import com.mercedesbenz.sechub.sharedkernel.messaging.IsRecevingSyncMessage;
 import com.mercedesbenz.sechub.sharedkernel.messaging.IsSendingSyncMessageAnswer;
+import com.mercedesbenz.sechub.sharedkernel.messaging.JobMessage;
 import com.mercedesbenz.sechub.sharedkernel.messaging.MappingMessage;
 import com.mercedesbenz.sechub.sharedkernel.messaging.MessageDataKeys;
 import com.mercedesbenz.sechub.sharedkernel.messaging.MessageID;
@@ -68,6 +69,9 @@ public class ScanMessageHandler implements AsynchronMessageHandler, SynchronMess
     @Autowired
     ScanConfigService configService;
 
+    @Autowired
+    ScanJobCancelRequestRegistry cancelRequestRegistry;
+
     @Override
     public void receiveAsyncMessage(DomainMessage request) {
         MessageID messageId = request.getMessageId();
@@ -95,11 +99,20 @@ public class ScanMessageHandler implements AsynchronMessageHandler, SynchronMess
         case AUTO_CLEANUP_CONFIGURATION_CHANGED:
             handleAutoCleanUpConfigurationChanged(request);
             break;
+        case JOB_CANCELLATION_RUNNING:
+            handleJobCancellationRunning(request);
+            break;
         default:
             throw new IllegalStateException("unhandled message id:" + messageId);
         }
     }
 
+    @IsReceivingAsyncMessage(MessageID.JOB_CANCELLATION_RUNNING)
+    private void handleJobCancellationRunning(DomainMessage request) {
+        JobMessage message = request.get(MessageDataKeys.JOB_CANCEL_DATA);
+        cancelRequestRegistry.signalCancelRequested(message.getJobUUID());
+    }
+
     @IsReceivingAsyncMessage(MessageID.AUTO_CLEANUP_CONFIGURATION_CHANGED)
     private void handleAutoCleanUpConfigurationChanged(DomainMessage request) {
         AdministrationConfigMessage message = request.get(MessageDataKeys.AUTO_CLEANUP_CONFIG_CHANGE_DATA);
@@ -11,7 +11,6 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.mercedesbenz.sechub.commons.model.JSONConverterException;
@@ -26,8 +25,6 @@ import com.mercedesbenz.sechub.domain.scan.project.ScanProjectMockDataConfigurat
 import com.mercedesbenz.sechub.domain.scan.report.CreateScanReportService;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReport;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReportException;
-import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
-import com.mercedesbenz.sechub.sharedkernel.ProgressMonitor;
 import com.mercedesbenz.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessage;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
@@ -49,11 +46,6 @@ public class ScanService implements SynchronMessageHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(ScanService.class);
 
-    /**
-     * Default time out is one minute (60 * 1000 milliseconds)
-     */
-    private static final int DEFAULT_CHECK_CANCELJOB_DELAY_MILLIS = 60000;
-
     @Autowired
     StorageService storageService;
 
@@ -76,11 +68,7 @@ public class ScanService implements SynchronMessageHandler {
     ProductResultService productResultService;
 
     @Autowired
-    ScanProgressMonitorFactory monitorFactory;
-
-    @MustBeDocumented("Define delay in milliseconds, for before next job cancellation check will be executed.")
-    @Value("${sechub.config.check.canceljob.delay:" + DEFAULT_CHECK_CANCELJOB_DELAY_MILLIS + "}")
-    private int millisecondsToWaitBeforeCancelCheck = DEFAULT_CHECK_CANCELJOB_DELAY_MILLIS;
+    ScanJobCancelRequestRegistry cancelRequestRegistry;
 
     @IsSendingSyncMessageAnswer(value = MessageID.SCAN_DONE, answeringTo = MessageID.START_SCAN, branchName = "success")
     @IsSendingSyncMessageAnswer(value = MessageID.SCAN_FAILED, answeringTo = MessageID.START_SCAN, branchName = "failure")
@@ -132,11 +120,8 @@ public class ScanService implements SynchronMessageHandler {
         UUID logUUID = scanLogService.logScanStarted(context);
 
         try {
-            ProgressMonitor progressMonitor = monitorFactory.createProgressMonitor(sechubJobUUID);
-
             /* delegate execution : */
-            ScanJobExecutor executor = new ScanJobExecutor(productExecutionServiceContainer, scanJobListener, context, progressMonitor,
-                    millisecondsToWaitBeforeCancelCheck);
+            ScanJobExecutor executor = new ScanJobExecutor(productExecutionServiceContainer, scanJobListener, cancelRequestRegistry, context);
             executor.startScanAndInspectCancelRequests();
 
             scanLogService.logScanEnded(logUUID);
@@ -36,7 +36,8 @@ public class SecHubExecutionContext {
     private String executedBy;
     private Map<String, Object> dataMap = new HashMap<>();
 
-    private boolean cancelRequested;
+    /* volatile, because product executors of different scan types run in parallel */
+    private volatile boolean cancelRequested;
 
     private UUID executionUUID;
 
@@ -9,6 +9,11 @@ import com.mercedesbenz.sechub.domain.scan.product.CanceableProductExecutor;
 import com.mercedesbenz.sechub.domain.scan.product.ProductExecutor;
 import com.mercedesbenz.sechub.domain.scan.product.ProductExecutorData;
 
+/**
+ * History of product executors currently doing their job. Product executors of
+ * different scan types are executed in parallel, so the history is thread
+ * safe.
+ */
 public class SecHubExecutionHistory {
 
     private List<SecHubExecutionHistoryElement> elements;
@@ -18,26 +23,26 @@ public class SecHubExecutionHistory {
         elements = new ArrayList<>();
     }
 
-    public boolean isEmpty() {
+    public synchronized boolean isEmpty() {
         return elements.isEmpty();
     }
 
-    public List<SecHubExecutionHistoryElement> getAllElementsWithCanceableProductExecutors() {
+    public synchronized List<SecHubExecutionHistoryElement> getAllElementsWithCanceableProductExecutors() {
         if (cachedCanceableProductExecutorElements == null) {
 
             List<SecHubExecutionHistoryElement> list = new ArrayList<>();
-            for (SecHubExecutionHistoryElement historyElement : getUnmodifiableElements()) {
+            for (SecHubExecutionHistoryElement historyElement : elements) {
                 ProductExecutor executor = historyElement.getProductExecutor();
                 if (executor instanceof CanceableProductExecutor) {
                     list.add(historyElement);
                 }
             }
-            cachedCanceableProductExecutorElements = list;
+            cachedCanceableProductExecutorElements = Collections.unmodifiableList(list);
         }
         return cachedCanceableProductExecutorElements;
     }
 
-    public SecHubExecutionHistoryElement remember(ProductExecutor productExecutor, ProductExecutorData data) {
+    public synchronized SecHubExecutionHistoryElement remember(ProductExecutor productExecutor, ProductExecutorData data) {
         resetCache();
         SecHubExecutionHistoryElement historyElement = new SecHubExecutionHistoryElement();
         historyElement.setProductExecutor(productExecutor);
@@ -49,13 +54,13 @@ public class SecHubExecutionHistory {
 
     }
 
-    public void forget(SecHubExecutionHistoryElement historyElement) {
+    public synchronized void forget(SecHubExecutionHistoryElement historyElement) {
         resetCache();
         elements.remove(historyElement);
     }
 
-    List<SecHubExecutionHistoryElement> getUnmodifiableElements() {
-        return Collections.unmodifiableList(elements);
+    synchronized List<SecHubExecutionHistoryElement> getUnmodifiableElements() {
+        return Collections.unmodifiableList(new ArrayList<>(elements));
     }
 
     private void resetCache() {
@@ -14,8 +14,7 @@ import com.mercedesbenz.sechub.domain.scan.product.ProductResultRepository;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReportRepository;
 import com.mercedesbenz.sechub.sharedkernel.Step;
 import com.mercedesbenz.sechub.sharedkernel.TimeCalculationService;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResult;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResultInspector;
+import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupChunkedDeleteService;
 import com.mercedesbenz.sechub.sharedkernel.usecases.autocleanup.UseCaseScanAutoCleanExecution;
 
 @Service
@@ -39,7 +38,7 @@ public class ScanAutoCleanupService {
     ProductResultRepository productResultRepository;
 
     @Autowired
-    AutoCleanupResultInspector inspector;
+    AutoCleanupChunkedDeleteService chunkedDeleteService;
 
     @UseCaseScanAutoCleanExecution(@Step(number = 2, name = "Delete old data", description = "deletes old job information"))
     public void cleanup() {
@@ -59,42 +58,18 @@ public class ScanAutoCleanupService {
     }
 
     private void deleteScanLogs(long days, LocalDateTime cleanTimeStamp) {
-        int amount = projectScanLogRepository.deleteLogsOlderThan(cleanTimeStamp);
-        /* @formatter:off */
-        inspector.inspect(AutoCleanupResult.builder().
-                autoCleanup("scan-logs",getClass()).
-                forDays(days).
-                hasDeleted(amount).
-                byTimeStamp(cleanTimeStamp).
-                build()
-                );
-        /* @formatter:on */
+        chunkedDeleteService.deleteOlderThan("scan-logs", getClass(), days, cleanTimeStamp, projectScanLogRepository::findLogUUIDsOlderThan,
+                projectScanLogRepository::deleteLogsWithUUIDs);
     }
 
     private void deleteScanResults(long days, LocalDateTime cleanTimeStamp) {
-        /* @formatter:off */
-        int amount = scanReportRepository.deleteReportsOlderThan(cleanTimeStamp);
-        inspector.inspect(AutoCleanupResult.builder().
-                autoCleanup("scan-reports",getClass()).
-                forDays(days).
-                hasDeleted(amount).
-                byTimeStamp(cleanTimeStamp).
-                build()
-                );
-        /* @formatter:on */
+        chunkedDeleteService.deleteOlderThan("scan-reports", getClass(), days, cleanTimeStamp, scanReportRepository::findReportUUIDsOlderThan,
+                scanReportRepository::deleteReportsWithUUIDs);
     }
 
     private void deleteProductResults(long days, LocalDateTime cleanTimeStamp) {
-        int amount = productResultRepository.deleteResultsOlderThan(cleanTimeStamp);
-        /* @formatter:off */
-        inspector.inspect(AutoCleanupResult.builder().
-                autoCleanup("product-results",getClass()).
-                forDays(days).
-                hasDeleted(amount).
-                byTimeStamp(cleanTimeStamp).
-                build()
-                );
-        /* @formatter:on */
+        chunkedDeleteService.deleteOlderThan("product-results", getClass(), days, cleanTimeStamp, productResultRepository::findResultUUIDsOlderThan,
+                productResultRepository::deleteResultsWithUUIDs);
     }
 
 }
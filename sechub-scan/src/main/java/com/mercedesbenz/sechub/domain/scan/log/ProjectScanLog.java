@@ -65,7 +65,8 @@ public class ProjectScanLog {
     public static final String STATUS_OK = "OK";
     public static final String STATUS_FAILED = "FAILED";
 
-    public static final String QUERY_DELETE_LOGS_OLDER_THAN = "DELETE FROM ProjectScanLog log WHERE log." + PROPERTY_STARTED + " < :cleanTimeStamp";;
+    public static final String QUERY_FIND_LOG_UUIDS_OLDER_THAN = "SELECT log.uUID FROM ProjectScanLog log WHERE log." + PROPERTY_STARTED + " < :cleanTimeStamp";
+    public static final String QUERY_DELETE_LOGS_WITH_UUIDS = "DELETE FROM ProjectScanLog log WHERE log.uUID IN :uuids";
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -4,8 +4,11 @@ package com.mercedesbenz.sechub.domain.scan.log;
 import static com.mercedesbenz.sechub.domain.scan.log.ProjectScanLog.*;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -18,9 +21,12 @@ public interface ProjectScanLogRepository extends JpaRepository<ProjectScanLog,
     @Query(value = "DELETE FROM " + TABLE_NAME + " where " + COLUMN_PROJECT_ID + " = ?1", nativeQuery = true)
     void deleteAllLogDataForProject(String projectId);
 
+    @Query(ProjectScanLog.QUERY_FIND_LOG_UUIDS_OLDER_THAN)
+    List<UUID> findLogUUIDsOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp, Pageable pageable);
+
     @Transactional
     @Modifying
-    @Query(ProjectScanLog.QUERY_DELETE_LOGS_OLDER_THAN)
-    int deleteLogsOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp);
+    @Query(ProjectScanLog.QUERY_DELETE_LOGS_WITH_UUIDS)
+    int deleteLogsWithUUIDs(@Param("uuids") Collection<UUID> uuids);
 
 }
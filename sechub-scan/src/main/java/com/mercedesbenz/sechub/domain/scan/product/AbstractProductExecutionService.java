@@ -50,6 +50,9 @@ public abstract class AbstractProductExecutionService implements ProductExecutio
     @Autowired
     List<ProductExecutor> allAvailableProductExecutors;
 
+    @Autowired
+    ConcurrentProductExecutionSupport concurrentExecutionSupport;
+
     ScanTypeBasedProductExecutorFilter scanTypeFilter;
 
     private List<ProductExecutor> registeredProductExecutors = new ArrayList<>();
@@ -134,7 +137,12 @@ public abstract class AbstractProductExecutionService implements ProductExecutio
 
     /**
      * Executes product executors and stores results. If a result of an executor is
-     * <code>null</code> an error will be logged but
+     * <code>null</code> an error will be logged but<br>
+     * <br>
+     * When concurrent execution is enabled by execution profile, non report
+     * executors are executed concurrently. Result persistence and cleanup of
+     * former results is still done per executor. Report executors (e.g. sereco)
+     * are always executed after all former executors are done.
      *
      * @param executors
      * @param context
@@ -149,6 +157,7 @@ public abstract class AbstractProductExecutionService implements ProductExecutio
 
         int countOfReportProductExecutor = 0;
         ProductExecutor serecoProductExecutor = null;
+        List<Runnable> concurrentExecutions = new ArrayList<>();
 
         for (ProductExecutor productExecutor : executors) {
             if (context.isCancelRequested()) {
@@ -171,16 +180,25 @@ public abstract class AbstractProductExecutionService implements ProductExecutio
                     continue;
                 }
                 for (ProductExecutorConfig executorConfiguration : executorConfigurations) {
-                    runOnExecutorWithOneConfiguration(executorConfiguration, productExecutor, context, projectId, traceLogID);
-
                     ScanType scanType = productExecutor.getScanType();
                     if (ScanType.REPORT.equals(scanType)) {
+                        /* report executors need all former results - so wait for concurrent executions */
+                        executeConcurrentAndWait(concurrentExecutions);
+
+                        runOnExecutorWithOneConfiguration(executorConfiguration, productExecutor, context, projectId, traceLogID);
                         countOfReportProductExecutor++;
+
+                    } else if (concurrentExecutionSupport != null && executorConfiguration.isConcurrentExecutionEnabledForProject(projectId)) {
+                        concurrentExecutions.add(() -> runOnExecutorWithOneConfiguration(executorConfiguration, productExecutor, context, projectId, traceLogID));
+
+                    } else {
+                        runOnExecutorWithOneConfiguration(executorConfiguration, productExecutor, context, projectId, traceLogID);
                     }
                 }
 
             }
         }
+        executeConcurrentAndWait(concurrentExecutions);
 
         if (serecoProductExecutor != null && countOfReportProductExecutor == 0) {
             LOG.debug("no dedicated configuration for report execution was executed before, so fallback to sereco default behaviour");
@@ -189,6 +207,18 @@ public abstract class AbstractProductExecutionService implements ProductExecutio
 
     }
 
+    private void executeConcurrentAndWait(List<Runnable> concurrentExecutions) {
+        if (concurrentExecutions.isEmpty()) {
+            return;
+        }
+        LOG.debug("Start {} concurrent product executions", concurrentExecutions.size());
+
+        List<Runnable> executionsToDo = new ArrayList<>(concurrentExecutions);
+        concurrentExecutions.clear();
+
+        concurrentExecutionSupport.executeAndWait(executionsToDo);
+    }
+
     private void runOnExecutorWithOneConfiguration(ProductExecutorConfig executorConfiguration, ProductExecutor productExecutor, SecHubExecutionContext context,
             String projectId, UUIDTraceLogID traceLogID) {
         /*
@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan.product;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -29,6 +31,7 @@ import com.mercedesbenz.sechub.domain.scan.resolve.NetworkTargetResolver;
 import com.mercedesbenz.sechub.sharedkernel.ProductIdentifier;
 import com.mercedesbenz.sechub.sharedkernel.UUIDTraceLogID;
 import com.mercedesbenz.sechub.sharedkernel.configuration.SecHubConfiguration;
+import com.mercedesbenz.sechub.sharedkernel.jpa.TextCompressionSupport;
 
 /**
  * An abstract product executor implementation
@@ -89,12 +92,38 @@ public abstract class AbstractProductExecutor implements ProductExecutor {
         SecHubMessagesList messagesList = new SecHubMessagesList(adapterResult.getProductMessages());
 
         ProductResult productResult = executorContext.getCurrentProductResult(); // product result is set by callback
-        productResult.setResult(adapterResult.getProductResult());
+        if (adapterResult.isProductResultFileBased()) {
+            updateResultFromFile(productResult, adapterResult);
+        } else {
+            productResult.setResult(adapterResult.getProductResult());
+        }
         productResult.setMessages(messagesList.toJSON());
 
         return productResult;
     }
 
+    private void updateResultFromFile(ProductResult productResult, AdapterExecutionResult adapterResult) {
+        TextCompressionSupport compressionSupport = TextCompressionSupport.get();
+        try {
+            if (compressionSupport.isCompressionEnabled()) {
+                /* compress directly from file - so the big uncompressed result is never inside memory */
+                try (InputStream inputStream = adapterResult.openProductResultInputStream()) {
+                    productResult.setCompressedResult(compressionSupport.compress(inputStream));
+                }
+            } else {
+                /*
+                 * adapters create file based results only when compression is enabled - so
+                 * this happens only when compression was disabled in the meantime
+                 */
+                productResult.setResult(adapterResult.getProductResult());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Was not able to read product result file", e);
+        } finally {
+            adapterResult.deleteProductResultFile();
+        }
+    }
+
     @Override
     public final List<ProductResult> execute(SecHubExecutionContext context, ProductExecutorContext executorContext) throws SecHubExecutionException {
         UUIDTraceLogID traceLogId = context.getTraceLogId();
@@ -0,0 +1,72 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.domain.scan.ParallelExecutionSupport;
+import com.mercedesbenz.sechub.domain.scan.ParallelExecutionSupport.ParallelTask;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Executes product executor runs concurrently. Used by product execution
+ * services when concurrent execution is enabled inside execution profile.
+ */
+@Component
+public class ConcurrentProductExecutionSupport {
+
+    private static final int DEFAULT_PARALLEL_THREADS = 20;
+
+    @MustBeDocumented("Maximum amount of threads (shared by all running jobs) used to execute product executors of the same scan type concurrently. Only used when concurrent execution is enabled inside execution profile.")
+    @Value("${sechub.config.scan.productexecutor.parallel.threads:" + DEFAULT_PARALLEL_THREADS + "}")
+    int parallelThreads = DEFAULT_PARALLEL_THREADS;
+
+    private ExecutorService executorService;
+
+    private ParallelExecutionSupport parallelExecutionSupport = new ParallelExecutionSupport();
+
+    @PostConstruct
+    void createExecutorService() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executorService = Executors.newFixedThreadPool(Math.max(1, parallelThreads), runnable -> {
+            Thread thread = new Thread(runnable, "sechub-product-executor-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownExecutorService() {
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Executes given runnables concurrently and waits until all are done. The
+     * first runnable is executed by the calling thread. When the calling thread is
+     * interrupted, all other runnables are interrupted as well.
+     *
+     * @param runnables
+     * @throws RuntimeException first runtime exception thrown by a runnable - will
+     *                          be thrown after all runnables are done
+     * @see ParallelExecutionSupport
+     */
+    public void executeAndWait(List<Runnable> runnables) {
+        List<ParallelTask<RuntimeException>> tasks = new ArrayList<>();
+        for (Runnable runnable : runnables) {
+            tasks.add(runnable::run);
+        }
+        parallelExecutionSupport.executeAndWait(tasks, executorService, RuntimeException.class);
+    }
+}
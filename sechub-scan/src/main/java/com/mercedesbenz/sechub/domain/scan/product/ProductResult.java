@@ -11,7 +11,10 @@ import javax.persistence.Entity;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.persistence.Version;
 
 import org.hibernate.annotations.GenericGenerator;
@@ -19,6 +22,7 @@ import org.hibernate.annotations.Type;
 
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfigInfo;
 import com.mercedesbenz.sechub.sharedkernel.ProductIdentifier;
+import com.mercedesbenz.sechub.sharedkernel.jpa.TextCompressionSupport;
 
 /**
  * Represents a product result for a SecHub job UUID
@@ -62,7 +66,8 @@ public class ProductResult {
     public static final String PROPERTY_PRODUCT_STARTED = "started";
     public static final String PROPERTY_MESSAGES = "messages";
 
-    public static final String QUERY_DELETE_RESULT_OLDER_THAN = "DELETE FROM ProductResult r WHERE r." + PROPERTY_PRODUCT_STARTED + " < :cleanTimeStamp";;
+    public static final String QUERY_FIND_RESULT_UUIDS_OLDER_THAN = "SELECT r.uUID FROM ProductResult r WHERE r." + PROPERTY_PRODUCT_STARTED + " < :cleanTimeStamp";
+    public static final String QUERY_DELETE_RESULTS_WITH_UUIDS = "DELETE FROM ProductResult r WHERE r.uUID IN :uuids";
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -84,7 +89,10 @@ public class ProductResult {
     @Type(type = "text") // why not using @Lob, because hibernate/postgres issues. see
                          // https://stackoverflow.com/questions/25094410/hibernate-error-while-persisting-text-datatype?noredirect=1#comment39048566_25094410
     @Column(name = COLUMN_RESULT)
-    private String result;
+    private String result; // can be compressed, see TextCompressionSupport
+
+    @Transient
+    private String uncompressedResult;
 
     @Column(name = COLUMN_SECHUB_JOB_UUID, updatable = false, nullable = false, columnDefinition = "UUID")
     UUID secHubJobUUID;
@@ -142,11 +150,27 @@ public class ProductResult {
         this.secHubJobUUID = secHubJobUUID;
         this.projectId = projectId;
         this.result = result;
+        this.uncompressedResult = result;
 
     }
 
     public void setResult(String result) {
         this.result = result;
+        this.uncompressedResult = result;
+    }
+
+    /**
+     * Set result which is already compressed by {@link TextCompressionSupport}.
+     * The uncompressed result is only created on demand by {@link #getResult()}.
+     *
+     * @param compressedResult
+     */
+    public void setCompressedResult(String compressedResult) {
+        if (!TextCompressionSupport.get().isCompressed(compressedResult)) {
+            throw new IllegalArgumentException("Given result is not compressed!");
+        }
+        this.result = compressedResult;
+        this.uncompressedResult = null;
     }
 
     public String getProjectId() {
@@ -161,8 +185,32 @@ public class ProductResult {
         return secHubJobUUID;
     }
 
+    /**
+     * @return result - decompressed on first access when stored compressed
+     */
     public String getResult() {
-        return result;
+        if (uncompressedResult == null && result != null) {
+            uncompressedResult = TextCompressionSupport.get().decompress(result);
+        }
+        return uncompressedResult;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void compressResultWhenEnabled() {
+        if (result == null || isResultStoredCompressed()) {
+            /* nothing to store or already stored compressed */
+            return;
+        }
+        result = TextCompressionSupport.get().compressWhenEnabled(result);
+    }
+
+    /**
+     * @return <code>true</code> when result is stored compressed by
+     *         {@link TextCompressionSupport}
+     */
+    boolean isResultStoredCompressed() {
+        return TextCompressionSupport.get().isCompressed(result);
     }
 
     public void setStarted(LocalDateTime started) {
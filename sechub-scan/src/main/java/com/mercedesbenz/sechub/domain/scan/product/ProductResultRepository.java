@@ -4,8 +4,11 @@ package com.mercedesbenz.sechub.domain.scan.product;
 import static com.mercedesbenz.sechub.domain.scan.product.ProductResult.*;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -18,9 +21,12 @@ public interface ProductResultRepository extends JpaRepository<ProductResult, UU
     @Query(value = "DELETE FROM " + TABLE_NAME + " where " + COLUMN_PROJECT_ID + " = ?1", nativeQuery = true)
     void deleteAllResultsForProject(String projectId);
 
+    @Query(ProductResult.QUERY_FIND_RESULT_UUIDS_OLDER_THAN)
+    List<UUID> findResultUUIDsOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp, Pageable pageable);
+
     @Transactional
     @Modifying
-    @Query(ProductResult.QUERY_DELETE_RESULT_OLDER_THAN)
-    int deleteResultsOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp);
+    @Query(ProductResult.QUERY_DELETE_RESULTS_WITH_UUIDS)
+    int deleteResultsWithUUIDs(@Param("uuids") Collection<UUID> uuids);
 
 }
@@ -44,6 +44,7 @@ public class FetchProductExecutionProfileListService {
             entry.id = profile.getId();
             entry.description = profile.getDescription();
             entry.enabled = profile.enabled;
+            entry.concurrentExecution = profile.concurrentExecution;
 
             configList.getExecutionProfiles().add(entry);
         }
@@ -41,6 +41,7 @@ public class ProductExecutionProfile {
     public static final String COLUMN_PROFILE_ID = "PROFILE_ID";
     public static final String COLUMN_PROFILE_DESCRIPTION = "PROFILE_DESCRIPTION";
     public static final String COLUMN_PROFILE_ENABLED = "PROFILE_ENABLED";
+    public static final String COLUMN_PROFILE_CONCURRENT_EXECUTION = "PROFILE_CONCURRENT_EXECUTION";
 
     public static final String PROFILE_TO_PROJECT__COLUMN_PROJECT_ID = "PROJECTS_PROJECT_ID";
     public static final String PROFILE_TO_PROJECT__COLUMN_PROFILE_ID = "PRODUCT_EXECUTION_PROFILE_PROFILE_ID";
@@ -55,6 +56,7 @@ public class ProductExecutionProfile {
     public static final String PROPERTY_PROJECT_IDS = "projectIds";
     public static final String PROPERTY_ENABLED = "enabled";
     public static final String PROPERTY_DESCRIPTION = "description";
+    public static final String PROPERTY_CONCURRENT_EXECUTION = "concurrentExecution";
 
     @Id
     @Column(name = COLUMN_PROFILE_ID)
@@ -66,6 +68,13 @@ public class ProductExecutionProfile {
     @Column(name = COLUMN_PROFILE_ENABLED)
     Boolean enabled;
 
+    /**
+     * When <code>true</code>, product executors of the same scan type are
+     * executed concurrently for projects having this profile.
+     */
+    @Column(name = COLUMN_PROFILE_CONCURRENT_EXECUTION)
+    Boolean concurrentExecution;
+
     @Version
     @Column(name = "VERSION")
     Integer version;
@@ -87,6 +96,10 @@ public class ProductExecutionProfile {
         return enabled;
     }
 
+    public Boolean getConcurrentExecution() {
+        return concurrentExecution;
+    }
+
     public Set<String> getProjectIds() {
         return projectIds;
     }
@@ -16,6 +16,8 @@ public class ProductExecutionProfileListEntry {
 
     Boolean enabled;
 
+    Boolean concurrentExecution;
+
     public String getId() {
         return id;
     }
@@ -28,4 +30,8 @@ public class ProductExecutionProfileListEntry {
         return enabled;
     }
 
+    public Boolean getConcurrentExecution() {
+        return concurrentExecution;
+    }
+
 }
@@ -136,6 +136,33 @@ public class ProductExecutorConfig implements ProductExecutorConfigInfo {
         return name;
     }
 
+    /**
+     * Checks if this configuration shall be executed concurrently to other
+     * configurations for given project. This is the case when at least one
+     * enabled profile containing this configuration and the project has turned
+     * on concurrent execution.
+     *
+     * @param projectId
+     * @return <code>true</code> when concurrent execution is enabled
+     */
+    public boolean isConcurrentExecutionEnabledForProject(String projectId) {
+        if (projectId == null) {
+            return false;
+        }
+        for (ProductExecutionProfile profile : profiles) {
+            if (!Boolean.TRUE.equals(profile.enabled)) {
+                continue;
+            }
+            if (!Boolean.TRUE.equals(profile.concurrentExecution)) {
+                continue;
+            }
+            if (profile.projectIds.contains(projectId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -84,6 +84,7 @@ public class UpdateProductExecutionProfileService {
         ProductExecutionProfile stored = opt.get();
         stored.description = profileFromUser.description;
         stored.enabled = profileFromUser.enabled;
+        stored.concurrentExecution = profileFromUser.concurrentExecution;
 
         /* we change no profile associations with project ids */
 
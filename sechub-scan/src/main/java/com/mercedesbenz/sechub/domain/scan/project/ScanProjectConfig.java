@@ -92,6 +92,15 @@ public class ScanProjectConfig {
         return data;
     }
 
+    /**
+     *
+     * @return version of this configuration entry or <code>null</code> when not
+     *         persisted
+     */
+    public Integer getVersion() {
+        return version;
+    }
+
     @Embeddable
     public static class ScanProjectConfigCompositeKey implements Serializable {
 
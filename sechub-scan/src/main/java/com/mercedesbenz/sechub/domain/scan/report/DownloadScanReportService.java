@@ -3,9 +3,13 @@ package com.mercedesbenz.sechub.domain.scan.report;
 
 import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mercedesbenz.sechub.domain.scan.ScanAssertService;
 import com.mercedesbenz.sechub.domain.scan.SecHubReportProductTransformerService;
 import com.mercedesbenz.sechub.sharedkernel.Step;
@@ -17,6 +21,8 @@ import com.mercedesbenz.sechub.sharedkernel.validation.UserInputAssertion;
 @Service
 public class DownloadScanReportService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DownloadScanReportService.class);
+
     @Autowired
     ScanAssertService scanAssertService;
 
@@ -32,6 +38,12 @@ public class DownloadScanReportService {
     @Autowired
     UserInputAssertion assertion;
 
+    @Autowired
+    ScanSecHubReportJsonCache jsonCache;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
     @UseCaseUserDownloadsJobReport(@Step(number = 3, name = "Resolve scan report result"))
     public ScanSecHubReport getScanSecHubReport(String projectId, UUID jobUUID) {
         /* validate */
@@ -54,4 +66,73 @@ public class DownloadScanReportService {
         return new ScanSecHubReport(report);
     }
 
+    /**
+     * Resolves version information for the report of given job. Does validation,
+     * access checks and audit logging like
+     * {@link #getScanSecHubReport(String, UUID)}, but does not load the report
+     * result itself.
+     *
+     * @param projectId
+     * @param jobUUID
+     * @return version info, never <code>null</code>
+     * @throws NotFoundException when report does not exist
+     */
+    @UseCaseUserDownloadsJobReport(@Step(number = 3, name = "Resolve scan report result"))
+    public ScanReportVersionInfo resolveReportVersionInfo(String projectId, UUID jobUUID) {
+        /* validate */
+        assertion.assertIsValidProjectId(projectId);
+        assertion.assertIsValidJobUUID(jobUUID);
+
+        scanAssertService.assertUserHasAccessToProject(projectId);
+        scanAssertService.assertProjectAllowsReadAccess(projectId);
+
+        /* audit */
+        auditLogService.log("starts download of report for job: {}", jobUUID);
+
+        ScanReportVersionInfo info = reportRepository.findVersionInfoBySecHubJobUUID(jobUUID);
+
+        if (info == null) {
+            throw new NotFoundException("Report not found or you have no access to report!");
+        }
+        scanAssertService.assertUserHasAccessToProject(info.getProjectId());
+
+        return info;
+    }
+
+    /**
+     * Resolves the report as serialized JSON. The JSON is created only once per
+     * report version and then served from a small in memory cache.<br>
+     * <br>
+     * The JSON is created by the object mapper Spring MVC uses for its message
+     * conversion, so the output is exactly the same as when the
+     * {@link ScanSecHubReport} object itself is returned by a REST controller.
+     *
+     * @param info version info, resolved by
+     *             {@link #resolveReportVersionInfo(String, UUID)}
+     * @return JSON as UTF-8 bytes
+     * @throws NotFoundException when report does no longer exist
+     */
+    public byte[] getScanSecHubReportAsJSON(ScanReportVersionInfo info) {
+        byte[] json = jsonCache.get(info);
+        if (json != null) {
+            LOG.debug("Serve report {} in version {} from cache", info.getReportUUID(), info.getVersion());
+            return json;
+        }
+        ScanReport report = reportRepository.findById(info.getReportUUID()).orElseThrow(() -> new NotFoundException("Report not found!"));
+
+        try {
+            json = objectMapper.writeValueAsBytes(new ScanSecHubReport(report));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Was not able to create JSON for report: " + report.getUUID(), e);
+        }
+
+        /*
+         * we use the version of the loaded entity - if the report was changed in the
+         * meantime, the cache entry belongs to the newer version
+         */
+        jsonCache.put(new ScanReportVersionInfo(report.getUUID(), report.version, report.getProjectId()), json);
+
+        return json;
+    }
+
 }
@@ -11,13 +11,17 @@ import javax.persistence.Entity;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.persistence.Version;
 
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
 import com.mercedesbenz.sechub.commons.model.TrafficLight;
+import com.mercedesbenz.sechub.sharedkernel.jpa.TextCompressionSupport;
 
 @Entity
 @Table(name = ScanReport.TABLE_NAME)
@@ -45,7 +49,10 @@ public class ScanReport {
     public static final String CLASS_NAME = ScanReport.class.getSimpleName();
     public static final String PROPERTY_REPORT_STARTED = "started";
 
-    public static final String QUERY_DELETE_REPORTS_OLDER_THAN = "DELETE FROM ScanReport r WHERE r." + PROPERTY_REPORT_STARTED + " < :cleanTimeStamp";
+    public static final String QUERY_FIND_REPORT_UUIDS_OLDER_THAN = "SELECT r.uUID FROM ScanReport r WHERE r." + PROPERTY_REPORT_STARTED + " < :cleanTimeStamp";
+    public static final String QUERY_DELETE_REPORTS_WITH_UUIDS = "DELETE FROM ScanReport r WHERE r.uUID IN :uuids";
+    public static final String QUERY_FIND_REPORT_VERSION_INFO_BY_JOB_UUID = "SELECT new com.mercedesbenz.sechub.domain.scan.report.ScanReportVersionInfo"
+            + "(r.uUID, r.version, r.projectId) FROM ScanReport r WHERE r.secHubJobUUID = :secHubJobUUID";
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -60,7 +67,10 @@ public class ScanReport {
     @Type(type = "text") // why not using @Lob, because hibernate/postgres issues. see
                          // https://stackoverflow.com/questions/25094410/hibernate-error-while-persisting-text-datatype?noredirect=1#comment39048566_25094410
     @Column(name = COLUMN_RESULT)
-    private String result;
+    private String result; // can be compressed, see TextCompressionSupport
+
+    @Transient
+    private String uncompressedResult;
 
     @Enumerated(STRING)
     @Column(name = COLUMN_RESULT_TYPE)
@@ -96,8 +106,32 @@ public class ScanReport {
         return secHubJobUUID;
     }
 
+    /**
+     * @return result - decompressed on first access when stored compressed
+     */
     public String getResult() {
-        return result;
+        if (uncompressedResult == null && result != null) {
+            uncompressedResult = TextCompressionSupport.get().decompress(result);
+        }
+        return uncompressedResult;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void compressResultWhenEnabled() {
+        if (result == null || isResultStoredCompressed()) {
+            /* nothing to store or already stored compressed */
+            return;
+        }
+        result = TextCompressionSupport.get().compressWhenEnabled(result);
+    }
+
+    /**
+     * @return <code>true</code> when result is stored compressed by
+     *         {@link TextCompressionSupport}
+     */
+    boolean isResultStoredCompressed() {
+        return TextCompressionSupport.get().isCompressed(result);
     }
 
     public ScanReportResultType getResultType() {
@@ -129,6 +163,7 @@ public class ScanReport {
 
     public void setResult(String result) {
         this.result = result;
+        this.uncompressedResult = result;
     }
 
     public void setStarted(LocalDateTime started) {
@@ -4,8 +4,11 @@ package com.mercedesbenz.sechub.domain.scan.report;
 import static com.mercedesbenz.sechub.domain.scan.report.ScanReport.*;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,6 +19,16 @@ public interface ScanReportRepository extends JpaRepository<ScanReport, UUID> {
 
     public ScanReport findBySecHubJobUUID(UUID secHubJobUUID);
 
+    /**
+     * Resolves version information for the report of given job without loading
+     * the report result
+     *
+     * @param secHubJobUUID
+     * @return version info or <code>null</code> when there is no report
+     */
+    @Query(ScanReport.QUERY_FIND_REPORT_VERSION_INFO_BY_JOB_UUID)
+    public ScanReportVersionInfo findVersionInfoBySecHubJobUUID(@Param("secHubJobUUID") UUID secHubJobUUID);
+
     @Modifying
     @Query(value = "DELETE FROM " + TABLE_NAME + " where " + COLUMN_PROJECT_ID + " = ?1", nativeQuery = true)
     void deleteAllReportsForProject(String projectId);
@@ -24,8 +37,12 @@ public interface ScanReportRepository extends JpaRepository<ScanReport, UUID> {
     @Query(value = "DELETE FROM " + TABLE_NAME + " where " + COLUMN_SECHUB_JOB_UUID + " = ?1", nativeQuery = true)
     void deleteAllReportsForSecHubJobUUID(UUID sechubJobUUID);
 
+    @Query(ScanReport.QUERY_FIND_REPORT_UUIDS_OLDER_THAN)
+    List<UUID> findReportUUIDsOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp, Pageable pageable);
+
     @Transactional
     @Modifying
-    @Query(ScanReport.QUERY_DELETE_REPORTS_OLDER_THAN)
-    int deleteReportsOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp);
+    @Query(ScanReport.QUERY_DELETE_REPORTS_WITH_UUIDS)
+    int deleteReportsWithUUIDs(@Param("uuids") Collection<UUID> uuids);
+
 }
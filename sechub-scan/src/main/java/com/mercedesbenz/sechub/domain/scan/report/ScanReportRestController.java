@@ -1,22 +1,28 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan.report;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.UUID;
 
 import javax.annotation.security.RolesAllowed;
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.servlet.ModelAndView;
 
 import com.mercedesbenz.sechub.domain.scan.HTMLScanResultReportModelBuilder;
+import com.mercedesbenz.sechub.domain.scan.HTMLScanResultReportRenderer;
 import com.mercedesbenz.sechub.sharedkernel.APIConstants;
 import com.mercedesbenz.sechub.sharedkernel.RoleConstants;
 import com.mercedesbenz.sechub.sharedkernel.Step;
@@ -40,6 +46,9 @@ public class ScanReportRestController {
     @Autowired
     private HTMLScanResultReportModelBuilder htmlModelBuilder;
 
+    @Autowired
+    private HTMLScanResultReportRenderer htmlReportRenderer;
+
     @Autowired
     private DownloadScanReportService downloadReportService;
 
@@ -50,28 +59,40 @@ public class ScanReportRestController {
 	@UseCaseUserDownloadsJobReport(@Step(number=1, next= {3}, name="REST API call to get JSON report", needsRestDoc=true))
 	@UseCaseUserStartsSynchronousScanByClient(@Step(number=4, name="download job report and traffic light"))
 	@RequestMapping(path = "/report/{jobUUID}", method = RequestMethod.GET, produces= {MediaType.APPLICATION_JSON_VALUE})
-	public ScanSecHubReport getScanSecHubReportAsJSON(
+	public ResponseEntity<byte[]> getScanSecHubReportAsJSON(
 			@PathVariable("projectId") String projectId,
-			@PathVariable("jobUUID") UUID jobUUID
+			@PathVariable("jobUUID") UUID jobUUID,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
 			) {
 		/* @formatter:on */
-        return fetchScanSecHubReport(projectId, jobUUID);
+        ScanReportVersionInfo info = downloadReportService.resolveReportVersionInfo(projectId, jobUUID);
+        String eTag = info.createETag();
+
+        if (info.isMatchedBy(ifNoneMatch)) {
+            /* client has already current report - no need to load or transfer it again */
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        byte[] json = downloadReportService.getScanSecHubReportAsJSON(info);
 
+        return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON).body(json);
     }
 
     /* @formatter:off */
 	@UseCaseUserDownloadsJobReport(@Step(number=2, next= {3}, name="REST API call to get HTML report", needsRestDoc=true))
 	@RequestMapping(path = "/report/{jobUUID}", method = RequestMethod.GET, produces= {"application/xhtml+xml", "text/html","text/html;charset=UTF-8"})
-	@ResponseBody
-	public ModelAndView getScanSecHubReportAsHTML(
+	public void getScanSecHubReportAsHTML(
 			@PathVariable("projectId") String projectId,
-			@PathVariable("jobUUID") UUID jobUUID
-			) {
+			@PathVariable("jobUUID") UUID jobUUID,
+			HttpServletResponse response
+			) throws IOException {
 		/* @formatter:on */
         ScanSecHubReport scanSecHubReport = fetchScanSecHubReport(projectId, jobUUID);
 
         Map<String, Object> model = htmlModelBuilder.build(scanSecHubReport);
-        return new ModelAndView("report/html/scanresult", model);
+
+        /* rendered HTML is streamed chunk by chunk to the client */
+        response.setContentType("text/html;charset=UTF-8");
+        htmlReportRenderer.render(model, response.getOutputStream());
     }
 
     /* @formatter:off */
@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+import java.util.UUID;
+
+/**
+ * Lightweight information about a scan report - contains no result data, so
+ * it can be fetched without loading the (potentially huge) result column.
+ */
+public class ScanReportVersionInfo {
+
+    private UUID reportUUID;
+    private Integer version;
+    private String projectId;
+
+    public ScanReportVersionInfo(UUID reportUUID, Integer version, String projectId) {
+        this.reportUUID = reportUUID;
+        this.version = version;
+        this.projectId = projectId;
+    }
+
+    public UUID getReportUUID() {
+        return reportUUID;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    /**
+     * @return strong entity tag for this report version (inclusive quotes) -
+     *         changes whenever the report entity is updated
+     */
+    public String createETag() {
+        return "\"" + reportUUID + "-" + version + "\"";
+    }
+
+    /**
+     * Checks if given "If-None-Match" header value matches the entity tag of
+     * this report version.
+     *
+     * @param ifNoneMatch header value, can be <code>null</code>
+     * @return <code>true</code> when client has already current report version
+     */
+    public boolean isMatchedBy(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String eTag = createETag();
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Small LRU cache for serialized JSON of recently downloaded SecHub reports.
+ * Entries are bound to the report version, so an updated report is never
+ * served from an outdated entry.
+ */
+@Component
+public class ScanSecHubReportJsonCache {
+
+    static final int DEFAULT_MAXIMUM_ENTRIES = 20;
+    static final long DEFAULT_MAXIMUM_BYTES = 100L * 1024 * 1024;
+
+    @MustBeDocumented("Maximum amount of serialized JSON reports kept in memory for repeated report downloads. When 0, no reports are cached.")
+    @Value("${sechub.report.json.cache.maxentries:" + DEFAULT_MAXIMUM_ENTRIES + "}")
+    int maximumEntries = DEFAULT_MAXIMUM_ENTRIES;
+
+    @MustBeDocumented("Maximum amount of bytes used by all serialized JSON reports kept in memory for repeated report downloads. Reports bigger than this limit are never cached.")
+    @Value("${sechub.report.json.cache.maxbytes:" + DEFAULT_MAXIMUM_BYTES + "}")
+    long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+
+    private final Map<UUID, CachedJson> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    /**
+     * Resolves cached JSON for given report version
+     *
+     * @param info report version information
+     * @return JSON bytes or <code>null</code> when not cached
+     */
+    public synchronized byte[] get(ScanReportVersionInfo info) {
+        CachedJson cached = cache.get(info.getReportUUID());
+        if (cached == null) {
+            return null;
+        }
+        if (!isSameVersion(cached, info)) {
+            remove(info.getReportUUID());
+            return null;
+        }
+        return cached.json;
+    }
+
+    public synchronized void put(ScanReportVersionInfo info, byte[] json) {
+        if (info.getReportUUID() == null || json == null) {
+            return;
+        }
+        remove(info.getReportUUID());
+        if (maximumEntries <= 0 || json.length > maximumBytes) {
+            return;
+        }
+        cache.put(info.getReportUUID(), new CachedJson(info.getVersion(), json));
+        cachedBytes += json.length;
+
+        Iterator<CachedJson> eldestFirst = cache.values().iterator();
+        while (eldestFirst.hasNext() && (cache.size() > maximumEntries || cachedBytes > maximumBytes)) {
+            cachedBytes -= eldestFirst.next().json.length;
+            eldestFirst.remove();
+        }
+    }
+
+    synchronized int getAmountOfEntries() {
+        return cache.size();
+    }
+
+    synchronized long getAmountOfCachedBytes() {
+        return cachedBytes;
+    }
+
+    private void remove(UUID reportUUID) {
+        CachedJson removed = cache.remove(reportUUID);
+        if (removed != null) {
+            cachedBytes -= removed.json.length;
+        }
+    }
+
+    private boolean isSameVersion(CachedJson cached, ScanReportVersionInfo info) {
+        if (cached.version == null) {
+            return info.getVersion() == null;
+        }
+        return cached.version.equals(info.getVersion());
+    }
+
+    private static class CachedJson {
+        private final Integer version;
+        private final byte[] json;
+
+        private CachedJson(Integer version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.commons.model.SecHubCodeCallStack;
+import com.mercedesbenz.sechub.commons.model.SecHubFinding;
+
+class HTMLScanResultCodeScanEntriesTest {
+
+    private HtmlCodeScanDescriptionSupport codeScanSupport;
+    private SecHubFinding finding1;
+    private SecHubFinding finding2;
+    private HTMLScanResultCodeScanEntries entriesToTest;
+
+    @BeforeEach
+    void beforeEach() {
+        codeScanSupport = spy(new HtmlCodeScanDescriptionSupport());
+
+        finding1 = createCodeFinding(1);
+        finding2 = createCodeFinding(2);
+
+        entriesToTest = new HTMLScanResultCodeScanEntries(Arrays.asList(finding1, finding2), codeScanSupport);
+    }
+
+    @Test
+    void no_entries_are_built_on_creation() {
+        /* test */
+        assertEquals(2, entriesToTest.size());
+        verify(codeScanSupport, never()).buildEntries(any());
+    }
+
+    @Test
+    void entries_are_built_on_first_access_and_reused_for_same_finding() {
+        /* execute */
+        List<HTMLScanResultCodeScanEntry> entries1 = entriesToTest.get(1);
+        List<HTMLScanResultCodeScanEntry> entries2 = entriesToTest.get(1);
+
+        /* test */
+        assertEquals(1, entries1.size());
+        assertSame(entries1, entries2);
+        verify(codeScanSupport, times(1)).buildEntries(finding1);
+    }
+
+    @Test
+    void entries_of_other_finding_are_built_when_finding_changes() {
+        /* execute */
+        entriesToTest.get(1);
+        entriesToTest.get(2);
+        entriesToTest.get(1);
+
+        /* test */
+        verify(codeScanSupport, times(2)).buildEntries(finding1);
+        verify(codeScanSupport, times(1)).buildEntries(finding2);
+    }
+
+    @Test
+    void unknown_finding_id_returns_null() {
+        /* test */
+        assertNull(entriesToTest.get(3));
+        assertFalse(entriesToTest.containsKey(3));
+        assertTrue(entriesToTest.containsKey(2));
+    }
+
+    @Test
+    void entry_set_contains_entries_for_all_findings() {
+        /* test */
+        assertEquals(2, entriesToTest.entrySet().size());
+        entriesToTest.entrySet().forEach(entry -> assertEquals(1, entry.getValue().size()));
+    }
+
+    private SecHubFinding createCodeFinding(int id) {
+        SecHubFinding finding = new SecHubFinding();
+        finding.setId(id);
+        finding.setCode(new SecHubCodeCallStack());
+        return finding;
+    }
+}
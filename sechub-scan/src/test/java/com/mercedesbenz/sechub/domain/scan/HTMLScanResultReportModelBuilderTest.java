@@ -22,6 +22,7 @@ import com.mercedesbenz.sechub.commons.model.SecHubFinding;
 import com.mercedesbenz.sechub.commons.model.SecHubReportMetaData;
 import com.mercedesbenz.sechub.commons.model.SecHubResult;
 import com.mercedesbenz.sechub.commons.model.SecHubResultTrafficLightFilter;
+import com.mercedesbenz.sechub.commons.model.Severity;
 import com.mercedesbenz.sechub.commons.model.TrafficLight;
 import com.mercedesbenz.sechub.domain.scan.report.ScanSecHubReport;
 
@@ -228,6 +229,37 @@ class HTMLScanResultReportModelBuilderTest {
         assertTrue(scanEntriesList.size() == 2);
     }
 
+    @Test
+    void severity_counts_contain_only_found_severities_ordered_from_high_to_low() {
+        /* prepare */
+        when(scanSecHubReport.getTrafficLight()).thenReturn(TrafficLight.RED);
+        when(result.getFindings()).thenReturn(Arrays.asList(createFinding(Severity.LOW), createFinding(Severity.CRITICAL), createFinding(Severity.LOW),
+                createFinding(Severity.MEDIUM), createFinding(null)));
+
+        /* execute */
+        Map<String, Object> map = builderToTest.build(scanSecHubReport);
+
+        /* test */
+        @SuppressWarnings("unchecked")
+        Map<Severity, Integer> severityCounts = (Map<Severity, Integer>) map.get("severityCounts");
+        assertEquals(Arrays.asList(Severity.CRITICAL, Severity.MEDIUM, Severity.LOW), new ArrayList<>(severityCounts.keySet()));
+        assertEquals(Integer.valueOf(1), severityCounts.get(Severity.CRITICAL));
+        assertEquals(Integer.valueOf(1), severityCounts.get(Severity.MEDIUM));
+        assertEquals(Integer.valueOf(2), severityCounts.get(Severity.LOW));
+    }
+
+    @Test
+    void severity_counts_empty_when_no_findings() {
+        /* prepare */
+        when(scanSecHubReport.getTrafficLight()).thenReturn(TrafficLight.GREEN);
+
+        /* execute */
+        Map<String, Object> map = builderToTest.build(scanSecHubReport);
+
+        /* test */
+        assertEquals(0, ((Map<?, ?>) map.get("severityCounts")).size());
+    }
+
     @Test
     void code_scan_support_set_and_not_null() {
         /* prepare */
@@ -243,4 +275,10 @@ class HTMLScanResultReportModelBuilderTest {
 
     }
 
+    private SecHubFinding createFinding(Severity severity) {
+        SecHubFinding finding = new SecHubFinding();
+        finding.setSeverity(severity);
+        return finding;
+    }
+
 }
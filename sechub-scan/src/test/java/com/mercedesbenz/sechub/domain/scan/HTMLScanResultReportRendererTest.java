@@ -0,0 +1,121 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.dialect.SpringStandardDialect;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.mercedesbenz.sechub.commons.model.SecHubFinding;
+import com.mercedesbenz.sechub.commons.model.SecHubResult;
+import com.mercedesbenz.sechub.commons.model.SecHubResultTrafficLightFilter;
+import com.mercedesbenz.sechub.commons.model.Severity;
+import com.mercedesbenz.sechub.commons.model.TrafficLight;
+import com.mercedesbenz.sechub.domain.scan.report.ScanSecHubReport;
+
+class HTMLScanResultReportRendererTest {
+
+    private HTMLScanResultReportRenderer rendererToTest;
+    private TemplateEngine templateEngine;
+    private HTMLScanResultReportModelBuilder modelBuilder;
+
+    @BeforeEach
+    void beforeEach() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode("HTML");
+        templateResolver.setCharacterEncoding("UTF-8");
+
+        templateEngine = new TemplateEngine();
+        templateEngine.setDialect(new SpringStandardDialect());
+        templateEngine.setTemplateResolver(templateResolver);
+
+        rendererToTest = new HTMLScanResultReportRenderer();
+        rendererToTest.templateEngine = templateEngine;
+
+        modelBuilder = new HTMLScanResultReportModelBuilder();
+        modelBuilder.trafficLightFilter = mock(SecHubResultTrafficLightFilter.class);
+    }
+
+    @Test
+    void big_report_is_written_in_multiple_flushed_chunks() throws Exception {
+        /* prepare */
+        rendererToTest.maximumChunkSizeInBytes = 1024;
+        Map<String, Object> model = createModelWithRedFindings(500);
+        FlushCountingOutputStream outputStream = new FlushCountingOutputStream();
+
+        /* execute */
+        rendererToTest.render(model, outputStream);
+
+        /* test */
+        assertTrue(outputStream.flushCount > 1, "Expected multiple flushes but was: " + outputStream.flushCount);
+        String html = outputStream.toString(StandardCharsets.UTF_8.name());
+        assertTrue(html.contains("finding-1"));
+        assertTrue(html.contains("finding-500"));
+        assertTrue(html.trim().endsWith("</html>"));
+    }
+
+    @Test
+    void streamed_output_is_same_as_output_rendered_at_once() throws Exception {
+        /* prepare */
+        rendererToTest.maximumChunkSizeInBytes = 512;
+        Map<String, Object> model = createModelWithRedFindings(50);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        String expected = templateEngine.process(HTMLScanResultReportRenderer.TEMPLATE_NAME, new Context(Locale.getDefault(), model));
+
+        /* execute */
+        rendererToTest.render(model, outputStream);
+
+        /* test */
+        assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    private Map<String, Object> createModelWithRedFindings(int amount) {
+        SecHubResult result = new SecHubResult();
+        List<SecHubFinding> redList = new ArrayList<>();
+        for (int i = 1; i <= amount; i++) {
+            SecHubFinding finding = new SecHubFinding();
+            finding.setId(i);
+            finding.setName("finding-" + i);
+            finding.setSeverity(Severity.HIGH);
+            result.getFindings().add(finding);
+            redList.add(finding);
+        }
+        when(modelBuilder.trafficLightFilter.filterFindingsFor(result, TrafficLight.RED)).thenReturn(redList);
+        when(modelBuilder.trafficLightFilter.filterFindingsFor(result, TrafficLight.YELLOW)).thenReturn(new ArrayList<>());
+        when(modelBuilder.trafficLightFilter.filterFindingsFor(result, TrafficLight.GREEN)).thenReturn(new ArrayList<>());
+
+        ScanSecHubReport report = mock(ScanSecHubReport.class);
+        when(report.getResult()).thenReturn(result);
+        when(report.getTrafficLight()).thenReturn(TrafficLight.RED);
+        when(report.getJobUUID()).thenReturn(UUID.randomUUID());
+
+        return modelBuilder.build(report);
+    }
+
+    private class FlushCountingOutputStream extends ByteArrayOutputStream {
+        private int flushCount;
+
+        @Override
+        public void flush() throws IOException {
+            super.flush();
+            flushCount++;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import com.mercedesbenz.sechub.domain.scan.ParallelExecutionSupport.ParallelTask;
+
+class ParallelExecutionSupportTest {
+
+    private ParallelExecutionSupport supportToTest;
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void beforeEach() {
+        supportToTest = new ParallelExecutionSupport();
+        executorService = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void afterEach() {
+        executorService.shutdownNow();
+        MDC.clear();
+    }
+
+    @Test
+    void tasks_are_executed_in_parallel_and_first_task_by_calling_thread() throws Exception {
+        /* prepare */
+        CountDownLatch allStarted = new CountDownLatch(3);
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        ParallelTask<RuntimeException> task = () -> {
+            threads.add(Thread.currentThread());
+            allStarted.countDown();
+            try {
+                assertTrue(allStarted.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        /* execute */
+        supportToTest.executeAndWait(Arrays.asList(task, task, task), executorService, RuntimeException.class);
+
+        /* test */
+        assertEquals(3, threads.size());
+        assertTrue(threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    void without_executor_service_tasks_are_executed_one_after_another_and_stop_on_failure() {
+        /* prepare */
+        List<String> calls = new ArrayList<>();
+        ParallelTask<IOException> task1 = () -> calls.add("1");
+        ParallelTask<IOException> task2 = () -> {
+            throw new IOException("failed");
+        };
+        ParallelTask<IOException> task3 = () -> calls.add("3");
+
+        /* execute */
+        IOException exception = assertThrows(IOException.class, () -> supportToTest.executeAndWait(Arrays.asList(task1, task2, task3), null, IOException.class));
+
+        /* test */
+        assertEquals("failed", exception.getMessage());
+        assertEquals(Arrays.asList("1"), calls);
+    }
+
+    @Test
+    void checked_failure_of_other_thread_is_thrown_after_all_tasks_are_done() {
+        /* prepare */
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        ParallelTask<IOException> task1 = () -> calls.add("1");
+        ParallelTask<IOException> task2 = () -> {
+            throw new IOException("failed");
+        };
+        ParallelTask<IOException> task3 = () -> calls.add("3");
+
+        /* execute */
+        IOException exception = assertThrows(IOException.class,
+                () -> supportToTest.executeAndWait(Arrays.asList(task1, task2, task3), executorService, IOException.class));
+
+        /* test */
+        assertEquals("failed", exception.getMessage());
+        assertEquals(2, calls.size());
+    }
+
+    @Test
+    void runtime_failure_is_thrown_as_is() {
+        /* prepare */
+        IllegalArgumentException failure = new IllegalArgumentException();
+        ParallelTask<IOException> task1 = () -> {
+        };
+        ParallelTask<IOException> task2 = () -> {
+            throw failure;
+        };
+
+        /* execute + test */
+        assertSame(failure, assertThrows(IllegalArgumentException.class,
+                () -> supportToTest.executeAndWait(Arrays.asList(task1, task2), executorService, IOException.class)));
+    }
+
+    @Test
+    void mdc_of_calling_thread_is_available_in_other_threads() throws Exception {
+        /* prepare */
+        MDC.put("test-key", "test-value");
+        List<String> mdcValues = Collections.synchronizedList(new ArrayList<>());
+        ParallelTask<RuntimeException> task = () -> mdcValues.add(MDC.get("test-key"));
+
+        /* execute */
+        supportToTest.executeAndWait(Arrays.asList(task, task, task), executorService, RuntimeException.class);
+
+        /* test */
+        assertEquals(Arrays.asList("test-value", "test-value", "test-value"), mdcValues);
+    }
+
+    @Test
+    void interrupted_calling_thread_interrupts_other_tasks() throws Exception {
+        /* prepare */
+        CountDownLatch otherTaskInterrupted = new CountDownLatch(1);
+        ParallelTask<RuntimeException> firstTask = () -> Thread.currentThread().interrupt();
+        ParallelTask<RuntimeException> otherTask = () -> {
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                otherTaskInterrupted.countDown();
+            }
+        };
+
+        /* execute */
+        supportToTest.executeAndWait(Arrays.asList(firstTask, otherTask), executorService, RuntimeException.class);
+
+        /* test */
+        assertTrue(Thread.interrupted()); // also resets interrupt flag
+        assertTrue(otherTaskInterrupted.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,178 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessage;
+import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageService;
+import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
+import com.mercedesbenz.sechub.sharedkernel.messaging.MessageDataKeys;
+import com.mercedesbenz.sechub.sharedkernel.messaging.MessageID;
+
+class ScanJobCancelRequestRegistryTest {
+
+    private ScanJobCancelRequestRegistry registryToTest;
+    private DomainMessageService eventBus;
+
+    @BeforeEach
+    void beforeEach() {
+        eventBus = mock(DomainMessageService.class);
+        registryToTest = new ScanJobCancelRequestRegistry();
+        registryToTest.eventBus = eventBus;
+    }
+
+    @Test
+    void signaled_cancel_request_for_registered_job_is_recognized_without_request() throws Exception {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        ScanJobCancelSignal signal = registryToTest.register(jobUUID);
+
+        /* execute */
+        registryToTest.signalCancelRequested(jobUUID);
+
+        /* test */
+        assertTrue(signal.isCancelRequested());
+        assertTrue(signal.waitForCancelRequestOrJobDone());
+        verifyNoInteractions(eventBus);
+    }
+
+    @Test
+    void signaled_cancel_request_for_other_job_is_ignored() {
+        /* prepare */
+        ScanJobCancelSignal signal = registryToTest.register(UUID.randomUUID());
+
+        /* execute */
+        registryToTest.signalCancelRequested(UUID.randomUUID());
+
+        /* test */
+        assertFalse(signal.isCancelRequested());
+    }
+
+    @Test
+    void job_done_ends_waiting_without_cancel_request() throws Exception {
+        /* prepare */
+        ScanJobCancelSignal signal = registryToTest.register(UUID.randomUUID());
+        Thread jobThread = new Thread(signal::signalJobDone);
+
+        /* execute */
+        jobThread.start();
+        boolean cancelRequested = signal.waitForCancelRequestOrJobDone();
+
+        /* test */
+        assertFalse(cancelRequested);
+    }
+
+    @Test
+    void periodic_check_sends_one_request_for_all_jobs_and_signals_cancel_requested_ones() {
+        /* prepare */
+        UUID jobUUID1 = UUID.randomUUID();
+        UUID jobUUID2 = UUID.randomUUID();
+        UUID jobUUID3 = UUID.randomUUID();
+
+        ScanJobCancelSignal signal1 = registryToTest.register(jobUUID1);
+        ScanJobCancelSignal signal2 = registryToTest.register(jobUUID2);
+        ScanJobCancelSignal signal3 = registryToTest.register(jobUUID3);
+
+        mockCancelRequestedJobsResult(Arrays.asList(jobUUID2));
+
+        /* execute */
+        registryToTest.checkCancelRequests();
+
+        /* test */
+        List<UUID> requestedJobUUIDs = verifyOneRequestAndFetchRequestedJobUUIDs();
+        assertEquals(3, requestedJobUUIDs.size());
+        assertTrue(requestedJobUUIDs.containsAll(Arrays.asList(jobUUID1, jobUUID2, jobUUID3)));
+
+        assertFalse(signal1.isCancelRequested());
+        assertTrue(signal2.isCancelRequested());
+        assertFalse(signal3.isCancelRequested());
+    }
+
+    @Test
+    void periodic_check_does_not_request_jobs_already_signaled() {
+        /* prepare */
+        UUID jobUUID1 = UUID.randomUUID();
+        UUID jobUUID2 = UUID.randomUUID();
+        registryToTest.register(jobUUID1);
+        registryToTest.register(jobUUID2);
+        registryToTest.signalCancelRequested(jobUUID1);
+
+        mockCancelRequestedJobsResult(Collections.emptyList());
+
+        /* execute */
+        registryToTest.checkCancelRequests();
+
+        /* test */
+        List<UUID> requestedJobUUIDs = verifyOneRequestAndFetchRequestedJobUUIDs();
+        assertEquals(Arrays.asList(jobUUID2), requestedJobUUIDs);
+    }
+
+    @Test
+    void periodic_check_sends_no_request_when_all_jobs_already_signaled() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        registryToTest.register(jobUUID);
+        registryToTest.signalCancelRequested(jobUUID);
+
+        /* execute */
+        registryToTest.checkCancelRequests();
+
+        /* test */
+        verifyNoInteractions(eventBus);
+    }
+
+    @Test
+    void periodic_check_failure_does_not_signal_cancel_request() {
+        /* prepare */
+        ScanJobCancelSignal signal = registryToTest.register(UUID.randomUUID());
+        when(eventBus.sendSynchron(any())).thenThrow(new IllegalStateException("test failure"));
+
+        /* execute */
+        registryToTest.checkCancelRequests();
+
+        /* test */
+        assertFalse(signal.isCancelRequested());
+    }
+
+    @Test
+    void unregistered_job_is_no_longer_checked() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        registryToTest.register(jobUUID);
+
+        /* execute */
+        registryToTest.unregister(jobUUID);
+        registryToTest.checkCancelRequests();
+
+        /* test */
+        assertEquals(0, registryToTest.getAmountOfRegisteredJobs());
+        verifyNoInteractions(eventBus);
+    }
+
+    private void mockCancelRequestedJobsResult(List<UUID> cancelRequestedJobUUIDs) {
+        DomainMessageSynchronousResult result = new DomainMessageSynchronousResult(MessageID.SCHEDULER_CANCEL_REQUESTED_JOBS);
+        result.set(MessageDataKeys.SECHUB_JOB_UUIDS, cancelRequestedJobUUIDs);
+        when(eventBus.sendSynchron(any())).thenReturn(result);
+    }
+
+    private List<UUID> verifyOneRequestAndFetchRequestedJobUUIDs() {
+        ArgumentCaptor<DomainMessage> captor = ArgumentCaptor.forClass(DomainMessage.class);
+        verify(eventBus, times(1)).sendSynchron(captor.capture());
+
+        DomainMessage request = captor.getValue();
+        assertEquals(MessageID.REQUEST_SCHEDULER_CANCEL_REQUESTED_JOBS, request.getMessageId());
+        return request.get(MessageDataKeys.SECHUB_JOB_UUIDS);
+    }
+
+}
@@ -0,0 +1,154 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import com.mercedesbenz.sechub.domain.scan.product.AnalyticsProductExecutionService;
+import com.mercedesbenz.sechub.domain.scan.product.CodeScanProductExecutionService;
+import com.mercedesbenz.sechub.domain.scan.product.InfrastructureScanProductExecutionService;
+import com.mercedesbenz.sechub.domain.scan.product.LicenseScanProductExecutionService;
+import com.mercedesbenz.sechub.domain.scan.product.SecretScanProductExecutionService;
+import com.mercedesbenz.sechub.domain.scan.product.WebScanProductExecutionService;
+
+class ScanJobExecutionRunnableTest {
+
+    private ExecutorService scanTypeExecutor;
+    private ProductExecutionServiceContainer container;
+    private CodeScanProductExecutionService codeScanProductExecutionService;
+    private WebScanProductExecutionService webScanProductExecutionService;
+    private InfrastructureScanProductExecutionService infraScanProductExecutionService;
+    private LicenseScanProductExecutionService licenseScanProductExecutionService;
+    private SecretScanProductExecutionService secretScanProductExecutionService;
+    private SecHubExecutionContext context;
+    private ScanJobRunnableData runnableData;
+
+    @BeforeEach
+    void beforeEach() {
+        scanTypeExecutor = Executors.newFixedThreadPool(5);
+
+        codeScanProductExecutionService = mock(CodeScanProductExecutionService.class);
+        webScanProductExecutionService = mock(WebScanProductExecutionService.class);
+        infraScanProductExecutionService = mock(InfrastructureScanProductExecutionService.class);
+        licenseScanProductExecutionService = mock(LicenseScanProductExecutionService.class);
+        secretScanProductExecutionService = mock(SecretScanProductExecutionService.class);
+
+        container = mock(ProductExecutionServiceContainer.class);
+        when(container.getAnalyticsProductExecutionService()).thenReturn(mock(AnalyticsProductExecutionService.class));
+        when(container.getCodeScanProductExecutionService()).thenReturn(codeScanProductExecutionService);
+        when(container.getWebScanProductExecutionService()).thenReturn(webScanProductExecutionService);
+        when(container.getInfraScanProductExecutionService()).thenReturn(infraScanProductExecutionService);
+        when(container.getLicenseScanProductExecutionService()).thenReturn(licenseScanProductExecutionService);
+        when(container.getSecretScanProductExecutionService()).thenReturn(secretScanProductExecutionService);
+        when(container.getScanTypeExecutor()).thenReturn(scanTypeExecutor);
+
+        UUID sechubJobUUID = UUID.randomUUID();
+        context = new SecHubExecutionContext(sechubJobUUID, null, "user1", UUID.randomUUID());
+        runnableData = new ScanJobRunnableData(sechubJobUUID, container, context);
+    }
+
+    @AfterEach
+    void afterEach() {
+        scanTypeExecutor.shutdownNow();
+    }
+
+    @Test
+    void scan_types_are_executed_in_parallel() throws Exception {
+        /* prepare */
+        CountDownLatch allScanTypesStarted = new CountDownLatch(3);
+        Answer<Void> waitForOtherScanTypes = invocation -> {
+            allScanTypesStarted.countDown();
+            if (!allScanTypesStarted.await(5, TimeUnit.SECONDS)) {
+                throw new SecHubExecutionException("Scan types were not executed in parallel");
+            }
+            return null;
+        };
+        doAnswer(waitForOtherScanTypes).when(codeScanProductExecutionService).executeProductsAndStoreResults(context);
+        doAnswer(waitForOtherScanTypes).when(licenseScanProductExecutionService).executeProductsAndStoreResults(context);
+        doAnswer(waitForOtherScanTypes).when(secretScanProductExecutionService).executeProductsAndStoreResults(context);
+
+        /* execute */
+        new ScanJobExecutionRunnable(runnableData).run();
+
+        /* test */
+        assertNull(runnableData.getException());
+        verify(webScanProductExecutionService).executeProductsAndStoreResults(context);
+        verify(infraScanProductExecutionService).executeProductsAndStoreResults(context);
+    }
+
+    @Test
+    void failure_in_parallel_scan_type_is_set_as_exception_after_all_scan_types_are_done() throws Exception {
+        /* prepare */
+        SecHubExecutionException failure = new SecHubExecutionException("web scan failed");
+        doThrow(failure).when(webScanProductExecutionService).executeProductsAndStoreResults(context);
+
+        /* execute */
+        new ScanJobExecutionRunnable(runnableData).run();
+
+        /* test */
+        assertSame(failure, runnableData.getException());
+        verify(codeScanProductExecutionService).executeProductsAndStoreResults(context);
+        verify(infraScanProductExecutionService).executeProductsAndStoreResults(context);
+        verify(licenseScanProductExecutionService).executeProductsAndStoreResults(context);
+        verify(secretScanProductExecutionService).executeProductsAndStoreResults(context);
+    }
+
+    @Test
+    void without_scan_type_executor_scan_types_are_executed_one_after_another_and_stop_on_failure() throws Exception {
+        /* prepare */
+        when(container.getScanTypeExecutor()).thenReturn(null);
+        SecHubExecutionException failure = new SecHubExecutionException("web scan failed");
+        doThrow(failure).when(webScanProductExecutionService).executeProductsAndStoreResults(context);
+
+        /* execute */
+        new ScanJobExecutionRunnable(runnableData).run();
+
+        /* test */
+        assertSame(failure, runnableData.getException());
+        verify(codeScanProductExecutionService).executeProductsAndStoreResults(context);
+        verify(infraScanProductExecutionService, never()).executeProductsAndStoreResults(any());
+    }
+
+    @Test
+    void interrupted_scan_job_thread_interrupts_parallel_scan_type_executions() throws Exception {
+        /* prepare */
+        CountDownLatch webScanStarted = new CountDownLatch(1);
+        CountDownLatch webScanInterrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            webScanStarted.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                webScanInterrupted.countDown();
+            }
+            return null;
+        }).when(webScanProductExecutionService).executeProductsAndStoreResults(context);
+
+        doAnswer(invocation -> {
+            /* code scan is executed by scan job thread itself - we simulate cancel */
+            webScanStarted.await(5, TimeUnit.SECONDS);
+            Thread.currentThread().interrupt();
+            return null;
+        }).when(codeScanProductExecutionService).executeProductsAndStoreResults(context);
+
+        /* execute */
+        Thread scanJobThread = new Thread(new ScanJobExecutionRunnable(runnableData));
+        scanJobThread.start();
+        scanJobThread.join(5000);
+
+        /* test */
+        assertTrue(webScanInterrupted.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import com.mercedesbenz.sechub.sharedkernel.messaging.AsynchronMessageHandler;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessage;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageService;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DummyEventInspector;
+import com.mercedesbenz.sechub.sharedkernel.messaging.JobMessage;
 import com.mercedesbenz.sechub.sharedkernel.messaging.MessageDataKeys;
 import com.mercedesbenz.sechub.sharedkernel.messaging.MessageID;
 import com.mercedesbenz.sechub.sharedkernel.messaging.ProjectMessage;
@@ -50,6 +52,7 @@ class ScanMessageHandlerTest {
         messageHandlerToTest.projectDataDeleteService = mock(ProjectDataDeleteService.class);
         messageHandlerToTest.projectAccessLevelService = mock(ScanProjectConfigAccessLevelService.class);
         messageHandlerToTest.configService = mock(ScanConfigService.class);
+        messageHandlerToTest.cancelRequestRegistry = mock(ScanJobCancelRequestRegistry.class);
 
         List<AsynchronMessageHandler> injectedAsynchronousHandlers = new ArrayList<>();
         injectedAsynchronousHandlers.add(messageHandlerToTest);
@@ -98,6 +101,23 @@ class ScanMessageHandlerTest {
 
     }
 
+    @Test
+    void when_sending_message_id_JOB_CANCELLATION_RUNNING_cancel_request_is_signaled_to_registry() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        DomainMessage request = new DomainMessage(MessageID.JOB_CANCELLATION_RUNNING);
+        JobMessage content = new JobMessage();
+        content.setJobUUID(jobUUID);
+        request.set(MessageDataKeys.JOB_CANCEL_DATA, content);
+
+        /* execute */
+        simulateEventSend(request, messageHandlerToTest);
+
+        /* test */
+        verify(messageHandlerToTest.cancelRequestRegistry).signalCancelRequested(jobUUID);
+
+    }
+
     @Test
     void when_sending_message_id_PROJECT_DELETED_the_deleteAllDataForProject_is_called() {
         /* prepare */
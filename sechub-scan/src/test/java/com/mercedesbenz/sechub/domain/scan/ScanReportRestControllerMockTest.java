@@ -24,6 +24,7 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
@@ -40,12 +41,13 @@ import com.mercedesbenz.sechub.domain.scan.report.DownloadSpdxScanReportService;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReport;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReportRepository;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReportRestController;
+import com.mercedesbenz.sechub.domain.scan.report.ScanReportVersionInfo;
 import com.mercedesbenz.sechub.domain.scan.report.ScanSecHubReport;
 import com.mercedesbenz.sechub.test.TestPortProvider;
 
 @ExtendWith(SpringExtension.class)
 @WebMvcTest(ScanReportRestController.class)
-@ContextConfiguration(classes = { ScanReportRestController.class, ScanReportRestControllerMockTest.SimpleTestConfiguration.class })
+@ContextConfiguration(classes = { ScanReportRestController.class, HTMLScanResultReportRenderer.class, ScanReportRestControllerMockTest.SimpleTestConfiguration.class })
 class ScanReportRestControllerMockTest {
 
     private static final String PROJECT1_ID = "project1";
@@ -89,6 +91,27 @@ class ScanReportRestControllerMockTest {
         internalTestAcceptedAndReturnsJSON(MediaType.APPLICATION_JSON);
     }
 
+    @Test
+    @WithMockUser
+    void get_report_from_existing_job_returns_304_NOT_MODIFIED_without_loading_report_when_etag_matches() throws Exception {
+        /* prepare */
+        ScanReportVersionInfo info = new ScanReportVersionInfo(UUID.randomUUID(), 1, PROJECT1_ID);
+        when(downloadReportService.resolveReportVersionInfo(PROJECT1_ID, randomUUID)).thenReturn(info);
+
+        /* execute + test @formatter:off */
+        this.mockMvc.perform(
+                get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_JSON).
+                    header(HttpHeaders.IF_NONE_MATCH, info.createETag())
+                ).
+                    andExpect(status().isNotModified()).
+                    andExpect(header().string(HttpHeaders.ETAG, info.createETag())).
+                    andExpect(content().bytes(new byte[0])
+                );
+
+        /* @formatter:on */
+        verify(downloadReportService, never()).getScanSecHubReportAsJSON(any());
+    }
+
     @Test
     @WithMockUser
     void get_report_from_existing_job_returns_406_NOT_ACCEPTABLE__when_type_is_APPLICATION_PDF() throws Exception {
@@ -98,7 +121,9 @@ class ScanReportRestControllerMockTest {
         scanReport.setTrafficLight(TrafficLight.YELLOW);
 
         ScanSecHubReport scanSecHubReport = new ScanSecHubReport(scanReport);
-        when(downloadReportService.getScanSecHubReport(PROJECT1_ID, randomUUID)).thenReturn(scanSecHubReport);
+        ScanReportVersionInfo info = new ScanReportVersionInfo(UUID.randomUUID(), 0, PROJECT1_ID);
+        when(downloadReportService.resolveReportVersionInfo(PROJECT1_ID, randomUUID)).thenReturn(info);
+        when(downloadReportService.getScanSecHubReportAsJSON(info)).thenReturn(scanSecHubReport.toJSON().getBytes());
 
         /* execute + test @formatter:off */
         this.mockMvc.perform(
@@ -204,7 +229,9 @@ class ScanReportRestControllerMockTest {
         report.setTrafficLight(TrafficLight.YELLOW);
 
         ScanSecHubReport scanSecHubReport = new ScanSecHubReport(report);
-        when(downloadReportService.getScanSecHubReport(PROJECT1_ID, randomUUID)).thenReturn(scanSecHubReport);
+        ScanReportVersionInfo info = new ScanReportVersionInfo(UUID.randomUUID(), 0, PROJECT1_ID);
+        when(downloadReportService.resolveReportVersionInfo(PROJECT1_ID, randomUUID)).thenReturn(info);
+        when(downloadReportService.getScanSecHubReportAsJSON(info)).thenReturn(scanSecHubReport.toJSON().getBytes());
 
         /* execute + test @formatter:off */
 	    this.mockMvc.perform(
@@ -212,6 +239,7 @@ class ScanReportRestControllerMockTest {
 	    			contentType(MediaType.APPLICATION_JSON_VALUE)
 	    		).
 	    			andExpect(status().isOk()).
+	    			andExpect(header().string(HttpHeaders.ETAG, info.createETag())).
 	    			andExpect(content().json("{\"jobUUID\":\""+randomUUID.toString()+"\",\"result\":{\"count\":0,\"findings\":[]},\"trafficLight\":\"YELLOW\"}")
 	    		);
 
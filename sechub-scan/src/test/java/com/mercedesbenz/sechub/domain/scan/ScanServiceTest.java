@@ -29,7 +29,6 @@ import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfigService;
 import com.mercedesbenz.sechub.domain.scan.project.ScanProjectMockDataConfiguration;
 import com.mercedesbenz.sechub.domain.scan.report.CreateScanReportService;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReport;
-import com.mercedesbenz.sechub.sharedkernel.ProgressMonitor;
 import com.mercedesbenz.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.mercedesbenz.sechub.sharedkernel.messaging.AsynchronMessageHandler;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessage;
@@ -61,7 +60,6 @@ public class ScanServiceTest {
     private ProjectScanLogService scanLogService;
     private ScanProjectConfigService scanProjectConfigService;
     private ScanJobListener scanJobRegistry;
-    private ScanProgressMonitorFactory monitorFactory;
     private LicenseScanProductExecutionService licenseScanProductExecutionService;
     private ProductExecutionServiceContainer productExecutionServiceContainer;
     private AnalyticsProductExecutionService analyticsProductExecutionService;
@@ -73,12 +71,8 @@ public class ScanServiceTest {
         jobStorage = mock(JobStorage.class);
         scanProjectConfigService = mock(ScanProjectConfigService.class);
         scanJobRegistry = mock(ScanJobListener.class);
-        monitorFactory = mock(ScanProgressMonitorFactory.class);
-        ProgressMonitor monitor = mock(ProgressMonitor.class);
-        when(monitor.getId()).thenReturn("monitor-test-id");
 
         when(storageService.getJobStorage(any(), any())).thenReturn(jobStorage);
-        when(monitorFactory.createProgressMonitor(any())).thenReturn(monitor);
 
         webScanProductExecutionService = mock(WebScanProductExecutionService.class);
         codeScanProductExecutionService = mock(CodeScanProductExecutionService.class);
@@ -108,7 +102,7 @@ public class ScanServiceTest {
         serviceToTest.scanLogService = scanLogService;
         serviceToTest.scanProjectConfigService = scanProjectConfigService;
         serviceToTest.scanJobListener = scanJobRegistry;
-        serviceToTest.monitorFactory = monitorFactory;
+        serviceToTest.cancelRequestRegistry = new ScanJobCancelRequestRegistry();
     }
 
     @Test
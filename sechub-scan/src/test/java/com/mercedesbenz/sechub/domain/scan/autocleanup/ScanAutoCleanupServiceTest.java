@@ -1,24 +1,28 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan.autocleanup;
 
-import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkIdDeleter;
 import com.mercedesbenz.sechub.domain.scan.config.ScanConfigService;
 import com.mercedesbenz.sechub.domain.scan.log.ProjectScanLogRepository;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResultRepository;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReportRepository;
 import com.mercedesbenz.sechub.sharedkernel.TimeCalculationService;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResult;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResultInspector;
+import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupChunkedDeleteService;
+import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupIdFinder;
 
 class ScanAutoCleanupServiceTest {
 
@@ -28,7 +32,7 @@ class ScanAutoCleanupServiceTest {
     private ProductResultRepository productResultRepository;
     private ProjectScanLogRepository projectScanLogRepository;
     private ScanReportRepository scanReportRepository;
-    private AutoCleanupResultInspector inspector;
+    private AutoCleanupChunkedDeleteService chunkedDeleteService;
 
     @BeforeEach
     void beforeEach() {
@@ -39,14 +43,14 @@ class ScanAutoCleanupServiceTest {
         productResultRepository = mock(ProductResultRepository.class);
         projectScanLogRepository = mock(ProjectScanLogRepository.class);
         scanReportRepository = mock(ScanReportRepository.class);
-        inspector = mock(AutoCleanupResultInspector.class);
+        chunkedDeleteService = mock(AutoCleanupChunkedDeleteService.class);
 
         serviceToTest.configService = configService;
         serviceToTest.productResultRepository = productResultRepository;
         serviceToTest.projectScanLogRepository = projectScanLogRepository;
         serviceToTest.scanReportRepository = scanReportRepository;
         serviceToTest.timeCalculationService = timeCalculationService;
-        serviceToTest.inspector = inspector;
+        serviceToTest.chunkedDeleteService = chunkedDeleteService;
     }
 
     @Test
@@ -63,11 +67,11 @@ class ScanAutoCleanupServiceTest {
         /* test */
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService, never()).calculateNowMinusDays(any());
-        verify(productResultRepository, never()).deleteResultsOlderThan(cleanTime);
-        verify(projectScanLogRepository, never()).deleteLogsOlderThan(cleanTime);
-        verify(scanReportRepository, never()).deleteReportsOlderThan(cleanTime);
-        // check inspection as expected: never because not executed
-        verify(inspector, never()).inspect(any());
+        verify(productResultRepository, never()).deleteResultsWithUUIDs(any());
+        verify(projectScanLogRepository, never()).deleteLogsWithUUIDs(any());
+        verify(scanReportRepository, never()).deleteReportsWithUUIDs(any());
+        // check chunked deletion as expected: never because not executed
+        verify(chunkedDeleteService, never()).deleteOlderThan(any(), any(), anyLong(), any(), any(), any());
     }
 
     @Test
@@ -78,45 +82,39 @@ class ScanAutoCleanupServiceTest {
         LocalDateTime cleanTime = LocalDateTime.now().minusDays(days);
         when(timeCalculationService.calculateNowMinusDays(any())).thenReturn(cleanTime);
 
-        when(projectScanLogRepository.deleteLogsOlderThan(cleanTime)).thenReturn(10);
-        when(productResultRepository.deleteResultsOlderThan(cleanTime)).thenReturn(20);
-        when(scanReportRepository.deleteReportsOlderThan(cleanTime)).thenReturn(30);
-
         /* execute */
         serviceToTest.cleanup();
 
         /* test */
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService).calculateNowMinusDays(eq(days));
-        verify(productResultRepository, times(1)).deleteResultsOlderThan(cleanTime);
-        verify(projectScanLogRepository, times(1)).deleteLogsOlderThan(cleanTime);
-        verify(scanReportRepository, times(1)).deleteReportsOlderThan(cleanTime);
-
-        // check inspection as expected
-        ArgumentCaptor<AutoCleanupResult> captor = ArgumentCaptor.forClass(AutoCleanupResult.class);
-        verify(inspector, times(3)).inspect(captor.capture());
-
-        List<AutoCleanupResult> values = captor.getAllValues();
-        for (AutoCleanupResult result : values) {
-            assertEquals(cleanTime, result.getUsedCleanupTimeStamp());
-            assertEquals(days, result.getCleanupTimeInDays());
-
-            String variant = result.getKey().getVariant();
-
-            switch (variant) {
-            case "scan-logs":
-                assertEquals(10, result.getDeletedEntries());
-                break;
-            case "product-results":
-                assertEquals(20, result.getDeletedEntries());
-                break;
-            case "scan-reports":
-                assertEquals(30, result.getDeletedEntries());
-                break;
-            default:
-                fail("unexpected variant:" + variant);
-            }
-        }
+
+        // check chunked deletion as expected and finders and deleters use the repositories
+        Pageable pageable = PageRequest.of(0, 1000);
+        List<UUID> uuids = Arrays.asList(UUID.randomUUID(), UUID.randomUUID());
+
+        executeCapturedFinderAndDeleter("scan-logs", days, cleanTime, pageable, uuids);
+        verify(projectScanLogRepository).findLogUUIDsOlderThan(cleanTime, pageable);
+        verify(projectScanLogRepository).deleteLogsWithUUIDs(uuids);
+
+        executeCapturedFinderAndDeleter("product-results", days, cleanTime, pageable, uuids);
+        verify(productResultRepository).findResultUUIDsOlderThan(cleanTime, pageable);
+        verify(productResultRepository).deleteResultsWithUUIDs(uuids);
+
+        executeCapturedFinderAndDeleter("scan-reports", days, cleanTime, pageable, uuids);
+        verify(scanReportRepository).findReportUUIDsOlderThan(cleanTime, pageable);
+        verify(scanReportRepository).deleteReportsWithUUIDs(uuids);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void executeCapturedFinderAndDeleter(String variant, long days, LocalDateTime cleanTime, Pageable pageable, List<UUID> uuids) {
+        ArgumentCaptor<AutoCleanupIdFinder<UUID>> idFinderCaptor = ArgumentCaptor.forClass(AutoCleanupIdFinder.class);
+        ArgumentCaptor<ChunkIdDeleter<UUID>> idDeleterCaptor = ArgumentCaptor.forClass(ChunkIdDeleter.class);
+        verify(chunkedDeleteService).deleteOlderThan(eq(variant), eq(ScanAutoCleanupService.class), eq(days), eq(cleanTime), idFinderCaptor.capture(),
+                idDeleterCaptor.capture());
+
+        idFinderCaptor.getValue().findIdsOlderThan(cleanTime, pageable);
+        idDeleterCaptor.getValue().deleteIds(uuids);
     }
 
 }
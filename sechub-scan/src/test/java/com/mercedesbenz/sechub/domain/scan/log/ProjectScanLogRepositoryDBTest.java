@@ -5,6 +5,7 @@ import static com.mercedesbenz.sechub.test.FlakyOlderThanTestWorkaround.*;
 import static org.junit.Assert.*;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,9 +17,11 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkedDeleteSupport;
 import com.mercedesbenz.sechub.domain.scan.access.ScanAccessRepository;
 
 @RunWith(SpringRunner.class)
@@ -26,6 +29,8 @@ import com.mercedesbenz.sechub.domain.scan.access.ScanAccessRepository;
 @ContextConfiguration(classes = { ScanAccessRepository.class, ProjectScanLogRepositoryDBTest.SimpleTestConfiguration.class })
 public class ProjectScanLogRepositoryDBTest {
 
+    private static final int TEST_CHUNK_SIZE = 2;
+
     @Autowired
     private ProjectScanLogRepository repositoryToTest;
 
@@ -37,6 +42,47 @@ public class ProjectScanLogRepositoryDBTest {
 
     }
 
+    @Test
+    public void findLogUUIDsOlderThan_returns_only_older_logs_limited_by_page_size() throws Exception {
+        /* prepare */
+        DeleteProjectScanLogTestData testData = new DeleteProjectScanLogTestData();
+        testData.createAndCheckAvailable();
+
+        LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
+
+        /* execute */
+        List<UUID> all = repositoryToTest.findLogUUIDsOlderThan(olderThan, PageRequest.of(0, 10));
+        List<UUID> limited = repositoryToTest.findLogUUIDsOlderThan(olderThan, PageRequest.of(0, 2));
+
+        /* test */
+        assertEquals(3, all.size());
+        assertTrue(all.contains(testData.job1_90_days_before_created.getUUID()));
+        assertTrue(all.contains(testData.job2_2_days_before_created.getUUID()));
+        assertTrue(all.contains(testData.job3_1_day_before_created.getUUID()));
+
+        assertEquals(2, limited.size());
+        assertTrue(all.containsAll(limited));
+    }
+
+    @Test
+    public void deleteLogsWithUUIDs_deletes_only_given_logs() throws Exception {
+        /* prepare */
+        DeleteProjectScanLogTestData testData = new DeleteProjectScanLogTestData();
+        testData.createAndCheckAvailable();
+
+        /* execute */
+        int deleted = repositoryToTest.deleteLogsWithUUIDs(Arrays.asList(testData.job1_90_days_before_created.getUUID(), testData.job4_now_created.getUUID()));
+        repositoryToTest.flush();
+        entityManager.clear();
+
+        /* test */
+        assertEquals(2, deleted);
+        List<ProjectScanLog> allNow = repositoryToTest.findAll();
+        assertTrue(allNow.contains(testData.job2_2_days_before_created));
+        assertTrue(allNow.contains(testData.job3_1_day_before_created));
+        assertEquals(2, allNow.size());
+    }
+
     @Test
     public void test_data_4_jobs_delete_1_day_still_has_2() throws Exception {
         /* prepare */
@@ -46,7 +92,7 @@ public class ProjectScanLogRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_1_day);
 
         /* execute */
-        int deleted = repositoryToTest.deleteLogsOlderThan(olderThan);
+        int deleted = deleteLogsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -66,7 +112,7 @@ public class ProjectScanLogRepositoryDBTest {
         LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
 
         /* execute */
-        int deleted = repositoryToTest.deleteLogsOlderThan(olderThan);
+        int deleted = deleteLogsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -85,7 +131,7 @@ public class ProjectScanLogRepositoryDBTest {
         LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
 
         /* execute */
-        int deleted = repositoryToTest.deleteLogsOlderThan(olderThan);
+        int deleted = deleteLogsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -101,7 +147,7 @@ public class ProjectScanLogRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_90_days);
 
         /* execute */
-        int deleted = repositoryToTest.deleteLogsOlderThan(olderThan);
+        int deleted = deleteLogsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -123,7 +169,7 @@ public class ProjectScanLogRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_90_days);
 
         /* execute */
-        int deleted = repositoryToTest.deleteLogsOlderThan(olderThan);
+        int deleted = deleteLogsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -139,7 +185,7 @@ public class ProjectScanLogRepositoryDBTest {
         LocalDateTime olderThan = testData.before_89_days;
 
         /* execute */
-        int deleted = repositoryToTest.deleteLogsOlderThan(olderThan);
+        int deleted = deleteLogsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -174,6 +220,16 @@ public class ProjectScanLogRepositoryDBTest {
         assertNotNull(repositoryToTest.findById(access3.getSechubJobUUID()));
     }
 
+    /**
+     * Deletes like the auto cleanup does: finds the UUIDs of a chunk and deletes
+     * the logs by these UUIDs - chunk by chunk
+     */
+    private int deleteLogsOlderThanInChunks(LocalDateTime olderThan) {
+        long deleted = new ChunkedDeleteSupport().deleteInChunks(maximumAmount -> repositoryToTest.findLogUUIDsOlderThan(olderThan, PageRequest.of(0, maximumAmount)),
+                repositoryToTest::deleteLogsWithUUIDs, TEST_CHUNK_SIZE, 0, null);
+        return Math.toIntExact(deleted);
+    }
+
     private void assertDeleted(int expected, int deleted, DeleteProjectScanLogTestData testData, LocalDateTime olderThan) {
         if (deleted == expected) {
             return;
@@ -10,6 +10,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -209,6 +211,115 @@ public class AbstractProductExecutionServiceTest {
 
     }
 
+    @Test
+    public void executors_with_concurrent_execution_enabled_are_executed_concurrently() throws Exception {
+        /* prepare */
+        ConcurrentProductExecutionSupport concurrentExecutionSupport = new ConcurrentProductExecutionSupport();
+        concurrentExecutionSupport.createExecutorService();
+        serviceToTest.concurrentExecutionSupport = concurrentExecutionSupport;
+
+        ProductExecutor executor2 = mock(ProductExecutor.class);
+        when(executor2.getIdentifier()).thenReturn(ProductIdentifier.PDS_INFRASCAN);
+        when(executor2.getVersion()).thenReturn(USED_PRODUCT_EXECUTOR_VERSION);
+        executors.add(executor2);
+
+        ProductExecutorConfig concurrentConfig1 = mock(ProductExecutorConfig.class);
+        when(concurrentConfig1.isConcurrentExecutionEnabledForProject("projectid1")).thenReturn(true);
+        ProductExecutorConfig concurrentConfig2 = mock(ProductExecutorConfig.class);
+        when(concurrentConfig2.isConcurrentExecutionEnabledForProject("projectid1")).thenReturn(true);
+
+        when(serviceToTest.productExecutorConfigRepository.findExecutableConfigurationsForProject(any(), eq(USED_PRODUCT_IDENTIFIER),
+                eq(USED_PRODUCT_EXECUTOR_VERSION))).thenReturn(Arrays.asList(concurrentConfig1));
+        when(serviceToTest.productExecutorConfigRepository.findExecutableConfigurationsForProject(any(), eq(ProductIdentifier.PDS_INFRASCAN),
+                eq(USED_PRODUCT_EXECUTOR_VERSION))).thenReturn(Arrays.asList(concurrentConfig2));
+
+        /* both executors wait for each other - only possible when executed concurrently */
+        CountDownLatch bothExecutorsStarted = new CountDownLatch(2);
+        ProductResult result1 = mock(ProductResult.class);
+        ProductResult result2 = mock(ProductResult.class);
+        when(executor.execute(eq(context), any())).thenAnswer(invocation -> {
+            bothExecutorsStarted.countDown();
+            assertTrue(bothExecutorsStarted.await(5, TimeUnit.SECONDS));
+            return Collections.singletonList(result1);
+        });
+        when(executor2.execute(eq(context), any())).thenAnswer(invocation -> {
+            bothExecutorsStarted.countDown();
+            assertTrue(bothExecutorsStarted.await(5, TimeUnit.SECONDS));
+            return Collections.singletonList(result2);
+        });
+
+        try {
+            /* execute */
+            serviceToTest.runOnAllAvailableExecutors(executors, context, traceLogID);
+
+            /* test */
+            verify(productExecutorContext).persist(result1);
+            verify(productExecutorContext).persist(result2);
+        } finally {
+            concurrentExecutionSupport.shutdownExecutorService();
+        }
+    }
+
+    @Test
+    public void report_executor_is_executed_after_concurrent_executors_are_done() throws Exception {
+        /* prepare */
+        ConcurrentProductExecutionSupport concurrentExecutionSupport = new ConcurrentProductExecutionSupport();
+        concurrentExecutionSupport.createExecutorService();
+        serviceToTest.concurrentExecutionSupport = concurrentExecutionSupport;
+
+        ProductExecutor executor2 = mock(ProductExecutor.class);
+        when(executor2.getIdentifier()).thenReturn(ProductIdentifier.PDS_INFRASCAN);
+        when(executor2.getVersion()).thenReturn(USED_PRODUCT_EXECUTOR_VERSION);
+        executors.add(executor2);
+
+        ProductExecutor reportExecutor = mock(ProductExecutor.class);
+        when(reportExecutor.getIdentifier()).thenReturn(ProductIdentifier.SERECO);
+        when(reportExecutor.getVersion()).thenReturn(USED_PRODUCT_EXECUTOR_VERSION);
+        when(reportExecutor.getScanType()).thenReturn(ScanType.REPORT);
+        executors.add(reportExecutor);
+
+        ProductExecutorConfig concurrentConfig1 = mock(ProductExecutorConfig.class);
+        when(concurrentConfig1.isConcurrentExecutionEnabledForProject("projectid1")).thenReturn(true);
+        ProductExecutorConfig concurrentConfig2 = mock(ProductExecutorConfig.class);
+        when(concurrentConfig2.isConcurrentExecutionEnabledForProject("projectid1")).thenReturn(true);
+        ProductExecutorConfig reportConfig = mock(ProductExecutorConfig.class);
+        when(reportConfig.isConcurrentExecutionEnabledForProject("projectid1")).thenReturn(true);
+
+        when(serviceToTest.productExecutorConfigRepository.findExecutableConfigurationsForProject(any(), eq(USED_PRODUCT_IDENTIFIER),
+                eq(USED_PRODUCT_EXECUTOR_VERSION))).thenReturn(Arrays.asList(concurrentConfig1));
+        when(serviceToTest.productExecutorConfigRepository.findExecutableConfigurationsForProject(any(), eq(ProductIdentifier.PDS_INFRASCAN),
+                eq(USED_PRODUCT_EXECUTOR_VERSION))).thenReturn(Arrays.asList(concurrentConfig2));
+        when(serviceToTest.productExecutorConfigRepository.findExecutableConfigurationsForProject(any(), eq(ProductIdentifier.SERECO),
+                eq(USED_PRODUCT_EXECUTOR_VERSION))).thenReturn(Arrays.asList(reportConfig));
+
+        CountDownLatch scanExecutorsDone = new CountDownLatch(2);
+        when(executor.execute(eq(context), any())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            scanExecutorsDone.countDown();
+            return Collections.emptyList();
+        });
+        when(executor2.execute(eq(context), any())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            scanExecutorsDone.countDown();
+            return Collections.emptyList();
+        });
+        List<Long> scanExecutorsNotDoneWhenReportStarted = new ArrayList<>();
+        when(reportExecutor.execute(eq(context), any())).thenAnswer(invocation -> {
+            scanExecutorsNotDoneWhenReportStarted.add(scanExecutorsDone.getCount());
+            return Collections.emptyList();
+        });
+
+        try {
+            /* execute */
+            serviceToTest.runOnAllAvailableExecutors(executors, context, traceLogID);
+
+            /* test */
+            assertEquals(Arrays.asList(0L), scanExecutorsNotDoneWhenReportStarted);
+        } finally {
+            concurrentExecutionSupport.shutdownExecutorService();
+        }
+    }
+
     private class TestImplAbstractProductExecutionService extends AbstractProductExecutionService {
 
         private ScanType scanType;
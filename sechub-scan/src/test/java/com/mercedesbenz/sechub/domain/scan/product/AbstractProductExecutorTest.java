@@ -1,8 +1,11 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan.product;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,6 +18,7 @@ import com.mercedesbenz.sechub.commons.model.SecHubMessage;
 import com.mercedesbenz.sechub.commons.model.SecHubMessageType;
 import com.mercedesbenz.sechub.commons.model.SecHubMessagesList;
 import com.mercedesbenz.sechub.sharedkernel.ProductIdentifier;
+import com.mercedesbenz.sechub.sharedkernel.jpa.TextCompressionSupport;
 
 class AbstractProductExecutorTest {
 
@@ -64,6 +68,64 @@ class AbstractProductExecutorTest {
         verify(productResult).setMessages(new SecHubMessagesList(messages).toJSON());
     }
 
+    @Test
+    void updateCurrentProductResult_file_based_result_is_stored_compressed_when_compression_enabled_and_file_deleted() throws Exception {
+        /* prepare */
+        AbstractProductExecutor executor = new TestAbstractProductExecutor();
+        Path resultFile = Files.createTempFile("sechub-test-result", ".txt");
+        Files.writeString(resultFile, "{\"findings\":[]}");
+        AdapterExecutionResult fileBasedResult = AdapterExecutionResult.createFileBasedResult(resultFile, messages);
+
+        ProductResult realProductResult = new ProductResult();
+        when(executorContext.getCurrentProductResult()).thenReturn(realProductResult);
+
+        TextCompressionSupport support = TextCompressionSupport.get();
+        boolean formerEnabled = support.isCompressionEnabled();
+        try {
+            support.setCompressionEnabled(true);
+
+            /* execute */
+            executor.updateCurrentProductResult(fileBasedResult, executorContext);
+
+        } finally {
+            support.setCompressionEnabled(formerEnabled);
+        }
+
+        /* test */
+        assertTrue(realProductResult.isResultStoredCompressed());
+        assertEquals("{\"findings\":[]}", realProductResult.getResult());
+        assertFalse(Files.exists(resultFile));
+    }
+
+    @Test
+    void updateCurrentProductResult_file_based_result_is_stored_uncompressed_when_compression_disabled_and_file_deleted() throws Exception {
+        /* prepare */
+        AbstractProductExecutor executor = new TestAbstractProductExecutor();
+        Path resultFile = Files.createTempFile("sechub-test-result", ".txt");
+        Files.writeString(resultFile, "{\"findings\":[]}");
+        AdapterExecutionResult fileBasedResult = AdapterExecutionResult.createFileBasedResult(resultFile, messages);
+
+        ProductResult realProductResult = new ProductResult();
+        when(executorContext.getCurrentProductResult()).thenReturn(realProductResult);
+
+        TextCompressionSupport support = TextCompressionSupport.get();
+        boolean formerEnabled = support.isCompressionEnabled();
+        try {
+            support.setCompressionEnabled(false);
+
+            /* execute */
+            executor.updateCurrentProductResult(fileBasedResult, executorContext);
+
+        } finally {
+            support.setCompressionEnabled(formerEnabled);
+        }
+
+        /* test */
+        assertFalse(realProductResult.isResultStoredCompressed());
+        assertEquals("{\"findings\":[]}", realProductResult.getResult());
+        assertFalse(Files.exists(resultFile));
+    }
+
     private class TestAbstractProductExecutor extends AbstractProductExecutor {
 
         public TestAbstractProductExecutor() {
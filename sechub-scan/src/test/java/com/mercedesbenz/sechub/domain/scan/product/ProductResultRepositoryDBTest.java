@@ -7,6 +7,7 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,9 +19,11 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkedDeleteSupport;
 import com.mercedesbenz.sechub.domain.scan.ScanDomainTestFileSupport;
 import com.mercedesbenz.sechub.domain.scan.product.config.DefaultProductExecutorConfigInfo;
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfigInfo;
@@ -32,6 +35,8 @@ import com.mercedesbenz.sechub.sharedkernel.ProductIdentifier;
 @ContextConfiguration(classes = { ProductResultRepository.class, ProductResultRepositoryDBTest.SimpleTestConfiguration.class })
 public class ProductResultRepositoryDBTest {
 
+    private static final int TEST_CHUNK_SIZE = 2;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -42,6 +47,47 @@ public class ProductResultRepositoryDBTest {
     public void before() {
     }
 
+    @Test
+    public void findResultUUIDsOlderThan_returns_only_older_results_limited_by_page_size() throws Exception {
+        /* prepare */
+        DeleteProductResultTestData testData = new DeleteProductResultTestData();
+        testData.createAndCheckAvailable();
+
+        LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
+
+        /* execute */
+        List<UUID> all = repositoryToTest.findResultUUIDsOlderThan(olderThan, PageRequest.of(0, 10));
+        List<UUID> limited = repositoryToTest.findResultUUIDsOlderThan(olderThan, PageRequest.of(0, 2));
+
+        /* test */
+        assertEquals(3, all.size());
+        assertTrue(all.contains(testData.job1_90_days_before_created.getUUID()));
+        assertTrue(all.contains(testData.job2_2_days_before_created.getUUID()));
+        assertTrue(all.contains(testData.job3_1_day_before_created.getUUID()));
+
+        assertEquals(2, limited.size());
+        assertTrue(all.containsAll(limited));
+    }
+
+    @Test
+    public void deleteResultsWithUUIDs_deletes_only_given_results() throws Exception {
+        /* prepare */
+        DeleteProductResultTestData testData = new DeleteProductResultTestData();
+        testData.createAndCheckAvailable();
+
+        /* execute */
+        int deleted = repositoryToTest.deleteResultsWithUUIDs(Arrays.asList(testData.job1_90_days_before_created.getUUID(), testData.job4_now_created.getUUID()));
+        repositoryToTest.flush();
+        entityManager.clear();
+
+        /* test */
+        assertEquals(2, deleted);
+        List<ProductResult> allNow = repositoryToTest.findAll();
+        assertTrue(allNow.contains(testData.job2_2_days_before_created));
+        assertTrue(allNow.contains(testData.job3_1_day_before_created));
+        assertEquals(2, allNow.size());
+    }
+
     @Test
     public void test_data_4_jobs_delete_1_day_still_has_deleted_2() throws Exception {
         /* prepare */
@@ -51,7 +97,7 @@ public class ProductResultRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_1_day);
 
         /* execute */
-        int deleted = repositoryToTest.deleteResultsOlderThan(olderThan);
+        int deleted = deleteResultsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -66,7 +112,7 @@ public class ProductResultRepositoryDBTest {
 
         LocalDateTime olderThan = olderThanForDelete(testData.before_1_day);
         /* execute */
-        int deleted = repositoryToTest.deleteResultsOlderThan(olderThan);
+        int deleted = deleteResultsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -86,7 +132,7 @@ public class ProductResultRepositoryDBTest {
         LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
 
         /* execute */
-        int deleted = repositoryToTest.deleteResultsOlderThan(olderThan);
+        int deleted = deleteResultsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -105,7 +151,7 @@ public class ProductResultRepositoryDBTest {
         LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
 
         /* execute */
-        int deleted = repositoryToTest.deleteResultsOlderThan(olderThan);
+        int deleted = deleteResultsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -121,7 +167,7 @@ public class ProductResultRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_90_days);
 
         /* execute */
-        int deleted = repositoryToTest.deleteResultsOlderThan(olderThan);
+        int deleted = deleteResultsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -143,7 +189,7 @@ public class ProductResultRepositoryDBTest {
         LocalDateTime olderThan = testData.before_89_days;
 
         /* execute */
-        int deleted = repositoryToTest.deleteResultsOlderThan(olderThan);
+        int deleted = deleteResultsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -326,6 +372,16 @@ public class ProductResultRepositoryDBTest {
 
     }
 
+    /**
+     * Deletes like the auto cleanup does: finds the UUIDs of a chunk and deletes
+     * the results by these UUIDs - chunk by chunk
+     */
+    private int deleteResultsOlderThanInChunks(LocalDateTime olderThan) {
+        long deleted = new ChunkedDeleteSupport().deleteInChunks(maximumAmount -> repositoryToTest.findResultUUIDsOlderThan(olderThan, PageRequest.of(0, maximumAmount)),
+                repositoryToTest::deleteResultsWithUUIDs, TEST_CHUNK_SIZE, 0, null);
+        return Math.toIntExact(deleted);
+    }
+
     private void assertDeleted(int expected, int deleted, DeleteProductResultTestData testData, LocalDateTime olderThan) {
         if (deleted == expected) {
             return;
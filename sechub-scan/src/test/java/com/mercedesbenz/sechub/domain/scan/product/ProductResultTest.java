@@ -2,11 +2,16 @@
 package com.mercedesbenz.sechub.domain.scan.product;
 
 import static com.mercedesbenz.sechub.test.PojoTester.*;
+import static org.junit.Assert.*;
 
 import java.util.UUID;
 
 import org.junit.Test;
 
+import com.mercedesbenz.sechub.domain.scan.product.config.WithoutProductExecutorConfigInfo;
+import com.mercedesbenz.sechub.sharedkernel.ProductIdentifier;
+import com.mercedesbenz.sechub.sharedkernel.jpa.TextCompressionSupport;
+
 public class ProductResultTest {
 
     @Test
@@ -25,4 +30,104 @@ public class ProductResultTest {
         testEqualsAndHashCodeCorrectImplemented(objectA, objectBequalToA, objectCnotEqualToAOrB);
     }
 
+    @Test
+    public void result_is_stored_compressed_when_enabled_but_returned_uncompressed() {
+        /* prepare */
+        TextCompressionSupport support = TextCompressionSupport.get();
+        boolean formerEnabled = support.isCompressionEnabled();
+        int formerMinimumLength = support.getMinimumLength();
+
+        String data = createBigResult();
+        ProductResult resultToTest = new ProductResult(UUID.randomUUID(), "project1", new WithoutProductExecutorConfigInfo(ProductIdentifier.PDS_CODESCAN),
+                data);
+        try {
+            support.setCompressionEnabled(true);
+            support.setMinimumLength(10);
+
+            /* execute */
+            resultToTest.compressResultWhenEnabled();
+
+        } finally {
+            support.setCompressionEnabled(formerEnabled);
+            support.setMinimumLength(formerMinimumLength);
+        }
+
+        /* test */
+        assertTrue(resultToTest.isResultStoredCompressed());
+        assertEquals(data, resultToTest.getResult());
+    }
+
+    @Test
+    public void compressed_result_from_database_is_decompressed_on_access() {
+        /* prepare */
+        String data = createBigResult();
+        ProductResult resultToTest = new ProductResult();
+        resultToTest.setCompressedResult(TextCompressionSupport.get().compress(data));
+
+        /* execute */
+        String result = resultToTest.getResult();
+
+        /* test */
+        assertEquals(data, result);
+    }
+
+    @Test
+    public void compressed_result_is_not_compressed_again() {
+        /* prepare */
+        TextCompressionSupport support = TextCompressionSupport.get();
+        boolean formerEnabled = support.isCompressionEnabled();
+        int formerMinimumLength = support.getMinimumLength();
+
+        String data = createBigResult();
+        ProductResult resultToTest = new ProductResult();
+        resultToTest.setCompressedResult(support.compress(data));
+        try {
+            support.setCompressionEnabled(true);
+            support.setMinimumLength(10);
+
+            /* execute */
+            resultToTest.compressResultWhenEnabled();
+
+        } finally {
+            support.setCompressionEnabled(formerEnabled);
+            support.setMinimumLength(formerMinimumLength);
+        }
+
+        /* test */
+        assertTrue(resultToTest.isResultStoredCompressed());
+        assertEquals(data, resultToTest.getResult());
+    }
+
+    @Test
+    public void result_is_stored_uncompressed_when_compression_disabled() {
+        /* prepare */
+        TextCompressionSupport support = TextCompressionSupport.get();
+        boolean formerEnabled = support.isCompressionEnabled();
+
+        String data = createBigResult();
+        ProductResult resultToTest = new ProductResult(UUID.randomUUID(), "project1", new WithoutProductExecutorConfigInfo(ProductIdentifier.PDS_CODESCAN),
+                data);
+        try {
+            support.setCompressionEnabled(false);
+
+            /* execute */
+            resultToTest.compressResultWhenEnabled();
+
+        } finally {
+            support.setCompressionEnabled(formerEnabled);
+        }
+
+        /* test */
+        assertFalse(resultToTest.isResultStoredCompressed());
+        assertEquals(data, resultToTest.getResult());
+    }
+
+    private String createBigResult() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append("{\"finding\":").append(i).append("}");
+        }
+        return sb.toString();
+    }
+
 }
@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercedesbenz.sechub.commons.model.TrafficLight;
+import com.mercedesbenz.sechub.domain.scan.ScanAssertService;
+import com.mercedesbenz.sechub.sharedkernel.error.NotFoundException;
+import com.mercedesbenz.sechub.sharedkernel.logging.AuditLogService;
+import com.mercedesbenz.sechub.sharedkernel.validation.UserInputAssertion;
+
+class DownloadScanReportServiceTest {
+
+    private static final String PROJECT_ID = "project1";
+
+    private DownloadScanReportService serviceToTest;
+    private ScanReportRepository reportRepository;
+    private ScanAssertService scanAssertService;
+    private UUID jobUUID;
+    private UUID reportUUID;
+    private ObjectMapper springObjectMapper;
+
+    @BeforeEach
+    void beforeEach() {
+        jobUUID = UUID.randomUUID();
+        reportUUID = UUID.randomUUID();
+
+        reportRepository = mock(ScanReportRepository.class);
+        scanAssertService = mock(ScanAssertService.class);
+
+        serviceToTest = new DownloadScanReportService();
+        serviceToTest.reportRepository = reportRepository;
+        serviceToTest.scanAssertService = scanAssertService;
+        serviceToTest.auditLogService = mock(AuditLogService.class);
+        serviceToTest.assertion = mock(UserInputAssertion.class);
+        serviceToTest.jsonCache = new ScanSecHubReportJsonCache();
+
+        /* same setup as the object mapper created by spring boot */
+        springObjectMapper = Jackson2ObjectMapperBuilder.json().build();
+        serviceToTest.objectMapper = springObjectMapper;
+    }
+
+    @Test
+    void resolveReportVersionInfo_checks_access_and_returns_info_from_repository() {
+        /* prepare */
+        ScanReportVersionInfo info = new ScanReportVersionInfo(reportUUID, 1, PROJECT_ID);
+        when(reportRepository.findVersionInfoBySecHubJobUUID(jobUUID)).thenReturn(info);
+
+        /* execute */
+        ScanReportVersionInfo result = serviceToTest.resolveReportVersionInfo(PROJECT_ID, jobUUID);
+
+        /* test */
+        assertSame(info, result);
+        verify(scanAssertService, times(2)).assertUserHasAccessToProject(PROJECT_ID);
+        verify(scanAssertService).assertProjectAllowsReadAccess(PROJECT_ID);
+        verify(reportRepository, never()).findBySecHubJobUUID(any());
+    }
+
+    @Test
+    void resolveReportVersionInfo_throws_not_found_when_no_report_exists() {
+        assertThrows(NotFoundException.class, () -> serviceToTest.resolveReportVersionInfo(PROJECT_ID, jobUUID));
+    }
+
+    @Test
+    void getScanSecHubReportAsJSON_contains_calculated_data() {
+        /* prepare */
+        ScanReport report = createReport(1);
+        when(reportRepository.findById(reportUUID)).thenReturn(Optional.of(report));
+
+        /* execute */
+        byte[] json = serviceToTest.getScanSecHubReportAsJSON(new ScanReportVersionInfo(reportUUID, 1, PROJECT_ID));
+
+        /* test */
+        ScanSecHubReport result = ScanSecHubReport.fromJSONString(new String(json, StandardCharsets.UTF_8));
+        assertEquals(jobUUID, result.getJobUUID());
+        assertEquals(TrafficLight.YELLOW, result.getTrafficLight());
+        assertEquals(0, result.getResult().getCount());
+    }
+
+    @Test
+    void getScanSecHubReportAsJSON_is_same_as_json_written_by_spring_mvc_for_report_object() throws Exception {
+        /* prepare */
+        ScanReport report = createReport(1);
+        when(reportRepository.findById(reportUUID)).thenReturn(Optional.of(report));
+
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter(springObjectMapper);
+        converter.write(new ScanSecHubReport(report), MediaType.APPLICATION_JSON, outputMessage);
+        byte[] expected = outputMessage.getBodyAsBytes();
+
+        /* execute */
+        byte[] json = serviceToTest.getScanSecHubReportAsJSON(new ScanReportVersionInfo(reportUUID, 1, PROJECT_ID));
+
+        /* test */
+        assertEquals(new String(expected, StandardCharsets.UTF_8), new String(json, StandardCharsets.UTF_8));
+        assertArrayEquals(expected, json);
+        assertTrue(new String(json, StandardCharsets.UTF_8).contains("\"metaData\""), "Absent meta data must be contained like before");
+    }
+
+    @Test
+    void getScanSecHubReportAsJSON_loads_report_only_once_for_same_version() {
+        /* prepare */
+        when(reportRepository.findById(reportUUID)).thenReturn(Optional.of(createReport(1)));
+        ScanReportVersionInfo info = new ScanReportVersionInfo(reportUUID, 1, PROJECT_ID);
+
+        /* execute */
+        byte[] json1 = serviceToTest.getScanSecHubReportAsJSON(info);
+        byte[] json2 = serviceToTest.getScanSecHubReportAsJSON(info);
+
+        /* test */
+        assertSame(json1, json2);
+        verify(reportRepository, times(1)).findById(reportUUID);
+    }
+
+    @Test
+    void getScanSecHubReportAsJSON_loads_report_again_when_version_changed() {
+        /* prepare */
+        when(reportRepository.findById(reportUUID)).thenReturn(Optional.of(createReport(1)), Optional.of(createReport(2)));
+
+        /* execute */
+        serviceToTest.getScanSecHubReportAsJSON(new ScanReportVersionInfo(reportUUID, 1, PROJECT_ID));
+        serviceToTest.getScanSecHubReportAsJSON(new ScanReportVersionInfo(reportUUID, 2, PROJECT_ID));
+
+        /* test */
+        verify(reportRepository, times(2)).findById(reportUUID);
+    }
+
+    @Test
+    void getScanSecHubReportAsJSON_throws_not_found_when_report_was_deleted() {
+        /* prepare */
+        when(reportRepository.findById(reportUUID)).thenReturn(Optional.empty());
+
+        /* execute + test */
+        assertThrows(NotFoundException.class, () -> serviceToTest.getScanSecHubReportAsJSON(new ScanReportVersionInfo(reportUUID, 1, PROJECT_ID)));
+    }
+
+    private ScanReport createReport(int version) {
+        ScanReport report = new ScanReport(jobUUID, PROJECT_ID);
+        report.uUID = reportUUID;
+        report.version = version;
+        report.setResult("{}");
+        report.setTrafficLight(TrafficLight.YELLOW);
+        return report;
+    }
+}
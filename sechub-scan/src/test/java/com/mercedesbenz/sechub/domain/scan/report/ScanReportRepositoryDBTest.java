@@ -5,6 +5,7 @@ import static com.mercedesbenz.sechub.test.FlakyOlderThanTestWorkaround.*;
 import static org.junit.Assert.*;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,14 +17,19 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkedDeleteSupport;
+
 @RunWith(SpringRunner.class)
 @DataJpaTest
 @ContextConfiguration(classes = { ScanReportRepository.class, ScanReportRepositoryDBTest.SimpleTestConfiguration.class })
 public class ScanReportRepositoryDBTest {
 
+    private static final int TEST_CHUNK_SIZE = 2;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -34,6 +40,70 @@ public class ScanReportRepositoryDBTest {
     public void before() {
     }
 
+    @Test
+    public void findVersionInfoBySecHubJobUUID_returns_report_uuid_version_and_project() throws Exception {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        ScanReport report = new ScanReport(jobUUID, "project1");
+        report.setResult("{}");
+        report = entityManager.persistAndFlush(report);
+
+        /* execute */
+        ScanReportVersionInfo info = repositoryToTest.findVersionInfoBySecHubJobUUID(jobUUID);
+
+        /* test */
+        assertNotNull(info);
+        assertEquals(report.getUUID(), info.getReportUUID());
+        assertEquals(report.version, info.getVersion());
+        assertEquals("project1", info.getProjectId());
+    }
+
+    @Test
+    public void findVersionInfoBySecHubJobUUID_returns_null_for_unknown_job() throws Exception {
+        assertNull(repositoryToTest.findVersionInfoBySecHubJobUUID(UUID.randomUUID()));
+    }
+
+    @Test
+    public void findReportUUIDsOlderThan_returns_only_older_reports_limited_by_page_size() throws Exception {
+        /* prepare */
+        DeleteScanReportTestData testData = new DeleteScanReportTestData();
+        testData.createAndCheckAvailable();
+
+        LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
+
+        /* execute */
+        List<UUID> all = repositoryToTest.findReportUUIDsOlderThan(olderThan, PageRequest.of(0, 10));
+        List<UUID> limited = repositoryToTest.findReportUUIDsOlderThan(olderThan, PageRequest.of(0, 2));
+
+        /* test */
+        assertEquals(3, all.size());
+        assertTrue(all.contains(testData.job1_90_days_before_created.getUUID()));
+        assertTrue(all.contains(testData.job2_2_days_before_created.getUUID()));
+        assertTrue(all.contains(testData.job3_1_day_before_created.getUUID()));
+
+        assertEquals(2, limited.size());
+        assertTrue(all.containsAll(limited));
+    }
+
+    @Test
+    public void deleteReportsWithUUIDs_deletes_only_given_reports() throws Exception {
+        /* prepare */
+        DeleteScanReportTestData testData = new DeleteScanReportTestData();
+        testData.createAndCheckAvailable();
+
+        /* execute */
+        int deleted = repositoryToTest.deleteReportsWithUUIDs(Arrays.asList(testData.job1_90_days_before_created.getUUID(), testData.job4_now_created.getUUID()));
+        repositoryToTest.flush();
+        entityManager.clear();
+
+        /* test */
+        assertEquals(2, deleted);
+        List<ScanReport> allNow = repositoryToTest.findAll();
+        assertTrue(allNow.contains(testData.job2_2_days_before_created));
+        assertTrue(allNow.contains(testData.job3_1_day_before_created));
+        assertEquals(2, allNow.size());
+    }
+
     @Test
     public void test_data_4_jobs_delete_1_day_still_has_2() throws Exception {
         /* prepare */
@@ -43,7 +113,7 @@ public class ScanReportRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_1_day);
 
         /* execute */
-        int deleted = repositoryToTest.deleteReportsOlderThan(olderThan);
+        int deleted = deleteReportsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -62,7 +132,7 @@ public class ScanReportRepositoryDBTest {
 
         /* execute */
         LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
-        int deleted = repositoryToTest.deleteReportsOlderThan(olderThan);
+        int deleted = deleteReportsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -81,7 +151,7 @@ public class ScanReportRepositoryDBTest {
         LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
 
         /* execute */
-        int deleted = repositoryToTest.deleteReportsOlderThan(olderThan);
+        int deleted = deleteReportsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -97,7 +167,7 @@ public class ScanReportRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_90_days);
 
         /* execute */
-        int deleted = repositoryToTest.deleteReportsOlderThan(olderThan);
+        int deleted = deleteReportsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -119,7 +189,7 @@ public class ScanReportRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_90_days);
 
         /* execute */
-        int deleted = repositoryToTest.deleteReportsOlderThan(olderThan);
+        int deleted = deleteReportsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -135,7 +205,7 @@ public class ScanReportRepositoryDBTest {
         LocalDateTime olderThan = testData.before_89_days;
 
         /* execute */
-        int deleted = repositoryToTest.deleteReportsOlderThan(olderThan);
+        int deleted = deleteReportsOlderThanInChunks(olderThan);
         repositoryToTest.flush();
 
         /* test */
@@ -177,6 +247,16 @@ public class ScanReportRepositoryDBTest {
         assertNotNull(repositoryToTest.findById(job2_project2));
     }
 
+    /**
+     * Deletes like the auto cleanup does: finds the UUIDs of a chunk and deletes
+     * the reports by these UUIDs - chunk by chunk
+     */
+    private int deleteReportsOlderThanInChunks(LocalDateTime olderThan) {
+        long deleted = new ChunkedDeleteSupport().deleteInChunks(maximumAmount -> repositoryToTest.findReportUUIDsOlderThan(olderThan, PageRequest.of(0, maximumAmount)),
+                repositoryToTest::deleteReportsWithUUIDs, TEST_CHUNK_SIZE, 0, null);
+        return Math.toIntExact(deleted);
+    }
+
     private void assertDeleted(int expected, int deleted, DeleteScanReportTestData testData, LocalDateTime olderThan) {
         if (deleted == expected) {
             return;
@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScanReportVersionInfoTest {
+
+    private UUID reportUUID;
+    private ScanReportVersionInfo infoToTest;
+
+    @BeforeEach
+    void beforeEach() {
+        reportUUID = UUID.randomUUID();
+        infoToTest = new ScanReportVersionInfo(reportUUID, 3, "project1");
+    }
+
+    @Test
+    void etag_contains_report_uuid_and_version_and_is_quoted() {
+        assertEquals("\"" + reportUUID + "-3\"", infoToTest.createETag());
+    }
+
+    @Test
+    void etag_changes_with_version() {
+        assertNotEquals(infoToTest.createETag(), new ScanReportVersionInfo(reportUUID, 4, "project1").createETag());
+    }
+
+    @Test
+    void if_none_match_null_does_not_match() {
+        assertFalse(infoToTest.isMatchedBy(null));
+    }
+
+    @Test
+    void if_none_match_with_same_etag_matches() {
+        assertTrue(infoToTest.isMatchedBy(infoToTest.createETag()));
+    }
+
+    @Test
+    void if_none_match_with_weak_etag_inside_list_matches() {
+        assertTrue(infoToTest.isMatchedBy("\"other\", W/" + infoToTest.createETag()));
+    }
+
+    @Test
+    void if_none_match_with_wildcard_matches() {
+        assertTrue(infoToTest.isMatchedBy("*"));
+    }
+
+    @Test
+    void if_none_match_with_other_version_does_not_match() {
+        assertFalse(infoToTest.isMatchedBy("\"" + reportUUID + "-2\""));
+    }
+
+}
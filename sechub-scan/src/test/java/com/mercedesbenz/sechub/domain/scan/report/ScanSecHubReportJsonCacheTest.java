@@ -0,0 +1,113 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScanSecHubReportJsonCacheTest {
+
+    private ScanSecHubReportJsonCache cacheToTest;
+
+    @BeforeEach
+    void beforeEach() {
+        cacheToTest = new ScanSecHubReportJsonCache();
+    }
+
+    @Test
+    void cached_json_is_returned_for_same_report_version() {
+        /* prepare */
+        ScanReportVersionInfo info = new ScanReportVersionInfo(UUID.randomUUID(), 1, "project1");
+        byte[] json = "{}".getBytes();
+
+        /* execute */
+        cacheToTest.put(info, json);
+
+        /* test */
+        assertSame(json, cacheToTest.get(new ScanReportVersionInfo(info.getReportUUID(), 1, "project1")));
+    }
+
+    @Test
+    void cached_json_of_other_report_version_is_not_returned_and_removed() {
+        /* prepare */
+        UUID reportUUID = UUID.randomUUID();
+        cacheToTest.put(new ScanReportVersionInfo(reportUUID, 1, "project1"), "{}".getBytes());
+
+        /* execute */
+        byte[] result = cacheToTest.get(new ScanReportVersionInfo(reportUUID, 2, "project1"));
+
+        /* test */
+        assertNull(result);
+        assertEquals(0, cacheToTest.getAmountOfEntries());
+        assertEquals(0, cacheToTest.getAmountOfCachedBytes());
+    }
+
+    @Test
+    void least_recently_used_entry_is_removed_when_maximum_entries_reached() {
+        /* prepare */
+        cacheToTest.maximumEntries = 2;
+        ScanReportVersionInfo info1 = new ScanReportVersionInfo(UUID.randomUUID(), 0, "project1");
+        ScanReportVersionInfo info2 = new ScanReportVersionInfo(UUID.randomUUID(), 0, "project1");
+        ScanReportVersionInfo info3 = new ScanReportVersionInfo(UUID.randomUUID(), 0, "project1");
+        cacheToTest.put(info1, "1".getBytes());
+        cacheToTest.put(info2, "2".getBytes());
+        cacheToTest.get(info1); // info2 is now least recently used
+
+        /* execute */
+        cacheToTest.put(info3, "3".getBytes());
+
+        /* test */
+        assertNotNull(cacheToTest.get(info1));
+        assertNull(cacheToTest.get(info2));
+        assertNotNull(cacheToTest.get(info3));
+        assertEquals(2, cacheToTest.getAmountOfEntries());
+    }
+
+    @Test
+    void entries_are_removed_when_maximum_bytes_reached() {
+        /* prepare */
+        cacheToTest.maximumBytes = 10;
+        ScanReportVersionInfo info1 = new ScanReportVersionInfo(UUID.randomUUID(), 0, "project1");
+        ScanReportVersionInfo info2 = new ScanReportVersionInfo(UUID.randomUUID(), 0, "project1");
+        cacheToTest.put(info1, new byte[6]);
+
+        /* execute */
+        cacheToTest.put(info2, new byte[6]);
+
+        /* test */
+        assertNull(cacheToTest.get(info1));
+        assertNotNull(cacheToTest.get(info2));
+        assertEquals(6, cacheToTest.getAmountOfCachedBytes());
+    }
+
+    @Test
+    void json_bigger_than_maximum_bytes_is_not_cached() {
+        /* prepare */
+        cacheToTest.maximumBytes = 10;
+        ScanReportVersionInfo info = new ScanReportVersionInfo(UUID.randomUUID(), 0, "project1");
+
+        /* execute */
+        cacheToTest.put(info, new byte[11]);
+
+        /* test */
+        assertNull(cacheToTest.get(info));
+        assertEquals(0, cacheToTest.getAmountOfEntries());
+    }
+
+    @Test
+    void nothing_is_cached_when_maximum_entries_is_zero() {
+        /* prepare */
+        cacheToTest.maximumEntries = 0;
+        ScanReportVersionInfo info = new ScanReportVersionInfo(UUID.randomUUID(), 0, "project1");
+
+        /* execute */
+        cacheToTest.put(info, "{}".getBytes());
+
+        /* test */
+        assertNull(cacheToTest.get(info));
+    }
+
+}
@@ -56,6 +56,14 @@ public class ScheduleJobLauncherService {
 
     }
 
+    /**
+     * @return <code>true</code> when there are jobs waiting for a free worker of
+     *         this instance
+     */
+    public boolean hasQueuedJobs() {
+        return executor.getQueueDepth() > 0;
+    }
+
     @IsSendingAsyncMessage(MessageID.JOB_STARTED)
     private void sendJobStarted(String projectId, UUID jobUUID, String configuration, String owner) {
         DomainMessage request = new DomainMessage(MessageID.JOB_STARTED);
@@ -2,7 +2,9 @@
 package com.mercedesbenz.sechub.domain.schedule;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -46,18 +48,38 @@ public class ScheduleJobMarkerService {
     private ScheduleSecHubJobMessagesSupport jobMessageSupport = new ScheduleSecHubJobMessagesSupport();
 
     /**
-     * @return either schedule job to execute, or <code>null</code> if no one has to
-     *         be executed
+     * Marks next jobs to execute - all inside ONE transaction. The jobs are
+     * resolved one after another by the current scheduler strategy. Because every
+     * marked job is flushed before next one is resolved, the strategy will always
+     * see the jobs already marked inside this batch (e.g. a project having a job
+     * marked will not get a second one when strategy is "one scan per project").
+     *
+     * @param maximum maximum amount of jobs to mark
+     * @return list of marked jobs, never <code>null</code>. Empty when no job has
+     *         to be executed
      */
     @Transactional
-    public ScheduleSecHubJob markNextJobToExecuteByThisInstance() {
+    public List<ScheduleSecHubJob> markNextJobsToExecuteByThisInstance(int maximum) {
 
         schedulerStrategy = schedulerStrategyFactory.build();
 
         if (LOG.isTraceEnabled()) {
-            /* NOSONAR */LOG.trace("Trigger execution of next job started");
+            /* NOSONAR */LOG.trace("Trigger execution of next jobs started, maximum:{}", maximum);
         }
 
+        List<ScheduleSecHubJob> result = new ArrayList<>();
+        while (result.size() < maximum) {
+            ScheduleSecHubJob secHubJob = markNextJob();
+            if (secHubJob == null) {
+                break;
+            }
+            result.add(secHubJob);
+            jobRepository.flush();
+        }
+        return result;
+    }
+
+    private ScheduleSecHubJob markNextJob() {
         UUID nextJobId = schedulerStrategy.nextJobId();
         if (nextJobId == null) {
             return null;
@@ -30,6 +30,9 @@ public class SchedulerApproveJobService {
     @Autowired
     UserInputAssertion assertion;
 
+    @Autowired
+    SchedulerJobBatchTriggerService triggerService;
+
     @UseCaseUserApprovesJob(@Step(number = 2, name = "Try to find job annd update execution state", description = "When job is found and user has access job will be marked as ready for execution"))
     public void approveJob(String projectId, UUID jobUUID) {
         assertion.assertIsValidProjectId(projectId);
@@ -47,6 +50,9 @@ public class SchedulerApproveJobService {
         jobRepository.save(secHubJob);
 
         LOG.info("job {} now approved", jobUUID);
+
+        /* no need to wait for next trigger execution */
+        triggerService.wakeUp();
     }
 
 }
@@ -4,9 +4,15 @@ package com.mercedesbenz.sechub.domain.schedule;
 import static com.mercedesbenz.sechub.sharedkernel.logging.AlertLogReason.*;
 import static com.mercedesbenz.sechub.sharedkernel.logging.AlertLogType.*;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,8 +41,10 @@ public class SchedulerJobBatchTriggerService {
     private static final int DEFAULT_RETRY_MAX_MILLIS = 300;
     private static final int DEFAULT_INITIAL_DELAY_MILLIS = 5000;
     private static final int DEFAULT_FIXED_DELAY_MILLIS = 10000;
+    private static final int DEFAULT_BATCH_MAXIMUM = 1;
 
     private static final boolean DEFAULT_HEALTHCHECK_ENABLED = true;
+    private static final boolean DEFAULT_WAKEUP_ENABLED = true;
 
     @MustBeDocumented("Inside a cluster the next job fetching can lead to concurrent access. " + "When this happens a retry can be done for the 'looser'. "
             + "This value defines the amount of *tries*"
@@ -61,9 +69,32 @@ public class SchedulerJobBatchTriggerService {
     @Value("${sechub.config.trigger.nextjob.delay:" + DEFAULT_FIXED_DELAY_MILLIS + "}")
     private String infoFixedDelay; // here only for logging - used in scheduler annotation as well!
 
+    @MustBeDocumented("Defines the maximum amount of jobs marked and launched by one trigger execution. All jobs of one trigger execution are marked inside one transaction. "
+            + "When health check is enabled, the amount is calculated by the free capacity reported by system monitoring (but at least one job). "
+            + "Default is 1, which means only one job is started per trigger execution.")
+    @Value("${sechub.config.trigger.nextjob.batch.maximum:" + DEFAULT_BATCH_MAXIMUM + "}")
+    int markNextJobsBatchMaximum = DEFAULT_BATCH_MAXIMUM;
+
     @MustBeDocumented("When enabled each trigger will do an healtching by monitoring service. If system has too much CPU load or uses too much memory, the trigger will not execute until memory and CPU load is at normal level!")
     @Value("${sechub.config.trigger.healthcheck.enabled:" + DEFAULT_HEALTHCHECK_ENABLED + "}")
-    private boolean healthCheckEnabled = DEFAULT_HEALTHCHECK_ENABLED;
+    boolean healthCheckEnabled = DEFAULT_HEALTHCHECK_ENABLED;
+
+    @MustBeDocumented("When enabled, the next job trigger is woken up immediately when a job has been approved or a job execution has finished on this instance. "
+            + "Wake ups arriving while a trigger execution is running are coalesced to one additional execution. The fixed delay trigger remains as safety net.")
+    @Value("${sechub.config.trigger.nextjob.wakeup.enabled:" + DEFAULT_WAKEUP_ENABLED + "}")
+    boolean wakeUpEnabled = DEFAULT_WAKEUP_ENABLED;
+
+    @Value("${sechub.config.scheduling.enable:true}")
+    boolean schedulingEnabled = true;
+
+    final ExecutorService wakeUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sechub-schedule-trigger-wakeup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final Object triggerMonitor = new Object();
 
     @Autowired
     ScheduleJobMarkerService markerService;
@@ -87,6 +118,41 @@ public class SchedulerJobBatchTriggerService {
     protected void postConstruct() {
         // show info about delay values in log (once)
         LOG.info("Scheduler service created with {} millisecondss initial delay and {} millisecondss as fixed delay", infoInitialDelay, infoFixedDelay);
+        LOG.info("Scheduler service will start maximum {} jobs per trigger execution", markNextJobsBatchMaximum);
+    }
+
+    @PreDestroy
+    protected void preDestroy() {
+        /*
+         * The wake up executor is a `java.util.concurrent.ExecutorService` and not a
+         * spring component - so we must shut it down by our own:
+         */
+        wakeUpExecutor.shutdownNow();
+    }
+
+    /**
+     * Wakes up the trigger - next job execution will be triggered immediately
+     * (asynchronous) and not after next fixed delay. Multiple wake ups before the
+     * triggered execution has started are coalesced to one execution.
+     */
+    public void wakeUp() {
+        if (!wakeUpEnabled || !schedulingEnabled) {
+            return;
+        }
+        if (!wakeUpPending.compareAndSet(false, true)) {
+            /* already a wake up pending - coalesced */
+            return;
+        }
+        try {
+            wakeUpExecutor.execute(() -> {
+                wakeUpPending.set(false);
+                LOG.trace("Trigger woken up");
+                triggerExecutionOfNextJob();
+            });
+        } catch (RejectedExecutionException e) {
+            /* shutdown in progress - fixed delay trigger is the safety net */
+            wakeUpPending.set(false);
+        }
     }
 
     // default 10 seconds delay and 5 seconds initial
@@ -97,6 +163,13 @@ public class SchedulerJobBatchTriggerService {
             + "}", fixedDelayString = "${sechub.config.trigger.nextjob.delay:" + DEFAULT_FIXED_DELAY_MILLIS + "}")
     @UseCaseSchedulerStartsJob(@Step(number = 1, name = "Scheduling", description = "Fetches next schedule job from queue and trigger execution."))
     public void triggerExecutionOfNextJob() {
+        /* fixed delay trigger and wake ups shall never run at same time */
+        synchronized (triggerMonitor) {
+            triggerExecutionOfNextJobSynchronized();
+        }
+    }
+
+    private void triggerExecutionOfNextJobSynchronized() {
         if (LOG.isTraceEnabled()) {
             /* NOSONAR */LOG.trace("Trigger execution of next job started. Environment: {}", environmentService.getEnvironment());
         }
@@ -117,21 +190,20 @@ public class SchedulerJobBatchTriggerService {
                 return;
             }
         }
+        if (launcherService.hasQueuedJobs()) {
+            LOG.debug("Job processing is skipped, because there are still jobs waiting for a free worker. Environment: {}", environmentService.getEnvironment());
+            return;
+        }
+        int batchSize = calculateBatchSize();
+
         RetryContext retryContext = new RetryContext(markNextJobRetries);
         do {
             try {
-                ScheduleSecHubJob next = markerService.markNextJobToExecuteByThisInstance();
+                List<ScheduleSecHubJob> nextJobs = markerService.markNextJobsToExecuteByThisInstance(batchSize);
                 retryContext.executionDone();
-                if (next == null) {
-                    return;
-                }
-                try {
-                    launcherService.executeJob(next);
-                } catch (Exception e) {
-                    /* fatal failure happened, job launch was not executable */
-                    LOG.trace("was not able to execute next job, because fatal error occurred. Environment: {}", environmentService.getEnvironment());
-                    markerService.markJobExecutionFailed(next);
-                    retryContext.markAsFatalFailure();
+
+                for (ScheduleSecHubJob next : nextJobs) {
+                    launch(next, retryContext);
                 }
 
             } catch (OptimisticLockingFailureException e) {
@@ -148,7 +220,47 @@ public class SchedulerJobBatchTriggerService {
         if (!retryContext.isExecutionDone()) {
             LOG.warn("Was not able to handle trigger execution of next job, failed {} times. Environment:{}", retryContext.getExecutionFailedCount(),
                     environmentService.getEnvironment());
+        } else if (retryContext.getExecutionFailedCount() > 0) {
+            LOG.debug("Trigger execution of next job needed {} retries. Environment:{}", retryContext.getExecutionFailedCount(),
+                    environmentService.getEnvironment());
+        }
+    }
+
+    private void launch(ScheduleSecHubJob next, RetryContext retryContext) {
+        try {
+            launcherService.executeJob(next);
+        } catch (Exception e) {
+            /* fatal failure happened, job launch was not executable */
+            LOG.trace("was not able to execute next job, because fatal error occurred. Environment: {}", environmentService.getEnvironment());
+            markerService.markJobExecutionFailed(next);
+            retryContext.markAsFatalFailure();
+        }
+    }
+
+    /**
+     * Calculates amount of jobs to mark inside one trigger execution. When health
+     * check is enabled the configured maximum is scaled by the free system capacity
+     * - so the claim throughput grows with free capacity.
+     *
+     * @return batch size, always greater than zero
+     */
+    int calculateBatchSize() {
+        if (markNextJobsBatchMaximum <= 1) {
+            return 1;
+        }
+        if (!healthCheckEnabled) {
+            return markNextJobsBatchMaximum;
+        }
+        double freeCapacityInPercent = monitorService.getFreeCapacityInPercent();
+        int batchSize = (int) Math.floor(markNextJobsBatchMaximum * freeCapacityInPercent / 100);
+
+        if (batchSize < 1) {
+            return 1;
+        }
+        if (batchSize > markNextJobsBatchMaximum) {
+            return markNextJobsBatchMaximum;
         }
+        return batchSize;
     }
 
     private int createRandomTimeMillisToWait() {
@@ -52,6 +52,7 @@ public class SchedulerRestController {
     public static final String DEFAULT_JOB_INFORMATION_SIZE = "1";
     public static final String DEFAULT_JOB_INFORMATION_PAGE = "0";
     public static final String DEFAULT_WITH_METADATA = "false";
+    public static final String DEFAULT_WITH_TOTAL_COUNT = "false";
 
     @Autowired
     private SchedulerApproveJobService approveJobService;
@@ -146,10 +147,12 @@ public class SchedulerRestController {
             @RequestParam(defaultValue = DEFAULT_JOB_INFORMATION_SIZE, name = "size") int size,
             @RequestParam(defaultValue = DEFAULT_JOB_INFORMATION_PAGE, name = "page") int page,
             @RequestParam(defaultValue = DEFAULT_WITH_METADATA, name = "withMetaData") boolean withMetaData,
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @RequestParam(defaultValue = DEFAULT_WITH_TOTAL_COUNT, name = "withTotalCount") boolean withTotalCount,
             @RequestParam Map<String,String> allParams
             ) {
         /* @formatter:on */
-        return jobInformationService.listJobsForProject(projectId, size, page, withMetaData, allParams);
+        return jobInformationService.listJobsForProject(projectId, size, page, cursor, withTotalCount, withMetaData, allParams);
 
     }
 
@@ -6,11 +6,13 @@ import static com.mercedesbenz.sechub.sharedkernel.util.Assert.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import javax.annotation.security.RolesAllowed;
 
+import org.apache.commons.io.input.MessageDigestCalculatingInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.amazonaws.util.StringInputStream;
+import com.mercedesbenz.sechub.commons.archive.ZipValidatingInputStream;
 import com.mercedesbenz.sechub.commons.core.security.CheckSumSupport;
 import com.mercedesbenz.sechub.commons.model.SecHubRuntimeException;
 import com.mercedesbenz.sechub.commons.model.job.ExecutionState;
@@ -36,7 +39,6 @@ import com.mercedesbenz.sechub.sharedkernel.messaging.MessageDataKeys;
 import com.mercedesbenz.sechub.sharedkernel.messaging.MessageID;
 import com.mercedesbenz.sechub.sharedkernel.messaging.StorageMessageData;
 import com.mercedesbenz.sechub.sharedkernel.usecases.user.execute.UseCaseUserUploadsSourceCode;
-import com.mercedesbenz.sechub.sharedkernel.util.ArchiveSupportProvider;
 import com.mercedesbenz.sechub.sharedkernel.validation.UserInputAssertion;
 import com.mercedesbenz.sechub.storage.core.JobStorage;
 import com.mercedesbenz.sechub.storage.core.StorageService;
@@ -65,9 +67,6 @@ public class SchedulerSourcecodeUploadService {
     @Autowired
     ScheduleAssertService assertService;
 
-    @Autowired
-    ArchiveSupportProvider archiveSupportProvider;
-
     @Autowired
     LogSanitizer logSanitizer;
 
@@ -98,33 +97,68 @@ public class SchedulerSourcecodeUploadService {
 
         assertJobFoundAndStillInitializing(projectId, jobUUID);
 
-        handleZipValidation(file, traceLogID);
-        handleChecksumValidation(file, checkSum, traceLogID);
-
-        /* now store */
+        /* now validate and store in one pass */
         storeUploadFileAndSha256Checksum(projectId, jobUUID, file, checkSum, traceLogID);
         LOG.info("uploaded sourcecode for {}", traceLogID);
 
     }
 
+    /**
+     * Stores the uploaded file - the file content is read only one time: ZIP
+     * validation and checksum calculation are done while the content is streamed
+     * into the job storage. If a validation fails, the stored object is deleted
+     * again.
+     */
     private void storeUploadFileAndSha256Checksum(String projectId, UUID jobUUID, MultipartFile file, String checkSum, String traceLogID) {
+        long fileSize = file.getSize();
+
+        if (fileSize <= EMPTY_ZIP_FILE_SIZE) {
+            throw new BadRequestException("Uploaded sourcecode zip file may not be empty!");
+        }
+
         JobStorage jobStorage = storageService.getJobStorage(projectId, jobUUID);
 
+        boolean zipValidationEnabled = configuration.isZipValidationEnabled();
+        boolean checksumValidationEnabled = configuration.isChecksumValidationEnabled();
+
+        MessageDigest digest = checkSumSupport.createSha256MessageDigest();
+        ZipValidatingInputStream zipValidatingInputStream = null;
+
         try (InputStream inputStream = file.getInputStream()) {
-            long fileSize = file.getSize();
+            InputStream streamToStore = new MessageDigestCalculatingInputStream(inputStream, digest);
+            if (zipValidationEnabled) {
+                zipValidatingInputStream = new ZipValidatingInputStream(streamToStore);
+                streamToStore = zipValidatingInputStream;
+            }
+
+            try {
+                jobStorage.store(FILENAME_SOURCECODE_ZIP, streamToStore, fileSize);
+            } catch (IOException e) {
+                if (zipValidatingInputStream != null && zipValidatingInputStream.isValidated() && !zipValidatingInputStream.isValid()) {
+                    /* store was aborted by zip validation */
+                    rollbackStoredUploadFile(jobStorage, traceLogID);
+                    assertValidZipFile(zipValidatingInputStream);
+                }
+                throw e;
+            }
 
-            if (fileSize <= EMPTY_ZIP_FILE_SIZE) {
-                throw new BadRequestException("Uploaded sourcecode zip file may not be empty!");
+            if (zipValidatingInputStream != null && !zipValidatingInputStream.isValid()) {
+                rollbackStoredUploadFile(jobStorage, traceLogID);
+                assertValidZipFile(zipValidatingInputStream);
             }
+            if (checksumValidationEnabled && !checkSum.equals(checkSumSupport.convertMessageDigestToHex(digest))) {
+                rollbackStoredUploadFile(jobStorage, traceLogID);
+                LOG.error("Uploaded file has incorrect sha256 checksum! Something must have happened during the upload.");
+                throw new NotAcceptableException("Sourcecode checksum check failed");
+            }
+
+            sendSourceSourceUploadDoneEvent(projectId, jobUUID, fileSize);
 
             long checksumSizeInBytes = checkSum.getBytes().length;
 
             String fileSizeAsString = "" + fileSize;
             long fileSizeAsStringSizeInBytes = fileSizeAsString.getBytes().length;
 
-            jobStorage.store(FILENAME_SOURCECODE_ZIP, inputStream, fileSize);
-            sendSourceSourceUploadDoneEvent(projectId, jobUUID, fileSize);
-
             // we store the file size information inside storage - so we can use this for
             // PDS uploads when no reuse of storage is wanted.
             jobStorage.store(FILENAME_SOURCECODE_ZIP_FILESIZE, new StringInputStream(fileSizeAsString), fileSizeAsStringSizeInBytes);
@@ -137,6 +171,14 @@ public class SchedulerSourcecodeUploadService {
         }
     }
 
+    private void rollbackStoredUploadFile(JobStorage jobStorage, String traceLogID) {
+        try {
+            jobStorage.delete(FILENAME_SOURCECODE_ZIP);
+        } catch (IOException e) {
+            LOG.error("Was not able to delete invalid uploaded sources! {}", traceLogID, e);
+        }
+    }
+
     @IsSendingAsyncMessage(MessageID.SOURCE_UPLOAD_DONE)
     private void sendSourceSourceUploadDoneEvent(String projectId, UUID jobUUID, long fileSizeInBytes) {
         DomainMessage message = new DomainMessage(MessageID.SOURCE_UPLOAD_DONE);
@@ -153,44 +195,8 @@ public class SchedulerSourcecodeUploadService {
         domainMessageService.sendAsynchron(message);
     }
 
-    private void handleChecksumValidation(MultipartFile file, String checkSum, String traceLogID) {
-        if (!configuration.isChecksumValidationEnabled()) {
-            return;
-        }
-        try (InputStream inputStream = file.getInputStream()) {
-            /* validate */
-            assertCheckSumCorrect(checkSum, inputStream);
-
-        } catch (IOException e) {
-            LOG.error("Was not able to validate uploaded file checksum", traceLogID, e);
-            throw new SecHubRuntimeException("Was not able to validate uploaded sources checksum");
-        }
-    }
-
-    private void handleZipValidation(MultipartFile file, String traceLogID) {
-        if (!configuration.isZipValidationEnabled()) {
-            return;
-        }
-        try (InputStream inputStream = file.getInputStream()) {
-            /* validate */
-            assertValidZipFile(inputStream);
-
-        } catch (IOException e) {
-            LOG.error("Was not able to validate uploaded zip file", traceLogID, e);
-            throw new SecHubRuntimeException("Was not able to validate uploaded ZIP sources");
-        }
-    }
-
-    private void assertCheckSumCorrect(String checkSum, InputStream inputStream) {
-        if (!checkSumSupport.hasCorrectSha256Checksum(checkSum, inputStream)) {
-            LOG.error("Uploaded file has incorrect sha256 checksum! Something must have happened during the upload.");
-            throw new NotAcceptableException("Sourcecode checksum check failed");
-        }
-    }
-
-    @SuppressWarnings("deprecation")
-    private void assertValidZipFile(InputStream inputStream) {
-        if (!archiveSupportProvider.getArchiveSupport().isZipFileStream(inputStream)) {
+    private void assertValidZipFile(ZipValidatingInputStream zipValidatingInputStream) {
+        if (!zipValidatingInputStream.isValid()) {
             LOG.error("Uploaded file is NOT a valid ZIP file!");
             throw new NotAcceptableException("Sourcecode is not wrapped inside a valid zip file");
         }
@@ -13,8 +13,7 @@ import com.mercedesbenz.sechub.domain.schedule.job.SecHubJobDataRepository;
 import com.mercedesbenz.sechub.domain.schedule.job.SecHubJobRepository;
 import com.mercedesbenz.sechub.sharedkernel.Step;
 import com.mercedesbenz.sechub.sharedkernel.TimeCalculationService;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResult;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResultInspector;
+import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupChunkedDeleteService;
 import com.mercedesbenz.sechub.sharedkernel.usecases.autocleanup.UseCaseScheduleAutoCleanExecution;
 
 @Service
@@ -35,7 +34,7 @@ public class ScheduleAutoCleanupService {
     SecHubJobDataRepository jobDataRepository;
 
     @Autowired
-    AutoCleanupResultInspector inspector;
+    AutoCleanupChunkedDeleteService chunkedDeleteService;
 
     @UseCaseScheduleAutoCleanExecution(@Step(number = 2, name = "Delete old data", description = "deletes old job information"))
     public void cleanup() {
@@ -48,18 +47,10 @@ public class ScheduleAutoCleanupService {
         LocalDateTime cleanTimeStamp = timeCalculationService.calculateNowMinusDays(days);
 
         /* delete */
-        int amount = jobRepository.deleteJobsOlderThan(cleanTimeStamp);
-        jobDataRepository.deleteJobDataOlderThan(cleanTimeStamp);
-
-        /* @formatter:off */
-        inspector.inspect(AutoCleanupResult.builder().
-                    autoCleanup("sechub-jobs",getClass()).
-                    forDays(days).
-                    hasDeleted(amount).
-                    byTimeStamp(cleanTimeStamp).
-                    build()
-                    );
-        /* @formatter:on */
+        chunkedDeleteService.deleteOlderThan("sechub-jobs", getClass(), days, cleanTimeStamp, jobRepository::findJobUUIDsOlderThan,
+                jobRepository::deleteJobsWithUUIDs);
+        chunkedDeleteService.deleteOlderThan(cleanTimeStamp, jobDataRepository::findJobUUIDsOfJobDataOlderThan,
+                jobUUIDs -> jobDataRepository.deleteJobDataOlderThanForJobUUIDs(jobUUIDs, cleanTimeStamp));
 
     }
 
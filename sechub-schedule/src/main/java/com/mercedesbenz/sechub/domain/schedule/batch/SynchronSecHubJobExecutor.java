@@ -5,11 +5,22 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.jboss.logging.MDC;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
@@ -18,9 +29,11 @@ import com.mercedesbenz.sechub.commons.model.SecHubMessageType;
 import com.mercedesbenz.sechub.commons.model.SecHubMessagesList;
 import com.mercedesbenz.sechub.commons.model.TrafficLight;
 import com.mercedesbenz.sechub.commons.model.job.ExecutionResult;
+import com.mercedesbenz.sechub.domain.schedule.SchedulerJobBatchTriggerService;
 import com.mercedesbenz.sechub.domain.schedule.UUIDContainer;
 import com.mercedesbenz.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.mercedesbenz.sechub.sharedkernel.LogConstants;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessage;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageService;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
@@ -35,7 +48,13 @@ import com.mercedesbenz.sechub.sharedkernel.messaging.MessageID;
  * This component executes SecHub jobs in own worker threads (means
  * parallel/asynchronous) but the event handling inside the worker thread is
  * done synchronous to wait inside scheduler domain for scan results from other
- * domain (scan) - this is the reason for the naming.
+ * domain (scan) - this is the reason for the naming.<br>
+ * <br>
+ * Every job gets its own worker thread. When the JVM supports virtual threads
+ * (Java 21+) and they are not turned off, a virtual thread is created per job -
+ * otherwise platform threads from a cached pool are used. Optionally the amount
+ * of concurrent jobs can be limited: jobs exceeding the limit are queued
+ * (waiting for a permit) until a running job has finished.
  *
  * @author Albert Tregnaghi
  *
@@ -44,9 +63,28 @@ import com.mercedesbenz.sechub.sharedkernel.messaging.MessageID;
 public class SynchronSecHubJobExecutor {
 
     private static final String SECHUB_SCHEDULE_THREAD_PREFIX = "sechub-schedule:";
+    private static final String SECHUB_SCHEDULE_WORKER_THREAD_PREFIX = "sechub-schedule-worker-";
+
+    /* no limit - same capacity as one thread per job */
+    private static final int DEFAULT_MAXIMUM_CONCURRENT_JOBS = 0;
+    private static final boolean DEFAULT_VIRTUAL_THREADS_ENABLED = true;
+    private static final int DEFAULT_SHUTDOWN_WAIT_SECONDS = 30;
+    private static final int SHUTDOWN_INTERRUPTED_WAIT_SECONDS = 5;
 
     private static final Logger LOG = LoggerFactory.getLogger(SynchronSecHubJobExecutor.class);
 
+    @MustBeDocumented("Maximum amount of SecHub jobs executed at the same time by one scheduler instance. Additional jobs are queued until a running job has finished. When smaller than 1 (default) there is no limit.")
+    @Value("${sechub.config.scheduler.executor.maximum.concurrent:" + DEFAULT_MAXIMUM_CONCURRENT_JOBS + "}")
+    int maximumConcurrentJobs = DEFAULT_MAXIMUM_CONCURRENT_JOBS;
+
+    @MustBeDocumented("When enabled and the JVM supports virtual threads (Java 21+), SecHub jobs are executed inside virtual threads. Otherwise platform threads are used.")
+    @Value("${sechub.config.scheduler.executor.virtualthreads.enabled:" + DEFAULT_VIRTUAL_THREADS_ENABLED + "}")
+    boolean virtualThreadsEnabled = DEFAULT_VIRTUAL_THREADS_ENABLED;
+
+    @MustBeDocumented("Time in seconds to wait for running SecHub jobs on shutdown. Jobs still running afterwards will be interrupted, jobs still queued will be marked as failed.")
+    @Value("${sechub.config.scheduler.executor.shutdown.wait.seconds:" + DEFAULT_SHUTDOWN_WAIT_SECONDS + "}")
+    int shutdownWaitSeconds = DEFAULT_SHUTDOWN_WAIT_SECONDS;
+
     @Autowired
     @Lazy
     DomainMessageService messageService;
@@ -54,10 +92,198 @@ public class SynchronSecHubJobExecutor {
     @Autowired
     SecHubJobSafeUpdater secHubJobSafeUpdater;
 
+    @Autowired
+    @Lazy
+    SchedulerJobBatchTriggerService triggerService;
+
+    ExecutorService workers;
+
+    /* permits for concurrent jobs - null when there is no limit */
+    private Semaphore jobPermits;
+
+    private final AtomicInteger queuedJobs = new AtomicInteger();
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    @PostConstruct
+    protected void postConstruct() {
+        workers = createWorkers();
+
+        if (maximumConcurrentJobs < 1) {
+            LOG.info("Job executor created without limit for concurrent jobs");
+        } else {
+            jobPermits = new Semaphore(maximumConcurrentJobs, true);
+            LOG.info("Job executor created for maximum {} concurrent jobs", maximumConcurrentJobs);
+        }
+    }
+
+    @PreDestroy
+    protected void preDestroy() {
+        /*
+         * The workers are a `java.util.concurrent.ExecutorService` and not a spring
+         * component. Because of this, we listen here to the spring boot destroy signal
+         * and drain the executor by our own:
+         */
+        workers.shutdown(); // no new jobs accepted, but queued jobs will be processed
+
+        LOG.info("Job executor shutdown started, wait maximum {} seconds for {} running and {} queued jobs", shutdownWaitSeconds, runningJobs.get(),
+                queuedJobs.get());
+        try {
+            if (workers.awaitTermination(shutdownWaitSeconds, TimeUnit.SECONDS)) {
+                LOG.info("Job executor shutdown done");
+                return;
+            }
+            LOG.warn("Job executor was not able to drain in time - running jobs will be interrupted, {} queued jobs will be marked as failed", queuedJobs.get());
+
+            /* interrupted queued jobs mark themselves as failed - we give them some time */
+            workers.shutdownNow();
+            workers.awaitTermination(SHUTDOWN_INTERRUPTED_WAIT_SECONDS, TimeUnit.SECONDS);
+
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @IsSendingSyncMessage(MessageID.START_SCAN)
     public void execute(final ScheduleSecHubJob secHubJob) {
-        Thread scheduleWorkerThread = new Thread(() -> executeInsideThread(secHubJob), SECHUB_SCHEDULE_THREAD_PREFIX + secHubJob.getUUID());
-        scheduleWorkerThread.start();
+        queuedJobs.incrementAndGet();
+        try {
+            workers.execute(new SecHubJobExecutionTask(secHubJob));
+        } catch (RejectedExecutionException e) {
+            queuedJobs.decrementAndGet();
+            throw e;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Job executor status: {} running jobs, {} queued jobs", runningJobs.get(), queuedJobs.get());
+        }
+    }
+
+    /**
+     * @return amount of jobs waiting for a free worker
+     */
+    public int getQueueDepth() {
+        return queuedJobs.get();
+    }
+
+    /**
+     * @return amount of jobs currently executed by workers
+     */
+    public int getActiveCount() {
+        return runningJobs.get();
+    }
+
+    private class SecHubJobExecutionTask implements Runnable {
+
+        private final ScheduleSecHubJob secHubJob;
+
+        private SecHubJobExecutionTask(ScheduleSecHubJob secHubJob) {
+            this.secHubJob = secHubJob;
+        }
+
+        @Override
+        public void run() {
+            boolean permitAcquired = acquireJobPermit();
+            queuedJobs.decrementAndGet();
+
+            if (!permitAcquired) {
+                markSecHubJobNotExecutedBecauseOfShutdown(secHubJob);
+                return;
+            }
+            runningJobs.incrementAndGet();
+
+            Thread currentThread = Thread.currentThread();
+            String formerName = currentThread.getName();
+            currentThread.setName(SECHUB_SCHEDULE_THREAD_PREFIX + secHubJob.getUUID());
+            try {
+                executeInsideThread(secHubJob);
+            } finally {
+                currentThread.setName(formerName);
+
+                runningJobs.decrementAndGet();
+                releaseJobPermit();
+            }
+            /* worker is free again - no need to wait for next trigger execution */
+            triggerService.wakeUp();
+        }
+    }
+
+    private boolean acquireJobPermit() {
+        if (jobPermits == null) {
+            return true;
+        }
+        try {
+            jobPermits.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            /* executor was shut down while job was still queued */
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void releaseJobPermit() {
+        if (jobPermits == null) {
+            return;
+        }
+        jobPermits.release();
+    }
+
+    private void markSecHubJobNotExecutedBecauseOfShutdown(ScheduleSecHubJob secHubJob) {
+        SecHubMessage message = new SecHubMessage(SecHubMessageType.ERROR, "The job was not executed, because the scheduler instance was shut down.");
+        secHubJobSafeUpdater.safeUpdateOfSecHubJob(secHubJob.getUUID(), ExecutionResult.FAILED, null, Arrays.asList(message));
+    }
+
+    private ExecutorService createWorkers() {
+        if (virtualThreadsEnabled) {
+            ExecutorService virtualThreadWorkers = createVirtualThreadPerTaskExecutorOrNull();
+            if (virtualThreadWorkers != null) {
+                LOG.info("Job executor uses virtual threads");
+                return virtualThreadWorkers;
+            }
+            LOG.info("Virtual threads are not supported by this JVM, job executor uses platform threads");
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> new Thread(runnable, SECHUB_SCHEDULE_WORKER_THREAD_PREFIX + threadNumber.incrementAndGet()));
+    }
+
+    /**
+     * Virtual threads are available since Java 21 - we are compiled for an older
+     * version so we must resolve the executor by reflection.
+     *
+     * @return executor creating a new virtual thread for every task or
+     *         <code>null</code> when not supported
+     */
+    private ExecutorService createVirtualThreadPerTaskExecutorOrNull() {
+        ThreadFactory virtualThreadFactory = createVirtualThreadFactoryOrNull();
+        if (virtualThreadFactory == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, virtualThreadFactory);
+
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.trace("Virtual thread per task executor not available", e);
+            return null;
+        }
+    }
+
+    /**
+     * @return thread factory creating virtual threads or <code>null</code> when
+     *         not supported
+     */
+    private ThreadFactory createVirtualThreadFactoryOrNull() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, SECHUB_SCHEDULE_WORKER_THREAD_PREFIX, 1L);
+
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.trace("Virtual thread factory not available", e);
+            return null;
+        }
     }
 
     private void executeInsideThread(final ScheduleSecHubJob secHubJob) {
@@ -75,7 +75,9 @@ public class ScheduleSecHubJob {
     public static final String PROPERTY_MODULE_GROUP = "moduleGroup";
     public static final String PROPERTY_DATA = "data";
 
-    public static final String QUERY_DELETE_JOB_OLDER_THAN = "DELETE FROM ScheduleSecHubJob j WHERE j." + PROPERTY_CREATED + " <:cleanTimeStamp";
+    public static final String QUERY_FIND_JOB_UUIDS_OLDER_THAN = "SELECT j." + PROPERTY_UUID + " FROM ScheduleSecHubJob j WHERE j." + PROPERTY_CREATED
+            + " <:cleanTimeStamp";
+    public static final String QUERY_DELETE_JOBS_WITH_UUIDS = "DELETE FROM ScheduleSecHubJob j WHERE j." + PROPERTY_UUID + " IN :uuids";
 
     @Id
     @GeneratedValue(generator = "UUID")
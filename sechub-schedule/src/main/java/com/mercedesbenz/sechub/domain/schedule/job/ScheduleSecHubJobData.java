@@ -42,7 +42,10 @@ public class ScheduleSecHubJobData {
     public static final String PROPERTY_VALUE = "value";
     public static final String PROPERTY_CREATED = "created";
 
-    public static final String QUERY_DELETE_JOB_DATA_OLDER_THAN = "DELETE FROM ScheduleSecHubJobData d WHERE d." + PROPERTY_CREATED + " <:cleanTimeStamp";
+    public static final String QUERY_FIND_JOB_UUIDS_OF_JOB_DATA_OLDER_THAN = "SELECT DISTINCT d." + PROPERTY_JOB_UUID + " FROM ScheduleSecHubJobData d WHERE d."
+            + PROPERTY_CREATED + " <:cleanTimeStamp";
+    public static final String QUERY_DELETE_JOB_DATA_OLDER_THAN_FOR_JOB_UUIDS = "DELETE FROM ScheduleSecHubJobData d WHERE d." + PROPERTY_JOB_UUID
+            + " IN :jobUUIDs AND d." + PROPERTY_CREATED + " <:cleanTimeStamp";
 
     @Id
     @Column(name = COLUMN_JOB_UUID, updatable = false, nullable = false, columnDefinition = "UUID")
@@ -1,9 +1,11 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule.job;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -60,6 +62,33 @@ public class ScheduleSecHubJobSpecifications {
         };
     }
 
+    /**
+     * Creates a specification for jobs which are listed after the given cursor
+     * when jobs are ordered by creation time and job UUID - newest first.
+     *
+     * @param cursor position inside the job list
+     * @return specification
+     */
+    public static Specification<ScheduleSecHubJob> isListedAfter(SecHubJobListCursor cursor) {
+        return (job, query, criteriaBuilder) -> {
+            /* @formatter:off
+             *
+             * SQL pseudo example:
+             *
+             *    (j.created < :created) or (j.created = :created and j.uuid < :uuid)
+             *
+             * @formatter:on */
+            LocalDateTime created = cursor.getCreated();
+            UUID jobUUID = cursor.getJobUUID();
+
+            Predicate createdBefore = criteriaBuilder.lessThan(job.<LocalDateTime>get(ScheduleSecHubJob.PROPERTY_CREATED), created);
+            Predicate sameCreatedButUUIDBefore = criteriaBuilder.and(criteriaBuilder.equal(job.get(ScheduleSecHubJob.PROPERTY_CREATED), created),
+                    criteriaBuilder.lessThan(job.<UUID>get(ScheduleSecHubJob.PROPERTY_UUID), jobUUID));
+
+            return criteriaBuilder.or(createdBefore, sameCreatedButUUIDBefore);
+        };
+    }
+
     private static Predicate createWhereDataExistsForIdAndValueLike(Root<ScheduleSecHubJob> job, CriteriaQuery<?> query, CriteriaBuilder cb, String labelId,
             String labelValue) {
 
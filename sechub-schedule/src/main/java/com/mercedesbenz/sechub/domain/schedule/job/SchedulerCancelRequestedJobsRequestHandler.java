@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule.job;
+
+import static com.mercedesbenz.sechub.sharedkernel.util.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.commons.model.job.ExecutionState;
+import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessage;
+import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
+import com.mercedesbenz.sechub.sharedkernel.messaging.IsRecevingSyncMessage;
+import com.mercedesbenz.sechub.sharedkernel.messaging.IsSendingSyncMessageAnswer;
+import com.mercedesbenz.sechub.sharedkernel.messaging.MessageDataKeys;
+import com.mercedesbenz.sechub.sharedkernel.messaging.MessageID;
+import com.mercedesbenz.sechub.sharedkernel.messaging.SynchronMessageHandler;
+
+/**
+ * Resolves for multiple jobs at once which of them are marked as cancel
+ * requested or are already canceled. Used by scan domain to check all running
+ * scan jobs of a cluster member with one request.
+ */
+@Component
+public class SchedulerCancelRequestedJobsRequestHandler implements SynchronMessageHandler {
+
+    private static final List<ExecutionState> CANCEL_STATES = Arrays.asList(ExecutionState.CANCEL_REQUESTED, ExecutionState.CANCELED);
+
+    @Autowired
+    SecHubJobRepository repository;
+
+    @Override
+    @IsRecevingSyncMessage(MessageID.REQUEST_SCHEDULER_CANCEL_REQUESTED_JOBS)
+    public DomainMessageSynchronousResult receiveSynchronMessage(DomainMessage request) {
+        notNull(request, "Request may not be null!");
+
+        if (!request.hasID(MessageID.REQUEST_SCHEDULER_CANCEL_REQUESTED_JOBS)) {
+            return new DomainMessageSynchronousResult(MessageID.UNSUPPORTED_OPERATION,
+                    new UnsupportedOperationException("Can only handle " + MessageID.REQUEST_SCHEDULER_CANCEL_REQUESTED_JOBS));
+        }
+        return returnCancelRequestedJobs(request);
+    }
+
+    @IsSendingSyncMessageAnswer(value = MessageID.SCHEDULER_CANCEL_REQUESTED_JOBS, answeringTo = MessageID.REQUEST_SCHEDULER_CANCEL_REQUESTED_JOBS, branchName = "success")
+    private DomainMessageSynchronousResult returnCancelRequestedJobs(DomainMessage request) {
+        List<UUID> jobUUIDs = request.get(MessageDataKeys.SECHUB_JOB_UUIDS);
+
+        List<UUID> cancelRequestedJobUUIDs = Collections.emptyList();
+        if (jobUUIDs != null && !jobUUIDs.isEmpty()) {
+            cancelRequestedJobUUIDs = repository.findJobUUIDsInExecutionStates(jobUUIDs, CANCEL_STATES);
+        }
+
+        DomainMessageSynchronousResult result = new DomainMessageSynchronousResult(MessageID.SCHEDULER_CANCEL_REQUESTED_JOBS);
+        result.set(MessageDataKeys.SECHUB_JOB_UUIDS, cancelRequestedJobUUIDs);
+        return result;
+    }
+}
@@ -2,8 +2,11 @@
 package com.mercedesbenz.sechub.domain.schedule.job;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,9 +15,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 public interface SecHubJobDataRepository extends JpaRepository<ScheduleSecHubJobData, UUID> {
 
+    @Query(ScheduleSecHubJobData.QUERY_FIND_JOB_UUIDS_OF_JOB_DATA_OLDER_THAN)
+    public List<UUID> findJobUUIDsOfJobDataOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp, Pageable pageable);
+
     @Transactional
     @Modifying
-    @Query(ScheduleSecHubJobData.QUERY_DELETE_JOB_DATA_OLDER_THAN)
-    public int deleteJobDataOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp);
+    @Query(ScheduleSecHubJobData.QUERY_DELETE_JOB_DATA_OLDER_THAN_FOR_JOB_UUIDS)
+    public int deleteJobDataOlderThanForJobUUIDs(@Param("jobUUIDs") Collection<UUID> jobUUIDs, @Param("cleanTimeStamp") LocalDateTime cleanTimeStamp);
 
 }
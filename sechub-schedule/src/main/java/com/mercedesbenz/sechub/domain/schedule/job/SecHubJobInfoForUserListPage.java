@@ -5,15 +5,26 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.mercedesbenz.sechub.sharedkernel.AbstractListPage;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class SecHubJobInfoForUserListPage extends AbstractListPage<SecHubJobInfoForUser> {
 
+    public static final String PROPERTY_NEXT_CURSOR = "nextCursor";
+    public static final String PROPERTY_TOTAL_COUNT = "totalCount";
+
     private List<SecHubJobInfoForUser> jobs = new ArrayList<>();
 
     private String projectId;
 
+    @JsonInclude(Include.NON_NULL)
+    private String nextCursor;
+
+    @JsonInclude(Include.NON_NULL)
+    private Long totalCount;
+
     public void setProjectId(String projectId) {
         this.projectId = projectId;
     }
@@ -22,6 +33,29 @@ public class SecHubJobInfoForUserListPage extends AbstractListPage<SecHubJobInfo
         return projectId;
     }
 
+    /**
+     * @return cursor to fetch the next entries or <code>null</code> when there are
+     *         no more entries
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return total amount of entries or <code>null</code> when not counted
+     */
+    public Long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Long totalCount) {
+        this.totalCount = totalCount;
+    }
+
     public List<SecHubJobInfoForUser> getContent() {
         return jobs;
     }
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule.job;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -33,7 +34,8 @@ import com.mercedesbenz.sechub.sharedkernel.usecases.job.UseCaseUserListsJobsFor
 public class SecHubJobInfoForUserService {
 
     public static final int MAXIMUM_ALLOWED_LABEL_PARAMETERS = 10;
-    private static final int MAXIMUM_ALLOWED_PARAMETERS = MAXIMUM_ALLOWED_LABEL_PARAMETERS + 4; // projectId, page, size, withMetaData
+    // projectId, page, size, withMetaData, cursor, withTotalCount
+    private static final int MAXIMUM_ALLOWED_PARAMETERS = MAXIMUM_ALLOWED_LABEL_PARAMETERS + 6;
 
     private static final Logger LOG = LoggerFactory.getLogger(SecHubJobInfoForUserService.class);
 
@@ -75,9 +77,41 @@ public class SecHubJobInfoForUserService {
         }
     }
 
-    @UseCaseUserListsJobsForProject(@Step(number = 2, name = "Assert access by service and fetch job information for user"))
+    /**
+     * Lists jobs for given project by classic page based listing - newest first.
+     */
     public SecHubJobInfoForUserListPage listJobsForProject(String projectId, int size, int page, boolean resultsShallContainMetaData,
             Map<String, String> allParams) {
+        return listJobsForProject(projectId, size, page, null, false, resultsShallContainMetaData, allParams);
+    }
+
+    /**
+     * Lists jobs for given project - newest first.<br>
+     * <br>
+     * When a cursor is given (an empty cursor means first entries), a keyset based
+     * pagination is used: the given page is ignored and the entries directly after
+     * the cursor position are returned. The response time does not depend on the
+     * position inside the list and no count query is done - except when
+     * <code>withTotalCount</code> is <code>true</code>.<br>
+     * <br>
+     * Without cursor the classic page based listing is used.
+     *
+     * @param projectId
+     * @param size                        wanted size
+     * @param page                        wanted page, ignored when cursor is
+     *                                    defined
+     * @param cursor                      cursor from former result or
+     *                                    <code>null</code>
+     * @param withTotalCount              when <code>true</code> the total amount
+     *                                    of jobs is counted in keyset mode. In
+     *                                    page mode always counted.
+     * @param resultsShallContainMetaData
+     * @param allParams
+     * @return list page
+     */
+    @UseCaseUserListsJobsForProject(@Step(number = 2, name = "Assert access by service and fetch job information for user"))
+    public SecHubJobInfoForUserListPage listJobsForProject(String projectId, int size, int page, String cursor, boolean withTotalCount,
+            boolean resultsShallContainMetaData, Map<String, String> allParams) {
 
         assertService.assertProjectIdValid(projectId);
         assertService.assertProjectAllowsReadAccess(projectId);
@@ -90,6 +124,13 @@ public class SecHubJobInfoForUserService {
         searchContext.page = page;
         searchContext.size = size;
         searchContext.resultsShallContainMetaData = resultsShallContainMetaData;
+        searchContext.withTotalCount = withTotalCount;
+        if (cursor != null) {
+            searchContext.keysetPagination = true;
+            if (!cursor.isEmpty()) {
+                searchContext.cursor = SecHubJobListCursor.parse(cursor);
+            }
+        }
 
         ensureValidSearchParameters(searchContext);
 
@@ -99,12 +140,57 @@ public class SecHubJobInfoForUserService {
     }
 
     private SecHubJobInfoForUserListPage loadDataAndCreateListPage(SearchContext searchContext) {
-        Pageable pageable = PageRequest.of(searchContext.page, searchContext.size, Sort.by(Direction.DESC, ScheduleSecHubJob.PROPERTY_CREATED));
-
         Specification<ScheduleSecHubJob> specification = ScheduleSecHubJobSpecifications.hasProjectIdAndData(searchContext.projectId, searchContext.filterData);
 
+        if (searchContext.keysetPagination) {
+            return loadDataByKeysetAndCreateListPage(specification, searchContext);
+        }
+        /* @formatter:off */
+        Sort sort = Sort.by(Direction.DESC, ScheduleSecHubJob.PROPERTY_CREATED).
+                        and(Sort.by(Direction.DESC, ScheduleSecHubJob.PROPERTY_UUID));
+        /* @formatter:on */
+        Pageable pageable = PageRequest.of(searchContext.page, searchContext.size, sort);
+
         Page<ScheduleSecHubJob> pageFound = jobRepository.findAll(specification, pageable);
-        return transformToListPage(pageFound, searchContext);
+
+        SecHubJobInfoForUserListPage listPage = transformToListPage(pageFound, searchContext);
+        listPage.setPage(pageFound.getNumber());
+        listPage.setTotalPages(pageFound.getTotalPages());
+        listPage.setTotalCount(pageFound.getTotalElements());
+
+        if (pageFound.hasNext()) {
+            List<ScheduleSecHubJob> content = pageFound.getContent();
+            if (!content.isEmpty()) {
+                listPage.setNextCursor(SecHubJobListCursor.of(content.get(content.size() - 1)).toString());
+            }
+        }
+        return listPage;
+    }
+
+    private SecHubJobInfoForUserListPage loadDataByKeysetAndCreateListPage(Specification<ScheduleSecHubJob> specification, SearchContext searchContext) {
+        Specification<ScheduleSecHubJob> keysetSpecification = specification;
+        if (searchContext.cursor != null) {
+            keysetSpecification = specification.and(ScheduleSecHubJobSpecifications.isListedAfter(searchContext.cursor));
+        }
+        /* we fetch one more entry to know if there are more entries available */
+        List<ScheduleSecHubJob> jobsFound = jobRepository.findNewestJobs(keysetSpecification, searchContext.size + 1);
+
+        boolean moreEntriesAvailable = jobsFound.size() > searchContext.size;
+        if (moreEntriesAvailable) {
+            jobsFound = jobsFound.subList(0, searchContext.size);
+        }
+
+        SecHubJobInfoForUserListPage listPage = transformToListPage(jobsFound, searchContext);
+        if (moreEntriesAvailable) {
+            listPage.setNextCursor(SecHubJobListCursor.of(jobsFound.get(jobsFound.size() - 1)).toString());
+        }
+
+        if (searchContext.withTotalCount) {
+            long totalCount = jobRepository.count(specification);
+            listPage.setTotalCount(totalCount);
+            listPage.setTotalPages((int) ((totalCount + searchContext.size - 1) / searchContext.size));
+        }
+        return listPage;
     }
 
     private void ensureValidSearchParameters(SearchContext searchContext) {
@@ -158,14 +244,12 @@ public class SecHubJobInfoForUserService {
 
     }
 
-    private SecHubJobInfoForUserListPage transformToListPage(Page<ScheduleSecHubJob> pageFound, SearchContext searchContext) {
+    private SecHubJobInfoForUserListPage transformToListPage(Iterable<ScheduleSecHubJob> jobsFound, SearchContext searchContext) {
         SecHubJobInfoForUserListPage listPage = new SecHubJobInfoForUserListPage();
 
-        listPage.setPage(pageFound.getNumber());
-        listPage.setTotalPages(pageFound.getTotalPages());
         listPage.setProjectId(searchContext.projectId);
 
-        for (ScheduleSecHubJob job : pageFound) {
+        for (ScheduleSecHubJob job : jobsFound) {
 
             SecHubJobInfoForUser infoForUser = new SecHubJobInfoForUser();
             infoForUser.setJobUUID(job.getUUID());
@@ -213,6 +297,9 @@ public class SecHubJobInfoForUserService {
         private int size;
         int page;
         boolean resultsShallContainMetaData;
+        boolean withTotalCount;
+        boolean keysetPagination;
+        private SecHubJobListCursor cursor;
         private Map<String, String> filterData;
     }
 
@@ -0,0 +1,78 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule.job;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.mercedesbenz.sechub.sharedkernel.error.BadRequestException;
+
+/**
+ * Position inside a job list ordered by creation time and job UUID (newest
+ * first). Used for keyset pagination: the next page starts directly after the
+ * job represented by the cursor, so the database does not need to skip over
+ * all former entries.<br>
+ * <br>
+ * The string representation is opaque for clients.
+ */
+class SecHubJobListCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private LocalDateTime created;
+    private UUID jobUUID;
+
+    SecHubJobListCursor(LocalDateTime created, UUID jobUUID) {
+        this.created = created;
+        this.jobUUID = jobUUID;
+    }
+
+    LocalDateTime getCreated() {
+        return created;
+    }
+
+    UUID getJobUUID() {
+        return jobUUID;
+    }
+
+    static SecHubJobListCursor of(ScheduleSecHubJob job) {
+        return new SecHubJobListCursor(job.getCreated(), job.getUUID());
+    }
+
+    /**
+     * Parses given cursor string
+     *
+     * @param cursor string representation of cursor
+     * @return cursor, never <code>null</code>
+     * @throws BadRequestException when cursor is not valid
+     */
+    static SecHubJobListCursor parse(String cursor) {
+        String decoded = null;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor is not valid");
+        }
+        int index = decoded.indexOf(SEPARATOR);
+        if (index == -1) {
+            throw new BadRequestException("Cursor is not valid");
+        }
+        try {
+            LocalDateTime created = LocalDateTime.parse(decoded.substring(0, index));
+            UUID jobUUID = UUID.fromString(decoded.substring(index + 1));
+
+            return new SecHubJobListCursor(created, jobUUID);
+
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new BadRequestException("Cursor is not valid");
+        }
+    }
+
+    @Override
+    public String toString() {
+        String plain = created + SEPARATOR + jobUUID;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+}
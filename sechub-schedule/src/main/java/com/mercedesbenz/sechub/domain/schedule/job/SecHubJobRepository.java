@@ -4,10 +4,12 @@ package com.mercedesbenz.sechub.domain.schedule.job;
 import static com.mercedesbenz.sechub.domain.schedule.job.ScheduleSecHubJob.*;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -30,9 +32,24 @@ public interface SecHubJobRepository extends JpaRepository<ScheduleSecHubJob, UU
             + " is :executionState", nativeQuery = false)
     public long countJobsInExecutionState(@Param("executionState") ExecutionState state);
 
+    /**
+     * Resolves which of the given jobs are in one of the given execution states
+     *
+     * @param uuids           job uuids to check
+     * @param executionStates execution states to search for
+     * @return uuids of jobs having one of the execution states
+     */
+    @Query(value = "SELECT t." + PROPERTY_UUID + " FROM " + ScheduleSecHubJob.CLASS_NAME + " t where t." + PROPERTY_UUID + " IN :uuids and t."
+            + PROPERTY_EXECUTION_STATE + " IN :executionStates", nativeQuery = false)
+    public List<UUID> findJobUUIDsInExecutionStates(@Param("uuids") Collection<UUID> uuids,
+            @Param("executionStates") Collection<ExecutionState> executionStates);
+
+    @Query(ScheduleSecHubJob.QUERY_FIND_JOB_UUIDS_OLDER_THAN)
+    public List<UUID> findJobUUIDsOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp, Pageable pageable);
+
     @Transactional
     @Modifying
-    @Query(ScheduleSecHubJob.QUERY_DELETE_JOB_OLDER_THAN)
-    public int deleteJobsOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp);
+    @Query(ScheduleSecHubJob.QUERY_DELETE_JOBS_WITH_UUIDS)
+    public int deleteJobsWithUUIDs(@Param("uuids") Collection<UUID> uuids);
 
 }
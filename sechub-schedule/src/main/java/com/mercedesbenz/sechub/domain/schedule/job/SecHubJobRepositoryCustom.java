@@ -1,9 +1,13 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule.job;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
 public interface SecHubJobRepositoryCustom {
 
     Optional<ScheduleSecHubJob> getJob(UUID id);
@@ -13,4 +17,16 @@ public interface SecHubJobRepositoryCustom {
     Optional<UUID> nextJobIdToExecuteForProjectNotYetExecuted();
 
     Optional<UUID> nextJobIdToExecuteForProjectAndModuleGroupNotYetExecuted();
+
+    /**
+     * Finds jobs for given specification, ordered by creation time and job UUID -
+     * newest first. Other than
+     * {@link JpaSpecificationExecutor#findAll(Specification, org.springframework.data.domain.Pageable)}
+     * no count query and no offset is used.
+     *
+     * @param specification
+     * @param maximumAmount  maximum amount of jobs to return
+     * @return list of jobs, never <code>null</code>
+     */
+    List<ScheduleSecHubJob> findNewestJobs(Specification<ScheduleSecHubJob> specification, int maximumAmount);
 }
@@ -3,6 +3,7 @@ package com.mercedesbenz.sechub.domain.schedule.job;
 
 import static com.mercedesbenz.sechub.domain.schedule.job.ScheduleSecHubJob.*;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,8 +11,17 @@ import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
 
 import com.mercedesbenz.sechub.commons.model.job.ExecutionState;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
 import com.mercedesbenz.sechub.sharedkernel.jpa.TypedQuerySupport;
 
 public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
@@ -63,13 +73,20 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
     @PersistenceContext
     private EntityManager em;
 
+    @MustBeDocumented("When enabled, the next job to execute is fetched with a pessimistic write lock using 'SKIP LOCKED' when the first come first serve strategy is used. "
+            + "Inside a cluster every instance will so get a different job on first try instead of competing for the same one. "
+            + "The one scan per project (and module group) strategies always use the optimistic lock, because skipping a locked job would start a second job of the same project. "
+            + "Only PostgreSQL supports this (the postgres profile enables it), for other databases (e.g. H2) the optimistic lock is used as fallback.")
+    @Value("${sechub.config.trigger.nextjob.skiplocked.enabled:false}")
+    boolean skipLockedEnabled;
+
     @Override
     public Optional<ScheduleSecHubJob> getJob(UUID id) {
         Query query = em.createQuery(JPQL_STRING_SELECT_BY_JOB_ID);
         query.setParameter(PARAM_EXECUTION_STATE, ExecutionState.READY_TO_START);
         query.setParameter(PARAM_UUID, id);
         query.setMaxResults(1);
-        query.setLockMode(LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        applyNextJobLock(query);
 
         return typedQuerySupport.getSingleResultAsOptional(query);
     }
@@ -79,10 +96,7 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
         Query query = em.createQuery(JPQL_STRING_SELECT_BY_EXECUTION_STATE);
         query.setParameter(PARAM_EXECUTION_STATE, ExecutionState.READY_TO_START);
         query.setMaxResults(1);
-        // we use OPTIMISTIC_FORCE_INCREMENT write lock - so only one POD will be able
-        // to execute next job...
-        // see https://www.baeldung.com/jpa-pessimistic-locking
-        query.setLockMode(LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        applyNextJobLock(query);
 
         return getUUIDFromJob(typedQuerySupport.getSingleResultAsOptional(query));
     }
@@ -93,7 +107,7 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
         query.setParameter(PARAM_EXECUTION_STATE, ExecutionState.READY_TO_START);
         query.setParameter(PARAM_EXECUTION_STATE_SUB, ExecutionState.STARTED);
         query.setMaxResults(1);
-        query.setLockMode(LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        applyOptimisticNextJobLock(query);
 
         return getUUIDFromJob(typedQuerySupport.getSingleResultAsOptional(query));
     }
@@ -112,9 +126,49 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
         query.setParameter(PARAM_EXECUTION_STATE, ExecutionState.READY_TO_START);
         query.setParameter(PARAM_EXECUTION_STATE_SUB, ExecutionState.STARTED);
         query.setMaxResults(1);
-        query.setLockMode(LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        applyOptimisticNextJobLock(query);
 
         return getUUIDFromJob(typedQuerySupport.getSingleResultAsOptional(query));
     }
 
+    @Override
+    public List<ScheduleSecHubJob> findNewestJobs(Specification<ScheduleSecHubJob> specification, int maximumAmount) {
+        CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
+        CriteriaQuery<ScheduleSecHubJob> query = criteriaBuilder.createQuery(ScheduleSecHubJob.class);
+        Root<ScheduleSecHubJob> job = query.from(ScheduleSecHubJob.class);
+
+        query.select(job);
+        query.where(specification.toPredicate(job, query, criteriaBuilder));
+        query.orderBy(criteriaBuilder.desc(job.get(PROPERTY_CREATED)), criteriaBuilder.desc(job.get(PROPERTY_UUID)));
+
+        return em.createQuery(query).setMaxResults(maximumAmount).getResultList();
+    }
+
+    private void applyNextJobLock(Query query) {
+        if (skipLockedEnabled) {
+            /*
+             * PESSIMISTIC_WRITE with lock timeout SKIP_LOCKED results in "FOR UPDATE SKIP
+             * LOCKED" - rows already locked by another POD are just ignored, so every POD
+             * gets a different job without any retry
+             */
+            query.setLockMode(LockModeType.PESSIMISTIC_WRITE);
+            query.setHint(AvailableSettings.JPA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED);
+        } else {
+            applyOptimisticNextJobLock(query);
+        }
+    }
+
+    private void applyOptimisticNextJobLock(Query query) {
+        /*
+         * Never use SKIP LOCKED here: the job of a project locked (but not yet
+         * committed) by another POD would be skipped and the next job of the SAME
+         * project would be selected, because the running jobs sub query sees only
+         * committed jobs. So both PODs would start a job for the same project.
+         */
+        // we use OPTIMISTIC_FORCE_INCREMENT write lock - so only one POD will be able
+        // to execute next job...
+        // see https://www.baeldung.com/jpa-pessimistic-locking
+        query.setLockMode(LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    }
+
 }
@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import com.mercedesbenz.sechub.commons.model.job.ExecutionState;
+import com.mercedesbenz.sechub.domain.schedule.batch.SynchronSecHubJobExecutor;
 import com.mercedesbenz.sechub.domain.schedule.config.SchedulerConfigService;
 import com.mercedesbenz.sechub.domain.schedule.job.SecHubJobRepository;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessage;
@@ -29,6 +30,9 @@ public class SchedulerStatusService {
     @Autowired
     SchedulerConfigService configService;
 
+    @Autowired
+    SynchronSecHubJobExecutor jobExecutor;
+
     @IsSendingAsyncMessage(MessageID.SCHEDULER_STATUS_UPDATE)
     public void buildStatus() {
         DomainMessage message = DomainMessageFactory.createEmptyRequest(MessageID.SCHEDULER_STATUS_UPDATE);
@@ -56,6 +60,9 @@ public class SchedulerStatusService {
         sm.setAmountOfJobsCanceled(amountOfJobsCanceled);
         sm.setAmountOfJobsEnded(amountOfJobsEnded);
 
+        sm.setAmountOfJobsRunningInInstance(jobExecutor.getActiveCount());
+        sm.setAmountOfJobsQueuedInInstance(jobExecutor.getQueueDepth());
+
         message.set(MessageDataKeys.SCHEDULER_STATUS_DATA, sm);
 
         eventBus.sendAsynchron(message);
@@ -1,11 +1,19 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule;
 
+import static com.mercedesbenz.sechub.commons.core.CommonConstants.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +22,6 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.mercedesbenz.sechub.commons.archive.ArchiveSupport;
 import com.mercedesbenz.sechub.commons.core.security.CheckSumSupport;
 import com.mercedesbenz.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.mercedesbenz.sechub.sharedkernel.error.BadRequestException;
@@ -24,15 +31,16 @@ import com.mercedesbenz.sechub.sharedkernel.logging.LogSanitizer;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessage;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageService;
 import com.mercedesbenz.sechub.sharedkernel.messaging.MessageID;
-import com.mercedesbenz.sechub.sharedkernel.util.ArchiveSupportProvider;
 import com.mercedesbenz.sechub.sharedkernel.validation.UserInputAssertion;
 import com.mercedesbenz.sechub.storage.core.JobStorage;
 import com.mercedesbenz.sechub.storage.core.StorageService;
 
-@SuppressWarnings("deprecation")
 public class SchedulerSourcecodeUploadServiceTest {
 
     private static final String PROJECT1 = "project1";
+    private static final String WRONG_CHECKSUM = "wrongchecksum";
+    private static final byte[] VALID_ZIP_CONTENT = createZipContent();
+    private static final byte[] NO_ZIP_CONTENT = createNoZipContent();
     private SchedulerSourcecodeUploadService serviceToTest;
     private CheckSumSupport checkSumSupport;
     private StorageService mockedStorageService;
@@ -41,16 +49,19 @@ public class SchedulerSourcecodeUploadServiceTest {
     private MultipartFile file;
 
     private JobStorage storage;
-    private ArchiveSupport mockedArchiveSupport;
-    private ArchiveSupportProvider archiveSupportProvider;
+    private ByteArrayOutputStream storedContent;
+    private String validZipChecksum;
+    private String noZipChecksum;
     private SchedulerSourcecodeUploadConfiguration configuration;
     private DomainMessageService domainMessageService;
 
     @BeforeEach
-    void beforeEach() {
+    void beforeEach() throws Exception {
         randomUuid = UUID.randomUUID();
 
-        checkSumSupport = mock(CheckSumSupport.class);
+        checkSumSupport = new CheckSumSupport();
+        validZipChecksum = checkSumSupport.createSha256Checksum(new ByteArrayInputStream(VALID_ZIP_CONTENT));
+        noZipChecksum = checkSumSupport.createSha256Checksum(new ByteArrayInputStream(NO_ZIP_CONTENT));
         mockedStorageService = mock(StorageService.class);
         mockedAssertService = mock(ScheduleAssertService.class);
 
@@ -59,12 +70,15 @@ public class SchedulerSourcecodeUploadServiceTest {
         storage = mock(JobStorage.class);
         when(mockedStorageService.getJobStorage(PROJECT1, randomUuid)).thenReturn(storage);
 
-        file = mock(MultipartFile.class);
-        when(file.getSize()).thenReturn(1024L); // just not empty
+        /* storage mock reads the stream like a real storage */
+        storedContent = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            InputStream inputStream = invocation.getArgument(1);
+            inputStream.transferTo(storedContent);
+            return null;
+        }).when(storage).store(eq(FILENAME_SOURCECODE_ZIP), any(), anyLong());
 
-        archiveSupportProvider = mock(ArchiveSupportProvider.class);
-        mockedArchiveSupport = mock(ArchiveSupport.class);
-        when(archiveSupportProvider.getArchiveSupport()).thenReturn(mockedArchiveSupport);
+        file = mock(MultipartFile.class);
 
         configuration = mock(SchedulerSourcecodeUploadConfiguration.class);
         domainMessageService = mock(DomainMessageService.class);
@@ -74,7 +88,6 @@ public class SchedulerSourcecodeUploadServiceTest {
         serviceToTest.checkSumSupport = checkSumSupport;
         serviceToTest.storageService = mockedStorageService;
         serviceToTest.assertService = mockedAssertService;
-        serviceToTest.archiveSupportProvider = archiveSupportProvider;
         serviceToTest.configuration = configuration;
         serviceToTest.domainMessageService = domainMessageService;
 
@@ -86,10 +99,9 @@ public class SchedulerSourcecodeUploadServiceTest {
 
     @ParameterizedTest
     @ValueSource(longs = { 0, 10, 22 })
-    void when_zipfile_is_empty_a_bad_request_400_is_thrown_even_when_zipfile_validation_is_disabled(long fileSize) {
+    void when_zipfile_is_empty_a_bad_request_400_is_thrown_even_when_zipfile_validation_is_disabled(long fileSize) throws Exception {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(true);
-        when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(true);
+        prepareUploadedFile(VALID_ZIP_CONTENT);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(false);
         when(configuration.isZipValidationEnabled()).thenReturn(false);
@@ -97,84 +109,115 @@ public class SchedulerSourcecodeUploadServiceTest {
         when(file.getSize()).thenReturn(fileSize);
 
         /* execute + test */
-        assertThrows(BadRequestException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum"));
+        assertThrows(BadRequestException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, validZipChecksum));
 
         /* test */
         assertNoUploadEvent();
     }
 
     @Test
-    void when_checksum_correct_and_is_zip__correct_no_failure() {
+    void when_checksum_correct_and_is_zip__correct_no_failure() throws Exception {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(true);
-        when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(true);
+        prepareUploadedFile(VALID_ZIP_CONTENT);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(true);
         when(configuration.isZipValidationEnabled()).thenReturn(true);
 
         /* execute */
-        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, validZipChecksum);
+
+        /* test */
+        assertUploadEvent();
+        assertStoredContentAndNoRollback(VALID_ZIP_CONTENT);
     }
 
     @Test
-    void when_checksum_is_NOT_correct_but_valid_zipfile_throws_404() {
+    void uploaded_file_content_is_read_only_one_time() throws Exception {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(false);
-        when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(true);
+        prepareUploadedFile(VALID_ZIP_CONTENT);
+
+        when(configuration.isChecksumValidationEnabled()).thenReturn(true);
+        when(configuration.isZipValidationEnabled()).thenReturn(true);
+
+        /* execute */
+        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, validZipChecksum);
+
+        /* test */
+        verify(file, times(1)).getInputStream();
+    }
+
+    @Test
+    void when_checksum_is_NOT_correct_but_valid_zipfile_throws_404() throws Exception {
+        /* prepare */
+        prepareUploadedFile(VALID_ZIP_CONTENT);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(true);
         when(configuration.isZipValidationEnabled()).thenReturn(false);
 
         /* execute + test */
-        assertThrows(NotAcceptableException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum"));
+        assertThrows(NotAcceptableException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, WRONG_CHECKSUM));
 
         /* test */
         assertNoUploadEvent();
+        verify(storage).delete(FILENAME_SOURCECODE_ZIP);
     }
 
     @Test
-    void when_checksum_is_NOT_correct_but_valid_zipfile_but_checksum_validation_is_disabled_no_failure() {
+    void when_checksum_is_NOT_correct_but_valid_zipfile_but_checksum_validation_is_disabled_no_failure() throws Exception {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(false);
-        when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(true);
+        prepareUploadedFile(VALID_ZIP_CONTENT);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(false);
         when(configuration.isZipValidationEnabled()).thenReturn(true);
 
         /* execute + test (no exception) */
-        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, WRONG_CHECKSUM);
 
         /* test */
         assertUploadEvent();
+        assertStoredContentAndNoRollback(VALID_ZIP_CONTENT);
     }
 
     @Test
-    void when_checksum_is_correct_but_NOT_valid_zipfile_but_zip_validation_is_disabled_no_failure() {
+    void when_checksum_is_correct_but_NOT_valid_zipfile_but_zip_validation_is_disabled_no_failure() throws Exception {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(true);
-        when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(false);
+        prepareUploadedFile(NO_ZIP_CONTENT);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(true);
         when(configuration.isZipValidationEnabled()).thenReturn(false);
 
         /* execute + test (no exception) */
-        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, noZipChecksum);
 
         /* test */
         assertUploadEvent();
+        assertStoredContentAndNoRollback(NO_ZIP_CONTENT);
     }
 
     @Test
-    void when_checksum_is_correct_but_not_valid_zipfile_throws_404() {
+    void when_checksum_is_correct_but_not_valid_zipfile_throws_404() throws Exception {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(true);
-        when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(false);
+        prepareUploadedFile(NO_ZIP_CONTENT);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(true);
         when(configuration.isZipValidationEnabled()).thenReturn(true);
 
         /* execute + test */
-        assertThrows(NotAcceptableException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum"));
+        assertThrows(NotAcceptableException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, noZipChecksum));
+
+        /* test */
+        assertNoUploadEvent();
+        verify(storage).delete(FILENAME_SOURCECODE_ZIP);
+    }
+
+    private void prepareUploadedFile(byte[] content) throws IOException {
+        when(file.getSize()).thenReturn((long) content.length);
+        when(file.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(content));
+    }
+
+    private void assertStoredContentAndNoRollback(byte[] expected) throws IOException {
+        assertArrayEquals(expected, storedContent.toByteArray());
+        verify(storage, never()).delete(any());
     }
 
     private void assertNoUploadEvent() {
@@ -189,4 +232,22 @@ public class SchedulerSourcecodeUploadServiceTest {
         assertNotNull(message);
         assertEquals(MessageID.SOURCE_UPLOAD_DONE, message.getMessageId());
     }
+
+    private static byte[] createZipContent() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            zipOutputStream.putNextEntry(new ZipEntry("src/Test.java"));
+            zipOutputStream.write("public class Test{}".getBytes());
+            zipOutputStream.closeEntry();
+        } catch (IOException e) {
+            throw new IllegalStateException("Test zip creation failed", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] createNoZipContent() {
+        byte[] content = new byte[1024];
+        Arrays.fill(content, (byte) 'x');
+        return content;
+    }
 }
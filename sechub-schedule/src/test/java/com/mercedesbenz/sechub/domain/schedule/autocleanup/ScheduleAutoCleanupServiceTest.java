@@ -1,22 +1,27 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule.autocleanup;
 
-import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkIdDeleter;
 import com.mercedesbenz.sechub.domain.schedule.config.SchedulerConfigService;
 import com.mercedesbenz.sechub.domain.schedule.job.SecHubJobDataRepository;
 import com.mercedesbenz.sechub.domain.schedule.job.SecHubJobRepository;
 import com.mercedesbenz.sechub.sharedkernel.TimeCalculationService;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResult;
-import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResultInspector;
+import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupChunkedDeleteService;
+import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupIdFinder;
 
 class ScheduleAutoCleanupServiceTest {
 
@@ -25,7 +30,7 @@ class ScheduleAutoCleanupServiceTest {
     private SecHubJobRepository jobRepository;
     private SecHubJobDataRepository jobDataRepository;
     private TimeCalculationService timeCalculationService;
-    private AutoCleanupResultInspector inspector;
+    private AutoCleanupChunkedDeleteService chunkedDeleteService;
 
     @BeforeEach
     void beforeEach() {
@@ -35,13 +40,13 @@ class ScheduleAutoCleanupServiceTest {
         jobRepository = mock(SecHubJobRepository.class);
         jobDataRepository = mock(SecHubJobDataRepository.class);
         timeCalculationService = mock(TimeCalculationService.class);
-        inspector = mock(AutoCleanupResultInspector.class);
+        chunkedDeleteService = mock(AutoCleanupChunkedDeleteService.class);
 
         serviceToTest.configService = configService;
         serviceToTest.jobRepository = jobRepository;
         serviceToTest.jobDataRepository = jobDataRepository;
         serviceToTest.timeCalculationService = timeCalculationService;
-        serviceToTest.inspector = inspector;
+        serviceToTest.chunkedDeleteService = chunkedDeleteService;
     }
 
     @Test
@@ -58,13 +63,15 @@ class ScheduleAutoCleanupServiceTest {
         /* test */
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService, never()).calculateNowMinusDays(any());
-        verify(jobRepository, never()).deleteJobsOlderThan(any());
-        verify(jobDataRepository, never()).deleteJobDataOlderThan(any());
-        // check inspection as expected: never because not executed
-        verify(inspector, never()).inspect(any());
+        verify(jobRepository, never()).deleteJobsWithUUIDs(any());
+        verify(jobDataRepository, never()).deleteJobDataOlderThanForJobUUIDs(any(), any());
+        // check chunked deletion as expected: never because not executed
+        verify(chunkedDeleteService, never()).deleteOlderThan(any(), any(), anyLong(), any(), any(), any());
+        verify(chunkedDeleteService, never()).deleteOlderThan(any(), any(), any());
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void cleanup_executes_delete_job_information_for_30_days() {
         /* prepare */
         long days = 30;
@@ -78,16 +85,30 @@ class ScheduleAutoCleanupServiceTest {
         /* test */
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService).calculateNowMinusDays(eq(days));
-        verify(jobRepository).deleteJobsOlderThan(cleanTime);
-        verify(jobDataRepository).deleteJobDataOlderThan(cleanTime);
 
-        // check inspection as expected
-        ArgumentCaptor<AutoCleanupResult> captor = ArgumentCaptor.forClass(AutoCleanupResult.class);
-        verify(inspector).inspect(captor.capture());
-
-        AutoCleanupResult result = captor.getValue();
-        assertEquals(cleanTime, result.getUsedCleanupTimeStamp());
-        assertEquals(days, result.getCleanupTimeInDays());
+        // check chunked deletion as expected - job deletion is reported, job data deletion not
+        ArgumentCaptor<AutoCleanupIdFinder<UUID>> jobIdFinderCaptor = ArgumentCaptor.forClass(AutoCleanupIdFinder.class);
+        ArgumentCaptor<ChunkIdDeleter<UUID>> jobIdDeleterCaptor = ArgumentCaptor.forClass(ChunkIdDeleter.class);
+        verify(chunkedDeleteService).deleteOlderThan(eq("sechub-jobs"), eq(ScheduleAutoCleanupService.class), eq(days), eq(cleanTime),
+                jobIdFinderCaptor.capture(), jobIdDeleterCaptor.capture());
+
+        ArgumentCaptor<AutoCleanupIdFinder<UUID>> jobDataIdFinderCaptor = ArgumentCaptor.forClass(AutoCleanupIdFinder.class);
+        ArgumentCaptor<ChunkIdDeleter<UUID>> jobDataIdDeleterCaptor = ArgumentCaptor.forClass(ChunkIdDeleter.class);
+        verify(chunkedDeleteService).deleteOlderThan(eq(cleanTime), jobDataIdFinderCaptor.capture(), jobDataIdDeleterCaptor.capture());
+
+        // check finders and deleters use repositories
+        Pageable pageable = PageRequest.of(0, 100);
+        List<UUID> jobUUIDs = Arrays.asList(UUID.randomUUID(), UUID.randomUUID());
+
+        jobIdFinderCaptor.getValue().findIdsOlderThan(cleanTime, pageable);
+        verify(jobRepository).findJobUUIDsOlderThan(cleanTime, pageable);
+        jobIdDeleterCaptor.getValue().deleteIds(jobUUIDs);
+        verify(jobRepository).deleteJobsWithUUIDs(jobUUIDs);
+
+        jobDataIdFinderCaptor.getValue().findIdsOlderThan(cleanTime, pageable);
+        verify(jobDataRepository).findJobUUIDsOfJobDataOlderThan(cleanTime, pageable);
+        jobDataIdDeleterCaptor.getValue().deleteIds(jobUUIDs);
+        verify(jobDataRepository).deleteJobDataOlderThanForJobUUIDs(jobUUIDs, cleanTime);
     }
 
 }
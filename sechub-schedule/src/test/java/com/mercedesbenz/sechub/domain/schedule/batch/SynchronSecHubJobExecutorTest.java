@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.commons.model.job.ExecutionResult;
+import com.mercedesbenz.sechub.domain.schedule.SchedulerJobBatchTriggerService;
+import com.mercedesbenz.sechub.domain.schedule.job.ScheduleSecHubJob;
+import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageService;
+import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
+import com.mercedesbenz.sechub.sharedkernel.messaging.MessageID;
+
+class SynchronSecHubJobExecutorTest {
+
+    private SynchronSecHubJobExecutor executorToTest;
+    private DomainMessageService messageService;
+    private SecHubJobSafeUpdater secHubJobSafeUpdater;
+    private SchedulerJobBatchTriggerService triggerService;
+    private CountDownLatch scanCanFinish;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        messageService = mock(DomainMessageService.class);
+        secHubJobSafeUpdater = mock(SecHubJobSafeUpdater.class);
+        triggerService = mock(SchedulerJobBatchTriggerService.class);
+        scanCanFinish = new CountDownLatch(1);
+
+        when(messageService.sendSynchron(any())).thenAnswer(invocation -> {
+            scanCanFinish.await(5, TimeUnit.SECONDS);
+            return new DomainMessageSynchronousResult(MessageID.SCAN_DONE);
+        });
+
+        executorToTest = createExecutor(1);
+    }
+
+    @AfterEach
+    void afterEach() {
+        scanCanFinish.countDown();
+        executorToTest.workers.shutdownNow();
+    }
+
+    @Test
+    void second_job_is_queued_when_maximum_concurrent_jobs_is_reached() throws Exception {
+        /* prepare */
+        ScheduleSecHubJob job1 = createJobMock();
+        ScheduleSecHubJob job2 = createJobMock();
+
+        /* execute */
+        executorToTest.execute(job1);
+        executorToTest.execute(job2);
+
+        /* test */
+        waitUntil(() -> executorToTest.getActiveCount() == 1 && executorToTest.getQueueDepth() == 1);
+        assertEquals(1, executorToTest.getActiveCount());
+        assertEquals(1, executorToTest.getQueueDepth());
+    }
+
+    @Test
+    void no_job_is_queued_when_maximum_concurrent_jobs_is_not_defined() throws Exception {
+        /* prepare */
+        executorToTest.workers.shutdownNow();
+        executorToTest = createExecutor(0);
+
+        ScheduleSecHubJob job1 = createJobMock();
+        ScheduleSecHubJob job2 = createJobMock();
+
+        /* execute */
+        executorToTest.execute(job1);
+        executorToTest.execute(job2);
+
+        /* test */
+        waitUntil(() -> executorToTest.getActiveCount() == 2);
+        assertEquals(2, executorToTest.getActiveCount());
+        assertEquals(0, executorToTest.getQueueDepth());
+    }
+
+    @Test
+    void queued_jobs_are_executed_when_worker_is_free() throws Exception {
+        /* prepare */
+        ScheduleSecHubJob job1 = createJobMock();
+        ScheduleSecHubJob job2 = createJobMock();
+        executorToTest.execute(job1);
+        executorToTest.execute(job2);
+
+        /* execute */
+        scanCanFinish.countDown();
+
+        /* test */
+        executorToTest.workers.shutdown();
+        assertTrue(executorToTest.workers.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, executorToTest.getQueueDepth());
+        verify(secHubJobSafeUpdater).safeUpdateOfSecHubJob(eq(job1.getUUID()), eq(ExecutionResult.OK), any(), any());
+        verify(secHubJobSafeUpdater).safeUpdateOfSecHubJob(eq(job2.getUUID()), eq(ExecutionResult.OK), any(), any());
+        verify(triggerService, times(2)).wakeUp();
+    }
+
+    @Test
+    void pre_destroy_marks_still_queued_jobs_as_failed() throws Exception {
+        /* prepare */
+        ScheduleSecHubJob job1 = createJobMock();
+        ScheduleSecHubJob job2 = createJobMock();
+        executorToTest.execute(job1);
+        executorToTest.execute(job2);
+        waitUntil(() -> executorToTest.getActiveCount() == 1);
+
+        /* execute */
+        executorToTest.preDestroy();
+
+        /* test */
+        verify(secHubJobSafeUpdater, timeout(5000)).safeUpdateOfSecHubJob(eq(job2.getUUID()), eq(ExecutionResult.FAILED), any(), any());
+        verify(secHubJobSafeUpdater, never()).safeUpdateOfSecHubJob(eq(job1.getUUID()), eq(ExecutionResult.OK), any(), any());
+    }
+
+    private SynchronSecHubJobExecutor createExecutor(int maximumConcurrentJobs) {
+        SynchronSecHubJobExecutor executor = new SynchronSecHubJobExecutor();
+        executor.messageService = messageService;
+        executor.secHubJobSafeUpdater = secHubJobSafeUpdater;
+        executor.triggerService = triggerService;
+        executor.maximumConcurrentJobs = maximumConcurrentJobs;
+        executor.virtualThreadsEnabled = false;
+        executor.shutdownWaitSeconds = 0;
+
+        executor.postConstruct();
+        return executor;
+    }
+
+    private ScheduleSecHubJob createJobMock() {
+        ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+        when(job.getUUID()).thenReturn(UUID.randomUUID());
+        when(job.getProjectId()).thenReturn("project1");
+        return job;
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 50 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(100);
+        }
+    }
+}
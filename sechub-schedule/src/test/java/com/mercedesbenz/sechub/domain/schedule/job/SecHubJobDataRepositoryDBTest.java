@@ -4,6 +4,8 @@ package com.mercedesbenz.sechub.domain.schedule.job;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,15 +16,20 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkedDeleteSupport;
+
 @ExtendWith(SpringExtension.class)
 @DataJpaTest
 @ContextConfiguration(classes = { SecHubJobDataRepository.class, SecHubJobDataRepositoryDBTest.SimpleTestConfiguration.class })
 public class SecHubJobDataRepositoryDBTest {
 
     private static final String KEY1 = "id1";
+    private static final String KEY2 = "id2";
+    private static final int TEST_CHUNK_SIZE = 2;
 
     @Autowired
     private TestEntityManager entityManager;
@@ -52,7 +59,7 @@ public class SecHubJobDataRepositoryDBTest {
         assertNotNull(found);
 
         /* execute 1 */
-        int deleted = jobRepository.deleteJobDataOlderThan(before10Days);
+        int deleted = deleteJobDataOlderThanInChunks(before10Days);
 
         /* test 1 */
         assertEquals(0, deleted);
@@ -63,7 +70,7 @@ public class SecHubJobDataRepositoryDBTest {
         assertNotNull(found); // still exists because not older than 10 days
 
         /* execute 2 */
-        deleted = jobRepository.deleteJobDataOlderThan(before4Days);
+        deleted = deleteJobDataOlderThanInChunks(before4Days);
 
         /* test 2 */
         assertEquals(1, deleted);
@@ -76,6 +83,104 @@ public class SecHubJobDataRepositoryDBTest {
 
     }
 
+    @Test
+    void deleteJobDataOlderThan_works_for_more_jobs_than_chunk_size() throws Exception {
+        /* prepare */
+        LocalDateTime before4Days = LocalDateTime.now().minusDays(4);
+        LocalDateTime before5Days = LocalDateTime.now().minusDays(5);
+
+        UUID jobUUID1 = createData(before5Days);
+        UUID jobUUID2 = createData(before5Days);
+        UUID jobUUID3 = createData(before5Days);
+        UUID jobUUID4 = createData(LocalDateTime.now());
+
+        /* execute */
+        int deleted = deleteJobDataOlderThanInChunks(before4Days);
+
+        /* test */
+        assertEquals(3, deleted);
+
+        jobRepository.flush();
+        entityManager.clear();
+
+        assertNull(findDataByJobUUID(jobUUID1));
+        assertNull(findDataByJobUUID(jobUUID2));
+        assertNull(findDataByJobUUID(jobUUID3));
+        assertNotNull(findDataByJobUUID(jobUUID4));
+    }
+
+    @Test
+    void findJobUUIDsOfJobDataOlderThan_returns_job_uuid_only_once_and_is_limited_by_page_size() throws Exception {
+        /* prepare */
+        LocalDateTime before4Days = LocalDateTime.now().minusDays(4);
+        LocalDateTime before5Days = LocalDateTime.now().minusDays(5);
+
+        UUID jobUUID1 = createData(before5Days);
+        ScheduleSecHubJobData secondDataForJob1 = new ScheduleSecHubJobData(jobUUID1, KEY2, "val2");
+        secondDataForJob1.created = before5Days;
+        entityManager.persistAndFlush(secondDataForJob1);
+
+        UUID jobUUID2 = createData(before5Days);
+        UUID jobUUID3 = createData(before5Days);
+        createData(LocalDateTime.now());
+
+        /* execute */
+        List<UUID> all = jobRepository.findJobUUIDsOfJobDataOlderThan(before4Days, PageRequest.of(0, 10));
+        List<UUID> limited = jobRepository.findJobUUIDsOfJobDataOlderThan(before4Days, PageRequest.of(0, 2));
+
+        /* test */
+        assertEquals(3, all.size());
+        assertTrue(all.contains(jobUUID1));
+        assertTrue(all.contains(jobUUID2));
+        assertTrue(all.contains(jobUUID3));
+
+        assertEquals(2, limited.size());
+        assertTrue(all.containsAll(limited));
+    }
+
+    @Test
+    void deleteJobDataOlderThanForJobUUIDs_deletes_only_older_data_of_given_jobs() throws Exception {
+        /* prepare */
+        LocalDateTime before4Days = LocalDateTime.now().minusDays(4);
+        LocalDateTime before5Days = LocalDateTime.now().minusDays(5);
+
+        UUID jobUUID1 = createData(before5Days);
+        UUID jobUUID2 = createData(before5Days);
+        UUID jobUUID3 = createData(LocalDateTime.now());
+
+        /* execute */
+        int deleted = jobRepository.deleteJobDataOlderThanForJobUUIDs(Arrays.asList(jobUUID1, jobUUID3), before4Days);
+
+        /* test */
+        assertEquals(1, deleted);
+
+        jobRepository.flush();
+        entityManager.clear();
+
+        assertNull(findDataByJobUUID(jobUUID1));
+        assertNotNull(findDataByJobUUID(jobUUID2)); // older, but not given
+        assertNotNull(findDataByJobUUID(jobUUID3)); // given, but not older
+    }
+
+    /**
+     * Deletes like the auto cleanup does: finds the job UUIDs of a chunk and
+     * deletes the older job data for these job UUIDs - chunk by chunk
+     */
+    private int deleteJobDataOlderThanInChunks(LocalDateTime olderThan) {
+        long deleted = new ChunkedDeleteSupport().deleteInChunks(
+                maximumAmount -> jobRepository.findJobUUIDsOfJobDataOlderThan(olderThan, PageRequest.of(0, maximumAmount)),
+                jobUUIDs -> jobRepository.deleteJobDataOlderThanForJobUUIDs(jobUUIDs, olderThan), TEST_CHUNK_SIZE, 0, null);
+        return Math.toIntExact(deleted);
+    }
+
+    private UUID createData(LocalDateTime created) {
+        UUID jobUUID = UUID.randomUUID();
+        ScheduleSecHubJobData data = new ScheduleSecHubJobData(jobUUID, KEY1, "val1");
+        data.created = created;
+        entityManager.persistAndFlush(data);
+        return jobUUID;
+    }
+
     private ScheduleSecHubJobData findDataByJobUUID(UUID jobUUID) {
         return entityManager.find(ScheduleSecHubJobData.class, new ScheduleSecHubJobDataId(jobUUID, KEY1));
     }
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
@@ -30,6 +31,7 @@ import com.mercedesbenz.sechub.commons.model.job.ExecutionResult;
 import com.mercedesbenz.sechub.commons.model.job.ExecutionState;
 import com.mercedesbenz.sechub.domain.schedule.ScheduleAssertService;
 import com.mercedesbenz.sechub.sharedkernel.configuration.SecHubConfigurationMetaDataMapTransformer;
+import com.mercedesbenz.sechub.sharedkernel.error.BadRequestException;
 import com.mercedesbenz.sechub.test.TestCanaryException;
 
 class SecHubJobInfoForUserServiceTest {
@@ -165,6 +167,60 @@ class SecHubJobInfoForUserServiceTest {
 
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void empty_cursor_fetches_newest_jobs_by_keyset_without_count_and_offset() {
+        /* prepare */
+        ScheduleSecHubJob job1 = createJob(TrafficLight.GREEN, ExecutionResult.OK, ExecutionState.ENDED, false);
+        ScheduleSecHubJob job2 = createJob(TrafficLight.GREEN, ExecutionResult.OK, ExecutionState.ENDED, false);
+        ScheduleSecHubJob job3 = createJob(TrafficLight.GREEN, ExecutionResult.OK, ExecutionState.ENDED, false);
+        when(jobRepository.findNewestJobs(any(Specification.class), eq(3))).thenReturn(List.of(job1, job2, job3));
+
+        /* execute */
+        SecHubJobInfoForUserListPage listPage = serviceToTest.listJobsForProject("project1", 2, 0, "", false, false, new HashMap<>());
+
+        /* test */
+        verify(jobRepository).findNewestJobs(any(Specification.class), eq(3)); // one more than size to check if there are more entries
+        verify(jobRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        verify(jobRepository, never()).count(any(Specification.class));
+
+        List<SecHubJobInfoForUser> content = listPage.getContent();
+        assertEquals(2, content.size());
+        assertInfoBasedOnJob(content.get(0), job1);
+        assertInfoBasedOnJob(content.get(1), job2);
+
+        SecHubJobListCursor nextCursor = SecHubJobListCursor.parse(listPage.getNextCursor());
+        assertEquals(job2.getUUID(), nextCursor.getJobUUID());
+        assertEquals(job2.getCreated(), nextCursor.getCreated());
+        assertNull(listPage.getTotalCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void cursor_with_total_count_fetches_last_jobs_and_counts() {
+        /* prepare */
+        ScheduleSecHubJob job1 = createJob(TrafficLight.GREEN, ExecutionResult.OK, ExecutionState.ENDED, false);
+        when(jobRepository.findNewestJobs(any(Specification.class), eq(3))).thenReturn(List.of(job1));
+        when(jobRepository.count(any(Specification.class))).thenReturn(5L);
+
+        String cursor = new SecHubJobListCursor(LocalDateTime.now(), UUID.randomUUID()).toString();
+
+        /* execute */
+        SecHubJobInfoForUserListPage listPage = serviceToTest.listJobsForProject("project1", 2, 0, cursor, true, false, new HashMap<>());
+
+        /* test */
+        assertEquals(1, listPage.getContent().size());
+        assertNull(listPage.getNextCursor()); // no more entries
+        assertEquals(5L, listPage.getTotalCount());
+        assertEquals(3, listPage.getTotalPages());
+    }
+
+    @Test
+    void invalid_cursor_results_in_bad_request() {
+        assertThrows(BadRequestException.class, () -> serviceToTest.listJobsForProject("project1", 2, 0, "no-cursor", false, false, new HashMap<>()));
+        verifyNoInteractions(jobRepository);
+    }
+
     @ParameterizedTest
     @ValueSource(ints = { -100, -1, 0 })
     void when_max_is_accidently_configured_lower_than_1_after_postConstruct_100_is_used_as_fallback(int limit) {
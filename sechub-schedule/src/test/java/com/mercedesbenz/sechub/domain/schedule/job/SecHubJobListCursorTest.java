@@ -0,0 +1,39 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule.job;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.mercedesbenz.sechub.sharedkernel.error.BadRequestException;
+
+class SecHubJobListCursorTest {
+
+    @Test
+    void cursor_string_can_be_parsed_back() {
+        /* prepare */
+        LocalDateTime created = LocalDateTime.of(2023, 10, 17, 12, 13, 14, 123456000);
+        UUID jobUUID = UUID.randomUUID();
+
+        /* execute */
+        String cursor = new SecHubJobListCursor(created, jobUUID).toString();
+        SecHubJobListCursor result = SecHubJobListCursor.parse(cursor);
+
+        /* test */
+        assertEquals(created, result.getCreated());
+        assertEquals(jobUUID, result.getJobUUID());
+        assertFalse(cursor.contains(jobUUID.toString())); // opaque for clients
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "x", "%%%", "bm8tc2VwYXJhdG9y", "MjAyMy0xMC0xN3xub3QtYS11dWlk" })
+    void invalid_cursor_throws_bad_request_exception(String cursor) {
+        assertThrows(BadRequestException.class, () -> SecHubJobListCursor.parse(cursor));
+    }
+
+}
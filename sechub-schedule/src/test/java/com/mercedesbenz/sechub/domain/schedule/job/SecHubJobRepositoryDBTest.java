@@ -7,11 +7,18 @@ import static com.mercedesbenz.sechub.test.FlakyOlderThanTestWorkaround.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,10 +32,19 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkedDeleteSupport;
 import com.mercedesbenz.sechub.commons.model.ModuleGroup;
 import com.mercedesbenz.sechub.commons.model.job.ExecutionState;
 import com.mercedesbenz.sechub.test.TestUtil;
@@ -38,12 +54,20 @@ import com.mercedesbenz.sechub.test.TestUtil;
 @ContextConfiguration(classes = { SecHubJobRepository.class, SecHubJobRepositoryDBTest.SimpleTestConfiguration.class })
 public class SecHubJobRepositoryDBTest {
 
+    private static final int TEST_CHUNK_SIZE = 2;
+
     @Autowired
     private TestEntityManager entityManager;
 
     @Autowired
     private SecHubJobRepository jobRepository;
 
+    @Autowired
+    private SecHubJobRepositoryImpl jobRepositoryImpl;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private JobCreator jobCreator;
 
     @BeforeEach
@@ -294,6 +318,120 @@ public class SecHubJobRepositoryDBTest {
 
     }
 
+    @Test
+    void findNewestJobs_jobs_with_identical_created_are_paged_by_cursor_without_duplicates_or_gaps() {
+        /* prepare */
+        String projectId = "p1";
+        LocalDateTime created = LocalDateTime.now().minusMinutes(5).withNano(0);
+        for (int i = 0; i < 5; i++) {
+            jobCreator.project(projectId).created(created).create();
+        }
+        entityManager.clear();
+
+        Specification<ScheduleSecHubJob> specification = ScheduleSecHubJobSpecifications.hasProjectIdAndData(projectId, null);
+        List<UUID> expected = uuidsOf(jobRepository.findNewestJobs(specification, 10));
+
+        /* execute */
+        List<UUID> result = findAllJobUUIDsByCursor(specification, 2);
+
+        /* test */
+        assertEquals(5, expected.size());
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void findNewestJobs_page_border_inside_jobs_with_identical_created_has_no_duplicates_or_gaps() {
+        /* prepare */
+        String projectId = "p1";
+        LocalDateTime created = LocalDateTime.now().minusMinutes(5).withNano(0);
+
+        ScheduleSecHubJob newest = jobCreator.project(projectId).created(created.plusMinutes(1)).create();
+        for (int i = 0; i < 4; i++) {
+            jobCreator.project(projectId).created(created).create();
+        }
+        ScheduleSecHubJob oldest = jobCreator.project(projectId).created(created.minusMinutes(1)).create();
+        jobCreator.project("other-project").created(created).create();
+        entityManager.clear();
+
+        Specification<ScheduleSecHubJob> specification = ScheduleSecHubJobSpecifications.hasProjectIdAndData(projectId, null);
+        List<UUID> expected = uuidsOf(jobRepository.findNewestJobs(specification, 10));
+
+        /* execute */
+        List<UUID> result = findAllJobUUIDsByCursor(specification, 3);
+
+        /* test */
+        assertEquals(6, expected.size());
+        assertEquals(newest.getUUID(), expected.get(0));
+        assertEquals(oldest.getUUID(), expected.get(5));
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void findNewestJobs_label_filter_combined_with_cursor_returns_only_labeled_jobs_without_duplicates_or_gaps() {
+        /* prepare */
+        String projectId = "p1";
+        String labelKey = "metadata.labels.stage";
+        LocalDateTime created = LocalDateTime.now().minusMinutes(5).withNano(0);
+
+        List<UUID> labeledJobUUIDs = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ScheduleSecHubJob job = jobCreator.project(projectId).created(i < 4 ? created : created.minusMinutes(i)).create();
+            if (i % 3 == 2) {
+                job.addData(labelKey, "production");
+            } else {
+                job.addData(labelKey, "testing");
+                labeledJobUUIDs.add(job.getUUID());
+            }
+            entityManager.persist(job);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<String, String> dataToSearchFor = new LinkedHashMap<>();
+        dataToSearchFor.put(labelKey, "testing");
+        Specification<ScheduleSecHubJob> specification = ScheduleSecHubJobSpecifications.hasProjectIdAndData(projectId, dataToSearchFor);
+        List<UUID> expected = uuidsOf(jobRepository.findNewestJobs(specification, 10));
+
+        /* execute */
+        List<UUID> result = findAllJobUUIDsByCursor(specification, 2);
+
+        /* test */
+        assertEquals(4, expected.size());
+        assertTrue(expected.containsAll(labeledJobUUIDs));
+        assertEquals(expected, result);
+    }
+
+    /**
+     * Fetches all jobs page by page like the keyset pagination of the job list
+     * does: every next page starts directly after the last job of the page before
+     */
+    private List<UUID> findAllJobUUIDsByCursor(Specification<ScheduleSecHubJob> specification, int pageSize) {
+        List<UUID> result = new ArrayList<>();
+        SecHubJobListCursor cursor = null;
+        for (int pageCount = 0; pageCount < 100; pageCount++) {
+            Specification<ScheduleSecHubJob> keysetSpecification = specification;
+            if (cursor != null) {
+                keysetSpecification = specification.and(ScheduleSecHubJobSpecifications.isListedAfter(cursor));
+            }
+            List<ScheduleSecHubJob> page = jobRepository.findNewestJobs(keysetSpecification, pageSize);
+            result.addAll(uuidsOf(page));
+            if (page.size() < pageSize) {
+                return result;
+            }
+            cursor = SecHubJobListCursor.of(page.get(page.size() - 1));
+        }
+        fail("Paging by cursor did not end");
+        return result;
+    }
+
+    private List<UUID> uuidsOf(List<ScheduleSecHubJob> jobs) {
+        List<UUID> uuids = new ArrayList<>();
+        for (ScheduleSecHubJob job : jobs) {
+            uuids.add(job.getUUID());
+        }
+        return uuids;
+    }
+
     @Test
     void create_with_data_stores_data() {
         /* prepare */
@@ -401,6 +539,74 @@ public class SecHubJobRepositoryDBTest {
         assertEquals(newJob3.getUUID(), uuid.get());
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void custom_query_nextJobIdToExecuteForProjectNotYetExecuted_concurrent_transactions_do_not_select_second_job_of_same_project() throws Exception {
+        /* prepare */
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+
+        ScheduleSecHubJob job1 = transactionTemplate
+                .execute(status -> jobCreator.project("p1").being(ExecutionState.READY_TO_START).created(now.minusSeconds(2)).create());
+        transactionTemplate.execute(status -> jobCreator.project("p1").being(ExecutionState.READY_TO_START).created(now.minusSeconds(1)).create());
+
+        jobRepositoryImpl.skipLockedEnabled = true;
+
+        CountDownLatch firstTransactionHasMarkedJob = new CountDownLatch(1);
+        CountDownLatch secondTransactionHasSelectedJob = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            /* execute */
+            Future<UUID> firstTransactionResult = executorService.submit(() -> transactionTemplate.execute(status -> {
+                UUID uuid = jobRepository.nextJobIdToExecuteForProjectNotYetExecuted().get();
+
+                ScheduleSecHubJob job = jobRepository.findById(uuid).get();
+                job.setExecutionState(ExecutionState.STARTED);
+                jobRepository.saveAndFlush(job);
+
+                // keep transaction open until the second transaction has selected its job
+                firstTransactionHasMarkedJob.countDown();
+                awaitLatch(secondTransactionHasSelectedJob);
+
+                return uuid;
+            }));
+            awaitLatch(firstTransactionHasMarkedJob);
+
+            TransactionStatus secondTransaction = transactionManager.getTransaction(new DefaultTransactionDefinition());
+            Optional<UUID> secondTransactionResult;
+            try {
+                secondTransactionResult = jobRepository.nextJobIdToExecuteForProjectNotYetExecuted();
+            } finally {
+                secondTransactionHasSelectedJob.countDown();
+            }
+            UUID firstTransactionUUID = firstTransactionResult.get(10, TimeUnit.SECONDS);
+
+            /* test */
+            assertEquals(job1.getUUID(), firstTransactionUUID);
+            // second transaction must compete for the same job - the second job of project p1 may not be selected
+            assertEquals(Optional.of(job1.getUUID()), secondTransactionResult);
+            assertThrows(OptimisticLockingFailureException.class, () -> transactionManager.commit(secondTransaction));
+
+        } finally {
+            executorService.shutdownNow();
+            jobRepositoryImpl.skipLockedEnabled = false;
+            transactionTemplate.execute(status -> {
+                jobRepository.deleteAll();
+                return null;
+            });
+        }
+    }
+
+    private void awaitLatch(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for other transaction", e);
+        }
+    }
+
     @Test
     void custom_query_nextJobIdToExecuteForProjectAndModuleGroupNotYetExecuted_2_projects_1_project_running_all_same_groups() {
         /* prepare */
@@ -540,6 +746,47 @@ public class SecHubJobRepositoryDBTest {
         assertEquals(newJob.getUUID(), uuid.get());
     }
 
+    @Test
+    void findJobUUIDsOlderThan_returns_only_older_jobs_limited_by_page_size() throws Exception {
+        /* prepare */
+        DeleteJobTestData testData = new DeleteJobTestData();
+        testData.createAndCheckAvailable();
+
+        LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
+
+        /* execute */
+        List<UUID> all = jobRepository.findJobUUIDsOlderThan(olderThan, PageRequest.of(0, 10));
+        List<UUID> limited = jobRepository.findJobUUIDsOlderThan(olderThan, PageRequest.of(0, 2));
+
+        /* test */
+        assertEquals(3, all.size());
+        assertTrue(all.contains(testData.job1_90_days_before_created.getUUID()));
+        assertTrue(all.contains(testData.job2_2_days_before_created.getUUID()));
+        assertTrue(all.contains(testData.job3_1_day_before_created.getUUID()));
+
+        assertEquals(2, limited.size());
+        assertTrue(all.containsAll(limited));
+    }
+
+    @Test
+    void deleteJobsWithUUIDs_deletes_only_given_jobs() throws Exception {
+        /* prepare */
+        DeleteJobTestData testData = new DeleteJobTestData();
+        testData.createAndCheckAvailable();
+
+        /* execute */
+        int deleted = jobRepository.deleteJobsWithUUIDs(Arrays.asList(testData.job1_90_days_before_created.getUUID(), testData.job4_now_created.getUUID()));
+        jobRepository.flush();
+        entityManager.clear();
+
+        /* test */
+        assertEquals(2, deleted);
+        List<ScheduleSecHubJob> allNow = jobRepository.findAll();
+        assertTrue(allNow.contains(testData.job2_2_days_before_created));
+        assertTrue(allNow.contains(testData.job3_1_day_before_created));
+        assertEquals(2, allNow.size());
+    }
+
     @Test
     void test_data_4_jobs_delete_1_day_still_has_2() throws Exception {
         /* prepare */
@@ -549,7 +796,7 @@ public class SecHubJobRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_1_day);
 
         /* execute */
-        int deleted = jobRepository.deleteJobsOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -569,7 +816,7 @@ public class SecHubJobRepositoryDBTest {
         LocalDateTime olderThan = testData.before_1_day.plusSeconds(1);
 
         /* execute */
-        int deleted = jobRepository.deleteJobsOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -601,7 +848,7 @@ public class SecHubJobRepositoryDBTest {
         assertNotNull(data2a);
 
         /* execute */
-        int deleted = jobRepository.deleteJobsOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
 
         /* test */
         jobRepository.flush();
@@ -616,7 +863,7 @@ public class SecHubJobRepositoryDBTest {
          *  Check data entities are not deleted by the former call - it is currently not possible
          *  for Hibernate to do a cascading delete by a query. So the test is more or less a canary to
          *  check if the situation is still the same (after library updates).
-         *  ---> currently the SecHubJobDataRepository has its own deleteOlderThan method !
+         *  ---> currently the SecHubJobDataRepository has its own chunked delete methods !
          *  @formatter:on
          */
         ScheduleSecHubJobData data1b = entityManager.find(ScheduleSecHubJobData.class, new ScheduleSecHubJobDataId(jobToUpdate.getUUID(), "key1"));
@@ -635,7 +882,7 @@ public class SecHubJobRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_90_days);
 
         /* execute */
-        int deleted = jobRepository.deleteJobsOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -657,7 +904,7 @@ public class SecHubJobRepositoryDBTest {
         LocalDateTime olderThan = olderThanForDelete(testData.before_90_days);
 
         /* execute */
-        int deleted = jobRepository.deleteJobsOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -673,7 +920,7 @@ public class SecHubJobRepositoryDBTest {
         LocalDateTime olderThan = testData.before_89_days;
 
         /* execute */
-        int deleted = jobRepository.deleteJobsOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -694,7 +941,7 @@ public class SecHubJobRepositoryDBTest {
         LocalDateTime olderThan = testData.before_89_days;
 
         /* execute */
-        int deleted = jobRepository.deleteJobsOlderThan(olderThan);
+        int deleted = deleteJobsOlderThanInChunks(olderThan);
         jobRepository.flush();
 
         /* test */
@@ -759,6 +1006,16 @@ public class SecHubJobRepositoryDBTest {
         assertEquals(expectedNextJob.getUUID(), jobUUID);
     }
 
+    /**
+     * Deletes like the auto cleanup does: finds the UUIDs of a chunk and deletes
+     * the jobs by these UUIDs - chunk by chunk
+     */
+    private int deleteJobsOlderThanInChunks(LocalDateTime olderThan) {
+        long deleted = new ChunkedDeleteSupport().deleteInChunks(maximumAmount -> jobRepository.findJobUUIDsOlderThan(olderThan, PageRequest.of(0, maximumAmount)),
+                jobRepository::deleteJobsWithUUIDs, TEST_CHUNK_SIZE, 0, null);
+        return Math.toIntExact(deleted);
+    }
+
     private void assertDeleted(int expected, int deleted, DeleteJobTestData testData, LocalDateTime olderThan) {
         if (deleted == expected) {
             return;
@@ -0,0 +1,109 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sereco.metadata;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mercedesbenz.sechub.commons.model.JsonMapperFactory;
+
+/**
+ * Reads sereco meta data JSON in a streaming way. Vulnerabilities are not
+ * collected but handed out one by one to a consumer, so callers are able to
+ * process even huge reports without having all vulnerabilities as objects
+ * inside memory.
+ */
+public class SerecoMetaDataStreamReader {
+
+    static final String PROPERTY_VULNERABILITIES = "vulnerabilities";
+    static final String PROPERTY_ANNOTATIONS = "annotations";
+    static final String PROPERTY_LICENSE_DOCUMENTS = "licenseDocuments";
+
+    private static final TypeReference<List<SerecoAnnotation>> ANNOTATION_LIST = new TypeReference<List<SerecoAnnotation>>() {
+    };
+    private static final TypeReference<List<SerecoLicenseDocument>> LICENSE_DOCUMENT_LIST = new TypeReference<List<SerecoLicenseDocument>>() {
+    };
+
+    private static final JsonMapper MAPPER = JsonMapperFactory.createMapper();
+
+    /**
+     * Reads sereco meta data from given reader.
+     *
+     * @param reader                reader containing sereco meta data JSON. Will
+     *                              NOT be closed by this method.
+     * @param vulnerabilityConsumer consumer which is called for every
+     *                              vulnerability, in order of the JSON content
+     * @return meta data containing annotations and license documents, but NO
+     *         vulnerabilities
+     * @throws IOException
+     */
+    public SerecoMetaData read(Reader reader, Consumer<SerecoVulnerability> vulnerabilityConsumer) throws IOException {
+        if (reader == null) {
+            throw new IllegalArgumentException("reader may not be null!");
+        }
+        if (vulnerabilityConsumer == null) {
+            throw new IllegalArgumentException("vulnerability consumer may not be null!");
+        }
+        SerecoMetaData result = new SerecoMetaData();
+
+        try (JsonParser parser = MAPPER.createParser(reader)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Sereco meta data must be a JSON object but found: " + token);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (fieldName) {
+                case PROPERTY_VULNERABILITIES:
+                    readVulnerabilities(parser, token, vulnerabilityConsumer);
+                    break;
+                case PROPERTY_ANNOTATIONS:
+                    result.getAnnotations().addAll(readList(parser, ANNOTATION_LIST));
+                    break;
+                case PROPERTY_LICENSE_DOCUMENTS:
+                    result.getLicenseDocuments().addAll(readList(parser, LICENSE_DOCUMENT_LIST));
+                    break;
+                default:
+                    /* we always ignore unknown properties */
+                    parser.skipChildren();
+                }
+            }
+        }
+        return result;
+    }
+
+    private void readVulnerabilities(JsonParser parser, JsonToken token, Consumer<SerecoVulnerability> vulnerabilityConsumer) throws IOException {
+        if (token == JsonToken.START_OBJECT) {
+            /* single value accepted as array - same as done by our mapper */
+            vulnerabilityConsumer.accept(MAPPER.readValue(parser, SerecoVulnerability.class));
+            return;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new IOException("Sereco vulnerabilities must be a JSON array but found: " + token);
+        }
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException("Unexpected end of sereco meta data inside vulnerabilities");
+            }
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            vulnerabilityConsumer.accept(MAPPER.readValue(parser, SerecoVulnerability.class));
+        }
+    }
+
+    private <T> List<T> readList(JsonParser parser, TypeReference<List<T>> typeReference) throws IOException {
+        return MAPPER.readValue(parser, typeReference);
+    }
+}
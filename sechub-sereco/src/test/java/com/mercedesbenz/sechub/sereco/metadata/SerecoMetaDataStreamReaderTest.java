@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sereco.metadata;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.commons.model.JSONConverter;
+import com.mercedesbenz.sechub.commons.model.ScanType;
+
+class SerecoMetaDataStreamReaderTest {
+
+    private SerecoMetaDataStreamReader readerToTest;
+    private List<SerecoVulnerability> consumed;
+
+    @BeforeEach
+    void beforeEach() {
+        readerToTest = new SerecoMetaDataStreamReader();
+        consumed = new ArrayList<>();
+    }
+
+    @Test
+    void vulnerabilities_are_handed_out_in_origin_order_and_not_contained_in_result() throws Exception {
+        /* prepare */
+        SerecoMetaData data = new SerecoMetaData();
+        data.getVulnerabilities().add(createVulnerability("type1", ScanType.CODE_SCAN));
+        data.getVulnerabilities().add(createVulnerability("type2", ScanType.WEB_SCAN));
+        data.getVulnerabilities().add(createVulnerability("type3", ScanType.SECRET_SCAN));
+
+        /* execute */
+        SerecoMetaData result = readerToTest.read(new StringReader(JSONConverter.get().toJSON(data)), consumed::add);
+
+        /* test */
+        assertTrue(result.getVulnerabilities().isEmpty());
+        assertEquals(3, consumed.size());
+        assertEquals("type1", consumed.get(0).getType());
+        assertEquals(ScanType.CODE_SCAN, consumed.get(0).getScanType());
+        assertEquals("type2", consumed.get(1).getType());
+        assertEquals("type3", consumed.get(2).getType());
+    }
+
+    @Test
+    void annotations_and_license_documents_are_contained_in_result() throws Exception {
+        /* prepare */
+        SerecoMetaData data = new SerecoMetaData();
+        SerecoAnnotation annotation = new SerecoAnnotation();
+        annotation.setType(SerecoAnnotationType.USER_WARNING);
+        annotation.setValue("warning1");
+        data.getAnnotations().add(annotation);
+        data.getLicenseDocuments().add(new SerecoLicenseDocument());
+        data.getVulnerabilities().add(createVulnerability("type1", ScanType.CODE_SCAN));
+
+        /* execute */
+        SerecoMetaData result = readerToTest.read(new StringReader(JSONConverter.get().toJSON(data)), consumed::add);
+
+        /* test */
+        assertEquals(1, consumed.size());
+        assertEquals(1, result.getAnnotations().size());
+        SerecoAnnotation readAnnotation = result.getAnnotations().iterator().next();
+        assertEquals(SerecoAnnotationType.USER_WARNING, readAnnotation.getType());
+        assertEquals("warning1", readAnnotation.getValue());
+        assertEquals(1, result.getLicenseDocuments().size());
+    }
+
+    @Test
+    void empty_object_results_in_empty_meta_data() throws Exception {
+        /* execute */
+        SerecoMetaData result = readerToTest.read(new StringReader("{}"), consumed::add);
+
+        /* test */
+        assertTrue(consumed.isEmpty());
+        assertTrue(result.getAnnotations().isEmpty());
+        assertTrue(result.getLicenseDocuments().isEmpty());
+    }
+
+    @Test
+    void unknown_properties_and_null_entries_are_ignored() throws Exception {
+        /* prepare */
+        String json = "{'unknown': {'a':[1,2]}, 'vulnerabilities':[null, {'type':'type1'}], 'annotations':null}";
+
+        /* execute */
+        readerToTest.read(new StringReader(json), consumed::add);
+
+        /* test */
+        assertEquals(1, consumed.size());
+        assertEquals("type1", consumed.get(0).getType());
+    }
+
+    @Test
+    void no_json_object_throws_io_exception() {
+        assertThrows(IOException.class, () -> readerToTest.read(new StringReader("[]"), consumed::add));
+        assertThrows(IOException.class, () -> readerToTest.read(new StringReader(""), consumed::add));
+    }
+
+    private SerecoVulnerability createVulnerability(String type, ScanType scanType) {
+        SerecoVulnerability vulnerability = new SerecoVulnerability();
+        vulnerability.setType(type);
+        vulnerability.setScanType(scanType);
+        vulnerability.setSeverity(SerecoSeverity.HIGH);
+        return vulnerability;
+    }
+}
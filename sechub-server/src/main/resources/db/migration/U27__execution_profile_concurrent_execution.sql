@@ -0,0 +1,3 @@
+-- SPDX-License-Identifier: MIT
+
+ALTER TABLE scan_product_execution_profile DROP COLUMN IF EXISTS profile_concurrent_execution;
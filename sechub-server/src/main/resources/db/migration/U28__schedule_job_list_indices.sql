@@ -0,0 +1,5 @@
+-- SPDX-License-Identifier: MIT
+
+-- index on scheduler job table to support keyset pagination of job lists (ordered by created and uuid, newest first)
+
+DROP INDEX IF EXISTS i01_schedule_sechub_job_project_created;
@@ -0,0 +1,4 @@
+-- SPDX-License-Identifier: MIT
+
+-- product executors of same scan type can be executed concurrently (opt-in per execution profile)
+ALTER TABLE scan_product_execution_profile ADD COLUMN IF NOT EXISTS profile_concurrent_execution boolean;
@@ -0,0 +1,7 @@
+-- SPDX-License-Identifier: MIT
+
+-- index on scheduler job table to support keyset pagination of job lists (ordered by created and uuid, newest first)
+-- remark: job data filters need no own index, because the primary key (job_uuid, id) is used for the exists sub queries
+
+CREATE INDEX IF NOT EXISTS i01_schedule_sechub_job_project_created
+    ON schedule_sechub_job (project_id, created DESC, uuid DESC);
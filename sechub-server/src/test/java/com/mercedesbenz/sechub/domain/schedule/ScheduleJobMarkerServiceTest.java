@@ -5,6 +5,7 @@ import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -50,28 +51,75 @@ public class ScheduleJobMarkerServiceTest {
     }
 
     @Test
-    public void markNextJobExecutedByThisPOD__calls_jobrepository_getjob_executed() throws Exception {
+    public void markNextJobsExecutedByThisPOD__maximum_1_calls_jobrepository_getjob_executed() throws Exception {
         /* execute */
-        serviceToTest.markNextJobToExecuteByThisInstance();
+        serviceToTest.markNextJobsToExecuteByThisInstance(1);
 
         /* test */
         verify(jobRepository).getJob(uuid);
     }
 
     @Test
-    public void markNextJobExecutedByThisPOD__updates_execution_state_to_started() throws Exception {
+    public void markNextJobsExecutedByThisPOD__maximum_1_updates_execution_state_to_started() throws Exception {
         /* prepare */
         when(jobRepository.save(secHubJob)).thenReturn(secHubJob);
 
         /* execute */
-        ScheduleSecHubJob result = serviceToTest.markNextJobToExecuteByThisInstance();
+        List<ScheduleSecHubJob> result = serviceToTest.markNextJobsToExecuteByThisInstance(1);
 
         /* test */
 
         verify(secHubJob).setStarted(any());
         verify(secHubJob).setExecutionState(eq(ExecutionState.STARTED));
 
-        assertEquals(secHubJob, result);
+        assertEquals(1, result.size());
+        assertEquals(secHubJob, result.get(0));
+    }
+
+    @Test
+    public void markNextJobsExecutedByThisPOD__marks_jobs_until_strategy_returns_no_more_job() throws Exception {
+        /* prepare */
+        UUID uuid2 = UUID.randomUUID();
+        ScheduleSecHubJob secHubJob2 = mock(ScheduleSecHubJob.class);
+        when(strategy.nextJobId()).thenReturn(uuid, uuid2, null);
+        when(jobRepository.getJob(uuid2)).thenReturn(Optional.of(secHubJob2));
+        when(jobRepository.save(secHubJob)).thenReturn(secHubJob);
+        when(jobRepository.save(secHubJob2)).thenReturn(secHubJob2);
+
+        /* execute */
+        List<ScheduleSecHubJob> result = serviceToTest.markNextJobsToExecuteByThisInstance(5);
+
+        /* test */
+        assertEquals(2, result.size());
+        assertEquals(secHubJob, result.get(0));
+        assertEquals(secHubJob2, result.get(1));
+        verify(secHubJob2).setExecutionState(eq(ExecutionState.STARTED));
+    }
+
+    @Test
+    public void markNextJobsExecutedByThisPOD__returns_empty_list_when_strategy_has_no_job() throws Exception {
+        /* prepare */
+        when(strategy.nextJobId()).thenReturn(null);
+
+        /* execute */
+        List<ScheduleSecHubJob> result = serviceToTest.markNextJobsToExecuteByThisInstance(1);
+
+        /* test */
+        assertTrue(result.isEmpty());
+        verify(jobRepository, never()).getJob(any());
+    }
+
+    @Test
+    public void markNextJobsExecutedByThisPOD__marks_not_more_than_maximum() throws Exception {
+        /* prepare */
+        when(jobRepository.save(secHubJob)).thenReturn(secHubJob);
+
+        /* execute */
+        List<ScheduleSecHubJob> result = serviceToTest.markNextJobsToExecuteByThisInstance(3);
+
+        /* test */
+        assertEquals(3, result.size());
+        verify(strategy, times(3)).nextJobId();
     }
 
 }
@@ -1,9 +1,13 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule;
 
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -51,14 +55,14 @@ public class SecHubJobBatchTriggerServiceTest {
         serviceToTest.triggerExecutionOfNextJob();
 
         /* test */
-        verify(markerService).markNextJobToExecuteByThisInstance();
+        verify(markerService).markNextJobsToExecuteByThisInstance(1);
     }
 
     @Test
     public void when_processsing_is_disabled_but_marker_service_returns_job_launcher_service_is_NOT_called() throws Exception {
         /* prepare */
         ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
-        when(markerService.markNextJobToExecuteByThisInstance()).thenReturn(job);
+        when(markerService.markNextJobsToExecuteByThisInstance(anyInt())).thenReturn(Arrays.asList(job));
         when(configService.isJobProcessingEnabled()).thenReturn(false);
 
         /* execute */
@@ -72,7 +76,7 @@ public class SecHubJobBatchTriggerServiceTest {
     public void when_marker_service_returns_job_launcher_service_is_called() throws Exception {
         /* prepare */
         ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
-        when(markerService.markNextJobToExecuteByThisInstance()).thenReturn(job);
+        when(markerService.markNextJobsToExecuteByThisInstance(anyInt())).thenReturn(Arrays.asList(job));
         when(configService.isJobProcessingEnabled()).thenReturn(true);
 
         /* execute */
@@ -86,7 +90,7 @@ public class SecHubJobBatchTriggerServiceTest {
     public void when_marker_service_returns_NO_job_launcher_service_is_NOT_called() throws Exception {
         /* prepare */
         when(configService.isJobProcessingEnabled()).thenReturn(true);
-        when(markerService.markNextJobToExecuteByThisInstance()).thenReturn(null);
+        when(markerService.markNextJobsToExecuteByThisInstance(anyInt())).thenReturn(Collections.emptyList());
 
         /* execute */
         serviceToTest.triggerExecutionOfNextJob();
@@ -95,4 +99,117 @@ public class SecHubJobBatchTriggerServiceTest {
         verify(launcherService, never()).executeJob(any());
     }
 
+    @Test
+    public void when_marker_service_returns_two_jobs_launcher_service_is_called_for_both() throws Exception {
+        /* prepare */
+        ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+        ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+        when(markerService.markNextJobsToExecuteByThisInstance(anyInt())).thenReturn(Arrays.asList(job1, job2));
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(launcherService).executeJob(job1);
+        verify(launcherService).executeJob(job2);
+    }
+
+    @Test
+    public void when_launch_of_first_job_fails_second_job_is_still_launched_and_first_marked_as_failed() throws Exception {
+        /* prepare */
+        ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+        ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+        when(markerService.markNextJobsToExecuteByThisInstance(anyInt())).thenReturn(Arrays.asList(job1, job2));
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+        doThrow(new IllegalStateException("test")).when(launcherService).executeJob(job1);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(markerService).markJobExecutionFailed(job1);
+        verify(launcherService).executeJob(job2);
+        verify(markerService, never()).markJobExecutionFailed(job2);
+    }
+
+    @Test
+    public void batch_size_is_one_when_maximum_is_one() throws Exception {
+        /* prepare */
+        serviceToTest.markNextJobsBatchMaximum = 1;
+        when(monitoringService.getFreeCapacityInPercent()).thenReturn(100.0);
+
+        /* execute + test */
+        assertEquals(1, serviceToTest.calculateBatchSize());
+    }
+
+    @Test
+    public void batch_size_is_scaled_by_free_capacity() throws Exception {
+        /* prepare */
+        serviceToTest.markNextJobsBatchMaximum = 10;
+        when(monitoringService.getFreeCapacityInPercent()).thenReturn(50.0);
+
+        /* execute + test */
+        assertEquals(5, serviceToTest.calculateBatchSize());
+    }
+
+    @Test
+    public void batch_size_is_at_least_one_when_no_capacity_is_free() throws Exception {
+        /* prepare */
+        serviceToTest.markNextJobsBatchMaximum = 10;
+        when(monitoringService.getFreeCapacityInPercent()).thenReturn(0.0);
+
+        /* execute + test */
+        assertEquals(1, serviceToTest.calculateBatchSize());
+    }
+
+    @Test
+    public void batch_size_is_maximum_when_health_check_disabled() throws Exception {
+        /* prepare */
+        serviceToTest.markNextJobsBatchMaximum = 10;
+        serviceToTest.healthCheckEnabled = false;
+        when(monitoringService.getFreeCapacityInPercent()).thenReturn(0.0);
+
+        /* execute + test */
+        assertEquals(10, serviceToTest.calculateBatchSize());
+    }
+
+    @Test
+    public void wake_up_triggers_execution_of_next_job() throws Exception {
+        /* prepare */
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+        /* execute */
+        serviceToTest.wakeUp();
+
+        /* test */
+        verify(markerService, timeout(2000)).markNextJobsToExecuteByThisInstance(1);
+    }
+
+    @Test
+    public void wake_up_does_nothing_when_wake_up_disabled() throws Exception {
+        /* prepare */
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+        serviceToTest.wakeUpEnabled = false;
+
+        /* execute */
+        serviceToTest.wakeUp();
+
+        /* test */
+        verify(markerService, after(300).never()).markNextJobsToExecuteByThisInstance(anyInt());
+    }
+
+    @Test
+    public void wake_up_does_nothing_when_scheduling_disabled() throws Exception {
+        /* prepare */
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+        serviceToTest.schedulingEnabled = false;
+
+        /* execute */
+        serviceToTest.wakeUp();
+
+        /* test */
+        verify(markerService, after(300).never()).markNextJobsToExecuteByThisInstance(anyInt());
+    }
+
 }
@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sharedkernel.autocleanup;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkIdDeleter;
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkIdFinder;
+import com.mercedesbenz.sechub.commons.core.cleanup.ChunkedDeleteSupport;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Auto cleanup services of all domains use this service to delete old data in
+ * bounded chunks instead of one mass delete statement. For every chunk the ids
+ * of old entries are fetched first and then deleted by their ids. Every chunk is
+ * deleted inside its own transaction and the progress is reported to the
+ * {@link AutoCleanupResultInspector}.
+ */
+@Service
+public class AutoCleanupChunkedDeleteService {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    private static final long DEFAULT_PAUSE_BETWEEN_CHUNKS_MILLIS = 100;
+
+    @Value("${sechub.autocleanup.delete.chunk.size:" + DEFAULT_CHUNK_SIZE + "}")
+    @MustBeDocumented(value = "Maximum amount of entries deleted by one auto cleanup delete statement. Old data is deleted in chunks of this size, so huge deletions do not lock the tables for a long time.")
+    int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    @Value("${sechub.autocleanup.delete.chunk.pause.millis:" + DEFAULT_PAUSE_BETWEEN_CHUNKS_MILLIS + "}")
+    @MustBeDocumented(value = "Time in milliseconds to wait between two auto cleanup delete chunks.")
+    long pauseBetweenChunksMillis = DEFAULT_PAUSE_BETWEEN_CHUNKS_MILLIS;
+
+    @Autowired
+    AutoCleanupResultInspector inspector;
+
+    ChunkedDeleteSupport chunkedDeleteSupport = new ChunkedDeleteSupport();
+
+    /**
+     * Deletes entries older than given time stamp in chunks. Every deleted chunk
+     * is reported to the result inspector.
+     *
+     * @param variant        variant used for the auto cleanup result
+     * @param inspectedClass class used for the auto cleanup result
+     * @param days           days used for the auto cleanup result
+     * @param cleanTimeStamp entries older than this time stamp will be deleted
+     * @param idFinder       finds ids of entries older than time stamp
+     * @param idDeleter      deletes entries by ids
+     * @return total amount of deleted entries
+     */
+    public <T> long deleteOlderThan(String variant, Class<?> inspectedClass, long days, LocalDateTime cleanTimeStamp, AutoCleanupIdFinder<T> idFinder,
+            ChunkIdDeleter<T> idDeleter) {
+        /* @formatter:off */
+        return chunkedDeleteSupport.deleteInChunks(createChunkIdFinder(cleanTimeStamp, idFinder), idDeleter,
+                chunkSize, pauseBetweenChunksMillis,
+                (deletedInChunk, deletedTotal) ->
+                    inspector.inspect(AutoCleanupResult.builder().
+                        autoCleanup(variant, inspectedClass).
+                        forDays(days).
+                        hasDeleted(deletedInChunk).
+                        byTimeStamp(cleanTimeStamp).
+                        build()
+                        )
+                );
+        /* @formatter:on */
+    }
+
+    /**
+     * Deletes entries older than given time stamp in chunks - without reporting
+     * to the result inspector.
+     *
+     * @param cleanTimeStamp entries older than this time stamp will be deleted
+     * @param idFinder       finds ids of entries older than time stamp
+     * @param idDeleter      deletes entries by ids
+     * @return total amount of deleted entries
+     */
+    public <T> long deleteOlderThan(LocalDateTime cleanTimeStamp, AutoCleanupIdFinder<T> idFinder, ChunkIdDeleter<T> idDeleter) {
+        return chunkedDeleteSupport.deleteInChunks(createChunkIdFinder(cleanTimeStamp, idFinder), idDeleter, chunkSize, pauseBetweenChunksMillis, null);
+    }
+
+    private <T> ChunkIdFinder<T> createChunkIdFinder(LocalDateTime cleanTimeStamp, AutoCleanupIdFinder<T> idFinder) {
+        return maximumAmount -> idFinder.findIdsOlderThan(cleanTimeStamp, PageRequest.of(0, maximumAmount));
+    }
+}
@@ -0,0 +1,19 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sharedkernel.autocleanup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+
+public interface AutoCleanupIdFinder<T> {
+
+    /**
+     * Finds ids of entries older than given time stamp
+     *
+     * @param cleanTimeStamp entries older than this time stamp shall be found
+     * @param pageable       limits the amount of ids to find
+     * @return ids of entries older than given time stamp
+     */
+    List<T> findIdsOlderThan(LocalDateTime cleanTimeStamp, Pageable pageable);
+}
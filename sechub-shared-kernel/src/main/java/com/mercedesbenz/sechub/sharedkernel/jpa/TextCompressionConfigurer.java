@@ -0,0 +1,38 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sharedkernel.jpa;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Configures the shared {@link TextCompressionSupport} instance used by
+ * entities to store big text data compressed.
+ */
+@Component
+public class TextCompressionConfigurer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TextCompressionConfigurer.class);
+
+    @Value("${sechub.config.database.text.compression.enabled:false}")
+    @MustBeDocumented(value = "When enabled, big results (product results and reports) are stored compressed inside the database. Already stored data is still readable, no matter if this is enabled or not.")
+    boolean compressionEnabled;
+
+    @Value("${sechub.config.database.text.compression.minimum.length:" + TextCompressionSupport.DEFAULT_MINIMUM_LENGTH + "}")
+    @MustBeDocumented(value = "Minimum amount of characters a result must have to be stored compressed.")
+    int minimumLength = TextCompressionSupport.DEFAULT_MINIMUM_LENGTH;
+
+    @PostConstruct
+    void configure() {
+        TextCompressionSupport support = TextCompressionSupport.get();
+        support.setCompressionEnabled(compressionEnabled);
+        support.setMinimumLength(minimumLength);
+
+        LOG.info("Database text compression enabled:{}, minimum length:{}", compressionEnabled, minimumLength);
+    }
+}
@@ -0,0 +1,185 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sharedkernel.jpa;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Support to compress big text data before it is stored inside a text column
+ * of the database. Compressed text is prefixed with {@link #COMPRESSED_MARKER},
+ * so uncompressed text (e.g. from old rows) can still be read - it is just
+ * returned as is.<br>
+ * <br>
+ * Compressed format: <code>marker + base64(deflate(utf8 bytes))</code>. We use
+ * base64 here, because the data is stored inside existing text columns.
+ */
+public class TextCompressionSupport {
+
+    /**
+     * Marker for compressed text. Origin text data (JSON, XML, SARIF) will never
+     * start with this.
+     */
+    public static final String COMPRESSED_MARKER = "$sechub-deflate-base64$";
+
+    public static final int DEFAULT_MINIMUM_LENGTH = 4096;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final TextCompressionSupport INSTANCE = new TextCompressionSupport();
+
+    private volatile boolean compressionEnabled;
+    private volatile int minimumLength = DEFAULT_MINIMUM_LENGTH;
+
+    /**
+     * @return shared instance
+     */
+    public static TextCompressionSupport get() {
+        return INSTANCE;
+    }
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    /**
+     * Set minimum length of text to compress. Smaller text is always stored
+     * uncompressed.
+     *
+     * @param minimumLength
+     */
+    public void setMinimumLength(int minimumLength) {
+        this.minimumLength = minimumLength;
+    }
+
+    public int getMinimumLength() {
+        return minimumLength;
+    }
+
+    /**
+     * Compresses given text when compression is enabled and text is long enough.
+     *
+     * @param text
+     * @return compressed text, or origin text when not compressed
+     */
+    public String compressWhenEnabled(String text) {
+        if (!compressionEnabled) {
+            return text;
+        }
+        if (text == null || text.length() < minimumLength) {
+            return text;
+        }
+        if (isCompressed(text)) {
+            return text;
+        }
+        return compress(text);
+    }
+
+    /**
+     * Compresses given text - always, even when compression is not enabled
+     *
+     * @param text
+     * @return compressed text or <code>null</code> when text was
+     *         <code>null</code>
+     */
+    public String compress(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                outputStream.write(buffer, 0, length);
+            }
+            return COMPRESSED_MARKER + Base64.getEncoder().encodeToString(outputStream.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Compresses UTF-8 encoded text from given input stream - always, even when
+     * compression is not enabled. The uncompressed text is never held
+     * completely in memory.
+     *
+     * @param inputStream input stream containing UTF-8 encoded text, will not be
+     *                    closed
+     * @return compressed text
+     * @throws IOException
+     */
+    public String compress(InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            throw new IllegalArgumentException("input stream may not be null");
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater, BUFFER_SIZE)) {
+                inputStream.transferTo(deflaterOutputStream);
+            }
+            return COMPRESSED_MARKER + Base64.getEncoder().encodeToString(outputStream.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompresses given text. When text is not compressed, the text will be
+     * returned as is.
+     *
+     * @param text
+     * @return decompressed text
+     * @throws IllegalStateException when compressed data is corrupt
+     */
+    public String decompress(String text) {
+        if (!isCompressed(text)) {
+            return text;
+        }
+        byte[] compressed = Base64.getDecoder().decode(text.substring(COMPRESSED_MARKER.length()));
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Compressed text data is not complete");
+                }
+                outputStream.write(buffer, 0, length);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Compressed text data is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    public boolean isCompressed(String text) {
+        if (text == null) {
+            return false;
+        }
+        return text.startsWith(COMPRESSED_MARKER);
+    }
+}
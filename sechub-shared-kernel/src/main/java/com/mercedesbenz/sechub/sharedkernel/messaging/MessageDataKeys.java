@@ -2,6 +2,7 @@
 package com.mercedesbenz.sechub.sharedkernel.messaging;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import com.mercedesbenz.sechub.commons.model.SecHubMessagesList;
@@ -17,10 +18,10 @@ import com.mercedesbenz.sechub.sharedkernel.configuration.SecHubConfiguration;
  */
 public class MessageDataKeys {
 
-    private static final SchedulerJobMessageDataProvider SCHEDULER_JOB_MESSAGE_DATA_PROVIDER = new SchedulerJobMessageDataProvider();
     private static final ClusterMemberMessageDataProvider CLUSTER_MEMBER_MESSAGE_DATA_PROVIDER = new ClusterMemberMessageDataProvider();
     private static final SecHubConfigurationMessageDataProvider SECHUB_CONFIGURATION_MESSAGE_DATA_PROVIDER = new SecHubConfigurationMessageDataProvider();
     private static final UUIDMessageDataProvider UID_MESSAGE_DATA_PROVIDER = new UUIDMessageDataProvider();
+    private static final UUIDListMessageDataProvider UID_LIST_MESSAGE_DATA_PROVIDER = new UUIDListMessageDataProvider();
     private static final SecHubMessagesListDataProvider SECHUB_MESSAGES_LIST_MESSAGE_DATA_PROVIDER = new SecHubMessagesListDataProvider();
     private static final StringMessageDataProvider STRING_MESSAGE_DATA_PROVIDER = new StringMessageDataProvider();
     private static final StorageMessageDataProvider STORAGE_MESSAGE_DATA_PROVIDER = new StorageMessageDataProvider();
@@ -51,6 +52,7 @@ public class MessageDataKeys {
 
     public static final MessageDataKey<UUID> SECHUB_JOB_UUID = createKey("sechub.job.uuid", UID_MESSAGE_DATA_PROVIDER);
     public static final MessageDataKey<UUID> SECHUB_EXECUTION_UUID = createKey("sechub.execution.uuid", UID_MESSAGE_DATA_PROVIDER);
+    public static final MessageDataKey<List<UUID>> SECHUB_JOB_UUIDS = createKey("sechub.job.uuids", UID_LIST_MESSAGE_DATA_PROVIDER);
     /**
      * Use this generic key when you just want to define timestamp without using a
      * dedicated model where it is already contained.
@@ -62,8 +64,6 @@ public class MessageDataKeys {
     public static final MessageDataKey<ClusterMemberMessage> ENVIRONMENT_CLUSTER_MEMBER_STATUS = createKey("environment.cluster.member.status",
             CLUSTER_MEMBER_MESSAGE_DATA_PROVIDER);
 
-    public static final MessageDataKey<SchedulerJobMessage> SCHEDULER_JOB_STATUS = createKey("sechub.scheduler.job.status",
-            SCHEDULER_JOB_MESSAGE_DATA_PROVIDER);
     /**
      * Must contain userid, mail adress
      */
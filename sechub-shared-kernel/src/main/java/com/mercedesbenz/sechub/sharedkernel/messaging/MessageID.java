@@ -151,9 +151,17 @@ public enum MessageID {
 
     JOB_RESULT_PURGE_FAILED(MessageDataKeys.SECHUB_JOB_UUID),
 
-    REQUEST_SCHEDULER_JOB_STATUS(MessageDataKeys.SCHEDULER_JOB_STATUS),
+    /**
+     * Request which of the given jobs are marked as cancel requested or already
+     * canceled
+     */
+    REQUEST_SCHEDULER_CANCEL_REQUESTED_JOBS(MessageDataKeys.SECHUB_JOB_UUIDS),
 
-    SCHEDULER_JOB_STATUS(MessageDataKeys.SCHEDULER_JOB_STATUS),
+    /**
+     * Answer to {@link #REQUEST_SCHEDULER_CANCEL_REQUESTED_JOBS}, contains only
+     * the uuids of the jobs being cancel requested or canceled
+     */
+    SCHEDULER_CANCEL_REQUESTED_JOBS(MessageDataKeys.SECHUB_JOB_UUIDS),
 
     /**
      * Informs that a scheduler has been started
@@ -1,36 +0,0 @@
-// SPDX-License-Identifier: MIT
-package com.mercedesbenz.sechub.sharedkernel.messaging;
-
-import com.mercedesbenz.sechub.commons.model.JSONConverterException;
-import com.mercedesbenz.sechub.commons.model.SecHubRuntimeException;
-
-public class SchedulerJobMessageDataProvider implements MessageDataProvider<SchedulerJobMessage> {
-
-    private static final SchedulerJobMessage OBJECT = new SchedulerJobMessage();
-
-    @Override
-    public SchedulerJobMessage get(String data) {
-        if (data == null) {
-            return null;
-        }
-        try {
-            return OBJECT.fromJSON(data);
-        } catch (JSONConverterException e) {
-            throw new SecHubRuntimeException("Cannot convert", e);
-        }
-
-    }
-
-    @Override
-    public String getString(SchedulerJobMessage message) {
-        if (message == null) {
-            return null;
-        }
-        try {
-            return message.toJSON();
-        } catch (JSONConverterException e) {
-            throw new SecHubRuntimeException("Cannot convert", e);
-        }
-    }
-
-}
@@ -27,6 +27,9 @@ public class SchedulerMessage implements JSONable<SchedulerMessage> {
     private long amountOfJobsCancelRequested;
     private long amountOfJobsEnded;
 
+    private long amountOfJobsRunningInInstance;
+    private long amountOfJobsQueuedInInstance;
+
     public boolean isJobProcessingEnabled() {
         return jobProcessingEnabled;
     }
@@ -96,4 +99,28 @@ public class SchedulerMessage implements JSONable<SchedulerMessage> {
         this.amountOfJobsEnded = amountOfJobsEnded;
     }
 
+    /**
+     * @return amount of jobs currently executed by the scheduler instance which
+     *         has created this status
+     */
+    public long getAmountOfJobsRunningInInstance() {
+        return amountOfJobsRunningInInstance;
+    }
+
+    public void setAmountOfJobsRunningInInstance(long amountOfJobsRunningInInstance) {
+        this.amountOfJobsRunningInInstance = amountOfJobsRunningInInstance;
+    }
+
+    /**
+     * @return amount of jobs waiting for a free worker inside the scheduler
+     *         instance which has created this status
+     */
+    public long getAmountOfJobsQueuedInInstance() {
+        return amountOfJobsQueuedInInstance;
+    }
+
+    public void setAmountOfJobsQueuedInInstance(long amountOfJobsQueuedInInstance) {
+        this.amountOfJobsQueuedInInstance = amountOfJobsQueuedInInstance;
+    }
+
 }
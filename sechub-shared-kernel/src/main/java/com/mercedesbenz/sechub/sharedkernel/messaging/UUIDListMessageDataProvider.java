@@ -0,0 +1,51 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sharedkernel.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Provides a list of UUIDs - stored as comma separated string.
+ */
+public class UUIDListMessageDataProvider implements MessageDataProvider<List<UUID>> {
+
+    private static final UUIDMessageDataProvider UUID_PROVIDER = new UUIDMessageDataProvider();
+
+    @Override
+    public List<UUID> get(String data) {
+        if (data == null) {
+            return null;
+        }
+        List<UUID> result = new ArrayList<>();
+        if (data.isEmpty()) {
+            return result;
+        }
+        for (String part : data.split(",")) {
+            UUID uuid = UUID_PROVIDER.get(part.trim());
+            if (uuid != null) {
+                result.add(uuid);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String getString(List<UUID> uuids) {
+        if (uuids == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (UUID uuid : uuids) {
+            if (uuid == null) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(uuid);
+        }
+        return sb.toString();
+    }
+
+}
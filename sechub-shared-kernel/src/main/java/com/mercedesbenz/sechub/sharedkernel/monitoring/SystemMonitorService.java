@@ -130,6 +130,31 @@ public class SystemMonitorService {
         return memoryUsageMonitor.getMemoryUsageInPercent();
     }
 
+    /**
+     * Calculates the free capacity of the running machine in percent. The free
+     * capacity is measured relative to the maximum accepted CPU load average and
+     * memory usage - the smaller free part wins. When CPU load average is not
+     * available, only the memory usage is inspected.<br>
+     * <br>
+     * Callers can use this value to scale the amount of work done in one step -
+     * e.g. the scheduler uses it to calculate how many jobs shall be started at
+     * one trigger execution.
+     *
+     * @return free capacity in percent (results can be from 0 to 100)
+     */
+    public double getFreeCapacityInPercent() {
+        double freeMemoryCapacity = calculateFreeCapacityInPercent(getMemoryUsageInPercent(), maximumAcceptedMemoryUsage);
+
+        double cpuLoadAverage = getCPULoadAverage();
+        if (cpuLoadAverage < 0) {
+            /* CPU load average not available */
+            return freeMemoryCapacity;
+        }
+        double freeCPUCapacity = calculateFreeCapacityInPercent(cpuLoadAverage, maximumAcceptedCPULoadAverage);
+
+        return Math.min(freeCPUCapacity, freeMemoryCapacity);
+    }
+
     public String createCPUDescription() {
         StringBuilder sb = new StringBuilder();
         sb.append("Maximum accepted cpu load:");
@@ -149,6 +174,20 @@ public class SystemMonitorService {
         return sb.toString();
     }
 
+    private double calculateFreeCapacityInPercent(double current, double maximumAccepted) {
+        if (maximumAccepted <= 0) {
+            return 0;
+        }
+        double free = (1 - (current / maximumAccepted)) * 100;
+        if (free < 0) {
+            return 0;
+        }
+        if (free > 100) {
+            return 100;
+        }
+        return free;
+    }
+
     private void healthCheckCPUSetup() {
         if (maximumAcceptedCPULoadAverage < MINIMUM_ALLOWED_CPU_AVERAGE_LOAD) {
             LOG.warn("You defined maximum accepted CPU load average wrong:{}, fallback to minimum allowed cpu average load:{}", maximumAcceptedCPULoadAverage,
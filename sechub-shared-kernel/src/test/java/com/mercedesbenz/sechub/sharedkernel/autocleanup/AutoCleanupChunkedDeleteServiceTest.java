@@ -0,0 +1,124 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sharedkernel.autocleanup;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class AutoCleanupChunkedDeleteServiceTest {
+
+    private AutoCleanupChunkedDeleteService serviceToTest;
+    private AutoCleanupResultInspector inspector;
+    private LocalDateTime cleanTimeStamp;
+
+    @BeforeEach
+    void beforeEach() {
+        inspector = mock(AutoCleanupResultInspector.class);
+        cleanTimeStamp = LocalDateTime.now().minusDays(10);
+
+        serviceToTest = new AutoCleanupChunkedDeleteService();
+        serviceToTest.inspector = inspector;
+        serviceToTest.chunkSize = 100;
+        serviceToTest.pauseBetweenChunksMillis = 0;
+    }
+
+    @Test
+    void every_deleted_chunk_is_reported_to_inspector() {
+        /* prepare */
+        TestIdStore store = new TestIdStore(242);
+
+        /* execute */
+        long deleted = serviceToTest.deleteOlderThan("variant1", getClass(), 10, cleanTimeStamp, store::findIdsOlderThan, store::deleteIds);
+
+        /* test */
+        assertEquals(242, deleted);
+        assertEquals(3, store.usedPageables.size());
+        for (Pageable pageable : store.usedPageables) {
+            assertEquals(PageRequest.of(0, 100), pageable);
+        }
+        assertEquals(List.of(cleanTimeStamp, cleanTimeStamp, cleanTimeStamp), store.usedCleanTimeStamps);
+
+        ArgumentCaptor<AutoCleanupResult> captor = ArgumentCaptor.forClass(AutoCleanupResult.class);
+        verify(inspector, times(3)).inspect(captor.capture());
+
+        List<AutoCleanupResult> results = captor.getAllValues();
+        assertEquals(100, results.get(0).getDeletedEntries());
+        assertEquals(100, results.get(1).getDeletedEntries());
+        assertEquals(42, results.get(2).getDeletedEntries());
+        for (AutoCleanupResult result : results) {
+            assertEquals("variant1", result.getKey().getVariant());
+            assertEquals(getClass(), result.getKey().getInspectedClass());
+            assertEquals(10, result.getCleanupTimeInDays());
+            assertEquals(cleanTimeStamp, result.getUsedCleanupTimeStamp());
+        }
+    }
+
+    @Test
+    void nothing_deleted_is_reported_once_to_inspector() {
+        /* prepare */
+        TestIdStore store = new TestIdStore(0);
+
+        /* execute */
+        long deleted = serviceToTest.deleteOlderThan("variant1", getClass(), 10, cleanTimeStamp, store::findIdsOlderThan, store::deleteIds);
+
+        /* test */
+        assertEquals(0, deleted);
+        assertEquals(0, store.deleteCalls);
+        ArgumentCaptor<AutoCleanupResult> captor = ArgumentCaptor.forClass(AutoCleanupResult.class);
+        verify(inspector).inspect(captor.capture());
+        assertEquals(0, captor.getValue().getDeletedEntries());
+    }
+
+    @Test
+    void delete_without_variant_is_not_reported_to_inspector() {
+        /* prepare */
+        TestIdStore store = new TestIdStore(101);
+
+        /* execute */
+        long deleted = serviceToTest.deleteOlderThan(cleanTimeStamp, store::findIdsOlderThan, store::deleteIds);
+
+        /* test */
+        assertEquals(101, deleted);
+        assertEquals(2, store.deleteCalls);
+        verify(inspector, never()).inspect(any());
+    }
+
+    private class TestIdStore {
+
+        private int remaining;
+        private int deleteCalls;
+        private List<Pageable> usedPageables = new ArrayList<>();
+        private List<LocalDateTime> usedCleanTimeStamps = new ArrayList<>();
+
+        private TestIdStore(int remaining) {
+            this.remaining = remaining;
+        }
+
+        private List<Integer> findIdsOlderThan(LocalDateTime cleanTimeStamp, Pageable pageable) {
+            usedCleanTimeStamps.add(cleanTimeStamp);
+            usedPageables.add(pageable);
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < Math.min(remaining, pageable.getPageSize()); i++) {
+                ids.add(i);
+            }
+            return ids;
+        }
+
+        private int deleteIds(List<Integer> ids) {
+            deleteCalls++;
+            remaining -= ids.size();
+            return ids.size();
+        }
+    }
+
+}
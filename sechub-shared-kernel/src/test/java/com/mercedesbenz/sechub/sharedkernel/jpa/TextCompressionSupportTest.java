@@ -0,0 +1,124 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sharedkernel.jpa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TextCompressionSupportTest {
+
+    private TextCompressionSupport supportToTest;
+
+    @BeforeEach
+    void beforeEach() {
+        supportToTest = new TextCompressionSupport();
+        supportToTest.setMinimumLength(10);
+    }
+
+    @Test
+    void compressed_text_can_be_decompressed_and_is_smaller() {
+        /* prepare */
+        String text = createJSON(1000);
+
+        /* execute */
+        String compressed = supportToTest.compress(text);
+
+        /* test */
+        assertTrue(supportToTest.isCompressed(compressed));
+        assertTrue(compressed.length() < text.length() / 4);
+        assertEquals(text, supportToTest.decompress(compressed));
+    }
+
+    @Test
+    void non_ascii_characters_survive_compression() {
+        /* prepare */
+        String text = "{\"text\":\"\u00e4\u00f6\u00fc \u00df \u20ac \ud83d\ude00\"}";
+
+        /* execute + test */
+        assertEquals(text, supportToTest.decompress(supportToTest.compress(text)));
+    }
+
+    @Test
+    void uncompressed_text_is_returned_as_is_on_decompress() {
+        /* prepare */
+        String text = createJSON(10);
+
+        /* execute + test */
+        assertSame(text, supportToTest.decompress(text));
+        assertNull(supportToTest.decompress(null));
+    }
+
+    @Test
+    void compressWhenEnabled_does_not_compress_when_disabled() {
+        /* prepare */
+        String text = createJSON(100);
+
+        /* execute + test */
+        assertSame(text, supportToTest.compressWhenEnabled(text));
+    }
+
+    @Test
+    void compressWhenEnabled_does_compress_when_enabled_and_text_long_enough() {
+        /* prepare */
+        supportToTest.setCompressionEnabled(true);
+        String text = createJSON(100);
+
+        /* execute */
+        String compressed = supportToTest.compressWhenEnabled(text);
+
+        /* test */
+        assertTrue(supportToTest.isCompressed(compressed));
+        assertSame(compressed, supportToTest.compressWhenEnabled(compressed));
+    }
+
+    @Test
+    void compressWhenEnabled_does_not_compress_short_text() {
+        /* prepare */
+        supportToTest.setCompressionEnabled(true);
+        String text = "{}";
+
+        /* execute + test */
+        assertSame(text, supportToTest.compressWhenEnabled(text));
+    }
+
+    @Test
+    void text_compressed_from_input_stream_can_be_decompressed() throws Exception {
+        /* prepare */
+        String text = createJSON(1000) + "\u00e4\u20ac";
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+
+        /* execute */
+        String compressed = supportToTest.compress(inputStream);
+
+        /* test */
+        assertTrue(supportToTest.isCompressed(compressed));
+        assertEquals(text, supportToTest.decompress(compressed));
+    }
+
+    @Test
+    void corrupt_compressed_data_throws_illegal_state_exception() {
+        /* prepare */
+        String compressed = supportToTest.compress(createJSON(100));
+        String corrupt = compressed.substring(0, compressed.length() / 2);
+
+        /* execute + test */
+        assertThrows(IllegalStateException.class, () -> supportToTest.decompress(corrupt));
+    }
+
+    private String createJSON(int amountOfEntries) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"findings\":[");
+        for (int i = 0; i < amountOfEntries; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i).append(",\"name\":\"Cross site scripting\",\"severity\":\"HIGH\"}");
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+}
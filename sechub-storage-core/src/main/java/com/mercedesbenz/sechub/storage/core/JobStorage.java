@@ -3,6 +3,9 @@ package com.mercedesbenz.sechub.storage.core;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Set;
 
 public interface JobStorage {
@@ -33,6 +36,50 @@ public interface JobStorage {
      */
     public InputStream fetch(String name) throws IOException;
 
+    /**
+     * Fetch object with given name and write it into given target file. An
+     * existing target file will be replaced, missing parent directories are
+     * created. Implementations can override this to provide a faster transfer than
+     * copying the stream from {@link #fetch(String)}.
+     *
+     * @param name       name of storage object
+     * @param targetFile file to write the object content into
+     * @throws IOException
+     */
+    public default void fetchToFile(String name, Path targetFile) throws IOException {
+        Path parent = targetFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (InputStream inputStream = fetch(name)) {
+            Files.copy(inputStream, targetFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Resolves the path of object with given name inside the local file system.
+     * This is only possible for storages which are directly accessible by the
+     * file system - e.g. a shared volume. Callers must never change the file at
+     * this path.
+     *
+     * @param name name of storage object
+     * @return path or <code>null</code> when object is not available inside
+     *         local file system
+     * @throws IOException
+     */
+    public default Path getLocalPathOrNull(String name) throws IOException {
+        return null;
+    }
+
+    /**
+     * Deletes object with given name. If the object does not exist, nothing
+     * happens.
+     *
+     * @param name name for storage object
+     * @throws IOException
+     */
+    public void delete(String name) throws IOException;
+
     /*
      * Deletes all content of this job
      */
@@ -42,6 +42,17 @@ public interface S3Setup extends StorageSetup {
 
     public static final String DEFAULT_SIGNER_OVERRIDE = "AWSS3V4SignerType";
 
+    /**
+     * Default size (in bytes) of one part when objects are downloaded in parallel
+     * by byte range requests.
+     */
+    public static final long DEFAULT_DOWNLOAD_PART_SIZE_IN_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * Default maximum amount of parts downloaded at the same time for one object.
+     */
+    public static final int DEFAULT_DOWNLOAD_MAX_CONCURRENT_PARTS = 8;
+
     String getAccessKey();
 
     String getSecretkey();
@@ -71,4 +82,9 @@ public interface S3Setup extends StorageSetup {
     /* signer */
     String getSignerOverride();
 
+    /* download */
+    long getDownloadPartSizeInBytes();
+
+    int getDownloadMaximumConcurrentParts();
+
 }
\ No newline at end of file
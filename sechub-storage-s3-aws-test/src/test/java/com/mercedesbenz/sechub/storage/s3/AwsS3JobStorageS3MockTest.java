@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.storage.s3;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -9,6 +10,7 @@ import static org.junit.Assert.fail;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -297,6 +299,69 @@ public class AwsS3JobStorageS3MockTest {
 
     }
 
+    @Test
+    public void fetchToFile_object_bigger_than_part_size_is_downloaded_in_parts_into_file() throws Exception {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        AwsS3RangedDownloadSupport downloadSupport = new AwsS3RangedDownloadSupport(amazonTestClient, 1000, 4);
+        AwsS3JobStorage storage = new AwsS3JobStorage(amazonTestClient, "bucket2", "test/data/e1", jobUUID, null, downloadSupport);
+
+        byte[] content = createContent(10500);
+        storage.store("big.tar", new ByteArrayInputStream(content), content.length);
+
+        Path targetFile = TestUtil.createTempFileInBuildFolder("storage_fetch_test", "tar");
+
+        /* execute */
+        storage.fetchToFile("big.tar", targetFile);
+
+        /* test */
+        assertEquals(11, downloadSupport.calculateAmountOfParts(content.length));
+        assertArrayEquals(content, Files.readAllBytes(targetFile));
+    }
+
+    @Test
+    public void fetchToFile_object_smaller_than_part_size_is_downloaded_into_file() throws Exception {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        AwsS3RangedDownloadSupport downloadSupport = new AwsS3RangedDownloadSupport(amazonTestClient, 1000, 4);
+        AwsS3JobStorage storage = new AwsS3JobStorage(amazonTestClient, "bucket2", "test/data/e2", jobUUID, null, downloadSupport);
+
+        byte[] content = createContent(500);
+        storage.store("small.tar", new ByteArrayInputStream(content), content.length);
+
+        Path targetFile = TestUtil.createTempFileInBuildFolder("storage_fetch_test", "tar");
+
+        /* execute */
+        storage.fetchToFile("small.tar", targetFile);
+
+        /* test */
+        assertArrayEquals(content, Files.readAllBytes(targetFile));
+    }
+
+    @Test
+    public void fetchToFile_not_existing_object_throws_io_exception_and_target_file_does_not_exist() throws Exception {
+        /* prepare */
+        AwsS3JobStorage storage = new AwsS3JobStorage(amazonTestClient, "bucket2", "test/data/e3", UUID.randomUUID());
+        Path targetFile = TestUtil.createTempFileInBuildFolder("storage_fetch_test", "tar");
+
+        /* execute */
+        try {
+            storage.fetchToFile("not-existing.tar", targetFile);
+            fail("no io exception thrown");
+        } catch (IOException e) {
+            /* test */
+            assertFalse(Files.exists(targetFile));
+        }
+    }
+
+    private byte[] createContent(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        return content;
+    }
+
     private AwsS3JobStorage storeTestData(UUID jobUUID) throws IOException, FileNotFoundException {
         return storeTestData(jobUUID, "bucket2", "jobstorage/projectName", "testC");
     }
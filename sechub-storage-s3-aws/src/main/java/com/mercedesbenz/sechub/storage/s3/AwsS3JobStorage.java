@@ -5,6 +5,7 @@ import static java.util.Objects.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -38,6 +39,7 @@ public class AwsS3JobStorage implements JobStorage {
     private String storagePath;
     private UUID jobUUID;
     private TransferManager transferManager;
+    private AwsS3RangedDownloadSupport downloadSupport;
 
     /**
      * Creates a new AWS S3 storage object and uses the default transfer manager
@@ -64,6 +66,26 @@ public class AwsS3JobStorage implements JobStorage {
      *                               instance will be used.
      */
     public AwsS3JobStorage(AmazonS3 client, String bucketName, String storagePath, UUID jobUUID, TransferManagerFactory transferManagerFactory) {
+        this(client, bucketName, storagePath, jobUUID, transferManagerFactory, null);
+    }
+
+    /**
+     * Creates a new AWS S3 storage object
+     *
+     * @param client                 s3 client instance to use
+     * @param bucketName             name of the bucket
+     * @param storagePath            path for storage
+     * @param jobUUID                SecHub job uuid
+     * @param transferManagerFactory transfer manager factor or <code>null</code>.
+     *                               When <code>null</code> a default factory
+     *                               instance will be used.
+     * @param downloadSupport        download support used to fetch objects into
+     *                               files or <code>null</code>. When
+     *                               <code>null</code> a download support with
+     *                               default setup will be used.
+     */
+    public AwsS3JobStorage(AmazonS3 client, String bucketName, String storagePath, UUID jobUUID, TransferManagerFactory transferManagerFactory,
+            AwsS3RangedDownloadSupport downloadSupport) {
         this.bucketName = bucketName;
         this.client = client;
         this.storagePath = storagePath;
@@ -74,6 +96,11 @@ public class AwsS3JobStorage implements JobStorage {
             factoryToUse = DefaultTransferManagerFactory.INSTANCE;
         }
         this.transferManager = factoryToUse.createTransferManager(client);
+
+        this.downloadSupport = downloadSupport;
+        if (this.downloadSupport == null) {
+            this.downloadSupport = new AwsS3RangedDownloadSupport(client);
+        }
     }
 
     @Override
@@ -142,6 +169,28 @@ public class AwsS3JobStorage implements JobStorage {
         }
     }
 
+    @Override
+    public void fetchToFile(String name, Path targetFile) throws IOException {
+        String objectName = getObjectName(name);
+        LOG.debug("Fetching objectName={} from bucket={} into file={}", objectName, bucketName, targetFile);
+        try {
+            downloadSupport.download(bucketName, objectName, targetFile);
+        } catch (Exception e) {
+            throw new IOException("Was not able to fetch object from bucket into file:" + name, e);
+        }
+    }
+
+    @Override
+    public void delete(String name) throws IOException {
+        String objectName = getObjectName(name);
+        LOG.debug("Delete objectName={} from bucket={}", objectName, bucketName);
+        try {
+            client.deleteObject(bucketName, objectName);
+        } catch (Exception e) {
+            throw new IOException("Cannot delete: " + objectName, e);
+        }
+    }
+
     @Override
     public void deleteAll() throws IOException {
         String objectPrefix = getObjectPrefix();
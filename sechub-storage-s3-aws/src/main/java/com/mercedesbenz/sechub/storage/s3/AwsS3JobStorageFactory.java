@@ -20,6 +20,7 @@ public class AwsS3JobStorageFactory implements JobStorageFactory {
 
     private AmazonS3 s3Client;
     private String bucketName;
+    private AwsS3RangedDownloadSupport downloadSupport;
 
     public AwsS3JobStorageFactory(S3Setup s3Setup) {
         requireNonNull(s3Setup, "s3setup may not be null!");
@@ -48,10 +49,11 @@ public class AwsS3JobStorageFactory implements JobStorageFactory {
                 .withClientConfiguration(clientConfiguration).build();
 
         bucketName = s3Setup.getBucketName();
+        downloadSupport = new AwsS3RangedDownloadSupport(s3Client, s3Setup.getDownloadPartSizeInBytes(), s3Setup.getDownloadMaximumConcurrentParts());
     }
 
     @Override
     public JobStorage createJobStorage(String storagePath, UUID jobUUID) {
-        return new AwsS3JobStorage(s3Client, bucketName, storagePath, jobUUID);
+        return new AwsS3JobStorage(s3Client, bucketName, storagePath, jobUUID, null, downloadSupport);
     }
 }
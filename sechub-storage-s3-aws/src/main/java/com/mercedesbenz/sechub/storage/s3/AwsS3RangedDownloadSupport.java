@@ -0,0 +1,229 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.storage.s3;
+
+import static java.util.Objects.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.mercedesbenz.sechub.storage.core.S3Setup;
+
+/**
+ * Downloads S3 objects into files. Objects bigger than the part size are
+ * fetched by concurrent byte range requests - every part is written directly
+ * to its position inside the target file. So a big object is not limited to
+ * the throughput of one single connection.
+ */
+public class AwsS3RangedDownloadSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AwsS3RangedDownloadSupport.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private static final ThreadFactory DOWNLOAD_THREAD_FACTORY = runnable -> {
+        Thread thread = new Thread(runnable, "sechub-s3-download-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    };
+
+    private AmazonS3 client;
+    private long partSizeInBytes;
+    private int maximumConcurrentParts;
+
+    /**
+     * Creates download support with default part size and concurrency
+     *
+     * @param client s3 client instance to use
+     */
+    public AwsS3RangedDownloadSupport(AmazonS3 client) {
+        this(client, S3Setup.DEFAULT_DOWNLOAD_PART_SIZE_IN_BYTES, S3Setup.DEFAULT_DOWNLOAD_MAX_CONCURRENT_PARTS);
+    }
+
+    /**
+     * Creates download support
+     *
+     * @param client                 s3 client instance to use
+     * @param partSizeInBytes        size of one part. When smaller than 1 the
+     *                               default part size will be used.
+     * @param maximumConcurrentParts maximum amount of parts downloaded at the
+     *                               same time. When smaller than 2 objects are
+     *                               always downloaded by one request.
+     */
+    public AwsS3RangedDownloadSupport(AmazonS3 client, long partSizeInBytes, int maximumConcurrentParts) {
+        this.client = requireNonNull(client, "client may not be null!");
+        this.partSizeInBytes = partSizeInBytes < 1 ? S3Setup.DEFAULT_DOWNLOAD_PART_SIZE_IN_BYTES : partSizeInBytes;
+        this.maximumConcurrentParts = Math.max(1, maximumConcurrentParts);
+    }
+
+    public long getPartSizeInBytes() {
+        return partSizeInBytes;
+    }
+
+    public int getMaximumConcurrentParts() {
+        return maximumConcurrentParts;
+    }
+
+    /**
+     * Downloads object into given target file. An existing file will be
+     * replaced. When the download fails, the target file is deleted.
+     *
+     * @param bucketName
+     * @param objectName
+     * @param targetFile
+     * @throws IOException
+     */
+    public void download(String bucketName, String objectName, Path targetFile) throws IOException {
+        Path parent = targetFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try {
+            if (maximumConcurrentParts < 2) {
+                downloadByOneRequest(bucketName, objectName, targetFile);
+                return;
+            }
+            ObjectMetadata metadata = client.getObjectMetadata(bucketName, objectName);
+            long contentLength = metadata.getContentLength();
+            int amountOfParts = calculateAmountOfParts(contentLength);
+
+            if (amountOfParts < 2) {
+                downloadByOneRequest(bucketName, objectName, targetFile);
+            } else {
+                downloadParts(bucketName, objectName, metadata.getETag(), contentLength, amountOfParts, targetFile);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(targetFile);
+            throw e;
+        }
+    }
+
+    int calculateAmountOfParts(long contentLength) {
+        if (contentLength <= 0) {
+            return 1;
+        }
+        return (int) ((contentLength + partSizeInBytes - 1) / partSizeInBytes);
+    }
+
+    private void downloadByOneRequest(String bucketName, String objectName, Path targetFile) throws IOException {
+        try (InputStream inputStream = client.getObject(bucketName, objectName).getObjectContent()) {
+            Files.copy(inputStream, targetFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void downloadParts(String bucketName, String objectName, String eTag, long contentLength, int amountOfParts, Path targetFile)
+            throws IOException {
+        int amountOfThreads = Math.min(maximumConcurrentParts, amountOfParts);
+        LOG.debug("Download objectName={} from bucket={} with {} bytes in {} parts by {} threads", objectName, bucketName, contentLength, amountOfParts,
+                amountOfThreads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(amountOfThreads, DOWNLOAD_THREAD_FACTORY);
+        try (FileChannel channel = FileChannel.open(targetFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            List<Future<?>> futures = new ArrayList<>(amountOfParts);
+            for (int part = 0; part < amountOfParts; part++) {
+                long start = part * partSizeInBytes;
+                long end = Math.min(start + partSizeInBytes, contentLength) - 1;
+
+                futures.add(executor.submit(() -> {
+                    downloadPart(bucketName, objectName, eTag, start, end, channel);
+                    return null;
+                }));
+            }
+            waitForAllParts(futures, objectName);
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void waitForAllParts(List<Future<?>> futures, String objectName) throws IOException {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Download of " + objectName + " was interrupted");
+
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Download of " + objectName + " failed", cause);
+        }
+    }
+
+    private void cancelAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private void downloadPart(String bucketName, String objectName, String eTag, long start, long end, FileChannel channel) throws IOException {
+        GetObjectRequest request = new GetObjectRequest(bucketName, objectName).withRange(start, end);
+        if (eTag != null) {
+            /* ensure all parts are from same object version */
+            request.withMatchingETagConstraint(eTag);
+        }
+        S3Object object = client.getObject(request);
+        if (object == null) {
+            throw new IOException("Object " + objectName + " was changed while downloading");
+        }
+        S3ObjectInputStream inputStream = object.getObjectContent();
+        boolean completelyRead = false;
+        try {
+            long position = start;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                while (byteBuffer.hasRemaining()) {
+                    position += channel.write(byteBuffer, position);
+                }
+            }
+            completelyRead = true;
+
+            long expected = end - start + 1;
+            long written = position - start;
+            if (written != expected) {
+                throw new IOException("Part " + start + "-" + end + " of " + objectName + " has " + written + " bytes instead of " + expected);
+            }
+        } finally {
+            if (completelyRead) {
+                inputStream.close();
+            } else {
+                /* do not read remaining data - just drop the connection */
+                inputStream.abort();
+            }
+        }
+    }
+}
@@ -6,9 +6,11 @@ import static java.util.Objects.*;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -51,6 +53,52 @@ public class SharedVolumeJobStorage implements JobStorage {
         }
     }
 
+    /**
+     * Copies the object into given target file by
+     * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}
+     * - so the operating system can copy the data without passing it through the
+     * JVM.
+     */
+    @Override
+    public void fetchToFile(String name, Path targetFile) throws IOException {
+        Path path = getPathToFile(name);
+        Path parent = targetFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ);
+                FileChannel target = FileChannel.open(targetFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            long size = source.size();
+            long position = 0;
+            while (position < size) {
+                long transferred = source.transferTo(position, size - position, target);
+                if (transferred <= 0) {
+                    /* source was truncated meanwhile or channel does not transfer anymore */
+                    break;
+                }
+                position += transferred;
+            }
+            if (position != size) {
+                throw new IOException("Fetched only " + position + " of " + size + " bytes");
+            }
+            LOG.debug("Fetched:{} into {}", name, targetFile);
+
+        } catch (Exception e) {
+            throw new IOException("Was not able to fetch: " + name + " into file: " + targetFile, e);
+        }
+    }
+
+    @Override
+    public Path getLocalPathOrNull(String name) {
+        Path path = getPathToFile(name);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        return path;
+    }
+
     @Override
     public void store(String name, InputStream stream) throws IOException {
         store(name, stream, -1);
@@ -85,6 +133,18 @@ public class SharedVolumeJobStorage implements JobStorage {
         }
     }
 
+    @Override
+    public void delete(String name) throws IOException {
+        Path pathToFile = getPathToFile(name);
+        try {
+            if (Files.deleteIfExists(pathToFile)) {
+                LOG.info("deleted {}", pathToFile);
+            }
+        } catch (Exception e) {
+            throw new IOException("Was not able to delete: " + pathToFile, e);
+        }
+    }
+
     public void deleteAll() throws IOException {
         try {
             if (Files.notExists(volumePath)) {
@@ -3,11 +3,14 @@ package com.mercedesbenz.sechub.storage.sharevolume.spring;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Set;
 import java.util.UUID;
@@ -45,6 +48,37 @@ class SharedVolumeJobStorageTest {
 
     }
 
+    @Test
+    void fetchToFile_copies_stored_content_into_target_file() throws Exception {
+        /* prepare */
+        SharedVolumeJobStorage storage = new SharedVolumeJobStorage(rootLocation, "test2", UUID.randomUUID());
+        byte[] content = "content to fetch".getBytes(StandardCharsets.UTF_8);
+        storage.store("data.zip", new ByteArrayInputStream(content), content.length);
+
+        Path targetFile = TestUtil.createTempDirectoryInBuildFolder("sechub-sharedvolume-fetch-test").resolve("sub/data.zip");
+
+        /* execute */
+        storage.fetchToFile("data.zip", targetFile);
+
+        /* test */
+        assertArrayEquals(content, Files.readAllBytes(targetFile));
+    }
+
+    @Test
+    void getLocalPathOrNull_returns_path_of_stored_file_and_null_for_unknown_name() throws Exception {
+        /* prepare */
+        UUID uuid = UUID.randomUUID();
+        SharedVolumeJobStorage storage = storeTestData(uuid, "alpha.txt");
+
+        /* execute */
+        Path result1 = storage.getLocalPathOrNull("alpha.txt");
+        Path result2 = storage.getLocalPathOrNull("unknown.txt");
+
+        /* test */
+        assertEquals(rootLocation.resolve("test1").resolve(uuid.toString()).resolve("alpha.txt"), result1);
+        assertNull(result2);
+    }
+
     private SharedVolumeJobStorage storeTestData(UUID jobUUID, String fileName) throws IOException, FileNotFoundException {
         SharedVolumeJobStorage storage = new SharedVolumeJobStorage(rootLocation, "test1", jobUUID);
 
@@ -182,6 +182,16 @@ class S3RealLiveStorageManualTest implements ManualTest {
                 return S3Setup.DEFAULT_SIGNER_OVERRIDE;
             }
 
+            @Override
+            public long getDownloadPartSizeInBytes() {
+                return S3Setup.DEFAULT_DOWNLOAD_PART_SIZE_IN_BYTES;
+            }
+
+            @Override
+            public int getDownloadMaximumConcurrentParts() {
+                return S3Setup.DEFAULT_DOWNLOAD_MAX_CONCURRENT_PARTS;
+            }
+
         };
         return s3Setup;
     }
@@ -41,6 +41,10 @@ public class PDSTestURLBuilder extends AbstractTestURLBuilder {
         return buildUrl(API_PDS_JOB, jobUUID.toString(), "status");
     }
 
+    public String buildWaitForJobStatusChange(UUID jobUUID, String knownState, long maxWaitMilliseconds) {
+        return buildUrl(API_PDS_JOB, jobUUID.toString(), "status", "wait") + "?knownState=" + knownState + "&maxWaitMilliseconds=" + maxWaitMilliseconds;
+    }
+
     public String buildGetJobResult(UUID jobUUID) {
         return buildUrl(API_PDS_JOB, jobUUID.toString(), "result");
     }
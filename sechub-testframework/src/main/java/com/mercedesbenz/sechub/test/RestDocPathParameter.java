@@ -37,6 +37,10 @@ public enum RestDocPathParameter {
 
     WITH_META_DATA("withMetaData"),
 
+    CURSOR("cursor"),
+
+    WITH_TOTAL_COUNT("withTotalCount"),
+
     ;
 
     private String restDocName;